@@ -3,9 +3,12 @@ package com.fiap.brain.health.api.controller;
 import com.fiap.brain.health.api.controller.docs.AIArticleControllerDoc;
 import com.fiap.brain.health.api.dto.kafka.BrainHealthResponseMessage;
 import com.fiap.brain.health.api.dto.request.AIArticleRequest;
+import com.fiap.brain.health.api.dto.response.ArticleJobResponse;
 import com.fiap.brain.health.api.dto.response.ArticleResponse;
 import com.fiap.brain.health.application.mapper.ArticleResponseMapper;
+import com.fiap.brain.health.application.usecase.ArticleJobUseCase;
 import com.fiap.brain.health.application.usecase.SearchAndGenerateArticleUseCase;
+import com.fiap.brain.health.domain.model.ArticleJob;
 import com.fiap.brain.health.domain.model.MedicalArticle;
 import com.fiap.brain.health.domain.port.AIProcessingPort;
 import com.fiap.brain.health.domain.port.MedicalArticleRepositoryPort;
@@ -13,11 +16,16 @@ import com.fiap.brain.health.infrastructure.adapter.kafka.BrainHealthKafkaProduc
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.UUID;
 
 @Slf4j
@@ -31,6 +39,10 @@ public class AIArticleController implements AIArticleControllerDoc {
     private final ArticleResponseMapper responseMapper;
     private final MedicalArticleRepositoryPort articleRepository;
     private final BrainHealthKafkaProducer kafkaProducer;
+    private final ArticleJobUseCase articleJobUseCase;
+
+    @Value("${article-jobs.sse-timeout-ms:60000}")
+    private long sseTimeoutMs;
 
     @PostMapping("/search")
     @Override
@@ -38,6 +50,53 @@ public class AIArticleController implements AIArticleControllerDoc {
         log.info("Received article search request - userId: {}, goalId: {}, title: {}",
                 request.userId(), request.goalId(), request.title());
 
+        return ResponseEntity.ok(generateAndPublish(request));
+    }
+
+    @PostMapping("/search/async")
+    @Override
+    public ResponseEntity<ArticleJobResponse> submitArticleJob(@Valid @RequestBody AIArticleRequest request) {
+        log.info("Received async article search request - userId: {}, goalId: {}, title: {}",
+                request.userId(), request.goalId(), request.title());
+
+        ArticleJob job = articleJobUseCase.submit(request.userId(), request.goalId(), request.title(),
+                () -> generateAndPublish(request));
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/ai/articles/jobs/" + job.id()))
+                .body(ArticleJobResponse.from(job));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Override
+    public ResponseEntity<ArticleJobResponse> getArticleJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(ArticleJobResponse.from(articleJobUseCase.get(jobId)));
+    }
+
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Override
+    public SseEmitter streamArticleJob(@PathVariable String jobId) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        articleJobUseCase.subscribe(jobId, job -> sendJobEvent(emitter, job));
+        return emitter;
+    }
+
+    private void sendJobEvent(SseEmitter emitter, ArticleJob job) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(job.id())
+                    .name(job.status().name().toLowerCase(Locale.ROOT))
+                    .data(ArticleJobResponse.from(job), MediaType.APPLICATION_JSON));
+            if (job.isTerminal()) {
+                emitter.complete();
+            }
+        } catch (Exception e) {
+            log.debug("SSE stream for job {} closed: {}", job.id(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private ArticleResponse generateAndPublish(AIArticleRequest request) {
         AIProcessingPort.AIProcessingResult aiResult =
             searchAndGenerateUseCase.execute(request.title());
 
@@ -62,6 +121,6 @@ public class AIArticleController implements AIArticleControllerDoc {
         log.info("Article posted to Kafka topic brain-health-response - Title: {}, UserId: {}, Key: {}",
                 articleResponse.title(), request.userId(), key);
 
-        return ResponseEntity.ok(articleResponse);
+        return articleResponse;
     }
 }
@@ -12,6 +12,7 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -48,7 +49,7 @@ public class KafkaController implements KafkaControllerDoc {
                 .description(request.description())
                 .messageId(messageId)
                 .correlationId(correlationId)
-                .requestedAt(LocalDateTime.now())
+                .requestedAt(LocalDateTime.now(ZoneOffset.UTC))
                 .build();
 
         // Enviar para o tópico brain-health-request
@@ -2,6 +2,7 @@ package com.fiap.brain.health.api.controller.docs;
 
 import com.fiap.brain.health.api.dto.error.ProblemDetail;
 import com.fiap.brain.health.api.dto.request.AIArticleRequest;
+import com.fiap.brain.health.api.dto.response.ArticleJobResponse;
 import com.fiap.brain.health.api.dto.response.ArticleResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,7 +12,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "AI Articles", description = "Geração de artigos médicos com IA")
 public interface AIArticleControllerDoc {
@@ -58,4 +61,59 @@ public interface AIArticleControllerDoc {
         )
     })
     ResponseEntity<ArticleResponse> searchArticle(@Valid @RequestBody AIArticleRequest request);
+
+    @Operation(
+        summary = "Gerar artigo médico de forma assíncrona",
+        description = "Registra um job e retorna 202 com o id imediatamente. Acompanhe por GET /jobs/{id} ou pelo stream SSE /jobs/{id}/events"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Job aceito",
+            content = @Content(schema = @Schema(implementation = ArticleJobResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Erro de validação",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Fila de jobs cheia",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+        )
+    })
+    ResponseEntity<ArticleJobResponse> submitArticleJob(@Valid @RequestBody AIArticleRequest request);
+
+    @Operation(
+        summary = "Consultar job de geração de artigo",
+        description = "Retorna o status do job (PENDING, RUNNING, SUCCEEDED, FAILED) e o artigo quando concluído"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Status do job",
+            content = @Content(schema = @Schema(implementation = ArticleJobResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Job não encontrado ou expirado",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+        )
+    })
+    ResponseEntity<ArticleJobResponse> getArticleJob(@PathVariable String jobId);
+
+    @Operation(
+        summary = "Acompanhar job via Server-Sent Events",
+        description = "Envia um evento por mudança de status (pending, running, succeeded, failed) e encerra o stream ao concluir"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream de eventos do job"),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Job não encontrado ou expirado",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+        )
+    })
+    SseEmitter streamArticleJob(@PathVariable String jobId);
 }
@@ -0,0 +1,27 @@
+package com.fiap.brain.health.api.dto.kafka;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Claim-check reference sent instead of the full article: the SHA-256 key in the
+ * shared article store plus a summary for consumers that do not need the body.
+ */
+public record ArticleReference(
+        @JsonProperty("contentHash")
+        String contentHash,
+
+        @JsonProperty("title")
+        String title,
+
+        @JsonProperty("sourceLink")
+        String sourceLink,
+
+        @JsonProperty("sizeBytes")
+        int sizeBytes
+) {
+    public ArticleReference {
+        if (contentHash == null || contentHash.isBlank()) {
+            throw new IllegalArgumentException("contentHash is required");
+        }
+    }
+}
@@ -25,7 +25,7 @@ public record BrainHealthRequestMessage(
         // Campos internos (não vêm do JSON externo, gerados pela aplicação)
         String messageId,
         String correlationId,
-        LocalDateTime requestedAt
+        LocalDateTime requestedAt // UTC
 ) {
 
     public static Builder builder() {
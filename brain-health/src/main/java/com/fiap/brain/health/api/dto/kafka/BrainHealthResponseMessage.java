@@ -28,11 +28,16 @@ public record BrainHealthResponseMessage(
         String errorMessage,
 
         @JsonProperty("processedAt")
-        LocalDateTime processedAt
+        LocalDateTime processedAt,
+
+        @JsonProperty("articleReference")
+        ArticleReference articleReference
 ) {
     public enum ProcessingStatus {
         SUCCESS,
         FAILED,
+        // Request older than the lane TTL, dropped without calling OpenAI
+        EXPIRED,
     }
 
     public BrainHealthResponseMessage {
@@ -44,6 +49,12 @@ public record BrainHealthResponseMessage(
         }
     }
 
+    public BrainHealthResponseMessage(String messageId, Long userId, Long goalId, String correlationId,
+                                      ArticleResponse articleResponse, ProcessingStatus status,
+                                      String errorMessage, LocalDateTime processedAt) {
+        this(messageId, userId, goalId, correlationId, articleResponse, status, errorMessage, processedAt, null);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -57,6 +68,7 @@ public record BrainHealthResponseMessage(
         private ProcessingStatus status;
         private String errorMessage;
         private LocalDateTime processedAt;
+        private ArticleReference articleReference;
 
         public Builder messageId(String messageId) {
             this.messageId = messageId;
@@ -98,6 +110,11 @@ public record BrainHealthResponseMessage(
             return this;
         }
 
+        public Builder articleReference(ArticleReference articleReference) {
+            this.articleReference = articleReference;
+            return this;
+        }
+
         public BrainHealthResponseMessage build() {
             return new BrainHealthResponseMessage(
                     messageId,
@@ -107,7 +124,8 @@ public record BrainHealthResponseMessage(
                     articleResponse,
                     status,
                     errorMessage,
-                    processedAt
+                    processedAt,
+                    articleReference
             );
         }
     }
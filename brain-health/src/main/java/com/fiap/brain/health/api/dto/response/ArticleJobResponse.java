@@ -0,0 +1,35 @@
+package com.fiap.brain.health.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fiap.brain.health.domain.model.ArticleJob;
+
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ArticleJobResponse(
+        String jobId,
+        ArticleJob.Status status,
+        String title,
+        ArticleResponse article,
+        String errorCode,
+        String errorMessage,
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime createdAt,
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime completedAt
+) {
+
+    public static ArticleJobResponse from(ArticleJob job) {
+        return new ArticleJobResponse(
+                job.id(),
+                job.status(),
+                job.title(),
+                job.result(),
+                job.errorCode(),
+                job.errorMessage(),
+                job.createdAt(),
+                job.completedAt()
+        );
+    }
+}
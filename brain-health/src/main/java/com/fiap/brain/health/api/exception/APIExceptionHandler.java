@@ -9,6 +9,7 @@ import com.fiap.brain.health.infrastructure.exception.InfrastructureException;
 import com.fiap.brain.health.infrastructure.exception.KafkaMessagingException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -21,6 +22,7 @@ import org.springframework.web.client.HttpClientErrorException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Global Exception Handler - RFC 7807 Compliant
@@ -322,6 +324,31 @@ public class APIExceptionHandler {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(problem);
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ProblemDetail> handleJobQueueFull(
+            RejectedExecutionException ex, HttpServletRequest request) {
+
+        String traceId = generateTraceId();
+        log.warn("[{}] Article job queue full", traceId);
+
+        ProblemDetail problem = ProblemDetail.builder()
+                .type(PROBLEM_BASE_URL + "job-queue-full")
+                .title("Job Queue Full")
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .detail("Too many article jobs in progress. Please retry later.")
+                .instance(request.getRequestURI())
+                .traceId(traceId)
+                .extensions(Map.of(
+                    "retryable", true,
+                    "retryAfter", "5 seconds"
+                ))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(problem);
+    }
+
     @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
     public ResponseEntity<ProblemDetail> handleUnsupportedMediaType(
             HttpMediaTypeNotSupportedException ex, HttpServletRequest request) {
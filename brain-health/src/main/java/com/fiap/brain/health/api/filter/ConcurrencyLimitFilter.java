@@ -0,0 +1,115 @@
+package com.fiap.brain.health.api.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.brain.health.api.dto.error.ProblemDetail;
+import com.fiap.brain.health.infrastructure.limit.GradientLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adaptive concurrency limit in front of the controllers. Requests above the
+ * {@link GradientLimit} are rejected right away with 503 + Retry-After instead of
+ * piling up on threads and memory. Exempt paths (health, metrics) bypass the limit,
+ * so probes keep working under overload. Requests that go async (SSE) free their
+ * slot when the servlet thread returns and are not used as latency samples. A
+ * request that throws or ends in a 5xx (AI timeout, upstream unavailable, mapped by
+ * the exception handler) counts as a drop and shrinks the limit.
+ * Metrics: brain.health.http.concurrency.limit, brain.health.http.in.flight (gauges)
+ * and brain.health.http.rejected (counter).
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String PROBLEM_TYPE = "https://brain-health.fiap.com/problems/concurrency-limit";
+
+    private final GradientLimit limit;
+    private final List<String> exemptPaths;
+    private final int retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ConcurrencyLimitFilter(GradientLimit limit, List<String> exemptPaths, int retryAfterSeconds,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.limit = limit;
+        this.exemptPaths = exemptPaths;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("brain.health.http.concurrency.limit", limit, GradientLimit::getLimit)
+                .description("Adaptive concurrency limit of the REST API")
+                .register(meterRegistry);
+        Gauge.builder("brain.health.http.in.flight", limit, GradientLimit::getInFlight)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("brain.health.http.rejected")
+                .description("Requests rejected by the concurrency limit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return exemptPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!limit.tryAcquire()) {
+            rejected.increment();
+            log.warn("Concurrency limit {} reached, rejecting {} {}", limit.getLimit(),
+                    request.getMethod(), request.getRequestURI());
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            chain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            if (request.isAsyncStarted()) {
+                limit.release();
+            } else {
+                limit.release(System.nanoTime() - start, dropped);
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ProblemDetail problem = ProblemDetail.builder()
+                .type(PROBLEM_TYPE)
+                .title("Service Overloaded")
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .detail("Too many concurrent requests. Please retry later.")
+                .instance(request.getRequestURI())
+                .traceId(UUID.randomUUID().toString())
+                .extensions(Map.of(
+                    "retryable", true,
+                    "retryAfter", retryAfterSeconds + " seconds"
+                ))
+                .build();
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+}
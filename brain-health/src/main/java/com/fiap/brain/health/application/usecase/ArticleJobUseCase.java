@@ -0,0 +1,119 @@
+package com.fiap.brain.health.application.usecase;
+
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+import com.fiap.brain.health.domain.exception.ResourceNotFoundException;
+import com.fiap.brain.health.domain.model.ArticleJob;
+import com.fiap.brain.health.domain.port.ArticleJobRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Use Case: Asynchronous Article Generation
+ * Runs the article pipeline on a bounded background executor so the HTTP request
+ * returns as soon as the job is registered.
+ * Responsibilities:
+ * - Register jobs and track PENDING -> RUNNING -> SUCCEEDED/FAILED
+ * - Notify subscribers (SSE streams) on every state change
+ * - Reject submissions when the executor queue is full
+ */
+@Slf4j
+@Service
+public class ArticleJobUseCase {
+
+    private final ArticleJobRepositoryPort jobRepository;
+    private final Executor executor;
+    private final Map<String, List<Consumer<ArticleJob>>> listeners = new ConcurrentHashMap<>();
+
+    public ArticleJobUseCase(ArticleJobRepositoryPort jobRepository,
+                             @Qualifier("articleJobExecutor") Executor executor) {
+        this.jobRepository = jobRepository;
+        this.executor = executor;
+    }
+
+    public ArticleJob submit(Long userId, Long goalId, String title, Supplier<ArticleResponse> pipeline) {
+        ArticleJob job = ArticleJob.submitted(userId, goalId, title);
+        jobRepository.save(job);
+
+        try {
+            executor.execute(() -> run(job, pipeline));
+        } catch (RejectedExecutionException e) {
+            log.warn("Article job queue full - rejecting job {} for title: {}", job.id(), title);
+            jobRepository.save(job.failed("QUEUE_FULL", "Article job queue is full"));
+            throw e;
+        }
+
+        log.info("Article job submitted - jobId: {}, userId: {}, title: {}", job.id(), userId, title);
+        return job;
+    }
+
+    public ArticleJob get(String jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Article Job", jobId));
+    }
+
+    /**
+     * Delivers the current state right away and every later change until the job
+     * finishes.
+     */
+    public void subscribe(String jobId, Consumer<ArticleJob> listener) {
+        ArticleJob current = get(jobId);
+        notify(listener, current);
+        if (current.isTerminal()) {
+            return;
+        }
+
+        listeners.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(listener);
+
+        // The job may have finished between the first read and the registration
+        ArticleJob latest = jobRepository.findById(jobId).orElse(current);
+        if (latest.isTerminal()) {
+            notifyAll(listeners.remove(jobId), latest);
+        }
+    }
+
+    private void run(ArticleJob job, Supplier<ArticleResponse> pipeline) {
+        ArticleJob running = job.running();
+        update(running);
+
+        try {
+            ArticleResponse article = pipeline.get();
+            update(running.succeeded(article));
+            log.info("Article job completed - jobId: {}, title: {}", job.id(), article.title());
+        } catch (Exception e) {
+            log.error("Article job failed - jobId: {}, error: {}", job.id(), e.getMessage());
+            update(running.failed(e.getClass().getSimpleName(), e.getMessage()));
+        }
+    }
+
+    private void update(ArticleJob job) {
+        jobRepository.save(job);
+        List<Consumer<ArticleJob>> subscribers = job.isTerminal()
+                ? listeners.remove(job.id())
+                : listeners.get(job.id());
+        notifyAll(subscribers, job);
+    }
+
+    private void notifyAll(List<Consumer<ArticleJob>> subscribers, ArticleJob job) {
+        if (subscribers != null) {
+            subscribers.forEach(listener -> notify(listener, job));
+        }
+    }
+
+    private void notify(Consumer<ArticleJob> listener, ArticleJob job) {
+        try {
+            listener.accept(job);
+        } catch (Exception e) {
+            log.warn("Article job listener failed - jobId: {}, error: {}", job.id(), e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.fiap.brain.health.application.usecase;
 
+import com.fiap.brain.health.api.dto.kafka.ArticleReference;
 import com.fiap.brain.health.api.dto.kafka.BrainHealthRequestMessage;
 import com.fiap.brain.health.api.dto.kafka.BrainHealthResponseMessage;
 import com.fiap.brain.health.application.mapper.ArticleResponseMapper;
@@ -7,7 +8,11 @@ import com.fiap.brain.health.domain.exception.ArticleNotFoundException;
 import com.fiap.brain.health.domain.exception.InsufficientContentException;
 import com.fiap.brain.health.domain.model.MedicalArticle;
 import com.fiap.brain.health.domain.port.AIProcessingPort;
+import com.fiap.brain.health.domain.port.ArticleStorePort;
 import com.fiap.brain.health.domain.port.MedicalArticleRepositoryPort;
+import com.fiap.brain.health.domain.port.SemanticArticleIndexPort;
+import com.fiap.brain.health.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,6 +20,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Use Case: Process Kafka Message
@@ -24,6 +30,11 @@ import java.util.UUID;
  * - Process article search requests from Kafka
  * - Generate AI-powered responses
  * - Handle errors gracefully with proper error responses
+ * - Claim-check: when the article store is enabled, publish only a reference
+ *   and summary instead of the full article body
+ * - Reuse the article of a semantically similar, already answered topic
+ *   (outcome "reused") and index every newly generated article
+ * - Record per-stage timings (semantic, lookup, ai, map, store) and the overall outcome
  */
 @Slf4j
 @Service
@@ -35,14 +46,30 @@ public class ProcessKafkaMessageUseCase {
     private final MedicalArticleRepositoryPort articleRepository;
     private final AIProcessingPort aiProcessing;
     private final ArticleResponseMapper responseMapper;
+    private final ArticleStorePort articleStore;
+    private final SemanticArticleIndexPort semanticIndex;
+    private final PipelineMetrics metrics;
 
     public BrainHealthResponseMessage process(BrainHealthRequestMessage request) {
         log.info("Processing Kafka message - messageId: {}, correlationId: {}, title: {}",
                 request.messageId(), request.correlationId(), request.title());
 
+        Timer.Sample pipelineSample = metrics.start();
+        String outcome = PipelineMetrics.ERROR;
         try {
+            Optional<SemanticArticleIndexPort.Match> similar =
+                    timed("semantic", () -> semanticIndex.findSimilar(request.title()));
+            if (similar.isPresent()) {
+                log.info("Reusing article of similar topic '{}' (similarity {}) for title: {}",
+                        similar.get().topic(), String.format("%.3f", similar.get().similarity()), request.title());
+                BrainHealthResponseMessage response =
+                        timed("store", () -> buildSuccessResponse(request, similar.get().article()));
+                outcome = "reused";
+                return response;
+            }
+
             // Usa o campo 'title' da mensagem Kafka para buscar o artigo
-            MedicalArticle article = articleRepository.findByTopic(request.title())
+            MedicalArticle article = timed("lookup", () -> articleRepository.findByTopic(request.title()))
                     .orElseThrow(() -> ArticleNotFoundException.forTopic(request.title()));
 
             if (!article.hasMinimumContent(MINIMUM_CONTENT_LENGTH)) {
@@ -55,27 +82,47 @@ public class ProcessKafkaMessageUseCase {
 
             // Processa com IA usando o title
             AIProcessingPort.AIProcessingResult aiResult =
-                    aiProcessing.processArticle(request.title(), article);
+                    timed("ai", () -> aiProcessing.processArticle(request.title(), article));
 
-            var articleResponse = responseMapper.toArticleResponse(aiResult, article);
+            var articleResponse = timed("map", () -> responseMapper.toArticleResponse(aiResult, article));
+            semanticIndex.index(request.title(), articleResponse);
 
-            return buildSuccessResponse(request, articleResponse);
+            BrainHealthResponseMessage response = timed("store", () -> buildSuccessResponse(request, articleResponse));
+            outcome = PipelineMetrics.SUCCESS;
+            return response;
 
         } catch (ArticleNotFoundException e) {
             log.warn("Article not found for Kafka message title '{}': {}", request.title(), e.getMessage());
+            outcome = "not_found";
             return buildErrorResponse(request, "Article not found: " + e.getMessage());
 
         } catch (InsufficientContentException e) {
             log.warn("Insufficient content for Kafka message title '{}': {}", request.title(), e.getMessage());
+            outcome = "insufficient_content";
             return buildErrorResponse(request, e.getMessage());
 
         } catch (AIProcessingPort.AIProcessingException e) {
             log.error("AI processing failed for Kafka message title '{}': {}", request.title(), e.getMessage(), e);
+            outcome = "ai_error";
             return buildErrorResponse(request, "AI processing error: " + e.getMessage());
 
         } catch (Exception e) {
             log.error("Unexpected error processing Kafka message title '{}': {}", request.title(), e.getMessage(), e);
             return buildErrorResponse(request, "Unexpected error: " + e.getMessage());
+        } finally {
+            metrics.pipeline(pipelineSample, outcome);
+        }
+    }
+
+    private <T> T timed(String stage, Supplier<T> step) {
+        Timer.Sample sample = metrics.start();
+        String outcome = PipelineMetrics.ERROR;
+        try {
+            T result = step.get();
+            outcome = PipelineMetrics.SUCCESS;
+            return result;
+        } finally {
+            metrics.stage(sample, stage, outcome);
         }
     }
 
@@ -83,12 +130,20 @@ public class ProcessKafkaMessageUseCase {
             BrainHealthRequestMessage request,
             com.fiap.brain.health.api.dto.response.ArticleResponse articleResponse) {
 
+        Optional<ArticleReference> reference = articleStore.store(articleResponse)
+                .map(stored -> new ArticleReference(
+                        stored.contentHash(),
+                        articleResponse.title(),
+                        articleResponse.sourceLink(),
+                        stored.sizeBytes()));
+
         return BrainHealthResponseMessage.builder()
                 .messageId(UUID.randomUUID().toString())
                 .userId(request.userId())
                 .goalId(request.goalId())
                 .correlationId(request.correlationId())
-                .articleResponse(articleResponse)
+                .articleResponse(reference.isPresent() ? null : articleResponse)
+                .articleReference(reference.orElse(null))
                 .status(BrainHealthResponseMessage.ProcessingStatus.SUCCESS)
                 .processedAt(LocalDateTime.now())
                 .build();
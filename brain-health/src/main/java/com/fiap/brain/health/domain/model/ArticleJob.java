@@ -0,0 +1,59 @@
+package com.fiap.brain.health.domain.model;
+
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Background article generation job. Immutable: every state change returns a new
+ * instance that replaces the previous one in the job repository.
+ */
+public record ArticleJob(
+        String id,
+        Long userId,
+        Long goalId,
+        String title,
+        Status status,
+        ArticleResponse result,
+        String errorCode,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt
+) {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        SUCCEEDED,
+        FAILED;
+
+        public boolean isTerminal() {
+            return this == SUCCEEDED || this == FAILED;
+        }
+    }
+
+    public static ArticleJob submitted(Long userId, Long goalId, String title) {
+        return new ArticleJob(UUID.randomUUID().toString(), userId, goalId, title,
+                Status.PENDING, null, null, null, LocalDateTime.now(), null);
+    }
+
+    public ArticleJob running() {
+        return new ArticleJob(id, userId, goalId, title, Status.RUNNING,
+                null, null, null, createdAt, null);
+    }
+
+    public ArticleJob succeeded(ArticleResponse article) {
+        return new ArticleJob(id, userId, goalId, title, Status.SUCCEEDED,
+                article, null, null, createdAt, LocalDateTime.now());
+    }
+
+    public ArticleJob failed(String code, String message) {
+        return new ArticleJob(id, userId, goalId, title, Status.FAILED,
+                null, code, message, createdAt, LocalDateTime.now());
+    }
+
+    public boolean isTerminal() {
+        return status.isTerminal();
+    }
+}
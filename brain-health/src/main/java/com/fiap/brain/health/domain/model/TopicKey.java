@@ -0,0 +1,32 @@
+package com.fiap.brain.health.domain.model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical form of an article topic (the goal title): lower case, accents removed,
+ * punctuation and repeated whitespace collapsed. It is the Kafka partition key of
+ * goal.created and the key of the local caches, so "Caminhar 30 minutos!" and
+ * "caminhar  30 MINUTOS" reach the same instance and the same cache entry.
+ * check-health applies the same rules when it publishes the request.
+ */
+public final class TopicKey {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TopicKey() {
+    }
+
+    /**
+     * @return the normalized topic, or an empty string when there is nothing to key on
+     */
+    public static String normalize(String topic) {
+        if (topic == null || topic.isBlank()) {
+            return "";
+        }
+        String withoutAccents = DIACRITICS.matcher(Normalizer.normalize(topic, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,18 @@
+package com.fiap.brain.health.domain.port;
+
+import com.fiap.brain.health.domain.model.ArticleJob;
+
+import java.util.Optional;
+
+public interface ArticleJobRepositoryPort {
+
+    /**
+     * Stores the job, replacing any previous state with the same id.
+     */
+    void save(ArticleJob job);
+
+    /**
+     * @return empty when the job never existed or its retention expired
+     */
+    Optional<ArticleJob> findById(String jobId);
+}
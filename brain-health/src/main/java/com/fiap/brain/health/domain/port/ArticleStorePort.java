@@ -0,0 +1,23 @@
+package com.fiap.brain.health.domain.port;
+
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+
+import java.util.Optional;
+
+/**
+ * Claim-check store for generated articles. Articles are content-addressed, so the
+ * same article generated for many goals is stored (and shipped) only once.
+ */
+public interface ArticleStorePort {
+
+    /**
+     * Stores the article and returns its reference, or empty when the store is
+     * disabled or unavailable — callers then send the article inline.
+     */
+    Optional<StoredArticle> store(ArticleResponse article);
+
+    Optional<ArticleResponse> find(String contentHash);
+
+    record StoredArticle(String contentHash, int sizeBytes) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.fiap.brain.health.domain.port;
+
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+
+import java.util.Optional;
+
+/**
+ * Index of already generated articles by topic meaning, so a goal worded differently
+ * from an earlier one ("dormir melhor" / "melhorar o sono") reuses its article instead
+ * of another lookup and AI call.
+ */
+public interface SemanticArticleIndexPort {
+
+    /**
+     * The article of the most similar indexed topic, when its similarity reaches the
+     * configured threshold; empty otherwise or when the index is disabled.
+     */
+    Optional<Match> findSimilar(String topic);
+
+    void index(String topic, ArticleResponse article);
+
+    record Match(String topic, double similarity, ArticleResponse article) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.fiap.brain.health.infrastructure.adapter.ai;
+
+import com.fiap.brain.health.domain.model.MedicalArticle;
+import com.fiap.brain.health.domain.model.TopicKey;
+import com.fiap.brain.health.domain.port.AIProcessingPort;
+import com.fiap.brain.health.infrastructure.cache.LocalCache;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reuses the generated content for the same normalized question and source article
+ * instead of calling OpenAI again. Failures are not cached.
+ */
+@Slf4j
+public class CachedAIProcessingAdapter implements AIProcessingPort {
+
+    private final AIProcessingPort delegate;
+    private final LocalCache<AIProcessingResult> cache;
+
+    public CachedAIProcessingAdapter(AIProcessingPort delegate, LocalCache<AIProcessingResult> cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public AIProcessingResult processArticle(String question, MedicalArticle article) {
+        String topic = TopicKey.normalize(question);
+        if (topic.isEmpty()) {
+            return delegate.processArticle(question, article);
+        }
+
+        String key = topic + '\n' + article.getArticleUrl();
+        return cache.get(key).orElseGet(() -> {
+            AIProcessingResult result = delegate.processArticle(question, article);
+            cache.put(key, result);
+            return result;
+        });
+    }
+}
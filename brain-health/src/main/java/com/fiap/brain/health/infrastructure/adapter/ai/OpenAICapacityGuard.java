@@ -0,0 +1,256 @@
+package com.fiap.brain.health.infrastructure.adapter.ai;
+
+import com.fiap.brain.health.domain.port.AIProcessingPort.AIProcessingException;
+import com.fiap.brain.health.infrastructure.limit.AimdLimit;
+import com.fiap.brain.health.infrastructure.limit.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.metadata.RateLimit;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Capacity signal for OpenAI calls, shared by the AI adapter (admission) and the
+ * Kafka backpressure controller (pause/resume).
+ * - Token bucket sized from the x-ratelimit-* response headers (requests per minute),
+ *   synced down to the remaining quota reported by OpenAI
+ * - AIMD concurrency limit on chat calls: grows while calls are fast, halves on
+ *   429s, timeouts and latency spikes
+ * - A 429 or an exhausted token quota blocks new calls until the reported reset
+ * Metrics: brain.health.ai.concurrency.limit, brain.health.ai.in.flight,
+ * brain.health.ai.rate.tokens, brain.health.ai.throttled (gauges) and
+ * brain.health.ai.throttle.events (counter, tag reason).
+ */
+@Slf4j
+public class OpenAICapacityGuard {
+
+    public record Settings(
+            int initialConcurrency,
+            int minConcurrency,
+            int maxConcurrency,
+            double backoffRatio,
+            long latencyThresholdMs,
+            long acquireTimeoutMs,
+            double defaultRequestsPerMinute,
+            long cooldownMs,
+            long minRemainingTokens
+    ) {
+    }
+
+    private static final long NOT_BLOCKED = Long.MIN_VALUE;
+    private static final int TOO_MANY_REQUESTS = HttpStatus.TOO_MANY_REQUESTS.value();
+
+    private final Settings settings;
+    private final AimdLimit concurrencyLimit;
+    private final TokenBucket requestBucket;
+    private final AtomicLong blockedUntilNanos = new AtomicLong(NOT_BLOCKED);
+
+    private final Counter rateLimitedEvents;
+    private final Counter latencyEvents;
+    private final Counter quotaEvents;
+
+    public OpenAICapacityGuard(MeterRegistry meterRegistry, Settings settings) {
+        this.settings = settings;
+        this.concurrencyLimit = new AimdLimit(settings.initialConcurrency(), settings.minConcurrency(),
+                settings.maxConcurrency(), settings.backoffRatio(), settings.latencyThresholdMs());
+        this.requestBucket = new TokenBucket(settings.defaultRequestsPerMinute(), settings.defaultRequestsPerMinute() / 60);
+
+        Gauge.builder("brain.health.ai.concurrency.limit", concurrencyLimit, AimdLimit::getLimit)
+                .description("AIMD concurrency limit for OpenAI calls")
+                .register(meterRegistry);
+        Gauge.builder("brain.health.ai.in.flight", concurrencyLimit, AimdLimit::getInFlight)
+                .register(meterRegistry);
+        Gauge.builder("brain.health.ai.rate.tokens", requestBucket, TokenBucket::available)
+                .description("Request tokens left in the OpenAI rate-limit bucket")
+                .register(meterRegistry);
+        Gauge.builder("brain.health.ai.throttled", this, guard -> guard.isThrottled() ? 1 : 0)
+                .register(meterRegistry);
+
+        this.rateLimitedEvents = throttleCounter(meterRegistry, "rate_limited");
+        this.latencyEvents = throttleCounter(meterRegistry, "latency");
+        this.quotaEvents = throttleCounter(meterRegistry, "quota");
+    }
+
+    private static Counter throttleCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("brain.health.ai.throttle.events")
+                .description("Times the OpenAI capacity was reduced")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * True when a new request can be started right away: not in a 429 cooldown,
+     * a request token is available and the concurrency limit has a free slot.
+     */
+    public boolean hasCapacity() {
+        return !isBlocked() && requestBucket.available() >= 1 && !concurrencyLimit.isSaturated();
+    }
+
+    /**
+     * True when requests should wait in Kafka instead of being started (cooldown
+     * or empty bucket). A saturated concurrency limit alone only delays callers.
+     */
+    public boolean isThrottled() {
+        return isBlocked() || requestBucket.available() < 1;
+    }
+
+    /**
+     * How long a deferred request should wait before trying again.
+     */
+    public Duration retryDelay() {
+        long nanos = Math.max(blockedNanos(), requestBucket.nanosUntilAvailable());
+        return Duration.ofNanos(Math.max(TimeUnit.MILLISECONDS.toNanos(100), Math.min(nanos, TimeUnit.SECONDS.toNanos(30))));
+    }
+
+    /**
+     * Runs an OpenAI call within the limits, waiting up to the acquire timeout for
+     * a request token and a concurrency slot, and feeds the outcome back.
+     */
+    public ChatResponse call(Supplier<ChatResponse> chatCall) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.acquireTimeoutMs());
+        try {
+            awaitRequestToken(deadline);
+            if (!concurrencyLimit.acquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                throw new AIProcessingException("OpenAI concurrency limit reached (" + concurrencyLimit.getLimit() + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AIProcessingException("Interrupted waiting for OpenAI capacity", e);
+        }
+
+        long start = System.nanoTime();
+        try {
+            ChatResponse response = chatCall.get();
+            onSuccess(System.nanoTime() - start, response);
+            return response;
+        } catch (RuntimeException e) {
+            onFailure(System.nanoTime() - start, e);
+            throw e;
+        } finally {
+            concurrencyLimit.release();
+        }
+    }
+
+    private void awaitRequestToken(long deadline) throws InterruptedException {
+        while (isBlocked() || !requestBucket.tryConsume()) {
+            long wait = Math.max(blockedNanos(), requestBucket.nanosUntilAvailable());
+            if (System.nanoTime() + wait > deadline) {
+                throw new AIProcessingException("OpenAI rate limit exhausted, retry in " + retryDelay().toMillis() + " ms");
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(wait, TimeUnit.MILLISECONDS.toNanos(10)));
+        }
+    }
+
+    private void onSuccess(long latencyNanos, ChatResponse response) {
+        if (concurrencyLimit.onSample(latencyNanos, false)) {
+            latencyEvents.increment();
+            log.warn("OpenAI latency {} ms above threshold, concurrency limit lowered to {}",
+                    TimeUnit.NANOSECONDS.toMillis(latencyNanos), concurrencyLimit.getLimit());
+        }
+
+        RateLimit rateLimit = response != null && response.getMetadata() != null
+                ? response.getMetadata().getRateLimit()
+                : null;
+        if (rateLimit != null) {
+            applyRateLimit(rateLimit);
+        }
+    }
+
+    private void applyRateLimit(RateLimit rateLimit) {
+        Long requestsLimit = rateLimit.getRequestsLimit();
+        if (requestsLimit != null && requestsLimit > 0) {
+            // OpenAI request limits are per minute
+            if (requestsLimit != requestBucket.getCapacity()) {
+                requestBucket.resize(requestsLimit, requestsLimit / 60.0);
+            }
+            Long remaining = rateLimit.getRequestsRemaining();
+            if (remaining != null) {
+                requestBucket.sync(remaining);
+            }
+        }
+
+        Long tokensLimit = rateLimit.getTokensLimit();
+        Long tokensRemaining = rateLimit.getTokensRemaining();
+        if (tokensLimit != null && tokensLimit > 0 && tokensRemaining != null
+                && tokensRemaining < settings.minRemainingTokens()) {
+            quotaEvents.increment();
+            block(rateLimit.getTokensReset(), "token quota nearly exhausted (" + tokensRemaining + " left)");
+        }
+    }
+
+    private void onFailure(long latencyNanos, RuntimeException e) {
+        if (isRateLimited(e)) {
+            concurrencyLimit.onSample(latencyNanos, true);
+            rateLimitedEvents.increment();
+            block(null, "HTTP 429 from OpenAI");
+        } else if (isTimeout(e)) {
+            concurrencyLimit.onSample(latencyNanos, true);
+            latencyEvents.increment();
+        }
+    }
+
+    private void block(Duration reset, String reason) {
+        Duration cooldown = reset != null && !reset.isZero() && !reset.isNegative()
+                ? reset
+                : Duration.ofMillis(settings.cooldownMs());
+        long until = System.nanoTime() + cooldown.toNanos();
+        blockedUntilNanos.accumulateAndGet(until, Math::max);
+        log.warn("OpenAI capacity blocked for {} ms: {} - concurrency limit {}",
+                cooldown.toMillis(), reason, concurrencyLimit.getLimit());
+    }
+
+    private boolean isBlocked() {
+        return blockedNanos() > 0;
+    }
+
+    private long blockedNanos() {
+        long until = blockedUntilNanos.get();
+        return until == NOT_BLOCKED ? 0 : Math.max(0, until - System.nanoTime());
+    }
+
+    /**
+     * True for an HTTP 429 anywhere in the cause chain: the RestClient/WebClient
+     * response exceptions carry the status; Spring AI's response error handler
+     * rethrows client errors as NonTransientAiException("<status> - <body>").
+     */
+    private static boolean isRateLimited(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof RestClientResponseException http && http.getStatusCode().value() == TOO_MANY_REQUESTS) {
+                return true;
+            }
+            if (t instanceof WebClientResponseException http && http.getStatusCode().value() == TOO_MANY_REQUESTS) {
+                return true;
+            }
+            if (t instanceof NonTransientAiException && t.getMessage() != null
+                    && t.getMessage().startsWith(TOO_MANY_REQUESTS + " - ")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException || t instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getConcurrencyLimit() {
+        return concurrencyLimit.getLimit();
+    }
+}
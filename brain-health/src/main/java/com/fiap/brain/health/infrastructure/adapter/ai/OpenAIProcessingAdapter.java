@@ -2,11 +2,17 @@ package com.fiap.brain.health.infrastructure.adapter.ai;
 
 import com.fiap.brain.health.domain.model.MedicalArticle;
 import com.fiap.brain.health.domain.port.AIProcessingPort;
+import com.fiap.brain.health.infrastructure.jfr.OpenAICallEvent;
+import com.fiap.brain.health.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -18,6 +24,11 @@ import java.util.List;
 public class OpenAIProcessingAdapter implements AIProcessingPort {
 
     private final ChatModel chatModel;
+    private final OpenAICapacityGuard capacityGuard;
+    private final PipelineMetrics metrics;
+
+    @Value("${spring.ai.openai.chat.options.model:unknown}")
+    private String model;
 
     @Override
     public AIProcessingResult processArticle(String question, MedicalArticle article) {
@@ -28,7 +39,7 @@ public class OpenAIProcessingAdapter implements AIProcessingPort {
             var converter = new BeanOutputConverter<>(OpenAIResponseDTO.class);
             var prompt = buildPrompt(question, article.getContent(), converter.getFormat());
 
-            var aiResponse = chatModel.call(new Prompt(prompt))
+            var aiResponse = capacityGuard.call(() -> timedChatCall(prompt))
                     .getResult()
                     .getOutput()
                     .getContent();
@@ -49,6 +60,47 @@ public class OpenAIProcessingAdapter implements AIProcessingPort {
         }
     }
 
+    private ChatResponse timedChatCall(String prompt) {
+        Timer.Sample sample = metrics.start();
+        OpenAICallEvent event = new OpenAICallEvent();
+        event.begin();
+        String outcome = PipelineMetrics.ERROR;
+        ChatResponse response = null;
+        try {
+            response = chatModel.call(new Prompt(prompt));
+            outcome = PipelineMetrics.SUCCESS;
+            return response;
+        } finally {
+            metrics.aiCall(sample, model, outcome);
+            recordCall(event, prompt, response, outcome);
+        }
+    }
+
+    private void recordCall(OpenAICallEvent event, String prompt, ChatResponse response, String outcome) {
+        if (!event.shouldCommit()) {
+            return;
+        }
+        long responseChars = 0;
+        long promptTokens = -1;
+        long totalTokens = -1;
+        if (response != null) {
+            if (response.getResult() != null && response.getResult().getOutput() != null
+                    && response.getResult().getOutput().getContent() != null) {
+                responseChars = response.getResult().getOutput().getContent().length();
+            }
+            Usage usage = response.getMetadata() != null ? response.getMetadata().getUsage() : null;
+            if (usage != null) {
+                promptTokens = tokens(usage.getPromptTokens());
+                totalTokens = tokens(usage.getTotalTokens());
+            }
+        }
+        event.finish(model, prompt.length(), responseChars, promptTokens, totalTokens, outcome);
+    }
+
+    private static long tokens(Number count) {
+        return count != null ? count.longValue() : -1;
+    }
+
     private String buildPrompt(String question, String content, String format) {
         return String.format("""
                 Você é especialista em saúde.
@@ -0,0 +1,51 @@
+package com.fiap.brain.health.infrastructure.adapter.external;
+
+import com.fiap.brain.health.domain.model.MedicalArticle;
+import com.fiap.brain.health.domain.model.TopicKey;
+import com.fiap.brain.health.domain.port.MedicalArticleRepositoryPort;
+import com.fiap.brain.health.infrastructure.cache.LocalCache;
+import com.fiap.brain.health.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+
+/**
+ * Article lookups served from the local cache by normalized topic, falling back to
+ * the source adapter. Only found articles are cached: a miss at the source is retried
+ * on the next request. Cache hits are recorded as brain.health.article.lookup{cache=hit}.
+ */
+@Slf4j
+public class CachedArticleAdapter implements MedicalArticleRepositoryPort {
+
+    private final MedicalArticleRepositoryPort delegate;
+    private final LocalCache<MedicalArticle> cache;
+    private final PipelineMetrics metrics;
+
+    public CachedArticleAdapter(MedicalArticleRepositoryPort delegate, LocalCache<MedicalArticle> cache,
+                                PipelineMetrics metrics) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Optional<MedicalArticle> findByTopic(String topic) {
+        String key = TopicKey.normalize(topic);
+        if (key.isEmpty()) {
+            return delegate.findByTopic(topic);
+        }
+
+        Timer.Sample sample = metrics.start();
+        Optional<MedicalArticle> cached = cache.get(key);
+        if (cached.isPresent()) {
+            log.debug("Article cache hit - topic: '{}'", key);
+            metrics.lookup(sample, PipelineMetrics.hostOf(cached.get().getArticleUrl()), "hit", "found");
+            return cached;
+        }
+
+        Optional<MedicalArticle> article = delegate.findByTopic(topic);
+        article.ifPresent(found -> cache.put(key, found));
+        return article;
+    }
+}
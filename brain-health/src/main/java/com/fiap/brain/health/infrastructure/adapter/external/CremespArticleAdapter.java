@@ -4,6 +4,9 @@ import com.fiap.brain.health.domain.exception.ArticleSearchException;
 import com.fiap.brain.health.domain.model.MedicalArticle;
 import com.fiap.brain.health.domain.port.MedicalArticleRepositoryPort;
 import com.fiap.brain.health.infrastructure.adapter.html.HtmlFetchService;
+import com.fiap.brain.health.infrastructure.jfr.HtmlParseEvent;
+import com.fiap.brain.health.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
@@ -11,7 +14,6 @@ import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
 import java.net.URLEncoder;
@@ -28,15 +30,15 @@ import java.util.Optional;
  * Can be easily replaced with:
  * - PubMedArticleAdapter
  * - SciELOArticleAdapter
- * - CachedArticleAdapter
+ * Wrapped by CachedArticleAdapter when the local cache is enabled (LocalCacheConfig).
  */
 @Slf4j
 @Component
-@Primary
 @RequiredArgsConstructor
 public class CremespArticleAdapter implements MedicalArticleRepositoryPort {
 
     private final HtmlFetchService htmlFetchService;
+    private final PipelineMetrics metrics;
 
     @Value("${external-services.cremesp.base-url:https://cremesp.org.br/pesquisar.php}")
     private String baseUrl;
@@ -53,6 +55,8 @@ public class CremespArticleAdapter implements MedicalArticleRepositoryPort {
 
         log.info("Searching CREMESP - Topic: '{}'", topic);
 
+        Timer.Sample sample = metrics.start();
+        String outcome = PipelineMetrics.ERROR;
         try {
             String searchUrl = buildSearchUrl(topic);
             log.info("Search URL: {}", searchUrl);
@@ -74,10 +78,12 @@ public class CremespArticleAdapter implements MedicalArticleRepositoryPort {
                     log.info("Using search page content: {} characters", searchPageContent.length());
                     log.info("📎 Source URL: {}", searchUrl);
 
-                    String limitedContent = limitContent(searchPageContent);
+                    String limitedContent = limitContent(searchPageContent, searchUrl);
+                    outcome = "found";
                     return MedicalArticle.of(limitedContent, searchUrl);
                 } else {
                     log.warn("Search page content too short or empty");
+                    outcome = "not_found";
                     return Optional.empty();
                 }
             }
@@ -89,18 +95,23 @@ public class CremespArticleAdapter implements MedicalArticleRepositoryPort {
 
             if (content == null || content.length() < 100) {
                 log.warn("Extracted content too short or empty");
+                outcome = "not_found";
                 return Optional.empty();
             }
 
             // Limit content size for AI
-            String limitedContent = limitContent(content);
+            String limitedContent = limitContent(content, articleUrl);
 
             log.info("SUCCESS: Article processed - {} characters of content", limitedContent.length());
+            outcome = "found";
             return MedicalArticle.of(limitedContent, articleUrl);
 
         } catch (Exception e) {
             log.error("Unexpected error searching CREMESP: {}", e.getMessage(), e);
             throw new ArticleSearchException("Failed to search CREMESP: " + e.getMessage(), e);
+        } finally {
+            // Lookups reaching the source are cache misses; hits are recorded by CachedArticleAdapter
+            metrics.lookup(sample, PipelineMetrics.hostOf(baseUrl), "miss", outcome);
         }
     }
 
@@ -127,11 +138,18 @@ public class CremespArticleAdapter implements MedicalArticleRepositoryPort {
     }
 
     private String extractSearchPageContent(String html) {
+        Timer.Sample sample = metrics.start();
+        HtmlParseEvent event = new HtmlParseEvent();
+        event.begin();
+        String outcome = PipelineMetrics.ERROR;
+        String result = null;
+        int elements = 0;
         try {
             Document doc = Jsoup.parse(html);
             doc.select("script, style, nav, header, footer, iframe, ads, .advertisement, form, input, button").remove();
 
             Elements snippets = doc.select(".gs_rs, .gs_a, .result-snippet, .search-result, p");
+            elements = snippets.size();
 
             if (!snippets.isEmpty()) {
                 StringBuilder content = new StringBuilder();
@@ -142,25 +160,37 @@ public class CremespArticleAdapter implements MedicalArticleRepositoryPort {
                     }
                 }
 
-                String result = content.toString().trim();
+                result = content.toString().trim();
                 log.debug("Content extracted from snippets: {} characters", result.length());
+                outcome = PipelineMetrics.SUCCESS;
                 return result;
             }
 
-            String bodyText = doc.body().text();
-            log.debug("Content extracted from body: {} characters", bodyText.length());
-            return bodyText;
+            result = doc.body().text();
+            log.debug("Content extracted from body: {} characters", result.length());
+            outcome = PipelineMetrics.SUCCESS;
+            return result;
 
         } catch (Exception e) {
             log.error("Error extracting search page content: {}", e.getMessage());
             return null;
+        } finally {
+            metrics.parse(sample, "search_content", outcome);
+            event.finish("search_content", html.length(), result != null ? result.length() : 0, elements, outcome);
         }
     }
 
     private String extractFirstArticleUrl(String html) {
+        Timer.Sample sample = metrics.start();
+        HtmlParseEvent event = new HtmlParseEvent();
+        event.begin();
+        String outcome = PipelineMetrics.ERROR;
+        String articleUrl = null;
+        int elements = 0;
         try {
             Document doc = Jsoup.parse(html);
             Elements allLinks = doc.select("a[href]");
+            elements = allLinks.size();
             log.info("Total links found: {}", allLinks.size());
 
             for (Element link : allLinks) {
@@ -190,20 +220,32 @@ public class CremespArticleAdapter implements MedicalArticleRepositoryPort {
                      text.length() > 20)) {
 
                     log.info("Article found: {}", href);
+                    outcome = PipelineMetrics.SUCCESS;
+                    articleUrl = href;
                     return href;
                 }
             }
 
             log.warn("No article link found in HTML");
+            outcome = "no_match";
             return null;
 
         } catch (Exception e) {
             log.error("Error extracting article URL: {}", e.getMessage());
             return null;
+        } finally {
+            metrics.parse(sample, "search_links", outcome);
+            event.finish("search_links", html.length(), articleUrl != null ? articleUrl.length() : 0,
+                    elements, outcome);
         }
     }
 
     private String extractArticleContent(String html) {
+        Timer.Sample sample = metrics.start();
+        HtmlParseEvent event = new HtmlParseEvent();
+        event.begin();
+        String outcome = PipelineMetrics.ERROR;
+        String text = null;
         try {
             Document doc = Jsoup.parse(html);
             doc.select("script, style, nav, header, footer, iframe, ads, .advertisement").remove();
@@ -222,18 +264,25 @@ public class CremespArticleAdapter implements MedicalArticleRepositoryPort {
                 content = doc.body();
             }
 
-            String text = content.text();
+            text = content.text();
             log.debug("Content extracted: {} characters", text.length());
+            outcome = PipelineMetrics.SUCCESS;
             return text;
 
         } catch (Exception e) {
             log.error("Error extracting article content: {}", e.getMessage());
             return null;
+        } finally {
+            metrics.parse(sample, "article_content", outcome);
+            event.finish("article_content", html.length(), text != null ? text.length() : 0, 1, outcome);
         }
     }
 
-    private String limitContent(String content) {
-        if (content.length() <= maxContentLength) {
+    private String limitContent(String content, String sourceUrl) {
+        boolean truncated = content.length() > maxContentLength;
+        metrics.content(PipelineMetrics.hostOf(sourceUrl), content.length(), truncated);
+
+        if (!truncated) {
             return content;
         }
 
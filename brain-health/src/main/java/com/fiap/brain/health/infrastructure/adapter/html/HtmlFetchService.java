@@ -1,5 +1,8 @@
 package com.fiap.brain.health.infrastructure.adapter.html;
 
+import com.fiap.brain.health.infrastructure.jfr.HtmlFetchEvent;
+import com.fiap.brain.health.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -7,6 +10,8 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Component
@@ -14,10 +19,18 @@ import java.time.Duration;
 public class HtmlFetchService {
 
     private final WebClient webClient;
+    private final PipelineMetrics metrics;
 
     private static final Duration TIMEOUT = Duration.ofSeconds(30);
 
     public String fetchHtml(String url) {
+        Timer.Sample sample = metrics.start();
+        HtmlFetchEvent event = new HtmlFetchEvent();
+        event.begin();
+        AtomicReference<String> failure = new AtomicReference<>();
+        String outcome = PipelineMetrics.ERROR;
+        int responseChars = 0;
+
         try {
             log.debug("Fetching HTML from: {}", url);
 
@@ -28,13 +41,17 @@ public class HtmlFetchService {
                     .timeout(TIMEOUT)
                     .onErrorResume(error -> {
                         log.error("Error fetching URL {}: {}", url, error.getMessage());
+                        failure.set(error instanceof TimeoutException ? "timeout" : PipelineMetrics.ERROR);
                         return Mono.empty();
                     })
                     .block();
 
             if (html != null) {
+                outcome = PipelineMetrics.SUCCESS;
+                responseChars = html.length();
                 log.debug("HTML fetched successfully: {} characters", html.length());
             } else {
+                outcome = failure.get() != null ? failure.get() : "empty";
                 log.warn("No HTML content retrieved from: {}", url);
             }
 
@@ -43,6 +60,10 @@ public class HtmlFetchService {
         } catch (Exception e) {
             log.error("Failed to fetch HTML from {}: {}", url, e.getMessage(), e);
             return null;
+        } finally {
+            String host = PipelineMetrics.hostOf(url);
+            metrics.fetch(sample, host, outcome);
+            event.finish(host, responseChars, outcome);
         }
     }
 }
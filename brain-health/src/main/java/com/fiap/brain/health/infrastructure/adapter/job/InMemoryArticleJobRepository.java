@@ -0,0 +1,74 @@
+package com.fiap.brain.health.infrastructure.adapter.job;
+
+import com.fiap.brain.health.domain.model.ArticleJob;
+import com.fiap.brain.health.domain.port.ArticleJobRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded in-memory job store. Keeps at most {@code max-jobs} entries (oldest
+ * submitted evicted first) and drops finished jobs once their TTL has passed.
+ * Jobs are lost on restart; clients resubmit.
+ */
+@Slf4j
+@Component
+public class InMemoryArticleJobRepository implements ArticleJobRepositoryPort {
+
+    private final int maxJobs;
+    private final Duration ttl;
+    private final Map<String, ArticleJob> jobs;
+
+    public InMemoryArticleJobRepository(
+            @Value("${article-jobs.retention.max-jobs:1000}") int maxJobs,
+            @Value("${article-jobs.retention.ttl-minutes:30}") long ttlMinutes) {
+        this.maxJobs = maxJobs;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.jobs = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ArticleJob> eldest) {
+                if (size() > InMemoryArticleJobRepository.this.maxJobs) {
+                    log.warn("Article job retention full ({} jobs) - evicting job {} ({})",
+                            InMemoryArticleJobRepository.this.maxJobs, eldest.getKey(), eldest.getValue().status());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public synchronized void save(ArticleJob job) {
+        purgeExpired();
+        jobs.put(job.id(), job);
+    }
+
+    @Override
+    public synchronized Optional<ArticleJob> findById(String jobId) {
+        ArticleJob job = jobs.get(jobId);
+        if (job != null && isExpired(job, LocalDateTime.now())) {
+            jobs.remove(jobId);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(job);
+    }
+
+    public synchronized int size() {
+        return jobs.size();
+    }
+
+    private void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        jobs.values().removeIf(job -> isExpired(job, now));
+    }
+
+    private boolean isExpired(ArticleJob job, LocalDateTime now) {
+        return job.completedAt() != null && job.completedAt().plus(ttl).isBefore(now);
+    }
+}
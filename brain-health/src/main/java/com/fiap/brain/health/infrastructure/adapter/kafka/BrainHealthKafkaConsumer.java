@@ -4,17 +4,34 @@ import com.fiap.brain.health.api.dto.kafka.BrainHealthRequestMessage;
 import com.fiap.brain.health.api.dto.kafka.BrainHealthResponseMessage;
 import com.fiap.brain.health.application.usecase.ProcessKafkaMessageUseCase;
 import com.fiap.brain.health.domain.exception.InvalidMessageException;
+import com.fiap.brain.health.infrastructure.adapter.ai.OpenAICapacityGuard;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.LaneScheduler;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.PriorityLane;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.StalenessPolicy;
+import com.fiap.brain.health.infrastructure.exception.KafkaMessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Component
@@ -23,18 +40,197 @@ public class BrainHealthKafkaConsumer {
 
     private final ProcessKafkaMessageUseCase processKafkaMessageUseCase;
     private final BrainHealthKafkaProducer kafkaProducer;
+    private final LaneScheduler laneScheduler;
+    private final OpenAICapacityGuard capacityGuard;
+    private final StalenessPolicy stalenessPolicy;
+    private final KafkaTemplate<String, BrainHealthRequestMessage> requestKafkaTemplate;
 
+    @Value("${kafka.transactions.enabled:false}")
+    private boolean transactionsEnabled;
+
+    @Value("${kafka.lanes.backfill.topic:goal.created.backfill}")
+    private String backfillTopic;
+
+    @Value("${kafka.producer.send-timeout-seconds:30}")
+    private long deferTimeoutSeconds;
+
+    /**
+     * Interactive lane: goals just created by users (goal.created). Bulk and backfill
+     * consume in their own groups ({@code <group-id>-bulk}, {@code <group-id>-backfill}),
+     * so restarting one lane's container does not rebalance the others.
+     */
     @KafkaListener(
+            id = "brain-health-interactive",
             topics = "${kafka.topic.consumer}",
             groupId = "${spring.kafka.consumer.group-id}",
+            concurrency = "${kafka.lanes.interactive.concurrency:3}",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void consume(List<ConsumerRecord<String, BrainHealthRequestMessage>> records,
+                        Acknowledgment acknowledgment) {
+        consumeLane(PriorityLane.INTERACTIVE, records, acknowledgment);
+    }
+
+    @KafkaListener(
+            id = "brain-health-bulk",
+            topics = "${kafka.lanes.bulk.topic:goal.created.bulk}",
+            groupId = "${spring.kafka.consumer.group-id}-bulk",
+            concurrency = "${kafka.lanes.bulk.concurrency:2}",
             containerFactory = "kafkaListenerContainerFactory"
     )
-    public void consume(
-            @Payload BrainHealthRequestMessage message,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment
-    ) {
+    public void consumeBulk(List<ConsumerRecord<String, BrainHealthRequestMessage>> records,
+                            Acknowledgment acknowledgment) {
+        consumeLane(PriorityLane.BULK, records, acknowledgment);
+    }
+
+    @KafkaListener(
+            id = "brain-health-backfill",
+            topics = "${kafka.lanes.backfill.topic:goal.created.backfill}",
+            groupId = "${spring.kafka.consumer.group-id}-backfill",
+            concurrency = "${kafka.lanes.backfill.concurrency:1}",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void consumeBackfill(List<ConsumerRecord<String, BrainHealthRequestMessage>> records,
+                                Acknowledgment acknowledgment) {
+        consumeLane(PriorityLane.BACKFILL, records, acknowledgment);
+    }
+
+    private void consumeLane(PriorityLane lane, List<ConsumerRecord<String, BrainHealthRequestMessage>> records,
+                             Acknowledgment acknowledgment) {
+        log.debug("Kafka batch received - lane: {}, {} records, transactional: {}",
+                lane.tag(), records.size(), transactionsEnabled);
+
+        for (int index = 0; index < records.size(); index++) {
+            ConsumerRecord<String, BrainHealthRequestMessage> record = records.get(index);
+
+            // Deadline: pedidos vencidos não gastam OpenAI (respondidos como EXPIRED ou adiados para backfill)
+            if (record.value() != null && shedIfStale(lane, record, index)) {
+                if (!transactionsEnabled) {
+                    acknowledgment.acknowledge(index);
+                }
+                continue;
+            }
+
+            // Backpressure: sem capacidade na OpenAI, o restante do lote volta para o Kafka
+            if (record.value() != null && capacityGuard.isThrottled()) {
+                Duration delay = capacityGuard.retryDelay();
+                log.warn("OpenAI capacity exhausted - lane: {}, deferring {} records from partition {} offset {} for {} ms",
+                        lane.tag(), records.size() - index, record.partition(), record.offset(), delay.toMillis());
+                acknowledgment.nack(index, delay);
+                return;
+            }
+
+            CompletableFuture<SendResult<String, BrainHealthResponseMessage>> pendingSend =
+                    schedule(lane, record, index);
+
+            // Sem transação: só confirma o offset depois que a resposta foi aceita pelo broker
+            if (!transactionsEnabled) {
+                awaitResponse(pendingSend, index);
+                acknowledgment.acknowledge(index);
+            }
+        }
+
+        // Com transação: os offsets do lote entram na mesma transação das respostas
+        if (transactionsEnabled) {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    /**
+     * Waits for a pipeline permit of the lane (weighted fair share) and processes the record.
+     */
+    private CompletableFuture<SendResult<String, BrainHealthResponseMessage>> schedule(
+            PriorityLane lane, ConsumerRecord<String, BrainHealthRequestMessage> record, int index) {
+        if (record.value() == null) {
+            return processRecord(record);
+        }
+        try {
+            return laneScheduler.execute(lane, () -> processRecord(record));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BatchListenerFailedException("Interrupted waiting for " + lane.tag() + " lane permit", e, index);
+        }
+    }
+
+    /**
+     * Applies the lane deadline; returns true when the record was handled without processing.
+     */
+    private boolean shedIfStale(PriorityLane lane, ConsumerRecord<String, BrainHealthRequestMessage> record, int index) {
+        long now = System.currentTimeMillis();
+        long requestedAt = StalenessPolicy.requestedAtMillis(record.value().requestedAt(), record.timestamp(), now);
+        StalenessPolicy.Verdict verdict = stalenessPolicy.evaluate(lane, requestedAt);
+        if (verdict == StalenessPolicy.Verdict.FRESH) {
+            return false;
+        }
+
+        long age = now - requestedAt;
+        if (verdict == StalenessPolicy.Verdict.DEFER) {
+            log.info("Stale request deferred to {} - lane: {}, goalId: {}, age: {} ms, partition: {}, offset: {}",
+                    backfillTopic, lane.tag(), record.value().goalId(), age, record.partition(), record.offset());
+            deferToBackfill(record, requestedAt, index);
+        } else {
+            log.info("Stale request expired - lane: {}, goalId: {}, age: {} ms, partition: {}, offset: {}",
+                    lane.tag(), record.value().goalId(), age, record.partition(), record.offset());
+            String message = "Request expired after " + age + " ms (" + lane.tag() + " TTL "
+                    + stalenessPolicy.ttl(lane).toMillis() + " ms)";
+            CompletableFuture<SendResult<String, BrainHealthResponseMessage>> pendingSend =
+                    kafkaProducer.publishResponse(processKafkaMessageUseCase.resolveKey(record.value()),
+                            buildExpiredResponse(record.value(), message), responseHeaders(record, now));
+            if (!transactionsEnabled) {
+                awaitResponse(pendingSend, index);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Re-publishes the request on the backfill lane keeping its original requestedAt,
+     * so the backfill TTL still counts from the first attempt. In transactional mode
+     * the request template shares the listener's transactional producer, so the send
+     * commits with the consumed offsets; otherwise it is awaited before the offset
+     * moves on.
+     */
+    private void deferToBackfill(ConsumerRecord<String, BrainHealthRequestMessage> record, long requestedAt, int index) {
+        BrainHealthRequestMessage message = record.value();
+        BrainHealthRequestMessage deferred = new BrainHealthRequestMessage(
+                message.goalId(),
+                message.userId(),
+                message.category(),
+                message.title(),
+                message.description(),
+                message.messageId(),
+                message.correlationId(),
+                message.requestedAt() != null
+                        ? message.requestedAt()
+                        : LocalDateTime.ofInstant(Instant.ofEpochMilli(requestedAt), ZoneOffset.UTC)
+        );
+        CompletableFuture<SendResult<String, BrainHealthRequestMessage>> pendingSend = requestKafkaTemplate.send(
+                new ProducerRecord<>(backfillTopic, null, record.key(), deferred, LatencyHeaders.forward(record.headers())));
+        if (transactionsEnabled) {
+            return;
+        }
+        try {
+            pendingSend.get(deferTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BatchListenerFailedException("Interrupted deferring stale record to " + backfillTopic, e, index);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new BatchListenerFailedException("Stale record could not be deferred to " + backfillTopic, e, index);
+        }
+    }
+
+    private CompletableFuture<SendResult<String, BrainHealthResponseMessage>> processRecord(
+            ConsumerRecord<String, BrainHealthRequestMessage> record) {
+        BrainHealthRequestMessage message = record.value();
+        int partition = record.partition();
+        long offset = record.offset();
+        if (message == null) {
+            log.error("Skipping record that could not be deserialized - partition: {}, offset: {}", partition, offset);
+            return null;
+        }
+
+        long startedAt = System.currentTimeMillis();
+
         String traceId = UUID.randomUUID().toString();
 
         // Enriquece mensagem com messageId e correlationId se não existirem
@@ -52,29 +248,49 @@ public class BrainHealthKafkaConsumer {
             String key = processKafkaMessageUseCase.resolveKey(enrichedMessage);
 
             // Send response
-            kafkaProducer.sendResponse(key, response);
-
-            // Acknowledge message
-            acknowledgment.acknowledge();
+            CompletableFuture<SendResult<String, BrainHealthResponseMessage>> pendingSend =
+                    kafkaProducer.publishResponse(key, response, responseHeaders(record, startedAt));
 
             log.info("[{}] Kafka message processed successfully - goalId: {}, userId: {}, status: {}",
                     traceId, enrichedMessage.goalId(), enrichedMessage.userId(), response.status());
 
+            return pendingSend;
+
         } catch (InvalidMessageException e) {
             log.error("[{}] Message validation failed - goalId: {}, userId: {}, error: {}",
                 traceId, enrichedMessage.goalId(), enrichedMessage.userId(), e.getMessage());
 
             BrainHealthResponseMessage errorResponse = buildValidationErrorResponse(enrichedMessage, e.getMessage());
-            kafkaProducer.sendResponse(processKafkaMessageUseCase.resolveKey(enrichedMessage), errorResponse);
-            acknowledgment.acknowledge();
+            return kafkaProducer.publishResponse(processKafkaMessageUseCase.resolveKey(enrichedMessage), errorResponse,
+                    responseHeaders(record, startedAt));
 
         } catch (Exception e) {
             log.error("[{}] Message processing failed - goalId: {}, userId: {}, error: {}",
                 traceId, enrichedMessage.goalId(), enrichedMessage.userId(), e.getMessage(), e);
 
             BrainHealthResponseMessage errorResponse = buildProcessingErrorResponse(enrichedMessage, e.getMessage());
-            kafkaProducer.sendResponse(processKafkaMessageUseCase.resolveKey(enrichedMessage), errorResponse);
-            acknowledgment.acknowledge();
+            return kafkaProducer.publishResponse(processKafkaMessageUseCase.resolveKey(enrichedMessage), errorResponse,
+                    responseHeaders(record, startedAt));
+        }
+    }
+
+    /**
+     * Propaga o trace context e os horários da meta, marcando início e fim do processamento.
+     */
+    private List<Header> responseHeaders(ConsumerRecord<String, BrainHealthRequestMessage> record, long startedAt) {
+        return LatencyHeaders.forResponse(record.headers(), startedAt, System.currentTimeMillis());
+    }
+
+    private void awaitResponse(CompletableFuture<SendResult<String, BrainHealthResponseMessage>> pendingSend,
+                               int index) {
+        if (pendingSend == null) {
+            return;
+        }
+        try {
+            kafkaProducer.awaitResponse(pendingSend);
+        } catch (KafkaMessagingException e) {
+            // Records before the index are committed; the error handler retries from this one
+            throw new BatchListenerFailedException("Response for record was not acknowledged", e, index);
         }
     }
 
@@ -84,7 +300,7 @@ public class BrainHealthKafkaConsumer {
     private BrainHealthRequestMessage enrichMessage(BrainHealthRequestMessage message, String traceId) {
         String messageId = message.messageId() != null ? message.messageId() : traceId;
         String correlationId = message.correlationId() != null ? message.correlationId() : traceId;
-        java.time.LocalDateTime requestedAt = message.requestedAt() != null ? message.requestedAt() : java.time.LocalDateTime.now();
+        java.time.LocalDateTime requestedAt = message.requestedAt() != null ? message.requestedAt() : java.time.LocalDateTime.now(ZoneOffset.UTC);
 
         return new BrainHealthRequestMessage(
             message.goalId(),
@@ -134,6 +350,18 @@ public class BrainHealthKafkaConsumer {
                 .build();
     }
 
+    private BrainHealthResponseMessage buildExpiredResponse(BrainHealthRequestMessage request, String errorMessage) {
+        return BrainHealthResponseMessage.builder()
+                .messageId(UUID.randomUUID().toString())
+                .userId(request.userId())
+                .goalId(request.goalId())
+                .correlationId(request.correlationId())
+                .status(BrainHealthResponseMessage.ProcessingStatus.EXPIRED)
+                .errorMessage(errorMessage)
+                .processedAt(LocalDateTime.now())
+                .build();
+    }
+
     private BrainHealthResponseMessage buildProcessingErrorResponse(
             BrainHealthRequestMessage request, String errorMessage) {
         return BrainHealthResponseMessage.builder()
@@ -1,14 +1,23 @@
 package com.fiap.brain.health.infrastructure.adapter.kafka;
 
 import com.fiap.brain.health.api.dto.kafka.BrainHealthResponseMessage;
+import com.fiap.brain.health.infrastructure.exception.KafkaMessagingException;
+import com.fiap.brain.health.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Component
@@ -16,18 +25,43 @@ import java.util.concurrent.CompletableFuture;
 public class BrainHealthKafkaProducer {
 
     private final KafkaTemplate<String, BrainHealthResponseMessage> kafkaTemplate;
+    private final PipelineMetrics metrics;
 
     @Value("${kafka.topic.producer}")
     private String responseTopic;
 
+    @Value("${kafka.producer.send-timeout-seconds:30}")
+    private long sendTimeoutSeconds;
+
     public void sendResponse(String key, BrainHealthResponseMessage responseMessage) {
+        publishResponse(key, responseMessage);
+    }
+
+    /**
+     * Sends the response and returns the pending send, letting listeners decide
+     * when the consumed offset can be committed.
+     */
+    public CompletableFuture<SendResult<String, BrainHealthResponseMessage>> publishResponse(
+            String key, BrainHealthResponseMessage responseMessage) {
+        return publishResponse(key, responseMessage, List.of());
+    }
+
+    /**
+     * Same as {@link #publishResponse(String, BrainHealthResponseMessage)}, adding the
+     * given headers (trace context, hop timestamps) plus the produced-at timestamp.
+     */
+    public CompletableFuture<SendResult<String, BrainHealthResponseMessage>> publishResponse(
+            String key, BrainHealthResponseMessage responseMessage, List<Header> headers) {
         log.info("Sending response to topic '{}' with key '{}' and correlationId '{}'",
                 responseTopic, key, responseMessage.correlationId());
 
-        CompletableFuture<SendResult<String, BrainHealthResponseMessage>> future =
-                kafkaTemplate.send(responseTopic, key, responseMessage);
+        Timer.Sample sample = metrics.start();
+        CompletableFuture<SendResult<String, BrainHealthResponseMessage>> future = headers.isEmpty()
+                ? send(key, responseMessage)
+                : send(record(key, responseMessage, headers));
 
         future.whenComplete((result, ex) -> {
+            metrics.produce(sample, responseTopic, ex == null ? PipelineMetrics.SUCCESS : PipelineMetrics.ERROR);
             if (ex == null) {
                 log.info("Response sent successfully - topic: '{}', partition: {}, offset: {}, correlationId: {}",
                         responseTopic,
@@ -39,5 +73,47 @@ public class BrainHealthKafkaProducer {
                         responseTopic, responseMessage.correlationId(), ex);
             }
         });
+
+        return future;
+    }
+
+    /**
+     * Blocks until the broker acknowledges the send, so the caller only commits
+     * the consumed offset after the response is durable (at-least-once).
+     */
+    public void awaitResponse(CompletableFuture<SendResult<String, BrainHealthResponseMessage>> future) {
+        try {
+            future.get(sendTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaMessagingException(responseTopic, "send", "interrupted while waiting for broker ack", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaMessagingException(responseTopic, "send", "response not acknowledged by broker", e);
+        }
+    }
+
+    private ProducerRecord<String, BrainHealthResponseMessage> record(
+            String key, BrainHealthResponseMessage responseMessage, List<Header> headers) {
+        ProducerRecord<String, BrainHealthResponseMessage> record =
+                new ProducerRecord<>(responseTopic, null, key, responseMessage, headers);
+        record.headers().add(LatencyHeaders.timestamp(LatencyHeaders.RESPONSE_PRODUCED_AT, System.currentTimeMillis()));
+        return record;
+    }
+
+    private CompletableFuture<SendResult<String, BrainHealthResponseMessage>> send(
+            ProducerRecord<String, BrainHealthResponseMessage> record) {
+        if (kafkaTemplate.isTransactional() && !kafkaTemplate.inTransaction()) {
+            return kafkaTemplate.executeInTransaction(template -> template.send(record));
+        }
+        return kafkaTemplate.send(record);
+    }
+
+    private CompletableFuture<SendResult<String, BrainHealthResponseMessage>> send(
+            String key, BrainHealthResponseMessage responseMessage) {
+        // Outside a listener transaction (e.g. REST endpoint) a transactional template needs its own local transaction
+        if (kafkaTemplate.isTransactional() && !kafkaTemplate.inTransaction()) {
+            return kafkaTemplate.executeInTransaction(template -> template.send(responseTopic, key, responseMessage));
+        }
+        return kafkaTemplate.send(responseTopic, key, responseMessage);
     }
 }
@@ -0,0 +1,85 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka;
+
+import com.fiap.brain.health.infrastructure.adapter.ai.OpenAICapacityGuard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pauses every brain-health listener container while OpenAI is throttled (429
+ * cooldown or empty request bucket) and resumes them once it is not, so pending
+ * requests wait in Kafka (paused consumers keep polling and stay in the group)
+ * instead of failing on 429s. A saturated concurrency limit does not pause: it
+ * changes with every call, and callers already wait for a free slot.
+ * Metrics: brain.health.kafka.paused (gauge) and brain.health.kafka.pause.events (counter).
+ */
+@Slf4j
+@Component
+public class KafkaBackpressureController {
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final OpenAICapacityGuard capacityGuard;
+    private final Counter pauseEvents;
+    private final AtomicBoolean paused = new AtomicBoolean();
+
+    @Value("${kafka.backpressure.enabled:true}")
+    private boolean enabled;
+
+    public KafkaBackpressureController(KafkaListenerEndpointRegistry registry,
+                                       OpenAICapacityGuard capacityGuard,
+                                       ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.registry = registry;
+        this.capacityGuard = capacityGuard;
+        this.pauseEvents = Counter.builder("brain.health.kafka.pause.events")
+                .description("Times the listeners were paused while OpenAI was throttled")
+                .register(meterRegistry);
+        Gauge.builder("brain.health.kafka.paused", paused, p -> p.get() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    /** Synchronized with {@link #reapply}, so a container is never left paused after a resume. */
+    @Scheduled(fixedDelayString = "${kafka.backpressure.check-interval-ms:1000}")
+    public synchronized void evaluate() {
+        if (!enabled) {
+            return;
+        }
+
+        boolean throttled = capacityGuard.isThrottled();
+
+        if (throttled && paused.compareAndSet(false, true)) {
+            log.warn("Pausing Kafka listeners - OpenAI throttled (retry in {} ms)",
+                    capacityGuard.retryDelay().toMillis());
+            registry.getListenerContainers().forEach(MessageListenerContainer::pause);
+            pauseEvents.increment();
+        } else if (!throttled && paused.compareAndSet(true, false)) {
+            log.info("Resuming Kafka listeners - OpenAI no longer throttled (concurrency limit {})",
+                    capacityGuard.getConcurrencyLimit());
+            registry.getListenerContainers().forEach(MessageListenerContainer::resume);
+        }
+    }
+
+    /**
+     * Pauses a container that was restarted while the listeners are paused: a pause
+     * issued while it was stopping does not reach the consumers it starts.
+     */
+    public synchronized void reapply(MessageListenerContainer container) {
+        if (paused.get()) {
+            container.pause();
+        }
+    }
+
+    public boolean isPaused() {
+        return paused.get();
+    }
+}
@@ -0,0 +1,94 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeader;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Trace context and hop timestamps carried from goal.created to
+ * goal.progress.updated, so check-health can measure goal -> article latency.
+ * Timestamps are epoch milliseconds as decimal strings (same names as check-health).
+ */
+public final class LatencyHeaders {
+
+    public static final String TRACEPARENT = "traceparent";
+    public static final String GOAL_CREATED_AT = "x-goal-created-at";
+    public static final String GOAL_PUBLISHED_AT = "x-goal-published-at";
+    public static final String PROCESSING_STARTED_AT = "x-brain-health-started-at";
+    public static final String PROCESSING_COMPLETED_AT = "x-brain-health-completed-at";
+    public static final String RESPONSE_PRODUCED_AT = "x-response-produced-at";
+
+    private static final Pattern TRACEPARENT_FORMAT =
+            Pattern.compile("^[0-9a-f]{2}-[0-9a-f]{32}-[0-9a-f]{16}-[0-9a-f]{2}$");
+
+    private LatencyHeaders() {
+    }
+
+    /**
+     * Headers for the response to a request: goal timestamps copied as-is, a child
+     * span of the request trace (or a new trace) and the processing window.
+     */
+    public static List<Header> forResponse(Headers request, long startedAt, long completedAt) {
+        List<Header> headers = new ArrayList<>(5);
+        copy(request, GOAL_CREATED_AT, headers);
+        copy(request, GOAL_PUBLISHED_AT, headers);
+        headers.add(header(TRACEPARENT, childTraceparent(value(request, TRACEPARENT))));
+        headers.add(timestamp(PROCESSING_STARTED_AT, startedAt));
+        headers.add(timestamp(PROCESSING_COMPLETED_AT, completedAt));
+        return headers;
+    }
+
+    /**
+     * Trace and goal headers to keep when a request is re-published (e.g. deferred
+     * to the backfill lane), so the final response still measures from the goal.
+     */
+    public static List<Header> forward(Headers request) {
+        List<Header> headers = new ArrayList<>(3);
+        copy(request, TRACEPARENT, headers);
+        copy(request, GOAL_CREATED_AT, headers);
+        copy(request, GOAL_PUBLISHED_AT, headers);
+        return headers;
+    }
+
+    public static Header timestamp(String name, long epochMillis) {
+        return header(name, Long.toString(epochMillis));
+    }
+
+    public static String value(Headers headers, String name) {
+        Header header = headers != null ? headers.lastHeader(name) : null;
+        return header != null && header.value() != null
+                ? new String(header.value(), StandardCharsets.UTF_8)
+                : null;
+    }
+
+    static String childTraceparent(String parent) {
+        HexFormat hex = HexFormat.of();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String spanId = hex.toHexDigits(random.nextLong());
+
+        if (parent != null && TRACEPARENT_FORMAT.matcher(parent).matches()) {
+            String[] parts = parent.split("-");
+            return parts[0] + "-" + parts[1] + "-" + spanId + "-" + parts[3];
+        }
+        String traceId = hex.toHexDigits(random.nextLong()) + hex.toHexDigits(random.nextLong());
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    private static void copy(Headers source, String name, List<Header> target) {
+        Header header = source != null ? source.lastHeader(name) : null;
+        if (header != null) {
+            target.add(new RecordHeader(name, header.value()));
+        }
+    }
+
+    private static Header header(String name, String value) {
+        return new RecordHeader(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,68 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Startup check that every consumed topic has at least as many partitions as listener
+ * threads in the consumer group (threads per instance x expected instances). A
+ * partition is read by a single consumer of the group, so threads beyond the partition
+ * count sit idle. Only warns: the service still runs with the parallelism the topics allow.
+ */
+@Slf4j
+public class TopicPartitionCheck {
+
+    private final KafkaAdmin kafkaAdmin;
+    private final Map<String, Integer> concurrencyByTopic;
+    private final int expectedInstances;
+
+    public TopicPartitionCheck(KafkaAdmin kafkaAdmin, Map<String, Integer> concurrencyByTopic, int expectedInstances) {
+        this.kafkaAdmin = kafkaAdmin;
+        this.concurrencyByTopic = concurrencyByTopic;
+        this.expectedInstances = Math.max(1, expectedInstances);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        try {
+            Map<String, TopicDescription> topics = kafkaAdmin.describeTopics(
+                    concurrencyByTopic.keySet().toArray(String[]::new));
+            Map<String, Integer> partitions = new HashMap<>();
+            topics.forEach((name, description) -> partitions.put(name, description.partitions().size()));
+
+            List<String> shortfalls = shortfalls(partitions);
+            if (shortfalls.isEmpty()) {
+                log.info("Kafka topic partitions cover the listener concurrency: {}", partitions);
+            } else {
+                shortfalls.forEach(log::warn);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not verify Kafka topic partitions: {}", e.getMessage());
+        }
+    }
+
+    List<String> shortfalls(Map<String, Integer> partitions) {
+        List<String> shortfalls = new ArrayList<>();
+        concurrencyByTopic.forEach((topic, concurrency) -> {
+            int threads = concurrency * expectedInstances;
+            Integer count = partitions.get(topic);
+            if (count == null) {
+                shortfalls.add(String.format("Kafka topic '%s' not found - it will be auto-created with the broker "
+                        + "default partitions", topic));
+            } else if (count < threads) {
+                shortfalls.add(String.format("Kafka topic '%s' has %d partitions for %d listener threads "
+                                + "(%d per instance x %d instances) - %d threads will stay idle",
+                        topic, count, threads, concurrency, expectedInstances, threads - count));
+            }
+        });
+        return shortfalls;
+    }
+}
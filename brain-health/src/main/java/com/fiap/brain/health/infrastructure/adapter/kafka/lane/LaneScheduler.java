@@ -0,0 +1,220 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.lane;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Weighted fair scheduler for the article pipeline shared by the priority lanes.
+ * Listener threads of every lane ask for one of {@code maxInFlight} permits before
+ * processing a record. Each lane is capped by its own concurrency budget, and when
+ * several lanes are waiting the permit goes to the lane with the lowest virtual
+ * time (start-time fair queuing: each grant advances the lane by 1/weight), so
+ * under contention lanes are served in proportion to their weights. A lane that
+ * was idle restarts at the current virtual time instead of spending saved credit.
+ * Metrics (tag {@code lane}):
+ * - brain.health.lane.wait: time waiting for a permit
+ * - brain.health.lane.processing: time holding the permit
+ * - brain.health.lane.in.flight / brain.health.lane.waiting: gauges
+ */
+public class LaneScheduler {
+
+    public record LaneBudget(int concurrency, int weight) {
+        public LaneBudget {
+            if (concurrency < 1 || weight < 1) {
+                throw new IllegalArgumentException("Lane concurrency and weight must be positive");
+            }
+        }
+    }
+
+    private final int maxInFlight;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<PriorityLane, LaneState> lanes = new EnumMap<>(PriorityLane.class);
+
+    private int inFlight;
+    private double virtualTime;
+
+    public LaneScheduler(MeterRegistry meterRegistry, int maxInFlight, Map<PriorityLane, LaneBudget> budgets) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+        this.maxInFlight = maxInFlight;
+
+        for (PriorityLane lane : PriorityLane.values()) {
+            LaneBudget budget = budgets.getOrDefault(lane, new LaneBudget(1, 1));
+            LaneState state = new LaneState(budget, lock.newCondition(),
+                    Timer.builder("brain.health.lane.wait")
+                            .description("Time a request waited for a pipeline permit")
+                            .tag("lane", lane.tag())
+                            .publishPercentileHistogram()
+                            .register(meterRegistry),
+                    Timer.builder("brain.health.lane.processing")
+                            .description("Time a request spent in the article pipeline")
+                            .tag("lane", lane.tag())
+                            .publishPercentileHistogram()
+                            .register(meterRegistry));
+            lanes.put(lane, state);
+
+            Gauge.builder("brain.health.lane.in.flight", state, s -> s.inFlight)
+                    .tag("lane", lane.tag())
+                    .register(meterRegistry);
+            Gauge.builder("brain.health.lane.waiting", state, s -> s.waiting)
+                    .tag("lane", lane.tag())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Runs the task once the lane gets a permit.
+     *
+     * @throws InterruptedException if the listener thread is interrupted while waiting
+     */
+    public <T> T execute(PriorityLane lane, Supplier<T> task) throws InterruptedException {
+        LaneState state = lanes.get(lane);
+
+        long waitStart = System.nanoTime();
+        acquire(state);
+        long processingStart = System.nanoTime();
+        state.waitTimer.record(processingStart - waitStart, TimeUnit.NANOSECONDS);
+
+        try {
+            return task.get();
+        } finally {
+            state.processingTimer.record(System.nanoTime() - processingStart, TimeUnit.NANOSECONDS);
+            release(state);
+        }
+    }
+
+    private void acquire(LaneState state) throws InterruptedException {
+        lock.lock();
+        try {
+            if (state.waiting == 0 && state.inFlight == 0) {
+                state.virtualTime = Math.max(state.virtualTime, virtualTime);
+            }
+            state.waiting++;
+            boolean granted = false;
+            try {
+                while (nextLane() != state) {
+                    state.condition.await();
+                }
+                granted = true;
+            } finally {
+                state.waiting--;
+                if (!granted) {
+                    // Interrupted: pass on a signal this thread may have consumed
+                    signalNext();
+                }
+            }
+
+            state.inFlight++;
+            inFlight++;
+            virtualTime = state.virtualTime;
+            state.virtualTime += 1.0 / state.budget.weight();
+
+            // Spare permits may be usable by another waiting lane
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(LaneState state) {
+        lock.lock();
+        try {
+            state.inFlight--;
+            inFlight--;
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Lane that should receive the next permit, or null if none can run. Caller holds the lock. */
+    private LaneState nextLane() {
+        if (inFlight >= maxInFlight) {
+            return null;
+        }
+        LaneState next = null;
+        for (LaneState candidate : lanes.values()) {
+            if (candidate.waiting > 0 && candidate.inFlight < candidate.budget.concurrency()
+                    && (next == null || candidate.virtualTime < next.virtualTime)) {
+                next = candidate;
+            }
+        }
+        return next;
+    }
+
+    private void signalNext() {
+        LaneState next = nextLane();
+        if (next != null) {
+            next.condition.signalAll();
+        }
+    }
+
+    /**
+     * Changes the concurrency budget of a lane at runtime (used when its listener
+     * container is resized). Waiting threads are re-evaluated right away.
+     */
+    public void resize(PriorityLane lane, int concurrency) {
+        lock.lock();
+        try {
+            LaneState state = lanes.get(lane);
+            state.budget = new LaneBudget(concurrency, state.budget.weight());
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int concurrency(PriorityLane lane) {
+        lock.lock();
+        try {
+            return lanes.get(lane).budget.concurrency();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /** Processing time of the lane, sampled by the autoscaler to estimate throughput. */
+    public Timer processingTimer(PriorityLane lane) {
+        return lanes.get(lane).processingTimer;
+    }
+
+    public int inFlight(PriorityLane lane) {
+        lock.lock();
+        try {
+            return lanes.get(lane).inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class LaneState {
+        private LaneBudget budget;
+        private final Condition condition;
+        private final Timer waitTimer;
+        private final Timer processingTimer;
+        // Written under the lock; volatile so the gauges read current values
+        private volatile int inFlight;
+        private volatile int waiting;
+        private double virtualTime;
+
+        private LaneState(LaneBudget budget, Condition condition, Timer waitTimer, Timer processingTimer) {
+            this.budget = budget;
+            this.condition = condition;
+            this.waitTimer = waitTimer;
+            this.processingTimer = processingTimer;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.lane;
+
+import java.util.Locale;
+
+/**
+ * Priority classes for article generation requests. Each lane has its own topic
+ * and listener container, so a bulk backlog never sits in front of interactive
+ * records in a partition; the {@link LaneScheduler} then shares the AI pipeline
+ * between lanes by weight.
+ */
+public enum PriorityLane {
+
+    /** Goals just created by a user waiting for the article (goal.created). */
+    INTERACTIVE,
+
+    /** Bulk imports and batch jobs. */
+    BULK,
+
+    /** Re-generation of old goals and deferred requests; only uses spare capacity. */
+    BACKFILL;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
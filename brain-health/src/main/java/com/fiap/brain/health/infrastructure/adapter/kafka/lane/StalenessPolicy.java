@@ -0,0 +1,123 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.lane;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Deadline check for article requests at dequeue. A request older than the TTL of
+ * its lane is not worth an OpenAI call anymore: it is either answered right away
+ * as expired (SKIP) or moved to the backfill lane (DEFER), so fresh requests are
+ * not stuck behind a backlog. The backfill lane can only skip.
+ * The age is measured from requestedAt, a UTC timestamp so the producer and this
+ * consumer agree whatever their time zones, or from the Kafka record timestamp when
+ * the producer did not set it.
+ * Metrics (tag {@code lane}):
+ * - brain.health.request.age: age of each request when it is dequeued
+ * - brain.health.request.shed: stale requests, tag action (skipped | deferred)
+ */
+public class StalenessPolicy {
+
+    public enum Action {
+        SKIP,
+        DEFER
+    }
+
+    public enum Verdict {
+        FRESH,
+        SKIP,
+        DEFER
+    }
+
+    /**
+     * TTL and action of a lane; a zero or negative TTL disables the check.
+     */
+    public record LaneDeadline(Duration ttl, Action action) {
+        public static final LaneDeadline NONE = new LaneDeadline(Duration.ZERO, Action.SKIP);
+
+        public boolean enabled() {
+            return ttl != null && !ttl.isZero() && !ttl.isNegative();
+        }
+    }
+
+    private final Map<PriorityLane, LaneState> lanes = new EnumMap<>(PriorityLane.class);
+    private final LongSupplier clock;
+
+    public StalenessPolicy(MeterRegistry meterRegistry, Map<PriorityLane, LaneDeadline> deadlines) {
+        this(meterRegistry, deadlines, System::currentTimeMillis);
+    }
+
+    StalenessPolicy(MeterRegistry meterRegistry, Map<PriorityLane, LaneDeadline> deadlines, LongSupplier clock) {
+        this.clock = clock;
+        for (PriorityLane lane : PriorityLane.values()) {
+            LaneDeadline deadline = deadlines.getOrDefault(lane, LaneDeadline.NONE);
+            // Deferring from the backfill lane would send the request back to itself
+            if (lane == PriorityLane.BACKFILL && deadline.action() == Action.DEFER) {
+                deadline = new LaneDeadline(deadline.ttl(), Action.SKIP);
+            }
+            lanes.put(lane, new LaneState(deadline,
+                    Timer.builder("brain.health.request.age")
+                            .description("Age of a request when it is dequeued")
+                            .tag("lane", lane.tag())
+                            .publishPercentileHistogram()
+                            .minimumExpectedValue(Duration.ofMillis(10))
+                            .maximumExpectedValue(Duration.ofHours(24))
+                            .register(meterRegistry),
+                    shedCounter(meterRegistry, lane, "skipped"),
+                    shedCounter(meterRegistry, lane, "deferred")));
+        }
+    }
+
+    private static Counter shedCounter(MeterRegistry meterRegistry, PriorityLane lane, String action) {
+        return Counter.builder("brain.health.request.shed")
+                .description("Stale requests skipped or deferred instead of processed")
+                .tag("lane", lane.tag())
+                .tag("action", action)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the age of the request and decides whether it is still worth processing.
+     */
+    public Verdict evaluate(PriorityLane lane, long requestedAtMillis) {
+        LaneState state = lanes.get(lane);
+        long age = Math.max(0, clock.getAsLong() - requestedAtMillis);
+        state.age.record(age, TimeUnit.MILLISECONDS);
+
+        if (!state.deadline.enabled() || age <= state.deadline.ttl().toMillis()) {
+            return Verdict.FRESH;
+        }
+        if (state.deadline.action() == Action.DEFER) {
+            state.deferred.increment();
+            return Verdict.DEFER;
+        }
+        state.skipped.increment();
+        return Verdict.SKIP;
+    }
+
+    public Duration ttl(PriorityLane lane) {
+        return lanes.get(lane).deadline.ttl();
+    }
+
+    /**
+     * Start of the request: requestedAt (UTC, as the producers write it) or else the
+     * record timestamp.
+     */
+    public static long requestedAtMillis(LocalDateTime requestedAt, long recordTimestamp, long now) {
+        if (requestedAt != null) {
+            return requestedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        }
+        return recordTimestamp > 0 ? recordTimestamp : now;
+    }
+
+    private record LaneState(LaneDeadline deadline, Timer age, Counter skipped, Counter deferred) {
+    }
+}
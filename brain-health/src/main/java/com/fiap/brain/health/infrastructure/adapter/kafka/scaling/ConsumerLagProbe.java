@@ -0,0 +1,97 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.scaling;
+
+import com.fiap.brain.health.infrastructure.exception.KafkaMessagingException;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Reads consumer lag per partition with the Kafka admin API: log end offset minus
+ * the committed offset of the group (a partition without a commit counts from 0).
+ * The admin client is created on first use and shared by every lane.
+ */
+public class ConsumerLagProbe implements AutoCloseable {
+
+    /**
+     * Lag of a set of partitions.
+     *
+     * @param total      records behind, summed over the partitions
+     * @param max        lag of the worst partition
+     * @param partitions partitions measured
+     */
+    public record Lag(long total, long max, int partitions) {
+        public static final Lag NONE = new Lag(0, 0, 0);
+    }
+
+    private final Supplier<Admin> adminFactory;
+    private final Duration timeout;
+    private Admin admin;
+
+    public ConsumerLagProbe(Supplier<Admin> adminFactory, Duration timeout) {
+        this.adminFactory = adminFactory;
+        this.timeout = timeout;
+    }
+
+    public synchronized Lag measure(String groupId, Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return Lag.NONE;
+        }
+        String topic = partitions.iterator().next().topic();
+        try {
+            Map<TopicPartition, OffsetAndMetadata> committed = admin().listConsumerGroupOffsets(groupId)
+                    .partitionsToOffsetAndMetadata()
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            Map<TopicPartition, OffsetSpec> latest = new HashMap<>();
+            partitions.forEach(partition -> latest.put(partition, OffsetSpec.latest()));
+            Map<TopicPartition, ListOffsetsResultInfo> endOffsets = admin().listOffsets(latest)
+                    .all()
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            long total = 0;
+            long max = 0;
+            for (TopicPartition partition : partitions) {
+                ListOffsetsResultInfo end = endOffsets.get(partition);
+                if (end == null) {
+                    continue;
+                }
+                OffsetAndMetadata commit = committed.get(partition);
+                long lag = Math.max(0, end.offset() - (commit != null ? commit.offset() : 0));
+                total += lag;
+                max = Math.max(max, lag);
+            }
+            return new Lag(total, max, partitions.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaMessagingException(topic, "lag probe", "interrupted", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaMessagingException(topic, "lag probe", e.getMessage(), e);
+        }
+    }
+
+    private Admin admin() {
+        if (admin == null) {
+            admin = adminFactory.get();
+        }
+        return admin;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (admin != null) {
+            admin.close(timeout);
+            admin = null;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.scaling;
+
+import com.fiap.brain.health.infrastructure.adapter.ai.OpenAICapacityGuard;
+import com.fiap.brain.health.infrastructure.adapter.kafka.KafkaBackpressureController;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.LaneScheduler;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.PriorityLane;
+import com.fiap.brain.health.infrastructure.adapter.kafka.scaling.ConsumerLagProbe.Lag;
+import com.fiap.brain.health.infrastructure.adapter.kafka.scaling.LagScalingPolicy.Decision;
+import com.fiap.brain.health.infrastructure.adapter.kafka.scaling.LagScalingPolicy.Outcome;
+import com.fiap.brain.health.infrastructure.adapter.kafka.scaling.LagScalingPolicy.Sample;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Adjusts the listener concurrency of each priority lane at runtime from its
+ * consumer lag (see {@link LagScalingPolicy}). A change resizes the lane budget of
+ * the {@link LaneScheduler} and restarts the lane's container with the new number
+ * of consumers; the restart waits for the current batch, so offsets stay committed.
+ * Rounds run on their own executor, not on the shared scheduler thread: a restart
+ * can block for a whole batch and would hold back the other scheduled tasks. Each
+ * lane consumes in its own group ({@link #groupId}), so a restart only rebalances
+ * that lane. Lanes paused by the backpressure controller are left alone (a restart
+ * would resume them), and a pause issued while a lane restarts is re-applied once
+ * it is running again ({@link KafkaBackpressureController#reapply}). Metrics (tag {@code lane}): brain.health.kafka.lag,
+ * brain.health.kafka.lag.max, brain.health.kafka.listener.concurrency (gauges) and
+ * brain.health.kafka.scaling.decisions (counter, tag decision).
+ */
+@Slf4j
+public class KafkaConcurrencyAutoscaler {
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final LaneScheduler laneScheduler;
+    private final OpenAICapacityGuard capacityGuard;
+    private final KafkaBackpressureController backpressure;
+    private final ConsumerLagProbe lagProbe;
+    private final String groupId;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final Map<PriorityLane, LaneControl> lanes = new EnumMap<>(PriorityLane.class);
+    private final AtomicBoolean roundInFlight = new AtomicBoolean();
+
+    public KafkaConcurrencyAutoscaler(KafkaListenerEndpointRegistry registry,
+                                      LaneScheduler laneScheduler,
+                                      OpenAICapacityGuard capacityGuard,
+                                      KafkaBackpressureController backpressure,
+                                      ConsumerLagProbe lagProbe,
+                                      String groupId,
+                                      Map<PriorityLane, LagScalingPolicy> policies,
+                                      Executor executor,
+                                      MeterRegistry meterRegistry) {
+        this.registry = registry;
+        this.laneScheduler = laneScheduler;
+        this.capacityGuard = capacityGuard;
+        this.backpressure = backpressure;
+        this.lagProbe = lagProbe;
+        this.groupId = groupId;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+
+        policies.forEach((lane, policy) -> {
+            LaneControl control = new LaneControl(policy);
+            lanes.put(lane, control);
+            Gauge.builder("brain.health.kafka.lag", control, c -> c.lag)
+                    .description("Records behind the log end on the partitions assigned to the lane")
+                    .tag("lane", lane.tag())
+                    .register(meterRegistry);
+            Gauge.builder("brain.health.kafka.lag.max", control, c -> c.maxLag)
+                    .description("Lag of the most delayed partition of the lane")
+                    .tag("lane", lane.tag())
+                    .register(meterRegistry);
+            Gauge.builder("brain.health.kafka.listener.concurrency", control, c -> c.concurrency)
+                    .description("Consumer threads of the lane listener container")
+                    .tag("lane", lane.tag())
+                    .register(meterRegistry);
+        });
+    }
+
+    /** Listener container id of a lane (see the @KafkaListener ids in BrainHealthKafkaConsumer). */
+    public static String listenerId(PriorityLane lane) {
+        return "brain-health-" + lane.tag();
+    }
+
+    /**
+     * Consumer group of a lane (see the @KafkaListener groupIds in BrainHealthKafkaConsumer):
+     * the interactive lane keeps the configured group, the others get a suffix.
+     */
+    public static String groupId(String baseGroupId, PriorityLane lane) {
+        return lane == PriorityLane.INTERACTIVE ? baseGroupId : baseGroupId + "-" + lane.tag();
+    }
+
+    /** Hands a round to the executor; skipped while the previous one is still running. */
+    @Scheduled(fixedDelayString = "${kafka.autoscaling.interval-ms:15000}",
+            initialDelayString = "${kafka.autoscaling.interval-ms:15000}")
+    public void evaluate() {
+        if (!roundInFlight.compareAndSet(false, true)) {
+            log.debug("Previous autoscaling round still running, skipping this one");
+            return;
+        }
+        try {
+            executor.execute(this::evaluateLanes);
+        } catch (RejectedExecutionException e) {
+            roundInFlight.set(false);
+            log.warn("Autoscaling round rejected: {}", e.getMessage());
+        }
+    }
+
+    private void evaluateLanes() {
+        try {
+            lanes.forEach((lane, control) -> {
+                try {
+                    evaluate(lane, control);
+                } catch (RuntimeException e) {
+                    log.warn("Skipping {} lane autoscaling round: {}", lane.tag(), e.getMessage());
+                }
+            });
+        } finally {
+            roundInFlight.set(false);
+        }
+    }
+
+    private void evaluate(PriorityLane lane, LaneControl control) {
+        MessageListenerContainer container = registry.getListenerContainer(listenerId(lane));
+        if (!(container instanceof ConcurrentMessageListenerContainer<?, ?> concurrent)
+                || !concurrent.isRunning() || concurrent.isPauseRequested()) {
+            return;
+        }
+        Collection<TopicPartition> assigned = concurrent.getAssignedPartitions();
+        if (assigned == null || assigned.isEmpty()) {
+            return;
+        }
+
+        Lag lag = lagProbe.measure(groupId(groupId, lane), assigned);
+        int current = concurrent.getConcurrency();
+        control.lag = lag.total();
+        control.maxLag = lag.max();
+        control.concurrency = current;
+
+        // Threads beyond the assigned partitions or the pipeline permits would sit idle
+        int threadCap = Math.min(assigned.size(), laneScheduler.getMaxInFlight());
+        Sample sample = new Sample(lag.total(), threadCap,
+                control.secondsPerRecord(laneScheduler.processingTimer(lane)), capacityGuard.isThrottled());
+        Outcome outcome = control.policy.evaluate(current, sample);
+        decisions(lane, outcome.decision()).increment();
+
+        if (outcome.changed(current)) {
+            log.info("Scaling {} lane listener {} -> {} ({}) - lag {} (max partition {}), {} partitions, {} ms/record",
+                    lane.tag(), current, outcome.concurrency(), outcome.decision().tag(), lag.total(), lag.max(),
+                    assigned.size(), Math.round(sample.secondsPerRecord() * 1000));
+            resize(lane, concurrent, outcome.concurrency());
+            control.concurrency = outcome.concurrency();
+        }
+    }
+
+    private void resize(PriorityLane lane, ConcurrentMessageListenerContainer<?, ?> container, int concurrency) {
+        laneScheduler.resize(lane, concurrency);
+        container.stop();
+        container.setConcurrency(concurrency);
+        container.start();
+        backpressure.reapply(container);
+    }
+
+    private Counter decisions(PriorityLane lane, Decision decision) {
+        return Counter.builder("brain.health.kafka.scaling.decisions")
+                .description("Autoscaling evaluations by outcome")
+                .tag("lane", lane.tag())
+                .tag("decision", decision.tag())
+                .register(meterRegistry);
+    }
+
+    private static final class LaneControl {
+        private final LagScalingPolicy policy;
+        // Written by the autoscaling thread, read by the gauges
+        private volatile long lag;
+        private volatile long maxLag;
+        private volatile int concurrency;
+        private long lastCount;
+        private double lastTotalSeconds;
+        private double secondsPerRecord;
+
+        private LaneControl(LagScalingPolicy policy) {
+            this.policy = policy;
+        }
+
+        /** Mean processing time of the records completed since the previous round (last known if none). */
+        private double secondsPerRecord(Timer processing) {
+            long count = processing.count();
+            double totalSeconds = processing.totalTime(TimeUnit.SECONDS);
+            if (count > lastCount) {
+                secondsPerRecord = (totalSeconds - lastTotalSeconds) / (count - lastCount);
+            }
+            lastCount = count;
+            lastTotalSeconds = totalSeconds;
+            return secondsPerRecord;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.scaling;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides the listener concurrency of one lane from its consumer lag.
+ * - Scales up when the lag is above {@code scaleUpLag} and either keeps growing or
+ *   would take longer than {@code targetDrain} to consume at the measured time per
+ *   record; the step is at least +1 and at most doubles the current concurrency
+ * - Holds while OpenAI is throttled: the lag then comes from the rate limit, and
+ *   more threads would only wait on it
+ * - Scales down by one after {@code scaleDownRounds} consecutive evaluations with
+ *   the lag at or below {@code scaleDownLag}
+ * - Never exceeds the thread cap (assigned partitions / pipeline permits), since
+ *   extra threads would sit idle, and waits {@code cooldown} between changes so each
+ *   container restart (and rebalance) settles before the next decision
+ * Not thread-safe: one instance per lane, evaluated by a single scheduler thread.
+ */
+public class LagScalingPolicy {
+
+    public record Settings(
+            int minConcurrency,
+            int maxConcurrency,
+            long scaleUpLag,
+            long scaleDownLag,
+            int scaleDownRounds,
+            Duration targetDrain,
+            Duration cooldown
+    ) {
+        public Settings {
+            if (minConcurrency < 1 || maxConcurrency < minConcurrency) {
+                throw new IllegalArgumentException("Concurrency bounds must satisfy 1 <= min <= max");
+            }
+            if (scaleDownLag >= scaleUpLag) {
+                throw new IllegalArgumentException("scaleDownLag must be below scaleUpLag");
+            }
+        }
+    }
+
+    /**
+     * One lag measurement of the lane.
+     *
+     * @param lag              records behind the log end, summed over the assigned partitions
+     * @param threadCap        threads that can actually work (0 when unknown)
+     * @param secondsPerRecord recent mean processing time per record (0 when unknown)
+     * @param throttled        whether OpenAI is rate limited right now
+     */
+    public record Sample(long lag, int threadCap, double secondsPerRecord, boolean throttled) {
+    }
+
+    public enum Decision {
+        SCALE_UP, SCALE_DOWN, HOLD, COOLDOWN, THROTTLED, AT_MAX;
+
+        public String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    public record Outcome(int concurrency, Decision decision) {
+        public boolean changed(int current) {
+            return concurrency != current;
+        }
+    }
+
+    private final Settings settings;
+    private final LongSupplier clock;
+
+    private long lastChangeAt = Long.MIN_VALUE;
+    private long previousLag = -1;
+    private int lowLagRounds;
+
+    public LagScalingPolicy(Settings settings) {
+        this(settings, System::currentTimeMillis);
+    }
+
+    LagScalingPolicy(Settings settings, LongSupplier clock) {
+        this.settings = settings;
+        this.clock = clock;
+    }
+
+    public Outcome evaluate(int current, Sample sample) {
+        int ceiling = ceiling(sample.threadCap());
+        boolean growing = previousLag >= 0 && sample.lag() > previousLag;
+        previousLag = sample.lag();
+
+        if (current > ceiling) {
+            return change(ceiling, Decision.SCALE_DOWN);
+        }
+        if (current < settings.minConcurrency()) {
+            return change(settings.minConcurrency(), Decision.SCALE_UP);
+        }
+
+        if (sample.lag() >= settings.scaleUpLag()) {
+            lowLagRounds = 0;
+            if (sample.throttled()) {
+                return new Outcome(current, Decision.THROTTLED);
+            }
+            int desired = desired(current, sample);
+            if (!growing && desired <= current) {
+                return new Outcome(current, Decision.HOLD);
+            }
+            int next = Math.min(ceiling, Math.min(current * 2, Math.max(current + 1, desired)));
+            if (next <= current) {
+                return new Outcome(current, Decision.AT_MAX);
+            }
+            return inCooldown() ? new Outcome(current, Decision.COOLDOWN) : change(next, Decision.SCALE_UP);
+        }
+
+        if (sample.lag() <= settings.scaleDownLag() && current > settings.minConcurrency()) {
+            if (++lowLagRounds < settings.scaleDownRounds()) {
+                return new Outcome(current, Decision.HOLD);
+            }
+            if (inCooldown()) {
+                return new Outcome(current, Decision.COOLDOWN);
+            }
+            lowLagRounds = 0;
+            return change(current - 1, Decision.SCALE_DOWN);
+        }
+
+        lowLagRounds = 0;
+        return new Outcome(current, Decision.HOLD);
+    }
+
+    private int ceiling(int threadCap) {
+        int cap = threadCap > 0 ? Math.min(settings.maxConcurrency(), threadCap) : settings.maxConcurrency();
+        return Math.max(settings.minConcurrency(), cap);
+    }
+
+    /** Threads needed to drain the lag within the target, or the current value if the rate is unknown. */
+    private int desired(int current, Sample sample) {
+        if (sample.secondsPerRecord() <= 0) {
+            return current;
+        }
+        double drainSeconds = Math.max(1, settings.targetDrain().toSeconds());
+        return (int) Math.min(Integer.MAX_VALUE, Math.ceil(sample.lag() * sample.secondsPerRecord() / drainSeconds));
+    }
+
+    private boolean inCooldown() {
+        return lastChangeAt != Long.MIN_VALUE && clock.getAsLong() - lastChangeAt < settings.cooldown().toMillis();
+    }
+
+    private Outcome change(int concurrency, Decision decision) {
+        lastChangeAt = clock.getAsLong();
+        return new Outcome(concurrency, decision);
+    }
+}
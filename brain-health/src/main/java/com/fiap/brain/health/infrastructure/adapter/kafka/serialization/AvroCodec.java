@@ -0,0 +1,20 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.serialization;
+
+/**
+ * Avro binary encoding of one message type. Records are written with the latest
+ * schema version and can be read back from any earlier one; the version travels in
+ * the {@value KafkaWireFormat#HEADER} header.
+ */
+public interface AvroCodec<T> {
+
+    /** Schema version records are written with (the latest one). */
+    int schemaVersion();
+
+    byte[] encode(T message);
+
+    /**
+     * Reads a record written with schema version {@code writerVersion}, resolving it
+     * against the latest schema (fields added later take their defaults).
+     */
+    T decode(byte[] payload, int writerVersion);
+}
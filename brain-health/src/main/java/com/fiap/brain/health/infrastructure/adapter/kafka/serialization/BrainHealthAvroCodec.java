@@ -0,0 +1,308 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.serialization;
+
+import com.fiap.brain.health.api.dto.kafka.ArticleReference;
+import com.fiap.brain.health.api.dto.kafka.BrainHealthRequestMessage;
+import com.fiap.brain.health.api.dto.kafka.BrainHealthResponseMessage;
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+import com.fiap.brain.health.api.dto.response.Quiz;
+import com.fiap.brain.health.api.dto.response.Recommendation;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Avro binary encoding of the Kafka DTOs, driven by the local schemas in
+ * {@code src/main/resources/avro} (no schema registry). The payload carries only
+ * field values, so the reader must know the writer's schema: every published
+ * schema is kept as {@code <name>-v<N>.avsc}, records are written with the latest
+ * version, and the version travels in the content-type header. Older versions are
+ * resolved against the latest (fields added since then take their defaults); a
+ * version newer than the reader's is rejected, so readers are deployed first.
+ */
+public final class BrainHealthAvroCodec {
+
+    private static final List<Schema> REQUEST_SCHEMAS = loadSchemas("brain-health-request", 1);
+    private static final List<Schema> RESPONSE_SCHEMAS = loadSchemas("brain-health-response", 3);
+
+    public static final Schema REQUEST_SCHEMA = REQUEST_SCHEMAS.get(REQUEST_SCHEMAS.size() - 1);
+    public static final Schema RESPONSE_SCHEMA = RESPONSE_SCHEMAS.get(RESPONSE_SCHEMAS.size() - 1);
+
+    private static final Schema ARTICLE_SCHEMA = RESPONSE_SCHEMA.getField("articleResponse").schema().getTypes().get(1);
+    private static final Schema RECOMMENDATION_SCHEMA = ARTICLE_SCHEMA.getField("recommendations").schema().getElementType();
+    private static final Schema QUIZ_SCHEMA = ARTICLE_SCHEMA.getField("quizzes").schema().getElementType();
+    private static final Schema REFERENCE_SCHEMA = RESPONSE_SCHEMA.getField("articleReference").schema().getTypes().get(1);
+    private static final Schema STATUS_SCHEMA = RESPONSE_SCHEMA.getField("status").schema();
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final GenericDatumWriter<GenericRecord> REQUEST_WRITER = new GenericDatumWriter<>(REQUEST_SCHEMA);
+    private static final List<GenericDatumReader<GenericRecord>> REQUEST_READERS = readers(REQUEST_SCHEMAS);
+    private static final GenericDatumWriter<GenericRecord> RESPONSE_WRITER = new GenericDatumWriter<>(RESPONSE_SCHEMA);
+    private static final List<GenericDatumReader<GenericRecord>> RESPONSE_READERS = readers(RESPONSE_SCHEMAS);
+
+    public static final AvroCodec<BrainHealthRequestMessage> REQUESTS = new AvroCodec<>() {
+        @Override
+        public int schemaVersion() {
+            return REQUEST_SCHEMAS.size();
+        }
+
+        @Override
+        public byte[] encode(BrainHealthRequestMessage message) {
+            return encodeRequest(message);
+        }
+
+        @Override
+        public BrainHealthRequestMessage decode(byte[] payload, int writerVersion) {
+            return decodeRequest(payload, writerVersion);
+        }
+    };
+
+    public static final AvroCodec<BrainHealthResponseMessage> RESPONSES = new AvroCodec<>() {
+        @Override
+        public int schemaVersion() {
+            return RESPONSE_SCHEMAS.size();
+        }
+
+        @Override
+        public byte[] encode(BrainHealthResponseMessage message) {
+            return encodeResponse(message);
+        }
+
+        @Override
+        public BrainHealthResponseMessage decode(byte[] payload, int writerVersion) {
+            return decodeResponse(payload, writerVersion);
+        }
+    };
+
+    private BrainHealthAvroCodec() {
+    }
+
+    public static byte[] encodeRequest(BrainHealthRequestMessage message) {
+        GenericRecord record = new GenericData.Record(REQUEST_SCHEMA);
+        record.put("goalId", message.goalId());
+        record.put("userId", message.userId());
+        record.put("category", message.category());
+        record.put("title", message.title());
+        record.put("description", message.description());
+        record.put("messageId", message.messageId());
+        record.put("correlationId", message.correlationId());
+        record.put("requestedAt", toMicros(message.requestedAt()));
+        return write(REQUEST_WRITER, record);
+    }
+
+    public static BrainHealthRequestMessage decodeRequest(byte[] payload) {
+        return decodeRequest(payload, REQUEST_SCHEMAS.size());
+    }
+
+    public static BrainHealthRequestMessage decodeRequest(byte[] payload, int writerVersion) {
+        GenericRecord record = read(reader(REQUEST_READERS, writerVersion), payload);
+        return new BrainHealthRequestMessage(
+                (Long) record.get("goalId"),
+                (Long) record.get("userId"),
+                string(record.get("category")),
+                string(record.get("title")),
+                string(record.get("description")),
+                string(record.get("messageId")),
+                string(record.get("correlationId")),
+                fromMicros(record.get("requestedAt"))
+        );
+    }
+
+    public static byte[] encodeResponse(BrainHealthResponseMessage message) {
+        GenericRecord record = new GenericData.Record(RESPONSE_SCHEMA);
+        record.put("messageId", message.messageId());
+        record.put("userId", message.userId());
+        record.put("goalId", message.goalId());
+        record.put("correlationId", message.correlationId());
+        record.put("articleResponse", message.articleResponse() == null ? null : toRecord(message.articleResponse()));
+        record.put("status", new GenericData.EnumSymbol(STATUS_SCHEMA, message.status().name()));
+        record.put("errorMessage", message.errorMessage());
+        record.put("processedAt", toMicros(message.processedAt()));
+        record.put("articleReference", message.articleReference() == null ? null : toRecord(message.articleReference()));
+        return write(RESPONSE_WRITER, record);
+    }
+
+    public static BrainHealthResponseMessage decodeResponse(byte[] payload) {
+        return decodeResponse(payload, RESPONSE_SCHEMAS.size());
+    }
+
+    public static BrainHealthResponseMessage decodeResponse(byte[] payload, int writerVersion) {
+        GenericRecord record = read(reader(RESPONSE_READERS, writerVersion), payload);
+        GenericRecord article = (GenericRecord) record.get("articleResponse");
+        GenericRecord reference = (GenericRecord) record.get("articleReference");
+        return new BrainHealthResponseMessage(
+                string(record.get("messageId")),
+                (Long) record.get("userId"),
+                (Long) record.get("goalId"),
+                string(record.get("correlationId")),
+                article == null ? null : toArticle(article),
+                BrainHealthResponseMessage.ProcessingStatus.valueOf(record.get("status").toString()),
+                string(record.get("errorMessage")),
+                fromMicros(record.get("processedAt")),
+                reference == null ? null : toReference(reference)
+        );
+    }
+
+    private static GenericRecord toRecord(ArticleResponse article) {
+        GenericRecord record = new GenericData.Record(ARTICLE_SCHEMA);
+        record.put("title", article.title());
+        record.put("introduction", article.introduction());
+        record.put("recommendations", article.recommendations().stream().map(recommendation -> {
+            GenericRecord item = new GenericData.Record(RECOMMENDATION_SCHEMA);
+            item.put("category", recommendation.category());
+            item.put("description", recommendation.description());
+            item.put("tips", recommendation.tips());
+            return item;
+        }).toList());
+        record.put("conclusion", article.conclusion());
+        record.put("quizzes", article.quizzes().stream().map(quiz -> {
+            GenericRecord item = new GenericData.Record(QUIZ_SCHEMA);
+            item.put("question", quiz.question());
+            item.put("options", quiz.options());
+            item.put("correctAnswer", quiz.correctAnswer());
+            return item;
+        }).toList());
+        record.put("sourceLink", article.sourceLink());
+        record.put("timestamp", toMicros(article.timestamp()));
+        return record;
+    }
+
+    private static GenericRecord toRecord(ArticleReference reference) {
+        GenericRecord record = new GenericData.Record(REFERENCE_SCHEMA);
+        record.put("contentHash", reference.contentHash());
+        record.put("title", reference.title());
+        record.put("sourceLink", reference.sourceLink());
+        record.put("sizeBytes", reference.sizeBytes());
+        return record;
+    }
+
+    private static ArticleReference toReference(GenericRecord record) {
+        return new ArticleReference(
+                string(record.get("contentHash")),
+                string(record.get("title")),
+                string(record.get("sourceLink")),
+                (Integer) record.get("sizeBytes")
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArticleResponse toArticle(GenericRecord record) {
+        List<Recommendation> recommendations = ((List<GenericRecord>) record.get("recommendations")).stream()
+                .map(item -> new Recommendation(
+                        string(item.get("category")),
+                        string(item.get("description")),
+                        strings(item.get("tips"))))
+                .toList();
+        List<Quiz> quizzes = ((List<GenericRecord>) record.get("quizzes")).stream()
+                .map(item -> new Quiz(
+                        string(item.get("question")),
+                        strings(item.get("options")),
+                        string(item.get("correctAnswer"))))
+                .toList();
+
+        return new ArticleResponse(
+                string(record.get("title")),
+                string(record.get("introduction")),
+                recommendations,
+                string(record.get("conclusion")),
+                quizzes,
+                string(record.get("sourceLink")),
+                fromMicros(record.get("timestamp"))
+        );
+    }
+
+    private static byte[] write(GenericDatumWriter<GenericRecord> writer, GenericRecord record) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+            BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+            writer.write(record, encoder);
+            encoder.flush();
+            return out.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Failed to encode Avro record " + record.getSchema().getName(), e);
+        }
+    }
+
+    private static GenericRecord read(GenericDatumReader<GenericRecord> reader, byte[] payload) {
+        try {
+            BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(payload, null);
+            return reader.read(null, decoder);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Failed to decode Avro record " + reader.getSchema().getName(), e);
+        }
+    }
+
+    private static Long toMicros(LocalDateTime dateTime) {
+        return dateTime == null ? null : ChronoUnit.MICROS.between(EPOCH, dateTime);
+    }
+
+    private static LocalDateTime fromMicros(Object micros) {
+        return micros == null ? null : EPOCH.plus((Long) micros, ChronoUnit.MICROS);
+    }
+
+    private static String string(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static List<String> strings(Object values) {
+        return ((List<?>) values).stream().map(Object::toString).toList();
+    }
+
+    /** Published versions of a schema, oldest first (version N at index N - 1). */
+    static List<Schema> schemaHistory(String name) {
+        return switch (name) {
+            case "brain-health-request" -> REQUEST_SCHEMAS;
+            case "brain-health-response" -> RESPONSE_SCHEMAS;
+            default -> throw new IllegalArgumentException("Unknown Avro schema: " + name);
+        };
+    }
+
+    private static GenericDatumReader<GenericRecord> reader(List<GenericDatumReader<GenericRecord>> readers,
+                                                            int writerVersion) {
+        if (writerVersion < 1 || writerVersion > readers.size()) {
+            throw new SerializationException("Avro record written with schema version " + writerVersion
+                    + ", this reader knows versions 1 to " + readers.size());
+        }
+        return readers.get(writerVersion - 1);
+    }
+
+    private static List<GenericDatumReader<GenericRecord>> readers(List<Schema> history) {
+        Schema latest = history.get(history.size() - 1);
+        return history.stream()
+                .map(writer -> new GenericDatumReader<GenericRecord>(writer, latest))
+                .toList();
+    }
+
+    private static List<Schema> loadSchemas(String name, int latestVersion) {
+        return IntStream.rangeClosed(1, latestVersion)
+                .mapToObj(version -> loadSchema("/avro/" + name + "-v" + version + ".avsc"))
+                .toList();
+    }
+
+    private static Schema loadSchema(String resource) {
+        try (InputStream in = BrainHealthAvroCodec.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Avro schema not found on classpath: " + resource);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
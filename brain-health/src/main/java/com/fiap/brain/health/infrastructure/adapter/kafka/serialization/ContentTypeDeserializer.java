@@ -0,0 +1,43 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.serialization;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+/**
+ * Reads JSON and Avro records from the same topic, choosing the decoder from the
+ * {@value KafkaWireFormat#HEADER} header. Records without the header (e.g. the
+ * plain JSON published by check-health) are read as JSON; Avro records are
+ * resolved from the schema version stated in the header.
+ */
+public class ContentTypeDeserializer<T> implements Deserializer<T> {
+
+    private final AvroCodec<T> avroCodec;
+    private final JsonDeserializer<T> jsonDeserializer;
+
+    public ContentTypeDeserializer(Class<T> targetType, AvroCodec<T> avroCodec) {
+        this.avroCodec = avroCodec;
+        this.jsonDeserializer = new JsonDeserializer<>(targetType, false);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return switch (KafkaWireFormat.from(headers)) {
+            case AVRO -> avroCodec.decode(data, KafkaWireFormat.schemaVersion(headers));
+            case JSON -> jsonDeserializer.deserialize(topic, headers, data);
+        };
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,54 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.serialization;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * Writes the value in the configured {@link KafkaWireFormat} and stamps the
+ * {@value KafkaWireFormat#HEADER} header, with the Avro schema version, so
+ * consumers can pick the decoder.
+ */
+public class ContentTypeSerializer<T> implements Serializer<T> {
+
+    private final KafkaWireFormat format;
+    private final AvroCodec<T> avroCodec;
+    private final JsonSerializer<T> jsonSerializer = new JsonSerializer<T>().noTypeInfo();
+
+    public ContentTypeSerializer(KafkaWireFormat format, AvroCodec<T> avroCodec) {
+        this.format = format;
+        this.avroCodec = avroCodec;
+    }
+
+    public KafkaWireFormat format() {
+        return format;
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        return encode(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, T data) {
+        if (data == null) {
+            return null;
+        }
+        format.writeTo(headers, avroCodec.schemaVersion());
+        return encode(topic, data);
+    }
+
+    private byte[] encode(String topic, T data) {
+        if (data == null) {
+            return null;
+        }
+        return format == KafkaWireFormat.AVRO
+                ? avroCodec.encode(data)
+                : jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
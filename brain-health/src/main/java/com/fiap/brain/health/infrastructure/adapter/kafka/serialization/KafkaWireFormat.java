@@ -0,0 +1,83 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.serialization;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Payload formats accepted on the brain-health topics. The format travels in the
+ * {@value #HEADER} record header so JSON and binary producers can share a topic
+ * while consumers migrate; records without the header are treated as JSON. Avro
+ * records also carry the writer's schema version ({@code application/avro; version=3});
+ * without it they are read as version 1, the only one written before the parameter.
+ */
+public enum KafkaWireFormat {
+
+    JSON("application/json"),
+    AVRO("application/avro");
+
+    public static final String HEADER = "content-type";
+    public static final String VERSION_PARAMETER = "version";
+
+    private final String contentType;
+
+    KafkaWireFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public void writeTo(Headers headers, int schemaVersion) {
+        String value = this == AVRO ? contentType + "; " + VERSION_PARAMETER + "=" + schemaVersion : contentType;
+        headers.remove(HEADER);
+        headers.add(HEADER, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KafkaWireFormat from(Headers headers) {
+        Header header = headers == null ? null : headers.lastHeader(HEADER);
+        if (header == null || header.value() == null) {
+            return JSON;
+        }
+        return fromContentType(new String(header.value(), StandardCharsets.UTF_8));
+    }
+
+    /** Schema version the record was written with (1 when not stated). */
+    public static int schemaVersion(Headers headers) {
+        Header header = headers == null ? null : headers.lastHeader(HEADER);
+        if (header == null || header.value() == null) {
+            return 1;
+        }
+        String contentType = new String(header.value(), StandardCharsets.UTF_8);
+        for (String parameter : contentType.split(";")) {
+            String[] pair = parameter.split("=", 2);
+            if (pair.length == 2 && pair[0].trim().equalsIgnoreCase(VERSION_PARAMETER)) {
+                try {
+                    return Integer.parseInt(pair[1].trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid schema version in Kafka content-type: " + contentType, e);
+                }
+            }
+        }
+        return 1;
+    }
+
+    public static KafkaWireFormat fromContentType(String contentType) {
+        String mediaType = contentType.split(";", 2)[0].trim();
+        for (KafkaWireFormat format : values()) {
+            if (format.contentType.equalsIgnoreCase(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported Kafka content-type: " + contentType);
+    }
+
+    /**
+     * Resolves the {@code kafka.serialization.*-format} properties (json | avro).
+     */
+    public static KafkaWireFormat fromProperty(String value) {
+        return KafkaWireFormat.valueOf(value.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,23 @@
+package com.fiap.brain.health.infrastructure.adapter.semantic;
+
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+import com.fiap.brain.health.domain.port.SemanticArticleIndexPort;
+
+import java.util.Optional;
+
+/**
+ * SemanticArticleIndexPort used when {@code semantic-index.enabled=false}: never
+ * matches and indexes nothing, so every request goes through lookup and AI.
+ */
+public class DisabledSemanticArticleIndex implements SemanticArticleIndexPort {
+
+    @Override
+    public Optional<Match> findSimilar(String topic) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void index(String topic, ArticleResponse article) {
+        // disabled
+    }
+}
@@ -0,0 +1,152 @@
+package com.fiap.brain.health.infrastructure.adapter.semantic;
+
+import com.fiap.brain.health.domain.model.TopicKey;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Local embedding for Portuguese goal titles by feature hashing, with no model files
+ * and no network call. Features of the normalized title (see TopicKey):
+ * - stems (first {@value #STEM_LENGTH} letters of each non-stop word), replaced by a
+ *   concept when the stem is in the health lexicon, so "dormir" and "sono" match
+ * - stem bigrams, for word order ("perder peso" vs "peso perder" stay close but not equal)
+ * - character trigrams of each word, for typos and inflections
+ * Each feature is hashed to one of {@code dimensions} buckets with a hashed sign, and the
+ * vector is L2-normalized. Similar wording and lexicon synonyms score high; paraphrases
+ * without shared stems or concepts do not.
+ */
+public class HashingTextEmbedder implements TextEmbedder {
+
+    static final int STEM_LENGTH = 5;
+
+    private static final float STEM_WEIGHT = 1.0f;
+    private static final float BIGRAM_WEIGHT = 0.5f;
+    private static final float TRIGRAM_WEIGHT = 0.25f;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "o", "as", "os", "um", "uma", "uns", "umas", "de", "da", "do", "das", "dos",
+            "e", "ou", "em", "no", "na", "nos", "nas", "por", "para", "pra", "com", "sem", "ao", "aos",
+            "meu", "minha", "meus", "minhas", "mais", "menos", "muito", "ter", "ser", "estar", "fazer",
+            "todo", "toda", "todos", "todas", "dia", "dias", "que", "se", "me", "eu");
+
+    private final int dimensions;
+    private final Map<String, String> concepts;
+
+    public HashingTextEmbedder(int dimensions, Map<String, String> concepts) {
+        if (dimensions < 16) {
+            throw new IllegalArgumentException("dimensions must be at least 16");
+        }
+        this.dimensions = dimensions;
+        this.concepts = Map.copyOf(concepts);
+    }
+
+    /**
+     * Loads the concept lexicon from {@code concept: term, term, ...} lines; terms are
+     * normalized and stemmed like the titles. Terms must be single words, since
+     * {@link #embed} looks words up one at a time.
+     *
+     * @throws IllegalArgumentException if a term has more than one word
+     */
+    public static Map<String, String> loadConcepts(InputStream lexicon) {
+        Map<String, String> concepts = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(lexicon, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(':');
+                if (line.isBlank() || line.startsWith("#") || separator < 0) {
+                    continue;
+                }
+                String concept = TopicKey.normalize(line.substring(0, separator));
+                for (String term : line.substring(separator + 1).split(",")) {
+                    String normalized = TopicKey.normalize(term);
+                    if (normalized.contains(" ")) {
+                        throw new IllegalArgumentException("Concept term '" + term.trim() + "' of '" + concept
+                                + "' has more than one word; titles are matched word by word");
+                    }
+                    if (!normalized.isEmpty()) {
+                        concepts.put(stem(normalized), concept);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the concept lexicon", e);
+        }
+        return concepts;
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimensions];
+        List<String> terms = new ArrayList<>();
+        for (String word : TopicKey.normalize(text).split(" ")) {
+            if (word.isEmpty() || STOP_WORDS.contains(word)) {
+                continue;
+            }
+            String stem = stem(word);
+            terms.add(concepts.getOrDefault(stem, stem));
+
+            String padded = "<" + word + ">";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                add(vector, "c:" + padded.substring(i, i + 3), TRIGRAM_WEIGHT);
+            }
+        }
+
+        for (int i = 0; i < terms.size(); i++) {
+            add(vector, "t:" + terms.get(i), STEM_WEIGHT);
+            if (i > 0) {
+                add(vector, "b:" + terms.get(i - 1) + " " + terms.get(i), BIGRAM_WEIGHT);
+            }
+        }
+        return normalize(vector);
+    }
+
+    private static String stem(String word) {
+        return word.length() > STEM_LENGTH ? word.substring(0, STEM_LENGTH) : word;
+    }
+
+    private void add(float[] vector, String feature, float weight) {
+        int hash = mix(feature.hashCode());
+        int bucket = Math.floorMod(hash, dimensions);
+        vector[bucket] += (hash & 0x8000_0000) == 0 ? weight : -weight;
+    }
+
+    /** Murmur3 finalizer, so similar strings land in unrelated buckets. */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return vector;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+}
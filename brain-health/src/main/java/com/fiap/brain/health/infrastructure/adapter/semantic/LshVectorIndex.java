@@ -0,0 +1,242 @@
+package com.fiap.brain.health.infrastructure.adapter.semantic;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process approximate nearest-neighbour index over unit vectors.
+ * - Random-hyperplane LSH: {@code tables} hash tables of {@code bits} sign bits each;
+ *   a query only scores the entries sharing a bucket in some table, then reranks them
+ *   by exact cosine
+ * - Entries are keyed (normalized topic); re-adding a key replaces its vector and payload
+ * - Bounded to {@code maxEntries}, evicting the oldest insertion first
+ * - Saved as a single binary file (header, then key, vector and payload per entry)
+ *   through a temp file + atomic move; buckets are not stored but rebuilt on load
+ * Fewer bits per table widen the buckets (more candidates to rerank, better recall);
+ * more tables raise recall at the cost of memory: with 16 x 6, a neighbour at
+ * cosine 0.72 is a candidate about 96% of the time.
+ */
+public class LshVectorIndex {
+
+    private static final int MAGIC = 0x4248_5349; // "BHSI"
+    private static final int FORMAT_VERSION = 1;
+
+    public record Settings(int dimensions, int tables, int bits, int maxEntries, long seed) {
+
+        public Settings {
+            if (bits < 1 || bits > 31) {
+                throw new IllegalArgumentException("bits must be between 1 and 31");
+            }
+            if (tables < 1 || dimensions < 1 || maxEntries < 1) {
+                throw new IllegalArgumentException("dimensions, tables and maxEntries must be positive");
+            }
+        }
+    }
+
+    public record Hit(String key, double similarity, byte[] payload) {
+    }
+
+    private record Entry(String key, float[] vector, byte[] payload, int[] signatures) {
+    }
+
+    private final Settings settings;
+    private final float[][][] hyperplanes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private final List<Map<Integer, Set<String>>> buckets = new ArrayList<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public LshVectorIndex(Settings settings) {
+        this.settings = settings;
+        this.hyperplanes = new float[settings.tables()][settings.bits()][settings.dimensions()];
+        Random random = new Random(settings.seed());
+        for (float[][] table : hyperplanes) {
+            for (float[] plane : table) {
+                for (int d = 0; d < plane.length; d++) {
+                    plane[d] = (float) random.nextGaussian();
+                }
+            }
+        }
+        for (int t = 0; t < settings.tables(); t++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    public void add(String key, float[] vector, byte[] payload) {
+        checkDimensions(vector);
+        Entry entry = new Entry(key, vector, payload, signatures(vector));
+        lock.writeLock().lock();
+        try {
+            unlink(entries.remove(key));
+            entries.put(key, entry);
+            link(entry);
+            while (entries.size() > settings.maxEntries()) {
+                unlink(entries.remove(entries.keySet().iterator().next()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Best match among the LSH candidates with a cosine of at least {@code minSimilarity}.
+     */
+    public Optional<Hit> nearest(float[] query, double minSimilarity) {
+        checkDimensions(query);
+        int[] signatures = signatures(query);
+        lock.readLock().lock();
+        try {
+            Set<String> candidates = new HashSet<>();
+            for (int t = 0; t < signatures.length; t++) {
+                candidates.addAll(buckets.get(t).getOrDefault(signatures[t], Set.of()));
+            }
+
+            Entry best = null;
+            double bestSimilarity = minSimilarity;
+            for (String key : candidates) {
+                Entry entry = entries.get(key);
+                double similarity = TextEmbedder.cosine(query, entry.vector());
+                if (similarity >= bestSimilarity) {
+                    best = entry;
+                    bestSimilarity = similarity;
+                }
+            }
+            return best == null
+                    ? Optional.empty()
+                    : Optional.of(new Hit(best.key(), bestSimilarity, best.payload()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void save(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                lock.readLock().lock();
+                try {
+                    out.writeInt(MAGIC);
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeInt(settings.dimensions());
+                    out.writeInt(entries.size());
+                    for (Entry entry : entries.values()) {
+                        out.writeUTF(entry.key());
+                        for (float value : entry.vector()) {
+                            out.writeFloat(value);
+                        }
+                        out.writeInt(entry.payload().length);
+                        out.write(entry.payload());
+                    }
+                } finally {
+                    lock.readLock().unlock();
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Loads the entries saved in {@code file}, keeping insertion order. Returns the
+     * number of entries read; a missing file loads nothing.
+     */
+    public int load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Not a semantic index file (or unsupported version): " + file);
+            }
+            int dimensions = in.readInt();
+            if (dimensions != settings.dimensions()) {
+                throw new IOException("Index file has " + dimensions + " dimensions, expected " + settings.dimensions());
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                float[] vector = new float[dimensions];
+                for (int d = 0; d < dimensions; d++) {
+                    vector[d] = in.readFloat();
+                }
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                add(key, vector, payload);
+            }
+            return count;
+        }
+    }
+
+    private int[] signatures(float[] vector) {
+        int[] signatures = new int[settings.tables()];
+        for (int t = 0; t < hyperplanes.length; t++) {
+            int signature = 0;
+            for (int b = 0; b < hyperplanes[t].length; b++) {
+                if (TextEmbedder.cosine(hyperplanes[t][b], vector) >= 0) {
+                    signature |= 1 << b;
+                }
+            }
+            signatures[t] = signature;
+        }
+        return signatures;
+    }
+
+    private void link(Entry entry) {
+        for (int t = 0; t < entry.signatures().length; t++) {
+            buckets.get(t).computeIfAbsent(entry.signatures()[t], s -> new HashSet<>()).add(entry.key());
+        }
+    }
+
+    private void unlink(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        for (int t = 0; t < entry.signatures().length; t++) {
+            Set<String> bucket = buckets.get(t).get(entry.signatures()[t]);
+            if (bucket != null) {
+                bucket.remove(entry.key());
+                if (bucket.isEmpty()) {
+                    buckets.get(t).remove(entry.signatures()[t]);
+                }
+            }
+        }
+    }
+
+    private void checkDimensions(float[] vector) {
+        if (vector.length != settings.dimensions()) {
+            throw new IllegalArgumentException("Expected " + settings.dimensions() + " dimensions, got " + vector.length);
+        }
+    }
+}
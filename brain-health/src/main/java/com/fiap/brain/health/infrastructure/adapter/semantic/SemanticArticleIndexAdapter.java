@@ -0,0 +1,141 @@
+package com.fiap.brain.health.infrastructure.adapter.semantic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+import com.fiap.brain.health.domain.model.TopicKey;
+import com.fiap.brain.health.domain.port.SemanticArticleIndexPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * INFRASTRUCTURE ADAPTER: Semantic article index
+ * Implements SemanticArticleIndexPort with a local embedder and an LSH vector index,
+ * persisted to a single file so reuse survives restarts.
+ * - Lookups embed the title and take the nearest indexed topic; at or above the
+ *   threshold its stored article is reused
+ * - Entries are keyed by normalized topic (TopicKey); the payload is the article JSON
+ * - Changes are flushed to disk on a fixed delay and on shutdown, not on every write
+ * Metrics: brain.health.semantic.similarity (best similarity per lookup, reused or not),
+ * brain.health.semantic.lookups{result=reused|miss} (counter) and
+ * brain.health.semantic.index.size (gauge).
+ */
+@Slf4j
+public class SemanticArticleIndexAdapter implements SemanticArticleIndexPort {
+
+    private final TextEmbedder embedder;
+    private final LshVectorIndex index;
+    private final Path path;
+    private final double threshold;
+    private final ObjectMapper objectMapper;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private final DistributionSummary similarity;
+    private final Counter reused;
+    private final Counter misses;
+
+    public SemanticArticleIndexAdapter(TextEmbedder embedder, LshVectorIndex index, Path path, double threshold,
+                                       ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.embedder = embedder;
+        this.index = index;
+        this.path = path;
+        this.threshold = threshold;
+        this.objectMapper = objectMapper;
+
+        this.similarity = DistributionSummary.builder("brain.health.semantic.similarity")
+                .description("Best cosine similarity found per semantic lookup")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry);
+        this.reused = lookups(meterRegistry, "reused");
+        this.misses = lookups(meterRegistry, "miss");
+        Gauge.builder("brain.health.semantic.index.size", index, LshVectorIndex::size)
+                .description("Topics in the semantic article index")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("brain.health.semantic.lookups")
+                .description("Semantic topic lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the persisted index; an unreadable file is logged and replaced on the next flush.
+     */
+    public void load() {
+        try {
+            int entries = index.load(path);
+            log.info("Semantic index loaded - entries: {}, path: {}", entries, path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not load semantic index from {}, starting empty: {}", path, e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<Match> findSimilar(String topic) {
+        if (TopicKey.normalize(topic).isEmpty()) {
+            return Optional.empty();
+        }
+
+        Optional<LshVectorIndex.Hit> hit = index.nearest(embedder.embed(topic), -1);
+        hit.ifPresent(h -> similarity.record(h.similarity()));
+
+        Optional<Match> match = hit.filter(h -> h.similarity() >= threshold).flatMap(this::toMatch);
+        (match.isPresent() ? reused : misses).increment();
+        return match;
+    }
+
+    @Override
+    public void index(String topic, ArticleResponse article) {
+        String key = TopicKey.normalize(topic);
+        if (key.isEmpty() || article == null) {
+            return;
+        }
+        try {
+            index.add(key, embedder.embed(topic), objectMapper.writeValueAsBytes(article));
+            dirty.set(true);
+        } catch (IOException e) {
+            log.warn("Could not index article for topic '{}': {}", topic, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${semantic-index.flush-interval-ms:30000}",
+            initialDelayString = "${semantic-index.flush-interval-ms:30000}")
+    public void flush() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            index.save(path);
+            log.debug("Semantic index saved - entries: {}", index.size());
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Could not save semantic index to {}: {}", path, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private Optional<Match> toMatch(LshVectorIndex.Hit hit) {
+        try {
+            ArticleResponse article = objectMapper.readValue(hit.payload(), ArticleResponse.class);
+            return Optional.of(new Match(hit.key(), hit.similarity(), article));
+        } catch (IOException e) {
+            log.warn("Unreadable article in semantic index for topic '{}': {}", hit.key(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
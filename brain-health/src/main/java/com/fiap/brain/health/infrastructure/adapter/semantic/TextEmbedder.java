@@ -0,0 +1,20 @@
+package com.fiap.brain.health.infrastructure.adapter.semantic;
+
+/**
+ * Turns a short text (goal title) into a fixed-size, L2-normalized vector, so that
+ * cosine similarity is a dot product. Implementations must run in-process.
+ */
+public interface TextEmbedder {
+
+    int dimensions();
+
+    float[] embed(String text);
+
+    static double cosine(float[] a, float[] b) {
+        double dot = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return dot;
+    }
+}
@@ -0,0 +1,130 @@
+package com.fiap.brain.health.infrastructure.adapter.store;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+import com.fiap.brain.health.domain.port.ArticleStorePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * INFRASTRUCTURE ADAPTER: Content-addressed article file store
+ * Implements ArticleStorePort on a directory shared with check-health
+ * (docker volume), laid out as {@code <path>/<hash[0..2]>/<hash>.json}.
+ * - The key is the SHA-256 of the article content (timestamp excluded), so
+ *   identical articles generated for different goals share one file
+ * - Files are written once through a temp file + atomic move; existing keys are not rewritten
+ * - Write failures are logged and reported as empty, so the article goes inline on Kafka
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileArticleStoreAdapter implements ArticleStorePort {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${article-store.enabled:false}")
+    private boolean enabled;
+
+    @Value("${article-store.path:./data/articles}")
+    private Path basePath;
+
+    @Override
+    public Optional<StoredArticle> store(ArticleResponse article) {
+        if (!enabled || article == null) {
+            return Optional.empty();
+        }
+
+        try {
+            String contentHash = contentHash(article);
+            Path target = resolve(contentHash);
+
+            if (Files.exists(target)) {
+                log.debug("Article already stored - hash: {}", contentHash);
+                return Optional.of(new StoredArticle(contentHash, (int) Files.size(target)));
+            }
+
+            byte[] body = objectMapper.writeValueAsBytes(article);
+            write(target, body);
+
+            log.info("Article stored - hash: {}, bytes: {}", contentHash, body.length);
+            return Optional.of(new StoredArticle(contentHash, body.length));
+
+        } catch (IOException e) {
+            log.warn("Article store unavailable, sending article inline: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<ArticleResponse> find(String contentHash) {
+        Path target = resolve(contentHash);
+        if (!Files.exists(target)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(target.toFile(), ArticleResponse.class));
+        } catch (IOException e) {
+            log.warn("Failed to read stored article {}: {}", contentHash, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    String contentHash(ArticleResponse article) throws JsonProcessingException {
+        // Fixed field order; the generation timestamp is not part of the content
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("title", article.title());
+        content.put("introduction", article.introduction());
+        content.put("recommendations", article.recommendations());
+        content.put("conclusion", article.conclusion());
+        content.put("quizzes", article.quizzes());
+        content.put("sourceLink", article.sourceLink());
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(content)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Path resolve(String contentHash) {
+        if (contentHash == null || !contentHash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Invalid article content hash: " + contentHash);
+        }
+        return basePath.resolve(contentHash.substring(0, 2)).resolve(contentHash + ".json");
+    }
+
+    private void write(Path target, byte[] body) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, body);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // Another consumer thread stored the same content first
+            log.debug("Article {} stored concurrently", target.getFileName());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
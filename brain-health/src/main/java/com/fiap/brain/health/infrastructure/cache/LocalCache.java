@@ -0,0 +1,85 @@
+package com.fiap.brain.health.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process LRU cache with a time-to-live, one per instance. Requests are routed by
+ * topic (see TopicKey), so each instance sees a stable subset of topics and its cache
+ * holds that subset instead of a copy of everything.
+ * Metrics (tag {@code cache}): brain.health.cache.requests{result=hit|miss} (counter)
+ * and brain.health.cache.size (gauge).
+ */
+public class LocalCache<V> {
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry<V>> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public LocalCache(String name, int maxEntries, Duration ttl, MeterRegistry meterRegistry) {
+        this(name, maxEntries, ttl, meterRegistry, System::nanoTime);
+    }
+
+    LocalCache(String name, int maxEntries, Duration ttl, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        });
+
+        this.hits = requests(meterRegistry, name, "hit");
+        this.misses = requests(meterRegistry, name, "miss");
+        Gauge.builder("brain.health.cache.size", entries, Map::size)
+                .description("Entries in the local cache")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("brain.health.cache.requests")
+                .description("Local cache lookups")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public Optional<V> get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && nanoClock.getAsLong() - entry.expiresAtNanos() < 0) {
+            hits.increment();
+            return Optional.of(entry.value());
+        }
+        if (entry != null) {
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(String key, V value) {
+        entries.put(key, new Entry<>(value, nanoClock.getAsLong() + ttlNanos));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
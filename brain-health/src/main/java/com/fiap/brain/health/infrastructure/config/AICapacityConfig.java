@@ -0,0 +1,62 @@
+package com.fiap.brain.health.infrastructure.config;
+
+import com.fiap.brain.health.infrastructure.adapter.ai.OpenAICapacityGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * OpenAI capacity signal (rate-limit token bucket + AIMD concurrency limit) and the
+ * scheduling used by the Kafka backpressure controller to pause/resume listeners.
+ */
+@Configuration
+@EnableScheduling
+public class AICapacityConfig {
+
+    @Value("${external-services.openai.capacity.initial-concurrency:2}")
+    private int initialConcurrency;
+
+    @Value("${external-services.openai.capacity.min-concurrency:1}")
+    private int minConcurrency;
+
+    @Value("${external-services.openai.capacity.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${external-services.openai.capacity.backoff-ratio:0.5}")
+    private double backoffRatio;
+
+    @Value("${external-services.openai.capacity.latency-threshold-ms:20000}")
+    private long latencyThresholdMs;
+
+    @Value("${external-services.openai.capacity.acquire-timeout-ms:30000}")
+    private long acquireTimeoutMs;
+
+    @Value("${external-services.openai.capacity.requests-per-minute:500}")
+    private double requestsPerMinute;
+
+    @Value("${external-services.openai.capacity.cooldown-ms:10000}")
+    private long cooldownMs;
+
+    @Value("${external-services.openai.capacity.min-remaining-tokens:4000}")
+    private long minRemainingTokens;
+
+    @Bean
+    public OpenAICapacityGuard openAICapacityGuard(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new OpenAICapacityGuard(meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+                new OpenAICapacityGuard.Settings(
+                        initialConcurrency,
+                        minConcurrency,
+                        maxConcurrency,
+                        backoffRatio,
+                        latencyThresholdMs,
+                        acquireTimeoutMs,
+                        requestsPerMinute,
+                        cooldownMs,
+                        minRemainingTokens
+                ));
+    }
+}
@@ -0,0 +1,33 @@
+package com.fiap.brain.health.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor for asynchronous article jobs. The bounded queue makes submissions fail
+ * fast (503) instead of piling up work the OpenAI capacity cannot absorb.
+ */
+@Configuration
+public class ArticleJobConfig {
+
+    @Value("${article-jobs.pool-size:4}")
+    private int poolSize;
+
+    @Value("${article-jobs.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Bean(name = "articleJobExecutor")
+    public ThreadPoolTaskExecutor articleJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("article-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,66 @@
+package com.fiap.brain.health.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.brain.health.api.filter.ConcurrencyLimitFilter;
+import com.fiap.brain.health.infrastructure.limit.GradientLimit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Adaptive concurrency limit for the REST API (see ConcurrencyLimitFilter).
+ */
+@Configuration
+@ConditionalOnProperty(name = "api.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Value("${api.concurrency-limit.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${api.concurrency-limit.min-limit:4}")
+    private int minLimit;
+
+    @Value("${api.concurrency-limit.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${api.concurrency-limit.smoothing:0.2}")
+    private double smoothing;
+
+    @Value("${api.concurrency-limit.tolerance:1.5}")
+    private double tolerance;
+
+    @Value("${api.concurrency-limit.long-window:600}")
+    private int longWindow;
+
+    @Value("${api.concurrency-limit.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    @Value("${api.concurrency-limit.exempt-paths:/actuator/**}")
+    private List<String> exemptPaths;
+
+    @Bean
+    public GradientLimit apiConcurrencyLimit() {
+        return new GradientLimit(initialLimit, minLimit, maxLimit, smoothing, tolerance, longWindow);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            GradientLimit apiConcurrencyLimit, ObjectMapper objectMapper, ObjectProvider<MeterRegistry> meterRegistry) {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(apiConcurrencyLimit, exemptPaths, retryAfterSeconds,
+                objectMapper, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/*");
+        // Runs ahead of the other filters so a rejected request costs as little as possible
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,114 @@
+package com.fiap.brain.health.infrastructure.config;
+
+import com.fiap.brain.health.infrastructure.adapter.ai.OpenAICapacityGuard;
+import com.fiap.brain.health.infrastructure.adapter.kafka.KafkaBackpressureController;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.LaneScheduler;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.PriorityLane;
+import com.fiap.brain.health.infrastructure.adapter.kafka.scaling.ConsumerLagProbe;
+import com.fiap.brain.health.infrastructure.adapter.kafka.scaling.KafkaConcurrencyAutoscaler;
+import com.fiap.brain.health.infrastructure.adapter.kafka.scaling.LagScalingPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Lag-aware autoscaling of the lane listener containers: per-lane concurrency
+ * bounds, shared thresholds, the admin client used to read consumer lag and the
+ * single thread the rounds (and container restarts) run on.
+ */
+@Configuration
+@ConditionalOnProperty(name = "kafka.autoscaling.enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaAutoscalingConfig {
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @Value("${kafka.autoscaling.scale-up-lag:50}")
+    private long scaleUpLag;
+
+    @Value("${kafka.autoscaling.scale-down-lag:5}")
+    private long scaleDownLag;
+
+    @Value("${kafka.autoscaling.scale-down-rounds:4}")
+    private int scaleDownRounds;
+
+    @Value("${kafka.autoscaling.target-drain-seconds:60}")
+    private long targetDrainSeconds;
+
+    @Value("${kafka.autoscaling.cooldown-ms:60000}")
+    private long cooldownMs;
+
+    @Value("${kafka.autoscaling.admin-timeout-ms:5000}")
+    private long adminTimeoutMs;
+
+    @Value("${kafka.autoscaling.interactive.min-concurrency:1}")
+    private int interactiveMin;
+
+    @Value("${kafka.autoscaling.interactive.max-concurrency:8}")
+    private int interactiveMax;
+
+    @Value("${kafka.autoscaling.bulk.min-concurrency:1}")
+    private int bulkMin;
+
+    @Value("${kafka.autoscaling.bulk.max-concurrency:4}")
+    private int bulkMax;
+
+    @Value("${kafka.autoscaling.backfill.min-concurrency:1}")
+    private int backfillMin;
+
+    @Value("${kafka.autoscaling.backfill.max-concurrency:2}")
+    private int backfillMax;
+
+    @Bean(destroyMethod = "close")
+    public ConsumerLagProbe consumerLagProbe(KafkaAdmin kafkaAdmin) {
+        return new ConsumerLagProbe(() -> Admin.create(kafkaAdmin.getConfigurationProperties()),
+                Duration.ofMillis(adminTimeoutMs));
+    }
+
+    @Bean(name = "kafkaAutoscalingExecutor")
+    public ThreadPoolTaskExecutor kafkaAutoscalingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("kafka-autoscaler-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public KafkaConcurrencyAutoscaler kafkaConcurrencyAutoscaler(KafkaListenerEndpointRegistry registry,
+                                                                 LaneScheduler laneScheduler,
+                                                                 OpenAICapacityGuard capacityGuard,
+                                                                 KafkaBackpressureController backpressureController,
+                                                                 ConsumerLagProbe consumerLagProbe,
+                                                                 ThreadPoolTaskExecutor kafkaAutoscalingExecutor,
+                                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        return new KafkaConcurrencyAutoscaler(registry, laneScheduler, capacityGuard, backpressureController,
+                consumerLagProbe, groupId,
+                Map.of(
+                        PriorityLane.INTERACTIVE, policy(interactiveMin, interactiveMax),
+                        PriorityLane.BULK, policy(bulkMin, bulkMax),
+                        PriorityLane.BACKFILL, policy(backfillMin, backfillMax)
+                ),
+                kafkaAutoscalingExecutor,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    private LagScalingPolicy policy(int minConcurrency, int maxConcurrency) {
+        return new LagScalingPolicy(new LagScalingPolicy.Settings(minConcurrency, maxConcurrency, scaleUpLag,
+                scaleDownLag, scaleDownRounds, Duration.ofSeconds(targetDrainSeconds), Duration.ofMillis(cooldownMs)));
+    }
+}
@@ -1,8 +1,12 @@
 package com.fiap.brain.health.infrastructure.config;
 
 import com.fiap.brain.health.api.dto.kafka.BrainHealthRequestMessage;
+import com.fiap.brain.health.api.dto.kafka.BrainHealthResponseMessage;
+import com.fiap.brain.health.infrastructure.adapter.kafka.serialization.BrainHealthAvroCodec;
+import com.fiap.brain.health.infrastructure.adapter.kafka.serialization.ContentTypeDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,7 +14,7 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -24,48 +28,61 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${kafka.transactions.enabled:false}")
+    private boolean transactionsEnabled;
+
+    @Value("${kafka.transactions.max-batch-size:10}")
+    private int transactionMaxBatchSize;
+
+    @Value("${kafka.lanes.interactive.concurrency:3}")
+    private int defaultConcurrency;
+
     @Bean
     public ConsumerFactory<String, BrainHealthRequestMessage> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
 
-        // Deserialization with error handling
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
-
-        // JSON Deserializer configuration
-        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, BrainHealthRequestMessage.class.getName());
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.fiap.brain.health.api.dto.kafka");
-        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        // Deserialization with error handling; JSON or Avro chosen by the content-type header
+        ErrorHandlingDeserializer<BrainHealthRequestMessage> valueDeserializer = new ErrorHandlingDeserializer<>(
+                new ContentTypeDeserializer<>(BrainHealthRequestMessage.class, BrainHealthAvroCodec.REQUESTS));
 
         // Offset configuration
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
 
         // Performance configuration
-        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100);
+        // In transactional mode each poll is one transaction, so the batch is kept small
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, transactionsEnabled ? transactionMaxBatchSize : 100);
         props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 1);
         props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 500);
 
-        return new DefaultKafkaConsumerFactory<>(props);
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), valueDeserializer);
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, BrainHealthRequestMessage> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, BrainHealthRequestMessage> kafkaListenerContainerFactory(
+            ObjectProvider<KafkaTransactionManager<String, BrainHealthResponseMessage>> kafkaTransactionManager) {
         ConcurrentKafkaListenerContainerFactory<String, BrainHealthRequestMessage> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
 
-        // Concurrency configuration (3 threads)
-        factory.setConcurrency(3);
+        // Batch listener: in transactional mode the whole poll shares a single transaction
+        factory.setBatchListener(true);
+
+        // Default concurrency; each lane listener sets its own, and KafkaConcurrencyAutoscaler
+        // adjusts it at runtime from the consumer lag
+        factory.setConcurrency(defaultConcurrency);
 
         // Enable manual ACK for better control
         factory.getContainerProperties().setAckMode(
                 org.springframework.kafka.listener.ContainerProperties.AckMode.MANUAL_IMMEDIATE
         );
 
+        // Exactly-once: responses and consumed offsets are committed in the same Kafka transaction
+        kafkaTransactionManager.ifAvailable(transactionManager ->
+                factory.getContainerProperties().setTransactionManager(transactionManager));
+
         return factory;
     }
 }
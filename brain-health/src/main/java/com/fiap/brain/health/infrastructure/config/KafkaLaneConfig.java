@@ -0,0 +1,85 @@
+package com.fiap.brain.health.infrastructure.config;
+
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.LaneScheduler;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.LaneScheduler.LaneBudget;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.PriorityLane;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.StalenessPolicy;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.StalenessPolicy.Action;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.StalenessPolicy.LaneDeadline;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Priority lanes: one topic and listener container per lane (see BrainHealthKafkaConsumer);
+ * the scheduler shares the pipeline between them by weight and the staleness policy
+ * drops or defers requests older than the lane TTL.
+ */
+@Configuration
+public class KafkaLaneConfig {
+
+    @Value("${kafka.lanes.max-in-flight:4}")
+    private int maxInFlight;
+
+    @Value("${kafka.lanes.interactive.concurrency:3}")
+    private int interactiveConcurrency;
+
+    @Value("${kafka.lanes.interactive.weight:6}")
+    private int interactiveWeight;
+
+    @Value("${kafka.lanes.bulk.concurrency:2}")
+    private int bulkConcurrency;
+
+    @Value("${kafka.lanes.bulk.weight:3}")
+    private int bulkWeight;
+
+    @Value("${kafka.lanes.backfill.concurrency:1}")
+    private int backfillConcurrency;
+
+    @Value("${kafka.lanes.backfill.weight:1}")
+    private int backfillWeight;
+
+    @Value("${kafka.lanes.interactive.ttl-ms:300000}")
+    private long interactiveTtlMs;
+
+    @Value("${kafka.lanes.interactive.on-stale:defer}")
+    private String interactiveOnStale;
+
+    @Value("${kafka.lanes.bulk.ttl-ms:3600000}")
+    private long bulkTtlMs;
+
+    @Value("${kafka.lanes.bulk.on-stale:defer}")
+    private String bulkOnStale;
+
+    @Value("${kafka.lanes.backfill.ttl-ms:86400000}")
+    private long backfillTtlMs;
+
+    @Bean
+    public LaneScheduler laneScheduler(ObjectProvider<MeterRegistry> meterRegistry) {
+        // Test slices may run without a metrics registry
+        return new LaneScheduler(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), maxInFlight, Map.of(
+                PriorityLane.INTERACTIVE, new LaneBudget(interactiveConcurrency, interactiveWeight),
+                PriorityLane.BULK, new LaneBudget(bulkConcurrency, bulkWeight),
+                PriorityLane.BACKFILL, new LaneBudget(backfillConcurrency, backfillWeight)
+        ));
+    }
+
+    @Bean
+    public StalenessPolicy stalenessPolicy(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new StalenessPolicy(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), Map.of(
+                PriorityLane.INTERACTIVE, deadline(interactiveTtlMs, interactiveOnStale),
+                PriorityLane.BULK, deadline(bulkTtlMs, bulkOnStale),
+                PriorityLane.BACKFILL, deadline(backfillTtlMs, "skip")
+        ));
+    }
+
+    private static LaneDeadline deadline(long ttlMs, String onStale) {
+        return new LaneDeadline(Duration.ofMillis(ttlMs), Action.valueOf(onStale.trim().toUpperCase()));
+    }
+}
@@ -2,15 +2,20 @@ package com.fiap.brain.health.infrastructure.config;
 
 import com.fiap.brain.health.api.dto.kafka.BrainHealthRequestMessage;
 import com.fiap.brain.health.api.dto.kafka.BrainHealthResponseMessage;
+import com.fiap.brain.health.infrastructure.adapter.kafka.serialization.BrainHealthAvroCodec;
+import com.fiap.brain.health.infrastructure.adapter.kafka.serialization.ContentTypeSerializer;
+import com.fiap.brain.health.infrastructure.adapter.kafka.serialization.KafkaWireFormat;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -21,13 +26,27 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${kafka.serialization.request-format:json}")
+    private String requestFormat;
+
+    @Value("${kafka.serialization.response-format:json}")
+    private String responseFormat;
+
+    @Value("${kafka.transactions.enabled:false}")
+    private boolean transactionsEnabled;
+
+    @Value("${kafka.transactions.id-prefix:brain-health-tx-}")
+    private String transactionIdPrefix;
+
+    @Value("${kafka.transactions.timeout-ms:300000}")
+    private int transactionTimeoutMs;
+
     private Map<String, Object> getCommonProducerConfig() {
         Map<String, Object> configProps = new HashMap<>();
 
         // Connection
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
         // Reliability configuration
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
@@ -40,15 +59,52 @@ public class KafkaProducerConfig {
         configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, 33554432);
         configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "snappy");
 
-        // JSON serializer configuration
-        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
-
         return configProps;
     }
 
+    /**
+     * Response producer. In transactional mode it gets a transactional.id so the
+     * listener container can send the response and the consumed offsets in the
+     * same transaction (consume-transform-produce). It then also serializes
+     * requests, so a request re-published by the listener (deferral to the backfill
+     * lane) goes in that transaction too; see {@link #requestKafkaTemplate()}.
+     */
     @Bean
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public ProducerFactory<String, BrainHealthResponseMessage> producerFactory() {
-        return new DefaultKafkaProducerFactory<>(getCommonProducerConfig());
+        Map<String, Object> configProps = getCommonProducerConfig();
+
+        ContentTypeSerializer<BrainHealthResponseMessage> valueSerializer = new ContentTypeSerializer<>(
+                responseWireFormat(), BrainHealthAvroCodec.RESPONSES);
+
+        if (!transactionsEnabled) {
+            return new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(), valueSerializer);
+        }
+
+        // A batch includes OpenAI calls; the default 60s timeout would abort the transaction
+        configProps.put(ProducerConfig.TRANSACTION_TIMEOUT_CONFIG, transactionTimeoutMs);
+
+        DelegatingByTypeSerializer byType = new DelegatingByTypeSerializer(Map.of(
+                BrainHealthResponseMessage.class, valueSerializer,
+                BrainHealthRequestMessage.class, requestSerializer()));
+        DefaultKafkaProducerFactory<String, BrainHealthResponseMessage> factory =
+                new DefaultKafkaProducerFactory(configProps, new StringSerializer(), byType);
+        factory.setTransactionIdPrefix(transactionIdPrefix);
+        return factory;
+    }
+
+    /**
+     * goal.progress.updated is read by check-health, which only decodes JSON: Avro
+     * records would fail there and end up in its dead-letter topic. Avro is refused
+     * at startup until check-health reads the content-type header.
+     */
+    KafkaWireFormat responseWireFormat() {
+        KafkaWireFormat format = KafkaWireFormat.fromProperty(responseFormat);
+        if (format != KafkaWireFormat.JSON) {
+            throw new IllegalStateException("kafka.serialization.response-format=" + responseFormat
+                    + " is not supported: check-health reads goal.progress.updated as JSON only");
+        }
+        return format;
     }
 
     @Bean
@@ -56,13 +112,36 @@ public class KafkaProducerConfig {
         return new KafkaTemplate<>(producerFactory());
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "kafka.transactions.enabled", havingValue = "true")
+    public KafkaTransactionManager<String, BrainHealthResponseMessage> kafkaTransactionManager() {
+        return new KafkaTransactionManager<>(producerFactory());
+    }
+
     @Bean
     public ProducerFactory<String, BrainHealthRequestMessage> requestProducerFactory() {
-        return new DefaultKafkaProducerFactory<>(getCommonProducerConfig());
+        return new DefaultKafkaProducerFactory<>(getCommonProducerConfig(), new StringSerializer(), requestSerializer());
     }
 
+    /**
+     * Request producer. In transactional mode it is the transactional response
+     * factory (which also serializes requests): a send from a listener joins the
+     * container's Kafka transaction, and a send outside one (the test endpoint) uses
+     * a non-transactional producer of the same factory.
+     */
     @Bean
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public KafkaTemplate<String, BrainHealthRequestMessage> requestKafkaTemplate() {
-        return new KafkaTemplate<>(requestProducerFactory());
+        if (!transactionsEnabled) {
+            return new KafkaTemplate<>(requestProducerFactory());
+        }
+        KafkaTemplate<String, BrainHealthRequestMessage> template =
+                new KafkaTemplate<>((ProducerFactory) producerFactory());
+        template.setAllowNonTransactional(true);
+        return template;
+    }
+
+    private ContentTypeSerializer<BrainHealthRequestMessage> requestSerializer() {
+        return new ContentTypeSerializer<>(KafkaWireFormat.fromProperty(requestFormat), BrainHealthAvroCodec.REQUESTS);
     }
 }
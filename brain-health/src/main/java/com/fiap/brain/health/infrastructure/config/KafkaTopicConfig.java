@@ -0,0 +1,114 @@
+package com.fiap.brain.health.infrastructure.config;
+
+import com.fiap.brain.health.infrastructure.adapter.kafka.TopicPartitionCheck;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.Map;
+
+/**
+ * Declarative provisioning of the brain-health topics. KafkaAdmin creates missing
+ * topics at startup and adds partitions to existing ones with fewer (it never removes
+ * partitions or rewrites the config of an existing topic). Partition counts follow the
+ * listener concurrency of each lane, including the autoscaling ceiling.
+ */
+@Configuration
+@ConditionalOnProperty(name = "kafka.provisioning.enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaTopicConfig {
+
+    @Value("${kafka.topic.consumer}")
+    private String interactiveTopic;
+
+    @Value("${kafka.lanes.bulk.topic:goal.created.bulk}")
+    private String bulkTopic;
+
+    @Value("${kafka.lanes.backfill.topic:goal.created.backfill}")
+    private String backfillTopic;
+
+    @Value("${kafka.topic.producer}")
+    private String responseTopic;
+
+    @Value("${kafka.provisioning.partitions.interactive:8}")
+    private int interactivePartitions;
+
+    @Value("${kafka.provisioning.partitions.bulk:4}")
+    private int bulkPartitions;
+
+    @Value("${kafka.provisioning.partitions.backfill:2}")
+    private int backfillPartitions;
+
+    @Value("${kafka.provisioning.partitions.response:6}")
+    private int responsePartitions;
+
+    @Value("${kafka.provisioning.replication-factor:1}")
+    private short replicationFactor;
+
+    @Value("${kafka.provisioning.retention-ms:604800000}")
+    private long retentionMs;
+
+    @Value("${kafka.provisioning.compression-type:producer}")
+    private String compressionType;
+
+    @Value("${kafka.provisioning.expected-instances:1}")
+    private int expectedInstances;
+
+    @Value("${kafka.lanes.interactive.concurrency:3}")
+    private int interactiveConcurrency;
+
+    @Value("${kafka.lanes.bulk.concurrency:2}")
+    private int bulkConcurrency;
+
+    @Value("${kafka.lanes.backfill.concurrency:1}")
+    private int backfillConcurrency;
+
+    @Value("${kafka.autoscaling.enabled:true}")
+    private boolean autoscalingEnabled;
+
+    @Value("${kafka.autoscaling.interactive.max-concurrency:8}")
+    private int interactiveMaxConcurrency;
+
+    @Value("${kafka.autoscaling.bulk.max-concurrency:4}")
+    private int bulkMaxConcurrency;
+
+    @Value("${kafka.autoscaling.backfill.max-concurrency:2}")
+    private int backfillMaxConcurrency;
+
+    @Bean
+    public KafkaAdmin.NewTopics brainHealthTopics() {
+        return new KafkaAdmin.NewTopics(
+                topic(interactiveTopic, interactivePartitions),
+                topic(bulkTopic, bulkPartitions),
+                topic(backfillTopic, backfillPartitions),
+                topic(responseTopic, responsePartitions)
+        );
+    }
+
+    @Bean
+    public TopicPartitionCheck topicPartitionCheck(KafkaAdmin kafkaAdmin) {
+        return new TopicPartitionCheck(kafkaAdmin, Map.of(
+                interactiveTopic, threads(interactiveConcurrency, interactiveMaxConcurrency),
+                bulkTopic, threads(bulkConcurrency, bulkMaxConcurrency),
+                backfillTopic, threads(backfillConcurrency, backfillMaxConcurrency)
+        ), expectedInstances);
+    }
+
+    private NewTopic topic(String name, int partitions) {
+        return TopicBuilder.name(name)
+                .partitions(partitions)
+                .replicas(replicationFactor)
+                .config(TopicConfig.RETENTION_MS_CONFIG, String.valueOf(retentionMs))
+                .config(TopicConfig.COMPRESSION_TYPE_CONFIG, compressionType)
+                .build();
+    }
+
+    /** Listener threads a lane may run: the configured concurrency, or the autoscaling ceiling. */
+    private int threads(int concurrency, int maxConcurrency) {
+        return autoscalingEnabled ? Math.max(concurrency, maxConcurrency) : concurrency;
+    }
+}
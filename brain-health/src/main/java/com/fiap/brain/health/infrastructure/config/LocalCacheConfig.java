@@ -0,0 +1,62 @@
+package com.fiap.brain.health.infrastructure.config;
+
+import com.fiap.brain.health.domain.model.MedicalArticle;
+import com.fiap.brain.health.domain.port.AIProcessingPort;
+import com.fiap.brain.health.domain.port.AIProcessingPort.AIProcessingResult;
+import com.fiap.brain.health.domain.port.MedicalArticleRepositoryPort;
+import com.fiap.brain.health.infrastructure.adapter.ai.CachedAIProcessingAdapter;
+import com.fiap.brain.health.infrastructure.adapter.ai.OpenAIProcessingAdapter;
+import com.fiap.brain.health.infrastructure.adapter.external.CachedArticleAdapter;
+import com.fiap.brain.health.infrastructure.adapter.external.CremespArticleAdapter;
+import com.fiap.brain.health.infrastructure.cache.LocalCache;
+import com.fiap.brain.health.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Local caches in front of the article source and OpenAI, keyed by normalized topic.
+ * They pay off because goal.created is partitioned by the same key (topic affinity).
+ */
+@Configuration
+@ConditionalOnProperty(name = "local-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class LocalCacheConfig {
+
+    @Value("${local-cache.article.max-entries:512}")
+    private int articleMaxEntries;
+
+    @Value("${local-cache.article.ttl-minutes:60}")
+    private long articleTtlMinutes;
+
+    @Value("${local-cache.ai.max-entries:512}")
+    private int aiMaxEntries;
+
+    @Value("${local-cache.ai.ttl-minutes:360}")
+    private long aiTtlMinutes;
+
+    @Bean
+    @Primary
+    public MedicalArticleRepositoryPort cachedArticleRepository(CremespArticleAdapter cremespArticleAdapter,
+                                                                PipelineMetrics pipelineMetrics,
+                                                                ObjectProvider<MeterRegistry> meterRegistry) {
+        LocalCache<MedicalArticle> cache = new LocalCache<>("article", articleMaxEntries,
+                Duration.ofMinutes(articleTtlMinutes), meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+        return new CachedArticleAdapter(cremespArticleAdapter, cache, pipelineMetrics);
+    }
+
+    @Bean
+    @Primary
+    public AIProcessingPort cachedAIProcessing(OpenAIProcessingAdapter openAIProcessingAdapter,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        LocalCache<AIProcessingResult> cache = new LocalCache<>("ai", aiMaxEntries,
+                Duration.ofMinutes(aiTtlMinutes), meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+        return new CachedAIProcessingAdapter(openAIProcessingAdapter, cache);
+    }
+}
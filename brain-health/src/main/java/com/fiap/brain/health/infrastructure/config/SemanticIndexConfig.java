@@ -0,0 +1,77 @@
+package com.fiap.brain.health.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.brain.health.domain.port.SemanticArticleIndexPort;
+import com.fiap.brain.health.infrastructure.adapter.semantic.DisabledSemanticArticleIndex;
+import com.fiap.brain.health.infrastructure.adapter.semantic.HashingTextEmbedder;
+import com.fiap.brain.health.infrastructure.adapter.semantic.LshVectorIndex;
+import com.fiap.brain.health.infrastructure.adapter.semantic.SemanticArticleIndexAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Semantic topic matching: reuse the article of an already answered topic with the
+ * same meaning. Runs fully in-process (hashing embedder + LSH index on local disk).
+ */
+@Configuration
+public class SemanticIndexConfig {
+
+    @Value("${semantic-index.path:./data/semantic-index.bin}")
+    private Path path;
+
+    @Value("${semantic-index.threshold:0.72}")
+    private double threshold;
+
+    @Value("${semantic-index.lexicon:classpath:semantic/concepts-pt.txt}")
+    private Resource lexicon;
+
+    @Value("${semantic-index.dimensions:512}")
+    private int dimensions;
+
+    @Value("${semantic-index.tables:16}")
+    private int tables;
+
+    @Value("${semantic-index.bits:6}")
+    private int bits;
+
+    @Value("${semantic-index.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${semantic-index.seed:42}")
+    private long seed;
+
+    @Bean
+    @ConditionalOnProperty(name = "semantic-index.enabled", havingValue = "true", matchIfMissing = true)
+    public SemanticArticleIndexPort semanticArticleIndex(ObjectMapper objectMapper,
+                                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        HashingTextEmbedder embedder;
+        try (InputStream in = lexicon.getInputStream()) {
+            embedder = new HashingTextEmbedder(dimensions, HashingTextEmbedder.loadConcepts(in));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open the semantic lexicon " + lexicon, e);
+        }
+
+        LshVectorIndex index = new LshVectorIndex(new LshVectorIndex.Settings(dimensions, tables, bits, maxEntries, seed));
+        SemanticArticleIndexAdapter adapter = new SemanticArticleIndexAdapter(embedder, index, path, threshold,
+                objectMapper, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+        adapter.load();
+        return adapter;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "semantic-index.enabled", havingValue = "false")
+    public SemanticArticleIndexPort disabledSemanticArticleIndex() {
+        return new DisabledSemanticArticleIndex();
+    }
+}
@@ -0,0 +1,37 @@
+package com.fiap.brain.health.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for an HTML download (HtmlFetchService), one per URL. Lengths are in chars.
+ */
+@Name("com.fiap.brain.health.HtmlFetch")
+@Label("HTML Fetch")
+@Category({"Brain Health", "Pipeline"})
+@Description("Download of a source page")
+@StackTrace(false)
+public class HtmlFetchEvent extends Event {
+
+    @Label("Host")
+    private String host;
+
+    @Label("Response Length")
+    private long responseChars;
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void finish(String host, long responseChars, String outcome) {
+        if (shouldCommit()) {
+            this.host = host;
+            this.responseChars = responseChars;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
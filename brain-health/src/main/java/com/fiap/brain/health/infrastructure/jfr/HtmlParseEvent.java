@@ -0,0 +1,47 @@
+package com.fiap.brain.health.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a jsoup extraction (parse + select) in the article adapter. Lengths are in chars.
+ */
+@Name("com.fiap.brain.health.HtmlParse")
+@Label("HTML Parse")
+@Category({"Brain Health", "Pipeline"})
+@Description("jsoup parsing and content extraction")
+@StackTrace(false)
+public class HtmlParseEvent extends Event {
+
+    @Label("Extraction")
+    @Description("search_content, search_links or article_content")
+    private String extraction;
+
+    @Label("Input Length")
+    private long inputChars;
+
+    @Label("Output Length")
+    private long outputChars;
+
+    @Label("Elements")
+    @Description("Elements selected from the document")
+    private int elements;
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void finish(String extraction, long inputChars, long outputChars, int elements, String outcome) {
+        if (shouldCommit()) {
+            this.extraction = extraction;
+            this.inputChars = inputChars;
+            this.outputChars = outputChars;
+            this.elements = elements;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
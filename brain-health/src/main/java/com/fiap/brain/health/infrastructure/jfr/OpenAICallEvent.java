@@ -0,0 +1,51 @@
+package com.fiap.brain.health.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a chat call to OpenAI (excludes the wait for capacity).
+ * Lengths are in chars; token counts are -1 when the response carries no usage.
+ */
+@Name("com.fiap.brain.health.OpenAICall")
+@Label("OpenAI Call")
+@Category({"Brain Health", "Pipeline"})
+@Description("Chat completion request to OpenAI")
+@StackTrace(false)
+public class OpenAICallEvent extends Event {
+
+    @Label("Model")
+    private String model;
+
+    @Label("Prompt Length")
+    private long promptChars;
+
+    @Label("Response Length")
+    private long responseChars;
+
+    @Label("Prompt Tokens")
+    private long promptTokens;
+
+    @Label("Total Tokens")
+    private long totalTokens;
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void finish(String model, long promptChars, long responseChars,
+                       long promptTokens, long totalTokens, String outcome) {
+        if (shouldCommit()) {
+            this.model = model;
+            this.promptChars = promptChars;
+            this.responseChars = responseChars;
+            this.promptTokens = promptTokens;
+            this.totalTokens = totalTokens;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.fiap.brain.health.infrastructure.limit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Additive-increase / multiplicative-decrease concurrency limit.
+ * - Each successful, fast call raises the limit by one, but only while the limit
+ *   is actually being used (in-flight at least half of it)
+ * - A dropped call (throttled, timed out) or a call slower than the latency
+ *   threshold multiplies the limit by the backoff ratio
+ * Callers hold a slot between {@link #acquire(long, TimeUnit)} and {@link #release()}.
+ */
+public class AimdLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private int limit;
+    private int inFlight;
+
+    public AimdLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyThresholdMillis) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid AIMD bounds: min=" + minLimit + ", max=" + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Waits up to the timeout for a slot under the current limit.
+     *
+     * @return false if no slot was freed in time
+     */
+    public synchronized boolean acquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + remaining;
+        while (inFlight >= limit) {
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+        inFlight++;
+        return true;
+    }
+
+    public synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    /**
+     * Feeds the outcome of a call that held a slot.
+     *
+     * @return true if the sample caused a decrease
+     */
+    public synchronized boolean onSample(long latencyNanos, boolean dropped) {
+        if (dropped || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, (int) Math.floor(limit * backoffRatio));
+            return true;
+        }
+        if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+            notifyAll();
+        }
+        return false;
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized boolean isSaturated() {
+        return inFlight >= limit;
+    }
+}
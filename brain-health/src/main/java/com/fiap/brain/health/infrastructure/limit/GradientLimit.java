@@ -0,0 +1,128 @@
+package com.fiap.brain.health.infrastructure.limit;
+
+/**
+ * Latency-based concurrency limit (gradient, in the spirit of TCP Vegas).
+ * - A long-term RTT (exponential moving average) is the "no queueing" baseline
+ * - Each sample compares it with the measured RTT:
+ *   gradient = clamp(tolerance * longRtt / rtt, 0.5, 1.0)
+ *   newLimit = limit * gradient + sqrt(limit)
+ *   so the limit grows by the queue allowance while latency is at the baseline and
+ *   shrinks as soon as requests start queueing (latency above tolerance * baseline)
+ * - The limit only grows while it is being used (in-flight at least half of it)
+ * - A dropped call (overload error) counts as the minimum gradient
+ * - After a long overload the baseline drifts up with the latency; it decays while
+ *   it is more than twice the current RTT so the limit can recover
+ * Callers never wait: {@link #tryAcquire()} fails fast when the limit is reached.
+ */
+public class GradientLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double longRttAlpha;
+
+    private double limit;
+    private double longRttNanos;
+    private int inFlight;
+
+    /**
+     * @param smoothing  weight of each new limit estimate (0..1]
+     * @param tolerance  RTT increase over the baseline accepted before shrinking (>= 1)
+     * @param longWindow samples in the long-term RTT average
+     */
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double smoothing, double tolerance,
+                         int longWindow) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid gradient limit bounds: min=" + minLimit + ", max=" + maxLimit);
+        }
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("smoothing must be in (0, 1]");
+        }
+        if (tolerance < 1) {
+            throw new IllegalArgumentException("tolerance must be at least 1");
+        }
+        if (longWindow < 1) {
+            throw new IllegalArgumentException("longWindow must be positive");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longRttAlpha = 2.0 / (longWindow + 1);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes a slot if the current limit allows it.
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= getLimit()) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Frees a slot and feeds its RTT into the limit.
+     *
+     * @param dropped the call failed in a way that signals overload
+     */
+    public synchronized void release(long rttNanos, boolean dropped) {
+        int inFlightAtSample = inFlight;
+        inFlight--;
+        onSample(rttNanos, dropped, inFlightAtSample);
+    }
+
+    /**
+     * Frees a slot without a sample (e.g. a request that went async).
+     */
+    public synchronized void release() {
+        inFlight--;
+    }
+
+    private void onSample(long rttNanos, boolean dropped, int inFlightAtSample) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += longRttAlpha * (rttNanos - longRttNanos);
+        }
+        // Recover faster when the load goes away after a long overload
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double gradient;
+        if (dropped) {
+            gradient = MIN_GRADIENT;
+        } else {
+            // App-limited: nothing learned about the upper bound
+            if (inFlightAtSample < limit / 2) {
+                return;
+            }
+            gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        }
+
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        limit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized long getLongRttMillis() {
+        return (long) (longRttNanos / 1_000_000);
+    }
+}
@@ -0,0 +1,78 @@
+package com.fiap.brain.health.infrastructure.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket with a resizable capacity and refill rate, so it can follow the
+ * limits announced by an upstream API. {@link #sync(double)} lowers the local
+ * count to what the upstream reports as remaining (other instances share the quota).
+ */
+public class TokenBucket {
+
+    private final LongSupplier nanoClock;
+
+    private double capacity;
+    private double refillPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    TokenBucket(double capacity, double refillPerSecond, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    public synchronized boolean tryConsume() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    public synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    /**
+     * Nanoseconds until one token is available (0 if available now).
+     */
+    public synchronized long nanosUntilAvailable() {
+        refill();
+        if (tokens >= 1) {
+            return 0;
+        }
+        return refillPerNano <= 0 ? Long.MAX_VALUE : (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+
+    public synchronized void resize(double capacity, double refillPerSecond) {
+        refill();
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = Math.min(tokens, capacity);
+    }
+
+    public synchronized void sync(double remaining) {
+        refill();
+        tokens = Math.min(tokens, remaining);
+    }
+
+    public synchronized double getCapacity() {
+        return capacity;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+}
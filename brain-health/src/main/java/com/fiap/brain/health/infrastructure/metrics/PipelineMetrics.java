@@ -0,0 +1,119 @@
+package com.fiap.brain.health.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Timers and counters for each stage of the article pipeline, so a slow request
+ * can be attributed to fetch, parse, AI or produce.
+ * - brain.health.pipeline.duration{outcome}: whole request (Kafka use case)
+ * - brain.health.pipeline.stage{stage,outcome}: semantic, lookup, ai, map, store
+ * - brain.health.article.lookup{host,cache,outcome}: article source lookup
+ * - brain.health.fetch{host,outcome}: HTTP fetch of a page
+ * - brain.health.parse{step,outcome}: jsoup parse + extraction
+ * - brain.health.ai.call{model,outcome}: OpenAI chat call
+ * - brain.health.kafka.produce{topic,outcome}: send until broker ack
+ * - brain.health.content.length{host} and brain.health.content.truncated{host}
+ * Timers publish percentile histograms (1 ms .. 2 min buckets). Meters are looked
+ * up by id on each record, which is a map lookup next to a multi-second pipeline.
+ */
+@Component
+public class PipelineMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry registry;
+
+    public PipelineMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void pipeline(Timer.Sample sample, String outcome) {
+        sample.stop(timer("brain.health.pipeline.duration", "End-to-end article pipeline",
+                "outcome", outcome));
+    }
+
+    public void stage(Timer.Sample sample, String stage, String outcome) {
+        sample.stop(timer("brain.health.pipeline.stage", "Article pipeline stage",
+                "stage", stage, "outcome", outcome));
+    }
+
+    public void lookup(Timer.Sample sample, String host, String cache, String outcome) {
+        sample.stop(timer("brain.health.article.lookup", "Article lookup in the medical source",
+                "host", host, "cache", cache, "outcome", outcome));
+    }
+
+    public void fetch(Timer.Sample sample, String host, String outcome) {
+        sample.stop(timer("brain.health.fetch", "HTML fetch",
+                "host", host, "outcome", outcome));
+    }
+
+    public void parse(Timer.Sample sample, String step, String outcome) {
+        sample.stop(timer("brain.health.parse", "HTML parse and extraction",
+                "step", step, "outcome", outcome));
+    }
+
+    public void aiCall(Timer.Sample sample, String model, String outcome) {
+        sample.stop(timer("brain.health.ai.call", "OpenAI chat call",
+                "model", model != null ? model : UNKNOWN, "outcome", outcome));
+    }
+
+    public void produce(Timer.Sample sample, String topic, String outcome) {
+        sample.stop(timer("brain.health.kafka.produce", "Kafka send until broker ack",
+                "topic", topic != null ? topic : UNKNOWN, "outcome", outcome));
+    }
+
+    /**
+     * Records the extracted content size (before truncation) and whether it was
+     * cut to fit the AI prompt.
+     */
+    public void content(String host, int length, boolean truncated) {
+        DistributionSummary.builder("brain.health.content.length")
+                .description("Extracted article content length")
+                .baseUnit("characters")
+                .tag("host", host)
+                .register(registry)
+                .record(length);
+        if (truncated) {
+            Counter.builder("brain.health.content.truncated")
+                    .description("Articles truncated to the maximum content length")
+                    .tag("host", host)
+                    .register(registry)
+                    .increment();
+        }
+    }
+
+    public static String hostOf(String url) {
+        if (url == null || url.isBlank()) {
+            return UNKNOWN;
+        }
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : UNKNOWN;
+        } catch (IllegalArgumentException e) {
+            return UNKNOWN;
+        }
+    }
+
+    private Timer timer(String name, String description, String... tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(2))
+                .register(registry);
+    }
+}
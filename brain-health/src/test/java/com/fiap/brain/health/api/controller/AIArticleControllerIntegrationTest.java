@@ -3,13 +3,16 @@ package com.fiap.brain.health.api.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.brain.health.api.dto.request.AIArticleRequest;
 import com.fiap.brain.health.application.mapper.ArticleResponseMapper;
+import com.fiap.brain.health.application.usecase.ArticleJobUseCase;
 import com.fiap.brain.health.application.usecase.SearchAndGenerateArticleUseCase;
 import com.fiap.brain.health.domain.exception.ArticleNotFoundException;
 import com.fiap.brain.health.domain.exception.InsufficientContentException;
 import com.fiap.brain.health.domain.model.MedicalArticle;
 import com.fiap.brain.health.domain.port.AIProcessingPort;
 import com.fiap.brain.health.domain.port.MedicalArticleRepositoryPort;
+import com.fiap.brain.health.infrastructure.adapter.job.InMemoryArticleJobRepository;
 import com.fiap.brain.health.infrastructure.adapter.kafka.BrainHealthKafkaProducer;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,21 +23,29 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(AIArticleController.class)
-@Import(ArticleResponseMapper.class)
+@Import({
+    ArticleResponseMapper.class,
+    ArticleJobUseCase.class,
+    InMemoryArticleJobRepository.class,
+    SyncJobExecutorConfig.class
+})
 @DisplayName("AIArticleController - Testes de Integração")
 class AIArticleControllerIntegrationTest {
 
@@ -471,4 +482,97 @@ class AIArticleControllerIntegrationTest {
             verify(kafkaProducer, times(5)).sendResponse(anyString(), any());
         }
     }
+
+    @Nested
+    @DisplayName("7. API Assíncrona - Jobs")
+    class AsyncJobScenarios {
+
+        private static final String ASYNC_PATH = "/api/v1/ai/articles/search/async";
+
+        @Test
+        @DisplayName("Deve retornar 202 Accepted com id do job e Location")
+        void shouldReturn202WithJobId() throws Exception {
+            // Arrange
+            when(searchAndGenerateUseCase.execute(TITLE)).thenReturn(aiResult);
+            when(articleRepository.findByTopic(TITLE)).thenReturn(Optional.of(article));
+
+            // Act & Assert
+            mockMvc.perform(post(ASYNC_PATH)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(validRequest)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Location", Matchers.startsWith("/api/v1/ai/articles/jobs/")))
+                    .andExpect(jsonPath("$.jobId").exists())
+                    .andExpect(jsonPath("$.status").value("PENDING"))
+                    .andExpect(jsonPath("$.title").value(TITLE));
+        }
+
+        @Test
+        @DisplayName("Deve retornar o artigo ao consultar job concluído")
+        void shouldReturnArticleForCompletedJob() throws Exception {
+            // Arrange
+            when(searchAndGenerateUseCase.execute(TITLE)).thenReturn(aiResult);
+            when(articleRepository.findByTopic(TITLE)).thenReturn(Optional.of(article));
+            String jobId = submitJob();
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/ai/articles/jobs/" + jobId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+                    .andExpect(jsonPath("$.article.title").value("Benefícios da Caminhada"))
+                    .andExpect(jsonPath("$.completedAt").exists());
+
+            verify(kafkaProducer).sendResponse(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Deve registrar falha do pipeline no job")
+        void shouldRecordPipelineFailure() throws Exception {
+            // Arrange
+            when(searchAndGenerateUseCase.execute(TITLE)).thenThrow(ArticleNotFoundException.forTopic(TITLE));
+            String jobId = submitJob();
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/ai/articles/jobs/" + jobId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("FAILED"))
+                    .andExpect(jsonPath("$.errorCode").value("ArticleNotFoundException"))
+                    .andExpect(jsonPath("$.article").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 404 para job inexistente")
+        void shouldReturn404ForUnknownJob() throws Exception {
+            mockMvc.perform(get("/api/v1/ai/articles/jobs/unknown-job"))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Deve enviar o resultado pelo stream SSE")
+        void shouldStreamResultOverSse() throws Exception {
+            // Arrange
+            when(searchAndGenerateUseCase.execute(TITLE)).thenReturn(aiResult);
+            when(articleRepository.findByTopic(TITLE)).thenReturn(Optional.of(article));
+            String jobId = submitJob();
+
+            // Act
+            MvcResult result = mockMvc.perform(get("/api/v1/ai/articles/jobs/" + jobId + "/events")
+                    .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andReturn();
+
+            // Assert
+            String body = result.getResponse().getContentAsString();
+            assertThat(body, containsString("event:succeeded"));
+            assertThat(body, containsString("Caminhada"));
+        }
+
+        private String submitJob() throws Exception {
+            MvcResult result = mockMvc.perform(post(ASYNC_PATH)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(validRequest)))
+                    .andExpect(status().isAccepted())
+                    .andReturn();
+            return objectMapper.readTree(result.getResponse().getContentAsString()).get("jobId").asText();
+        }
+    }
 }
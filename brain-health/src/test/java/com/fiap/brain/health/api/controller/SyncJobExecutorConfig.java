@@ -0,0 +1,19 @@
+package com.fiap.brain.health.api.controller;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.SyncTaskExecutor;
+
+/**
+ * Runs article jobs on the calling thread, so controller tests see the finished job.
+ * Kept out of the test class: a static configuration nested in a test class with
+ * {@code @Nested} scenarios stops the {@code @MockBean} mocks from being reset.
+ */
+@TestConfiguration
+class SyncJobExecutorConfig {
+
+    @Bean(name = "articleJobExecutor")
+    SyncTaskExecutor articleJobExecutor() {
+        return new SyncTaskExecutor();
+    }
+}
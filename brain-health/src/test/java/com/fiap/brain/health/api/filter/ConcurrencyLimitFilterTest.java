@@ -0,0 +1,147 @@
+package com.fiap.brain.health.api.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.brain.health.infrastructure.limit.GradientLimit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimitFilter - Testes Unitários")
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private GradientLimit limit;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        limit = new GradientLimit(1, 1, 10, 0.2, 1.5, 100);
+        filter = new ConcurrencyLimitFilter(limit, List.of("/actuator/**"), 2, objectMapper, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Dentro do limite")
+    class WithinLimit {
+
+        @Test
+        @DisplayName("Deve encaminhar a requisição e liberar a vaga ao final")
+        void shouldPassThroughAndRelease() throws Exception {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/ai/articles/search");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // Act
+            filter.doFilter(request, response, chain);
+
+            // Assert
+            assertThat(chain.getRequest()).isSameAs(request);
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(limit.getInFlight()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve reduzir o limite quando a resposta é 5xx")
+        void shouldShrinkLimitOnServerError() throws Exception {
+            // Arrange
+            GradientLimit wide = new GradientLimit(8, 1, 10, 1.0, 1.5, 100);
+            ConcurrencyLimitFilter wideFilter =
+                    new ConcurrencyLimitFilter(wide, List.of(), 2, objectMapper, new SimpleMeterRegistry());
+            FilterChain unavailable = (req, res) ->
+                    ((HttpServletResponse) res).setStatus(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+
+            // Act
+            wideFilter.doFilter(new MockHttpServletRequest("POST", "/api/v1/ai/articles/search"),
+                    new MockHttpServletResponse(), unavailable);
+
+            // Assert
+            assertThat(wide.getLimit()).isLessThan(8);
+        }
+
+        @Test
+        @DisplayName("Não deve reduzir o limite por erro do cliente (4xx)")
+        void shouldKeepLimitOnClientError() throws Exception {
+            // Arrange
+            GradientLimit wide = new GradientLimit(8, 1, 10, 1.0, 1.5, 100);
+            ConcurrencyLimitFilter wideFilter =
+                    new ConcurrencyLimitFilter(wide, List.of(), 2, objectMapper, new SimpleMeterRegistry());
+            FilterChain notFound = (req, res) ->
+                    ((HttpServletResponse) res).setStatus(HttpServletResponse.SC_NOT_FOUND);
+
+            // Act
+            wideFilter.doFilter(new MockHttpServletRequest("GET", "/api/v1/ai/articles/1"),
+                    new MockHttpServletResponse(), notFound);
+
+            // Assert
+            assertThat(wide.getLimit()).isEqualTo(8);
+        }
+    }
+
+    @Nested
+    @DisplayName("Acima do limite")
+    class AboveLimit {
+
+        @Test
+        @DisplayName("Deve rejeitar com 503, Retry-After e ProblemDetail")
+        void shouldRejectWith503() throws Exception {
+            // Arrange
+            limit.tryAcquire();
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/ai/articles/search");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // Act
+            filter.doFilter(request, response, chain);
+
+            // Assert
+            assertThat(chain.getRequest()).isNull();
+            assertThat(response.getStatus()).isEqualTo(503);
+            assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+            assertThat(response.getContentType()).isEqualTo("application/problem+json");
+            assertThat(response.getContentAsString()).contains("Service Overloaded", "/api/v1/ai/articles/search");
+            assertThat(meterRegistry.get("brain.health.http.rejected").counter().count()).isEqualTo(1);
+            assertThat(limit.getInFlight()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve manter endpoints de health fora do limite")
+        void shouldServeExemptPaths() throws Exception {
+            // Arrange
+            limit.tryAcquire();
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // Act
+            filter.doFilter(request, response, chain);
+
+            // Assert
+            assertThat(chain.getRequest()).isSameAs(request);
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve expor limite e requisições em andamento como gauges")
+    void shouldExposeGauges() {
+        // Act
+        limit.tryAcquire();
+
+        // Assert
+        assertThat(meterRegistry.get("brain.health.http.concurrency.limit").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("brain.health.http.in.flight").gauge().value()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,152 @@
+package com.fiap.brain.health.application.usecase;
+
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+import com.fiap.brain.health.domain.exception.ResourceNotFoundException;
+import com.fiap.brain.health.domain.model.ArticleJob;
+import com.fiap.brain.health.infrastructure.adapter.job.InMemoryArticleJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ArticleJobUseCase - Testes Unitários")
+class ArticleJobUseCaseTest {
+
+    private static final String TITLE = "Benefícios da Caminhada";
+
+    private InMemoryArticleJobRepository jobRepository;
+    private final List<Runnable> queuedTasks = new ArrayList<>();
+    private ArticleJobUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = new InMemoryArticleJobRepository(100, 30);
+        Executor deferredExecutor = queuedTasks::add;
+        useCase = new ArticleJobUseCase(jobRepository, deferredExecutor);
+    }
+
+    @Nested
+    @DisplayName("1. Submissão e execução")
+    class SubmitAndRun {
+
+        @Test
+        @DisplayName("Deve registrar o job como PENDING sem executar o pipeline na thread da requisição")
+        void shouldRegisterPendingJobWithoutRunningPipeline() {
+            // Act
+            ArticleJob job = useCase.submit(1L, 10L, TITLE, () -> {
+                throw new AssertionError("pipeline must not run on submit");
+            });
+
+            // Assert
+            assertThat(job.status()).isEqualTo(ArticleJob.Status.PENDING);
+            assertThat(useCase.get(job.id()).status()).isEqualTo(ArticleJob.Status.PENDING);
+            assertThat(queuedTasks).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Deve concluir o job com o artigo gerado")
+        void shouldCompleteJobWithArticle() {
+            // Arrange
+            ArticleJob job = useCase.submit(1L, 10L, TITLE, this::article);
+
+            // Act
+            queuedTasks.forEach(Runnable::run);
+
+            // Assert
+            ArticleJob completed = useCase.get(job.id());
+            assertThat(completed.status()).isEqualTo(ArticleJob.Status.SUCCEEDED);
+            assertThat(completed.result().title()).isEqualTo(TITLE);
+            assertThat(completed.completedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Deve marcar o job como FAILED quando o pipeline lança exceção")
+        void shouldFailJobWhenPipelineThrows() {
+            // Arrange
+            ArticleJob job = useCase.submit(1L, 10L, TITLE, () -> {
+                throw new IllegalStateException("OpenAI unavailable");
+            });
+
+            // Act
+            queuedTasks.forEach(Runnable::run);
+
+            // Assert
+            ArticleJob failed = useCase.get(job.id());
+            assertThat(failed.status()).isEqualTo(ArticleJob.Status.FAILED);
+            assertThat(failed.errorCode()).isEqualTo("IllegalStateException");
+            assertThat(failed.errorMessage()).isEqualTo("OpenAI unavailable");
+        }
+
+        @Test
+        @DisplayName("Deve propagar a rejeição quando a fila de jobs está cheia")
+        void shouldPropagateRejectionWhenQueueIsFull() {
+            // Arrange
+            useCase = new ArticleJobUseCase(jobRepository, task -> {
+                throw new RejectedExecutionException("queue full");
+            });
+
+            // Act & Assert
+            assertThatThrownBy(() -> useCase.submit(1L, 10L, TITLE, this::article))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(jobRepository.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve lançar ResourceNotFoundException para job inexistente")
+        void shouldThrowForUnknownJob() {
+            assertThatThrownBy(() -> useCase.get("missing"))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+
+        private ArticleResponse article() {
+            return ArticleResponse.create(TITLE, "Introdução", List.of(), "Conclusão", List.of(),
+                    "https://cremesp.org.br/article/123");
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Assinaturas (SSE)")
+    class Subscriptions {
+
+        @Test
+        @DisplayName("Deve notificar o estado atual e cada mudança até a conclusão")
+        void shouldNotifyCurrentStateAndChanges() {
+            // Arrange
+            ArticleJob job = useCase.submit(1L, 10L, TITLE,
+                    () -> ArticleResponse.create(TITLE, "Introdução", List.of(), "Conclusão", List.of(), null));
+            List<ArticleJob.Status> received = new ArrayList<>();
+
+            // Act
+            useCase.subscribe(job.id(), update -> received.add(update.status()));
+            queuedTasks.forEach(Runnable::run);
+
+            // Assert
+            assertThat(received).containsExactly(
+                    ArticleJob.Status.PENDING, ArticleJob.Status.RUNNING, ArticleJob.Status.SUCCEEDED);
+        }
+
+        @Test
+        @DisplayName("Deve entregar o resultado imediatamente para job já concluído")
+        void shouldDeliverResultForFinishedJob() {
+            // Arrange
+            ArticleJob job = useCase.submit(1L, 10L, TITLE, () -> {
+                throw new IllegalStateException("boom");
+            });
+            queuedTasks.forEach(Runnable::run);
+            List<ArticleJob.Status> received = new ArrayList<>();
+
+            // Act
+            useCase.subscribe(job.id(), update -> received.add(update.status()));
+
+            // Assert
+            assertThat(received).containsExactly(ArticleJob.Status.FAILED);
+        }
+    }
+}
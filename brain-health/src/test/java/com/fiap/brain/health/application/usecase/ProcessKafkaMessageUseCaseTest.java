@@ -6,7 +6,11 @@ import com.fiap.brain.health.api.dto.response.ArticleResponse;
 import com.fiap.brain.health.application.mapper.ArticleResponseMapper;
 import com.fiap.brain.health.domain.model.MedicalArticle;
 import com.fiap.brain.health.domain.port.AIProcessingPort;
+import com.fiap.brain.health.domain.port.ArticleStorePort;
 import com.fiap.brain.health.domain.port.MedicalArticleRepositoryPort;
+import com.fiap.brain.health.domain.port.SemanticArticleIndexPort;
+import com.fiap.brain.health.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -37,6 +42,17 @@ class ProcessKafkaMessageUseCaseTest {
     @Mock
     private ArticleResponseMapper responseMapper;
 
+    @Mock
+    private ArticleStorePort articleStore;
+
+    @Mock
+    private SemanticArticleIndexPort semanticIndex;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private PipelineMetrics metrics = new PipelineMetrics(meterRegistry);
+
     @InjectMocks
     private ProcessKafkaMessageUseCase useCase;
 
@@ -474,4 +490,164 @@ class ProcessKafkaMessageUseCaseTest {
             verify(aiProcessing).processArticle(customTitle, validArticle);
         }
     }
+
+    @Nested
+    @DisplayName("8. Claim-check do Artigo")
+    class ClaimCheckTests {
+
+        private static final String CONTENT_HASH = "a".repeat(64);
+
+        @Test
+        @DisplayName("Deve enviar apenas a referência quando o artigo é armazenado")
+        void shouldSendReferenceWhenArticleIsStored() {
+            // Arrange
+            when(articleRepository.findByTopic(TITLE)).thenReturn(Optional.of(validArticle));
+            when(aiProcessing.processArticle(TITLE, validArticle)).thenReturn(aiResult);
+            when(responseMapper.toArticleResponse(aiResult, validArticle)).thenReturn(articleResponse);
+            when(articleStore.store(articleResponse))
+                    .thenReturn(Optional.of(new ArticleStorePort.StoredArticle(CONTENT_HASH, 2048)));
+
+            // Act
+            BrainHealthResponseMessage response = useCase.process(validRequest);
+
+            // Assert
+            assertEquals(BrainHealthResponseMessage.ProcessingStatus.SUCCESS, response.status());
+            assertNull(response.articleResponse(), "Artigo não deve ir inline");
+            assertNotNull(response.articleReference());
+            assertEquals(CONTENT_HASH, response.articleReference().contentHash());
+            assertEquals(articleResponse.title(), response.articleReference().title());
+            assertEquals(VALID_URL, response.articleReference().sourceLink());
+            assertEquals(2048, response.articleReference().sizeBytes());
+        }
+
+        @Test
+        @DisplayName("Deve enviar o artigo inline quando o store está desabilitado")
+        void shouldSendArticleInlineWhenStoreIsDisabled() {
+            // Arrange
+            when(articleRepository.findByTopic(TITLE)).thenReturn(Optional.of(validArticle));
+            when(aiProcessing.processArticle(TITLE, validArticle)).thenReturn(aiResult);
+            when(responseMapper.toArticleResponse(aiResult, validArticle)).thenReturn(articleResponse);
+            when(articleStore.store(articleResponse)).thenReturn(Optional.empty());
+
+            // Act
+            BrainHealthResponseMessage response = useCase.process(validRequest);
+
+            // Assert
+            assertEquals(articleResponse, response.articleResponse());
+            assertNull(response.articleReference());
+        }
+
+        @Test
+        @DisplayName("Não deve acessar o store em respostas de erro")
+        void shouldNotStoreOnFailure() {
+            // Arrange
+            when(articleRepository.findByTopic(TITLE)).thenReturn(Optional.empty());
+
+            // Act
+            BrainHealthResponseMessage response = useCase.process(validRequest);
+
+            // Assert
+            assertEquals(BrainHealthResponseMessage.ProcessingStatus.FAILED, response.status());
+            verifyNoInteractions(articleStore);
+        }
+    }
+
+    @Nested
+    @DisplayName("9. Métricas por Estágio")
+    class StageMetricsTests {
+
+        @Test
+        @DisplayName("Deve registrar timers de cada estágio e o resultado do pipeline")
+        void shouldRecordStageTimers() {
+            // Arrange
+            when(articleRepository.findByTopic(TITLE)).thenReturn(Optional.of(validArticle));
+            when(aiProcessing.processArticle(TITLE, validArticle)).thenReturn(aiResult);
+            when(responseMapper.toArticleResponse(aiResult, validArticle)).thenReturn(articleResponse);
+            when(articleStore.store(articleResponse)).thenReturn(Optional.empty());
+
+            // Act
+            useCase.process(validRequest);
+
+            // Assert
+            for (String stage : List.of("lookup", "ai", "map", "store")) {
+                assertEquals(1, meterRegistry.get("brain.health.pipeline.stage")
+                        .tag("stage", stage).tag("outcome", "success").timer().count(), stage);
+            }
+            assertEquals(1, meterRegistry.get("brain.health.pipeline.duration")
+                    .tag("outcome", "success").timer().count());
+        }
+
+        @Test
+        @DisplayName("Deve marcar o estágio de IA com erro e o pipeline como ai_error")
+        void shouldTagAiFailure() {
+            // Arrange
+            when(articleRepository.findByTopic(TITLE)).thenReturn(Optional.of(validArticle));
+            when(aiProcessing.processArticle(TITLE, validArticle))
+                    .thenThrow(new AIProcessingPort.AIProcessingException("timeout"));
+
+            // Act
+            useCase.process(validRequest);
+
+            // Assert
+            assertEquals(1, meterRegistry.get("brain.health.pipeline.stage")
+                    .tag("stage", "ai").tag("outcome", "error").timer().count());
+            assertEquals(1, meterRegistry.get("brain.health.pipeline.duration")
+                    .tag("outcome", "ai_error").timer().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("10. Reuso Semântico")
+    class SemanticReuseTests {
+
+        @Test
+        @DisplayName("Deve reutilizar o artigo de um tópico semelhante sem buscar nem chamar a IA")
+        void shouldReuseArticleOfSimilarTopic() {
+            // Arrange
+            when(semanticIndex.findSimilar(TITLE)).thenReturn(Optional.of(
+                    new SemanticArticleIndexPort.Match("caminhada diaria", 0.91, articleResponse)));
+            when(articleStore.store(articleResponse)).thenReturn(Optional.empty());
+
+            // Act
+            BrainHealthResponseMessage response = useCase.process(validRequest);
+
+            // Assert
+            assertEquals(BrainHealthResponseMessage.ProcessingStatus.SUCCESS, response.status());
+            assertEquals(articleResponse, response.articleResponse());
+            assertEquals(GOAL_ID, response.goalId());
+            verifyNoInteractions(articleRepository, aiProcessing, responseMapper);
+            verify(semanticIndex, never()).index(any(), any());
+            assertEquals(1, meterRegistry.get("brain.health.pipeline.duration")
+                    .tag("outcome", "reused").timer().count());
+        }
+
+        @Test
+        @DisplayName("Deve indexar o artigo gerado quando não há tópico semelhante")
+        void shouldIndexGeneratedArticle() {
+            // Arrange
+            when(semanticIndex.findSimilar(TITLE)).thenReturn(Optional.empty());
+            when(articleRepository.findByTopic(TITLE)).thenReturn(Optional.of(validArticle));
+            when(aiProcessing.processArticle(TITLE, validArticle)).thenReturn(aiResult);
+            when(responseMapper.toArticleResponse(aiResult, validArticle)).thenReturn(articleResponse);
+
+            // Act
+            useCase.process(validRequest);
+
+            // Assert
+            verify(semanticIndex).index(TITLE, articleResponse);
+        }
+
+        @Test
+        @DisplayName("Não deve indexar quando a geração falha")
+        void shouldNotIndexOnFailure() {
+            // Arrange
+            when(articleRepository.findByTopic(TITLE)).thenReturn(Optional.empty());
+
+            // Act
+            useCase.process(validRequest);
+
+            // Assert
+            verify(semanticIndex, never()).index(any(), any());
+        }
+    }
 }
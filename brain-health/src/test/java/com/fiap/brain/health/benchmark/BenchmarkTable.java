@@ -0,0 +1,78 @@
+package com.fiap.brain.health.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result table the benchmarks in this package print once every case is measured:
+ * first column left-aligned, the others right-aligned, each as wide as its widest cell.
+ * <p>
+ * The {@code *Benchmark} classes are left out of the default build; they run with the
+ * {@code benchmark} profile ({@code mvn test -Pbenchmark}, or one of them with
+ * {@code -Dtest=<class>}).
+ */
+final class BenchmarkTable {
+
+    private final List<String[]> rows = new ArrayList<>();
+
+    BenchmarkTable(String... columns) {
+        rows.add(columns);
+    }
+
+    /** Adds one row. Integers get a thousands separator, decimals fewer digits the larger they are. */
+    void row(Object... cells) {
+        if (cells.length != rows.get(0).length) {
+            throw new IllegalArgumentException("Expected " + rows.get(0).length + " cells, got " + cells.length);
+        }
+        String[] row = new String[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            row[i] = format(cells[i]);
+        }
+        rows.add(row);
+    }
+
+    void print() {
+        int[] widths = new int[rows.get(0).length];
+        for (String[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                widths[i] = Math.max(widths[i], row[i].length());
+            }
+        }
+        for (int r = 0; r < rows.size(); r++) {
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < widths.length; i++) {
+                line.append(i == 0 ? "" : " | ")
+                        .append(String.format("%" + (i == 0 ? "-" : "") + widths[i] + "s", rows.get(r)[i]));
+            }
+            System.out.println(line);
+            if (r == 0) {
+                System.out.println(line.toString().replaceAll("[^|]", "-"));
+            }
+        }
+        System.out.println();
+    }
+
+    /** Mean nanoseconds per call of {@code operation}, after {@code warmup} untimed calls. */
+    static double nanosPerOp(int warmup, int iterations, Runnable operation) {
+        for (int i = 0; i < warmup; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        return (double) (System.nanoTime() - start) / iterations;
+    }
+
+    private static String format(Object cell) {
+        if (cell instanceof Double || cell instanceof Float) {
+            double value = ((Number) cell).doubleValue();
+            int decimals = Math.abs(value) >= 100 ? 0 : Math.abs(value) >= 1 ? 2 : 3;
+            return String.format("%,." + decimals + "f", value);
+        }
+        if (cell instanceof Number number) {
+            return String.format("%,d", number.longValue());
+        }
+        return String.valueOf(cell);
+    }
+}
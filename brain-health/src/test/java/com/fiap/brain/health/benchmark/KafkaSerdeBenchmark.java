@@ -0,0 +1,113 @@
+package com.fiap.brain.health.benchmark;
+
+import com.fiap.brain.health.api.dto.kafka.BrainHealthRequestMessage;
+import com.fiap.brain.health.api.dto.kafka.BrainHealthResponseMessage;
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+import com.fiap.brain.health.api.dto.response.Quiz;
+import com.fiap.brain.health.api.dto.response.Recommendation;
+import com.fiap.brain.health.infrastructure.adapter.kafka.serialization.BrainHealthAvroCodec;
+import com.fiap.brain.health.infrastructure.adapter.kafka.serialization.ContentTypeDeserializer;
+import com.fiap.brain.health.infrastructure.adapter.kafka.serialization.ContentTypeSerializer;
+import com.fiap.brain.health.infrastructure.adapter.kafka.serialization.KafkaWireFormat;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.xerial.snappy.Snappy;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark: payload size and serde CPU of the JSON and Avro wire formats for the
+ * brain-health Kafka messages. Sizes are reported raw and snappy-compressed (the
+ * producer's compression.type); CPU is the mean time of serialize + deserialize
+ * through the same serializers the producer/consumer factories use.
+ */
+@DisplayName("Benchmark - Tamanho e CPU dos formatos JSON e Avro")
+class KafkaSerdeBenchmark {
+
+    private static final String TOPIC = "goal.progress.updated.bench";
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private long sink;
+
+    @Test
+    void compareFormats() throws IOException {
+        BenchmarkTable table = new BenchmarkTable("message", "format", "bytes", "snappy bytes",
+                "serialize+deserialize ns/op");
+
+        BrainHealthRequestMessage request = sampleRequest();
+        for (KafkaWireFormat format : KafkaWireFormat.values()) {
+            run(table, "request", format, request,
+                    new ContentTypeSerializer<>(format, BrainHealthAvroCodec.REQUESTS),
+                    new ContentTypeDeserializer<>(BrainHealthRequestMessage.class, BrainHealthAvroCodec.REQUESTS));
+        }
+
+        BrainHealthResponseMessage response = sampleResponse();
+        for (KafkaWireFormat format : KafkaWireFormat.values()) {
+            run(table, "response", format, response,
+                    new ContentTypeSerializer<>(format, BrainHealthAvroCodec.RESPONSES),
+                    new ContentTypeDeserializer<>(BrainHealthResponseMessage.class, BrainHealthAvroCodec.RESPONSES));
+        }
+        table.print();
+    }
+
+    private <T> void run(BenchmarkTable table, String name, KafkaWireFormat format, T message,
+                         ContentTypeSerializer<T> serializer, ContentTypeDeserializer<T> deserializer)
+            throws IOException {
+        RecordHeaders headers = new RecordHeaders();
+        byte[] payload = serializer.serialize(TOPIC, headers, message);
+        Function<T, T> roundTrip = value -> deserializer.deserialize(TOPIC, headers, serializer.serialize(TOPIC, headers, value));
+
+        double nanosPerOp = BenchmarkTable.nanosPerOp(WARMUP_ITERATIONS, ITERATIONS,
+                () -> sink += roundTrip.apply(message).hashCode());
+
+        table.row(name, format.name().toLowerCase(), payload.length, Snappy.compress(payload).length, nanosPerOp);
+    }
+
+    private BrainHealthRequestMessage sampleRequest() {
+        return new BrainHealthRequestMessage(
+                1L, 1L, "Atividade Física", "Caminhar 30 minutos por dia",
+                "Quero criar o hábito de caminhar todos os dias pela manhã",
+                UUID.randomUUID().toString(), UUID.randomUUID().toString(), LocalDateTime.now());
+    }
+
+    private BrainHealthResponseMessage sampleResponse() {
+        // Shape of a typical generated article: 5 recommendations with tips and 5 quizzes
+        List<Recommendation> recommendations = IntStream.range(0, 5)
+                .mapToObj(i -> new Recommendation("Categoria " + i,
+                        "Descrição detalhada da recomendação número " + i + " sobre caminhada e saúde cardiovascular.",
+                        List.of("Comece devagar e aumente o ritmo", "Use calçados adequados", "Hidrate-se bem")))
+                .toList();
+        List<Quiz> quizzes = IntStream.range(0, 5)
+                .mapToObj(i -> new Quiz("Qual é o benefício número " + i + " da caminhada regular?",
+                        List.of("Melhora o humor", "Reduz a pressão arterial", "Fortalece os músculos", "Todas as anteriores"),
+                        "Todas as anteriores"))
+                .toList();
+
+        ArticleResponse article = new ArticleResponse(
+                "Benefícios da Caminhada",
+                "A caminhada regular melhora a saúde cardiovascular, o humor e a qualidade do sono. ".repeat(4),
+                recommendations,
+                "Caminhar é uma forma simples e acessível de cuidar da saúde física e mental.",
+                quizzes,
+                "https://cremesp.org.br/noticia/caminhada",
+                LocalDateTime.now()
+        );
+
+        return BrainHealthResponseMessage.builder()
+                .messageId(UUID.randomUUID().toString())
+                .userId(1L)
+                .goalId(1L)
+                .correlationId(UUID.randomUUID().toString())
+                .articleResponse(article)
+                .status(BrainHealthResponseMessage.ProcessingStatus.SUCCESS)
+                .processedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.fiap.brain.health.benchmark;
+
+import com.fiap.brain.health.api.dto.kafka.BrainHealthResponseMessage;
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+import com.fiap.brain.health.api.dto.response.Quiz;
+import com.fiap.brain.health.api.dto.response.Recommendation;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark: throughput of the brain-health response path with and without Kafka transactions.
+ * Simulates the listener's produce + offset commit step (AI processing excluded) against an
+ * embedded broker:
+ * - at-least-once: send and wait for the broker ack per record (non-transactional mode)
+ * - exactly-once, one transaction per record
+ * - exactly-once, one transaction per batch (kafka.transactions.max-batch-size)
+ */
+@EmbeddedKafka(
+        partitions = 3,
+        topics = KafkaTransactionThroughputBenchmark.TOPIC,
+        brokerProperties = {
+                "transaction.state.log.replication.factor=1",
+                "transaction.state.log.min.isr=1"
+        }
+)
+@DisplayName("Benchmark - Throughput com e sem transações Kafka")
+class KafkaTransactionThroughputBenchmark {
+
+    static final String TOPIC = "goal.progress.updated.bench";
+
+    private static final int MESSAGES = 2_000;
+    private static final int WARMUP_MESSAGES = 200;
+    private static final ConsumerGroupMetadata GROUP = new ConsumerGroupMetadata("brain-health-bench");
+
+    @Test
+    void compareThroughput(EmbeddedKafkaBroker broker) {
+        BrainHealthResponseMessage message = sampleResponse();
+
+        KafkaTemplate<String, BrainHealthResponseMessage> plain = template(broker, null);
+        KafkaTemplate<String, BrainHealthResponseMessage> transactional = template(broker, "bench-tx-");
+
+        runAtLeastOnce(plain, message, WARMUP_MESSAGES);
+        runTransactional(transactional, message, WARMUP_MESSAGES, 10);
+
+        BenchmarkTable table = new BenchmarkTable("mode", "msgs/s");
+        table.row("at-least-once (await ack)", perSecond(runAtLeastOnce(plain, message, MESSAGES)));
+        for (int batchSize : List.of(1, 10, 50)) {
+            table.row("transactional, batch=" + batchSize,
+                    perSecond(runTransactional(transactional, message, MESSAGES, batchSize)));
+        }
+        table.print();
+    }
+
+    private long runAtLeastOnce(KafkaTemplate<String, BrainHealthResponseMessage> template,
+                                BrainHealthResponseMessage message, int count) {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            try {
+                template.send(TOPIC, String.valueOf(i), message).get(30, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long runTransactional(KafkaTemplate<String, BrainHealthResponseMessage> template,
+                                  BrainHealthResponseMessage message, int count, int batchSize) {
+        long start = System.nanoTime();
+        for (int sent = 0; sent < count; sent += batchSize) {
+            int offset = sent;
+            int size = Math.min(batchSize, count - sent);
+            template.executeInTransaction(operations -> {
+                for (int i = 0; i < size; i++) {
+                    operations.send(TOPIC, String.valueOf(offset + i), message);
+                }
+                // Same commit step the listener container performs for the consumed batch
+                operations.sendOffsetsToTransaction(
+                        Map.of(new TopicPartition(TOPIC, 0), new OffsetAndMetadata(offset + size)), GROUP);
+                return null;
+            });
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static double perSecond(long elapsedNanos) {
+        return MESSAGES / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private KafkaTemplate<String, BrainHealthResponseMessage> template(EmbeddedKafkaBroker broker,
+                                                                        String transactionIdPrefix) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, 10);
+        props.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+
+        DefaultKafkaProducerFactory<String, BrainHealthResponseMessage> factory =
+                new DefaultKafkaProducerFactory<>(props);
+        if (transactionIdPrefix != null) {
+            factory.setTransactionIdPrefix(transactionIdPrefix);
+        }
+        return new KafkaTemplate<>(factory);
+    }
+
+    private BrainHealthResponseMessage sampleResponse() {
+        ArticleResponse article = new ArticleResponse(
+                "Benefícios da Caminhada",
+                "A caminhada regular melhora a saúde cardiovascular e o humor.",
+                List.of(new Recommendation("Frequência", "30 minutos por dia",
+                        List.of("Comece devagar", "Use calçados adequados"))),
+                "Caminhar é uma forma simples de cuidar da saúde.",
+                List.of(new Quiz("Quantos minutos por dia?", List.of("10", "30", "60"), "30")),
+                "https://cremesp.org.br/noticia/caminhada",
+                LocalDateTime.now()
+        );
+
+        return BrainHealthResponseMessage.builder()
+                .messageId(UUID.randomUUID().toString())
+                .userId(1L)
+                .goalId(1L)
+                .correlationId(UUID.randomUUID().toString())
+                .articleResponse(article)
+                .status(BrainHealthResponseMessage.ProcessingStatus.SUCCESS)
+                .processedAt(LocalDateTime.now())
+                .build();
+    }
+}
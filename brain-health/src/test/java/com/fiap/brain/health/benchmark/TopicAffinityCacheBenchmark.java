@@ -0,0 +1,120 @@
+package com.fiap.brain.health.benchmark;
+
+import com.fiap.brain.health.domain.model.TopicKey;
+import com.fiap.brain.health.infrastructure.cache.LocalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.utils.Utils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Benchmark: local cache hit rate across brain-health replicas for each goal.created
+ * partition key. Requests follow a Zipf distribution over topics, with three spellings
+ * per topic (accents, case, punctuation) and random users. Partitions are chosen like
+ * the Kafka default partitioner (murmur2 of the key; records without a key spread over
+ * all partitions) and assigned round-robin to the replicas, each with its own
+ * LocalCache keyed by the normalized topic.
+ */
+@DisplayName("Benchmark - Hit rate dos caches locais por chave de partição")
+class TopicAffinityCacheBenchmark {
+
+    private static final int REPLICAS = 4;
+    private static final int PARTITIONS = 8;
+    private static final int CACHE_ENTRIES_PER_REPLICA = 64;
+    private static final int TOPICS = 500;
+    private static final int USERS = 10_000;
+    private static final int REQUESTS = 200_000;
+    private static final double ZIPF_EXPONENT = 1.0;
+
+    private record Request(String title, long userId) {
+    }
+
+    @Test
+    void compareKeys() {
+        List<Request> requests = workload(new Random(42));
+        Random noKeyRandom = new Random(7);
+
+        System.out.printf("%d replicas, %d partitions, %d cache entries/replica, %d topics (Zipf %.1f), %,d requests%n",
+                REPLICAS, PARTITIONS, CACHE_ENTRIES_PER_REPLICA, TOPICS, ZIPF_EXPONENT, REQUESTS);
+        BenchmarkTable table = new BenchmarkTable("key", "hit rate %", "topics/replica", "busiest replica load");
+
+        run(table, "none", requests, request -> null, noKeyRandom);
+        run(table, "userId", requests, request -> String.valueOf(request.userId()), noKeyRandom);
+        run(table, "raw title", requests, Request::title, noKeyRandom);
+        run(table, "normalized topic", requests, request -> TopicKey.normalize(request.title()), noKeyRandom);
+        table.print();
+    }
+
+    private void run(BenchmarkTable table, String name, List<Request> requests, Function<Request, String> keyOf, Random noKeyRandom) {
+        List<LocalCache<String>> caches = new ArrayList<>();
+        List<Set<String>> topicsSeen = new ArrayList<>();
+        for (int i = 0; i < REPLICAS; i++) {
+            caches.add(new LocalCache<>("bench-" + i, CACHE_ENTRIES_PER_REPLICA, Duration.ofHours(1),
+                    new SimpleMeterRegistry()));
+            topicsSeen.add(new HashSet<>());
+        }
+        long[] load = new long[REPLICAS];
+
+        long hits = 0;
+        for (Request request : requests) {
+            int replica = partition(keyOf.apply(request), noKeyRandom) % REPLICAS;
+            String topic = TopicKey.normalize(request.title());
+            LocalCache<String> cache = caches.get(replica);
+            if (cache.get(topic).isPresent()) {
+                hits++;
+            } else {
+                cache.put(topic, topic);
+            }
+            load[replica]++;
+            topicsSeen.get(replica).add(topic);
+        }
+
+        double meanLoad = (double) REQUESTS / REPLICAS;
+        double topicsPerReplica = topicsSeen.stream().mapToInt(Set::size).average().orElse(0);
+        table.row(name, 100.0 * hits / REQUESTS, topicsPerReplica,
+                String.format("%.2fx mean", Arrays.stream(load).max().orElse(0) / meanLoad));
+    }
+
+    /** Kafka default partitioner: murmur2 of the key, or any partition when there is no key. */
+    private static int partition(String key, Random noKeyRandom) {
+        if (key == null) {
+            return noKeyRandom.nextInt(PARTITIONS);
+        }
+        return Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % PARTITIONS;
+    }
+
+    private static List<Request> workload(Random random) {
+        double[] cumulative = new double[TOPICS];
+        double total = 0;
+        for (int rank = 0; rank < TOPICS; rank++) {
+            total += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulative[rank] = total;
+        }
+
+        List<Request> requests = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            int topic = index >= 0 ? index : -index - 1;
+            requests.add(new Request(spelling(topic, random.nextInt(3)), random.nextInt(USERS)));
+        }
+        return requests;
+    }
+
+    private static String spelling(int topic, int variant) {
+        return switch (variant) {
+            case 0 -> "Benefícios da atividade " + topic;
+            case 1 -> "beneficios da atividade " + topic;
+            default -> "Benefícios da Atividade  " + topic + "!";
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.fiap.brain.health.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TopicKey - Testes Unitários")
+class TopicKeyTest {
+
+    @Test
+    @DisplayName("Deve ignorar caixa, acentos, pontuação e espaços repetidos")
+    void shouldNormalizeVariants() {
+        assertThat(TopicKey.normalize("Benefícios da Caminhada!")).isEqualTo("beneficios da caminhada");
+        assertThat(TopicKey.normalize("  beneficios   DA caminhada ")).isEqualTo("beneficios da caminhada");
+        assertThat(TopicKey.normalize("Alimentação: saúde & nutrição")).isEqualTo("alimentacao saude nutricao");
+    }
+
+    @Test
+    @DisplayName("Deve preservar números")
+    void shouldKeepDigits() {
+        assertThat(TopicKey.normalize("Caminhar 30 minutos")).isEqualTo("caminhar 30 minutos");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   ", "?!"})
+    @DisplayName("Deve retornar vazio quando não há tópico")
+    void shouldReturnEmptyForBlank(String topic) {
+        assertThat(TopicKey.normalize(topic)).isEmpty();
+    }
+}
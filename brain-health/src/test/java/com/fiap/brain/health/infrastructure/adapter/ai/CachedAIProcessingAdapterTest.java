@@ -0,0 +1,77 @@
+package com.fiap.brain.health.infrastructure.adapter.ai;
+
+import com.fiap.brain.health.domain.model.MedicalArticle;
+import com.fiap.brain.health.domain.port.AIProcessingPort;
+import com.fiap.brain.health.domain.port.AIProcessingPort.AIProcessingException;
+import com.fiap.brain.health.domain.port.AIProcessingPort.AIProcessingResult;
+import com.fiap.brain.health.infrastructure.cache.LocalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachedAIProcessingAdapter - Testes Unitários")
+class CachedAIProcessingAdapterTest {
+
+    @Mock
+    private AIProcessingPort delegate;
+
+    private CachedAIProcessingAdapter adapter;
+    private MedicalArticle article;
+    private AIProcessingResult result;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachedAIProcessingAdapter(delegate,
+                new LocalCache<>("ai", 16, Duration.ofMinutes(5), new SimpleMeterRegistry()));
+        article = new MedicalArticle("Conteúdo sobre caminhada ".repeat(10),
+                "https://cremesp.org.br/artigos/caminhada");
+        result = new AIProcessingResult("Caminhada", "Introdução", List.of(), "Conclusão", List.of(),
+                LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar o conteúdo gerado para o mesmo tópico e artigo")
+    void shouldReuseResultForSameTopicAndArticle() {
+        // Arrange
+        when(delegate.processArticle(anyString(), any(MedicalArticle.class))).thenReturn(result);
+
+        // Act
+        AIProcessingResult first = adapter.processArticle("Caminhada diária", article);
+        AIProcessingResult second = adapter.processArticle("caminhada DIÁRIA", article);
+
+        // Assert
+        assertThat(first).isSameAs(result);
+        assertThat(second).isSameAs(result);
+        verify(delegate, times(1)).processArticle(anyString(), any(MedicalArticle.class));
+    }
+
+    @Test
+    @DisplayName("Não deve guardar falhas da IA")
+    void shouldNotCacheFailures() {
+        // Arrange
+        when(delegate.processArticle(anyString(), any(MedicalArticle.class)))
+                .thenThrow(new AIProcessingException("timeout"))
+                .thenReturn(result);
+
+        // Act & Assert
+        assertThatThrownBy(() -> adapter.processArticle("Caminhada", article)).isInstanceOf(AIProcessingException.class);
+        assertThat(adapter.processArticle("Caminhada", article)).isSameAs(result);
+    }
+}
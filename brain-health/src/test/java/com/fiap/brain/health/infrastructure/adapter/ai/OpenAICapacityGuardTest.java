@@ -0,0 +1,165 @@
+package com.fiap.brain.health.infrastructure.adapter.ai;
+
+import com.fiap.brain.health.domain.port.AIProcessingPort.AIProcessingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.RateLimit;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OpenAICapacityGuard - Testes Unitários")
+class OpenAICapacityGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OpenAICapacityGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new OpenAICapacityGuard(meterRegistry,
+                new OpenAICapacityGuard.Settings(2, 1, 4, 0.5, 20_000, 200, 500, 10_000, 4_000));
+    }
+
+    @Nested
+    @DisplayName("1. Chamadas bem-sucedidas")
+    class SuccessfulCalls {
+
+        @Test
+        @DisplayName("Deve aumentar o limite de concorrência enquanto as chamadas são rápidas")
+        void shouldIncreaseLimitWhileCallsAreFast() {
+            // Arrange
+            ChatResponse response = response(null);
+
+            // Act
+            for (int i = 0; i < 3; i++) {
+                guard.call(() -> response);
+            }
+
+            // Assert
+            assertThat(guard.getConcurrencyLimit()).isGreaterThan(2);
+            assertThat(guard.hasCapacity()).isTrue();
+            assertThat(guard.isThrottled()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve bloquear quando a cota de tokens informada pela OpenAI está quase esgotada")
+        void shouldBlockWhenTokenQuotaIsNearlyExhausted() {
+            // Arrange
+            RateLimit rateLimit = mock(RateLimit.class);
+            when(rateLimit.getRequestsLimit()).thenReturn(60L);
+            when(rateLimit.getRequestsRemaining()).thenReturn(59L);
+            when(rateLimit.getTokensLimit()).thenReturn(100_000L);
+            when(rateLimit.getTokensRemaining()).thenReturn(1_000L);
+            when(rateLimit.getTokensReset()).thenReturn(Duration.ofSeconds(20));
+
+            // Act
+            guard.call(() -> response(rateLimit));
+
+            // Assert
+            assertThat(guard.isThrottled()).isTrue();
+            assertThat(guard.retryDelay()).isBetween(Duration.ofSeconds(15), Duration.ofSeconds(20));
+            assertThat(meterRegistry.get("brain.health.ai.throttle.events").tag("reason", "quota").counter().count())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Limite de requisições")
+    class RateLimiting {
+
+        @Test
+        @DisplayName("Deve entrar em cooldown e reduzir a concorrência após HTTP 429")
+        void shouldCoolDownAfterRateLimitError() {
+            // Act
+            assertThatThrownBy(() -> guard.call(() -> {
+                throw new NonTransientAiException("429 - {\"error\":{\"message\":\"Rate limit reached for requests\"}}");
+            })).isInstanceOf(NonTransientAiException.class);
+
+            // Assert
+            assertThat(guard.getConcurrencyLimit()).isEqualTo(1);
+            assertThat(guard.isThrottled()).isTrue();
+            assertThat(guard.hasCapacity()).isFalse();
+            assertThat(meterRegistry.get("brain.health.ai.throttled").gauge().value()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve recusar novas chamadas durante o cooldown quando o tempo de espera excede o timeout")
+        void shouldRejectCallsDuringCooldown() {
+            // Arrange
+            assertThatThrownBy(() -> guard.call(() -> {
+                throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+            }));
+
+            // Act & Assert
+            assertThatThrownBy(() -> guard.call(() -> response(null)))
+                    .isInstanceOf(AIProcessingException.class)
+                    .hasMessageContaining("rate limit exhausted");
+        }
+
+        @Test
+        @DisplayName("Deve reconhecer HTTP 429 do WebClient dentro da cadeia de causas")
+        void shouldDetectWrappedWebClientRateLimit() {
+            // Act
+            assertThatThrownBy(() -> guard.call(() -> {
+                throw new IllegalStateException("stream failed",
+                        WebClientResponseException.create(429, "Too Many Requests", null, null, null));
+            }));
+
+            // Assert
+            assertThat(guard.isThrottled()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Não deve entrar em cooldown por erros que só mencionam 429 ou rate limit no texto")
+        void shouldIgnoreOtherErrorsMentioningRateLimit() {
+            // Act
+            assertThatThrownBy(() -> guard.call(() -> {
+                throw new NonTransientAiException("400 - Invalid 'max_tokens': rate limit tier 429 does not apply");
+            }));
+            assertThatThrownBy(() -> guard.call(() -> {
+                throw new RuntimeException("Article 429 not found: rate limit unknown");
+            }));
+
+            // Assert
+            assertThat(guard.isThrottled()).isFalse();
+            assertThat(meterRegistry.get("brain.health.ai.throttle.events").tag("reason", "rate_limited")
+                    .counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve acompanhar as requisições restantes informadas nos headers")
+        void shouldSyncRemainingRequestsFromHeaders() {
+            // Arrange
+            RateLimit rateLimit = mock(RateLimit.class);
+            when(rateLimit.getRequestsLimit()).thenReturn(60L);
+            when(rateLimit.getRequestsRemaining()).thenReturn(0L);
+
+            // Act
+            guard.call(() -> response(rateLimit));
+
+            // Assert
+            assertThat(guard.isThrottled()).isTrue();
+            assertThat(guard.retryDelay()).isLessThanOrEqualTo(Duration.ofSeconds(1));
+        }
+    }
+
+    private static ChatResponse response(RateLimit rateLimit) {
+        ChatResponseMetadata metadata = mock(ChatResponseMetadata.class);
+        when(metadata.getRateLimit()).thenReturn(rateLimit);
+        ChatResponse response = mock(ChatResponse.class);
+        when(response.getMetadata()).thenReturn(metadata);
+        return response;
+    }
+}
@@ -2,6 +2,8 @@ package com.fiap.brain.health.infrastructure.adapter.ai;
 
 import com.fiap.brain.health.domain.model.MedicalArticle;
 import com.fiap.brain.health.domain.port.AIProcessingPort;
+import com.fiap.brain.health.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -36,7 +38,9 @@ class OpenAIProcessingAdapterTest {
 
     @BeforeEach
     void setUp() {
-        adapter = new OpenAIProcessingAdapter(chatModel);
+        OpenAICapacityGuard capacityGuard = new OpenAICapacityGuard(new SimpleMeterRegistry(),
+                new OpenAICapacityGuard.Settings(2, 1, 4, 0.5, 20_000, 1_000, 500, 10_000, 4_000));
+        adapter = new OpenAIProcessingAdapter(chatModel, capacityGuard, new PipelineMetrics(new SimpleMeterRegistry()));
     }
 
     @Nested
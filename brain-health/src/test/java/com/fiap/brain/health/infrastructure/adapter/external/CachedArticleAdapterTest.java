@@ -0,0 +1,73 @@
+package com.fiap.brain.health.infrastructure.adapter.external;
+
+import com.fiap.brain.health.domain.model.MedicalArticle;
+import com.fiap.brain.health.domain.port.MedicalArticleRepositoryPort;
+import com.fiap.brain.health.infrastructure.cache.LocalCache;
+import com.fiap.brain.health.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachedArticleAdapter - Testes Unitários")
+class CachedArticleAdapterTest {
+
+    @Mock
+    private MedicalArticleRepositoryPort delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CachedArticleAdapter adapter;
+    private MedicalArticle article;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachedArticleAdapter(delegate,
+                new LocalCache<>("article", 16, Duration.ofMinutes(5), meterRegistry),
+                new PipelineMetrics(meterRegistry));
+        article = new MedicalArticle("Conteúdo sobre caminhada ".repeat(10),
+                "https://cremesp.org.br/artigos/caminhada");
+    }
+
+    @Test
+    @DisplayName("Deve consultar a fonte uma vez para variantes do mesmo tópico")
+    void shouldServeTopicVariantsFromCache() {
+        // Arrange
+        when(delegate.findByTopic("Benefícios da Caminhada")).thenReturn(Optional.of(article));
+
+        // Act
+        Optional<MedicalArticle> first = adapter.findByTopic("Benefícios da Caminhada");
+        Optional<MedicalArticle> second = adapter.findByTopic("beneficios da caminhada!");
+
+        // Assert
+        assertThat(first).contains(article);
+        assertThat(second).contains(article);
+        verify(delegate, times(1)).findByTopic("Benefícios da Caminhada");
+        assertThat(meterRegistry.get("brain.health.article.lookup").tag("cache", "hit").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar artigo não encontrado")
+    void shouldNotCacheMisses() {
+        // Arrange
+        when(delegate.findByTopic("sono")).thenReturn(Optional.empty());
+
+        // Act
+        adapter.findByTopic("sono");
+        adapter.findByTopic("sono");
+
+        // Assert
+        verify(delegate, times(2)).findByTopic("sono");
+    }
+}
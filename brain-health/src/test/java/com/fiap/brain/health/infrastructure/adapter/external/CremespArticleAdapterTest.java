@@ -3,6 +3,8 @@ package com.fiap.brain.health.infrastructure.adapter.external;
 import com.fiap.brain.health.domain.exception.ArticleSearchException;
 import com.fiap.brain.health.domain.model.MedicalArticle;
 import com.fiap.brain.health.infrastructure.adapter.html.HtmlFetchService;
+import com.fiap.brain.health.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -32,7 +34,7 @@ class CremespArticleAdapterTest {
 
     @BeforeEach
     void setUp() {
-        adapter = new CremespArticleAdapter(htmlFetchService);
+        adapter = new CremespArticleAdapter(htmlFetchService, new PipelineMetrics(new SimpleMeterRegistry()));
         ReflectionTestUtils.setField(adapter, "baseUrl", BASE_URL);
         ReflectionTestUtils.setField(adapter, "maxContentLength", MAX_CONTENT_LENGTH);
     }
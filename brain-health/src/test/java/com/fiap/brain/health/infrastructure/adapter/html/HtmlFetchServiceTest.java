@@ -1,5 +1,7 @@
 package com.fiap.brain.health.infrastructure.adapter.html;
 
+import com.fiap.brain.health.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -46,7 +48,7 @@ class HtmlFetchServiceTest {
 
     @BeforeEach
     void setUp() {
-        htmlFetchService = new HtmlFetchService(webClient);
+        htmlFetchService = new HtmlFetchService(webClient, new PipelineMetrics(new SimpleMeterRegistry()));
 
         // Setup mock chain
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
@@ -0,0 +1,51 @@
+package com.fiap.brain.health.infrastructure.adapter.job;
+
+import com.fiap.brain.health.domain.model.ArticleJob;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryArticleJobRepository - Testes Unitários")
+class InMemoryArticleJobRepositoryTest {
+
+    @Test
+    @DisplayName("Deve descartar o job mais antigo quando a retenção atinge o limite")
+    void shouldEvictOldestJobWhenFull() {
+        // Arrange
+        InMemoryArticleJobRepository repository = new InMemoryArticleJobRepository(2, 30);
+        ArticleJob first = ArticleJob.submitted(1L, 1L, "Primeiro");
+        ArticleJob second = ArticleJob.submitted(1L, 2L, "Segundo");
+        ArticleJob third = ArticleJob.submitted(1L, 3L, "Terceiro");
+
+        // Act
+        repository.save(first);
+        repository.save(second);
+        repository.save(third);
+
+        // Assert
+        assertThat(repository.size()).isEqualTo(2);
+        assertThat(repository.findById(first.id())).isEmpty();
+        assertThat(repository.findById(third.id())).contains(third);
+    }
+
+    @Test
+    @DisplayName("Deve expirar jobs concluídos após o TTL e manter jobs em andamento")
+    void shouldExpireFinishedJobsAfterTtl() {
+        // Arrange
+        InMemoryArticleJobRepository repository = new InMemoryArticleJobRepository(10, 30);
+        ArticleJob running = ArticleJob.submitted(1L, 1L, "Em andamento").running();
+        ArticleJob expired = new ArticleJob("old", 1L, 2L, "Antigo", ArticleJob.Status.FAILED,
+                null, "Error", "boom", LocalDateTime.now().minusHours(2), LocalDateTime.now().minusHours(1));
+
+        // Act
+        repository.save(running);
+        repository.save(expired);
+
+        // Assert
+        assertThat(repository.findById("old")).isEmpty();
+        assertThat(repository.findById(running.id())).contains(running);
+    }
+}
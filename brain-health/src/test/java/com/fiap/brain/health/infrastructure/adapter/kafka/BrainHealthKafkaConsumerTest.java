@@ -3,20 +3,49 @@ package com.fiap.brain.health.infrastructure.adapter.kafka;
 import com.fiap.brain.health.api.dto.kafka.BrainHealthRequestMessage;
 import com.fiap.brain.health.api.dto.kafka.BrainHealthResponseMessage;
 import com.fiap.brain.health.application.usecase.ProcessKafkaMessageUseCase;
+import com.fiap.brain.health.infrastructure.adapter.ai.OpenAICapacityGuard;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.LaneScheduler;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.PriorityLane;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.StalenessPolicy;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.StalenessPolicy.Action;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.StalenessPolicy.LaneDeadline;
+import com.fiap.brain.health.infrastructure.exception.KafkaMessagingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class BrainHealthKafkaConsumerTest {
 
+    private static final String TOPIC = "brain-health-request-test";
+    private static final String BACKFILL_TOPIC = "goal.created.backfill";
+
     @Mock
     private ProcessKafkaMessageUseCase processKafkaMessageUseCase;
 
@@ -26,20 +55,36 @@ class BrainHealthKafkaConsumerTest {
     @Mock
     private Acknowledgment acknowledgment;
 
+    @Mock
+    private OpenAICapacityGuard capacityGuard;
+
+    @Mock
+    private KafkaTemplate<String, BrainHealthRequestMessage> requestKafkaTemplate;
+
     private BrainHealthKafkaConsumer consumer;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CompletableFuture<SendResult<String, BrainHealthResponseMessage>> sentFuture =
+            CompletableFuture.completedFuture(null);
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        consumer = new BrainHealthKafkaConsumer(processKafkaMessageUseCase, kafkaProducer);
+        LaneScheduler laneScheduler = new LaneScheduler(meterRegistry, 4, Map.of());
+        StalenessPolicy stalenessPolicy = new StalenessPolicy(meterRegistry, Map.of(
+                PriorityLane.INTERACTIVE, new LaneDeadline(Duration.ofMinutes(5), Action.DEFER),
+                PriorityLane.BACKFILL, new LaneDeadline(Duration.ofHours(24), Action.SKIP)));
+        consumer = new BrainHealthKafkaConsumer(processKafkaMessageUseCase, kafkaProducer, laneScheduler, capacityGuard,
+                stalenessPolicy, requestKafkaTemplate);
+        ReflectionTestUtils.setField(consumer, "backfillTopic", BACKFILL_TOPIC);
+        ReflectionTestUtils.setField(consumer, "deferTimeoutSeconds", 5L);
+        when(kafkaProducer.publishResponse(any(), any(), any())).thenReturn(sentFuture);
     }
 
     @Test
     void shouldProcessValidMessageSuccessfully() {
-        BrainHealthRequestMessage request = new BrainHealthRequestMessage(
-                1L, 1L, "SAUDE_FISICA", "Valid Title", "Description",
-                UUID.randomUUID().toString(), UUID.randomUUID().toString(), LocalDateTime.now()
-        );
+        BrainHealthRequestMessage request = validRequest();
 
         BrainHealthResponseMessage response = BrainHealthResponseMessage.builder()
                 .messageId(UUID.randomUUID().toString())
@@ -49,10 +94,11 @@ class BrainHealthKafkaConsumerTest {
         when(processKafkaMessageUseCase.process(any())).thenReturn(response);
         when(processKafkaMessageUseCase.resolveKey(any())).thenReturn("key-123");
 
-        consumer.consume(request, 0, 0L, acknowledgment);
+        consumer.consume(List.of(record(0L, request)), acknowledgment);
 
-        verify(kafkaProducer).sendResponse(eq("key-123"), eq(response));
-        verify(acknowledgment).acknowledge();
+        verify(kafkaProducer).publishResponse(eq("key-123"), eq(response), any());
+        verify(kafkaProducer).awaitResponse(sentFuture);
+        verify(acknowledgment).acknowledge(0);
     }
 
     @Test
@@ -66,11 +112,11 @@ class BrainHealthKafkaConsumerTest {
         // O consumer vai capturar a exceção de validação internamente
         when(processKafkaMessageUseCase.resolveKey(any())).thenReturn("key-123");
 
-        consumer.consume(invalidRequest, 0, 0L, acknowledgment);
+        consumer.consume(List.of(record(0L, invalidRequest)), acknowledgment);
 
         ArgumentCaptor<BrainHealthResponseMessage> captor = ArgumentCaptor.forClass(BrainHealthResponseMessage.class);
-        verify(kafkaProducer).sendResponse(eq("key-123"), captor.capture());
-        verify(acknowledgment).acknowledge();
+        verify(kafkaProducer).publishResponse(eq("key-123"), captor.capture(), any());
+        verify(acknowledgment).acknowledge(0);
 
         BrainHealthResponseMessage errorResponse = captor.getValue();
         assert errorResponse.status() == BrainHealthResponseMessage.ProcessingStatus.FAILED;
@@ -79,22 +125,239 @@ class BrainHealthKafkaConsumerTest {
 
     @Test
     void shouldHandleProcessingError() {
-        BrainHealthRequestMessage request = new BrainHealthRequestMessage(
-                1L, 1L, "SAUDE_FISICA", "Valid Title", "Description",
-                UUID.randomUUID().toString(), UUID.randomUUID().toString(), LocalDateTime.now()
-        );
+        BrainHealthRequestMessage request = validRequest();
 
         when(processKafkaMessageUseCase.process(any())).thenThrow(new RuntimeException("Unexpected error"));
         when(processKafkaMessageUseCase.resolveKey(any())).thenReturn("key-123");
 
-        consumer.consume(request, 0, 0L, acknowledgment);
+        consumer.consume(List.of(record(0L, request)), acknowledgment);
 
         ArgumentCaptor<BrainHealthResponseMessage> captor = ArgumentCaptor.forClass(BrainHealthResponseMessage.class);
-        verify(kafkaProducer).sendResponse(eq("key-123"), captor.capture());
-        verify(acknowledgment).acknowledge();
+        verify(kafkaProducer).publishResponse(eq("key-123"), captor.capture(), any());
+        verify(acknowledgment).acknowledge(0);
 
         BrainHealthResponseMessage errorResponse = captor.getValue();
         assert errorResponse.status() == BrainHealthResponseMessage.ProcessingStatus.FAILED;
         assert errorResponse.errorMessage().contains("Processing error");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldAcknowledgeEachRecordAfterItsResponseWhenNotTransactional() {
+        stubSuccessfulProcessing();
+
+        consumer.consume(List.of(record(0L, validRequest()), record(1L, validRequest())), acknowledgment);
+
+        var inOrder = inOrder(kafkaProducer, acknowledgment);
+        inOrder.verify(kafkaProducer).awaitResponse(sentFuture);
+        inOrder.verify(acknowledgment).acknowledge(0);
+        inOrder.verify(kafkaProducer).awaitResponse(sentFuture);
+        inOrder.verify(acknowledgment).acknowledge(1);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    void shouldFailBatchAtRecordWhoseResponseWasNotAcknowledged() {
+        stubSuccessfulProcessing();
+        doNothing()
+                .doThrow(new KafkaMessagingException(TOPIC, "send", "broker unavailable"))
+                .when(kafkaProducer).awaitResponse(any());
+
+        List<ConsumerRecord<String, BrainHealthRequestMessage>> records =
+                List.of(record(0L, validRequest()), record(1L, validRequest()));
+
+        assertThatThrownBy(() -> consumer.consume(records, acknowledgment))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .satisfies(ex -> assertThat(((BatchListenerFailedException) ex).getIndex()).isEqualTo(1));
+
+        verify(acknowledgment).acknowledge(0);
+        verify(acknowledgment, never()).acknowledge(1);
+    }
+
+    @Test
+    void shouldAcknowledgeWholeBatchOnceWhenTransactional() {
+        ReflectionTestUtils.setField(consumer, "transactionsEnabled", true);
+        stubSuccessfulProcessing();
+
+        consumer.consume(List.of(record(0L, validRequest()), record(1L, validRequest())), acknowledgment);
+
+        verify(kafkaProducer, times(2)).publishResponse(any(), any(), any());
+        verify(kafkaProducer, never()).awaitResponse(any());
+        verify(acknowledgment).acknowledge();
+        verify(acknowledgment, never()).acknowledge(anyInt());
+    }
+
+    @Test
+    void shouldSkipRecordThatFailedDeserialization() {
+        consumer.consume(List.of(record(0L, null)), acknowledgment);
+
+        verifyNoInteractions(processKafkaMessageUseCase);
+        verify(kafkaProducer, never()).publishResponse(any(), any(), any());
+        verify(acknowledgment).acknowledge(0);
+    }
+
+    @Test
+    void shouldRecordLaneMetricsPerListener() {
+        stubSuccessfulProcessing();
+
+        consumer.consumeBulk(List.of(record(0L, validRequest())), acknowledgment);
+        consumer.consume(List.of(record(0L, validRequest())), acknowledgment);
+
+        assertThat(meterRegistry.get("brain.health.lane.processing").tag("lane", PriorityLane.BULK.tag()).timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("brain.health.lane.processing").tag("lane", PriorityLane.INTERACTIVE.tag()).timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("brain.health.lane.processing").tag("lane", PriorityLane.BACKFILL.tag()).timer().count())
+                .isZero();
+    }
+
+    @Test
+    void shouldNackRemainingRecordsWhenOpenAIIsThrottled() {
+        stubSuccessfulProcessing();
+        when(capacityGuard.isThrottled()).thenReturn(false, true);
+        when(capacityGuard.retryDelay()).thenReturn(Duration.ofSeconds(5));
+
+        consumer.consume(List.of(record(0L, validRequest()), record(1L, validRequest()), record(2L, validRequest())),
+                acknowledgment);
+
+        verify(processKafkaMessageUseCase, times(1)).process(any());
+        verify(acknowledgment).acknowledge(0);
+        verify(acknowledgment).nack(1, Duration.ofSeconds(5));
+        verify(acknowledgment, never()).acknowledge(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPropagateLatencyHeadersToResponse() {
+        stubSuccessfulProcessing();
+        String traceId = "4bf92f3577b34da6a3ce929d0e0e4736";
+        ConsumerRecord<String, BrainHealthRequestMessage> request = record(0L, validRequest());
+        request.headers()
+                .add(LatencyHeaders.timestamp(LatencyHeaders.GOAL_CREATED_AT, 1_000L))
+                .add(LatencyHeaders.timestamp(LatencyHeaders.GOAL_PUBLISHED_AT, 1_500L))
+                .add(new RecordHeader(LatencyHeaders.TRACEPARENT,
+                        ("00-" + traceId + "-00f067aa0ba902b7-01").getBytes(StandardCharsets.UTF_8)));
+        long before = System.currentTimeMillis();
+
+        consumer.consume(List.of(request), acknowledgment);
+
+        ArgumentCaptor<List<Header>> captor = ArgumentCaptor.forClass(List.class);
+        verify(kafkaProducer).publishResponse(eq("key-123"), any(), captor.capture());
+        Headers headers = new RecordHeaders(captor.getValue());
+        assertThat(LatencyHeaders.value(headers, LatencyHeaders.GOAL_CREATED_AT)).isEqualTo("1000");
+        assertThat(LatencyHeaders.value(headers, LatencyHeaders.GOAL_PUBLISHED_AT)).isEqualTo("1500");
+        assertThat(LatencyHeaders.value(headers, LatencyHeaders.TRACEPARENT))
+                .startsWith("00-" + traceId + "-")
+                .doesNotContain("00f067aa0ba902b7");
+        long startedAt = Long.parseLong(LatencyHeaders.value(headers, LatencyHeaders.PROCESSING_STARTED_AT));
+        long completedAt = Long.parseLong(LatencyHeaders.value(headers, LatencyHeaders.PROCESSING_COMPLETED_AT));
+        assertThat(startedAt).isGreaterThanOrEqualTo(before);
+        assertThat(completedAt).isGreaterThanOrEqualTo(startedAt);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStartNewTraceWhenRequestHasNoTraceparent() {
+        stubSuccessfulProcessing();
+
+        consumer.consume(List.of(record(0L, validRequest())), acknowledgment);
+
+        ArgumentCaptor<List<Header>> captor = ArgumentCaptor.forClass(List.class);
+        verify(kafkaProducer).publishResponse(eq("key-123"), any(), captor.capture());
+        Headers headers = new RecordHeaders(captor.getValue());
+        assertThat(LatencyHeaders.value(headers, LatencyHeaders.TRACEPARENT))
+                .matches("00-[0-9a-f]{32}-[0-9a-f]{16}-01");
+        assertThat(LatencyHeaders.value(headers, LatencyHeaders.GOAL_CREATED_AT)).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDeferStaleInteractiveRequestToBackfill() {
+        stubSuccessfulProcessing();
+        when(requestKafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+        LocalDateTime requestedAt = LocalDateTime.now(ZoneOffset.UTC).minusMinutes(30);
+        ConsumerRecord<String, BrainHealthRequestMessage> stale = record(0L, requestAt(requestedAt));
+        stale.headers().add(LatencyHeaders.timestamp(LatencyHeaders.GOAL_CREATED_AT, 1_000L));
+
+        consumer.consume(List.of(stale, record(1L, validRequest())), acknowledgment);
+
+        ArgumentCaptor<ProducerRecord<String, BrainHealthRequestMessage>> captor =
+                ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(requestKafkaTemplate).send(captor.capture());
+        assertThat(captor.getValue().topic()).isEqualTo(BACKFILL_TOPIC);
+        assertThat(captor.getValue().value().requestedAt()).isEqualTo(requestedAt);
+        assertThat(LatencyHeaders.value(captor.getValue().headers(), LatencyHeaders.GOAL_CREATED_AT)).isEqualTo("1000");
+        verify(processKafkaMessageUseCase, times(1)).process(any());
+        verify(acknowledgment).acknowledge(0);
+        verify(acknowledgment).acknowledge(1);
+        assertThat(meterRegistry.get("brain.health.request.shed").tag("lane", "interactive")
+                .tag("action", "deferred").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDeferInsideListenerTransactionWithoutAwaitingSend() {
+        ReflectionTestUtils.setField(consumer, "transactionsEnabled", true);
+        when(requestKafkaTemplate.send(any(ProducerRecord.class))).thenReturn(new CompletableFuture<>());
+
+        consumer.consume(List.of(record(0L, requestAt(LocalDateTime.now(ZoneOffset.UTC).minusMinutes(30)))),
+                acknowledgment);
+
+        verify(requestKafkaTemplate).send(any(ProducerRecord.class));
+        verify(processKafkaMessageUseCase, never()).process(any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void shouldExpireStaleBackfillRequestWithoutCallingOpenAI() {
+        when(processKafkaMessageUseCase.resolveKey(any())).thenReturn("key-123");
+
+        consumer.consumeBackfill(List.of(record(0L, requestAt(LocalDateTime.now(ZoneOffset.UTC).minusDays(2)))), acknowledgment);
+
+        ArgumentCaptor<BrainHealthResponseMessage> captor = ArgumentCaptor.forClass(BrainHealthResponseMessage.class);
+        verify(kafkaProducer).publishResponse(eq("key-123"), captor.capture(), any());
+        assertThat(captor.getValue().status()).isEqualTo(BrainHealthResponseMessage.ProcessingStatus.EXPIRED);
+        assertThat(captor.getValue().goalId()).isEqualTo(1L);
+        assertThat(captor.getValue().errorMessage()).contains("backfill TTL");
+        verify(processKafkaMessageUseCase, never()).process(any());
+        verify(requestKafkaTemplate, never()).send(any(ProducerRecord.class));
+        verify(acknowledgment).acknowledge(0);
+    }
+
+    @Test
+    void shouldShedStaleRequestsEvenWhenOpenAIIsThrottled() {
+        when(capacityGuard.isThrottled()).thenReturn(true);
+        when(capacityGuard.retryDelay()).thenReturn(Duration.ofSeconds(5));
+        when(processKafkaMessageUseCase.resolveKey(any())).thenReturn("key-123");
+
+        consumer.consumeBackfill(List.of(record(0L, requestAt(LocalDateTime.now(ZoneOffset.UTC).minusDays(2))),
+                record(1L, validRequest())), acknowledgment);
+
+        verify(kafkaProducer).publishResponse(eq("key-123"), any(), any());
+        verify(acknowledgment).acknowledge(0);
+        verify(acknowledgment).nack(1, Duration.ofSeconds(5));
+    }
+
+    private void stubSuccessfulProcessing() {
+        BrainHealthResponseMessage response = BrainHealthResponseMessage.builder()
+                .messageId(UUID.randomUUID().toString())
+                .status(BrainHealthResponseMessage.ProcessingStatus.SUCCESS)
+                .build();
+        when(processKafkaMessageUseCase.process(any())).thenReturn(response);
+        when(processKafkaMessageUseCase.resolveKey(any())).thenReturn("key-123");
+    }
+
+    private BrainHealthRequestMessage validRequest() {
+        return requestAt(LocalDateTime.now(ZoneOffset.UTC));
+    }
+
+    private BrainHealthRequestMessage requestAt(LocalDateTime requestedAt) {
+        return new BrainHealthRequestMessage(
+                1L, 1L, "SAUDE_FISICA", "Valid Title", "Description",
+                UUID.randomUUID().toString(), UUID.randomUUID().toString(), requestedAt
+        );
+    }
+
+    private ConsumerRecord<String, BrainHealthRequestMessage> record(long offset, BrainHealthRequestMessage value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, "key", value);
+    }
+}
@@ -4,6 +4,10 @@ import com.fiap.brain.health.api.dto.kafka.BrainHealthResponseMessage;
 import com.fiap.brain.health.api.dto.response.ArticleResponse;
 import com.fiap.brain.health.api.dto.response.Quiz;
 import com.fiap.brain.health.api.dto.response.Recommendation;
+import com.fiap.brain.health.infrastructure.exception.KafkaMessagingException;
+import com.fiap.brain.health.infrastructure.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,7 +18,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -26,6 +32,7 @@ import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -37,6 +44,9 @@ class BrainHealthKafkaProducerTest {
     @Mock
     private KafkaTemplate<String, BrainHealthResponseMessage> kafkaTemplate;
 
+    @Spy
+    private PipelineMetrics metrics = new PipelineMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private BrainHealthKafkaProducer kafkaProducer;
 
@@ -47,6 +57,7 @@ class BrainHealthKafkaProducerTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(kafkaProducer, "responseTopic", RESPONSE_TOPIC);
+        ReflectionTestUtils.setField(kafkaProducer, "sendTimeoutSeconds", 5L);
 
         ArticleResponse articleResponse = new ArticleResponse(
                 "Benefícios da Caminhada",
@@ -432,6 +443,127 @@ class BrainHealthKafkaProducerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Confirmação e Transações")
+    class AcknowledgementAndTransactions {
+
+        @Test
+        @DisplayName("Deve retornar o envio pendente para o listener aguardar o ack")
+        void shouldReturnPendingSendToListener() {
+            // Arrange
+            CompletableFuture<SendResult<String, BrainHealthResponseMessage>> future =
+                    createSuccessfulFuture();
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(future);
+
+            // Act
+            var pendingSend = kafkaProducer.publishResponse(USER_KEY, validResponseMessage);
+
+            // Assert
+            assertThat(pendingSend).isSameAs(future);
+            assertThatCode(() -> kafkaProducer.awaitResponse(pendingSend)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("Deve lançar KafkaMessagingException quando o broker não confirma o envio")
+        void shouldThrowWhenBrokerDoesNotAcknowledge() {
+            // Arrange
+            CompletableFuture<SendResult<String, BrainHealthResponseMessage>> future =
+                    createFailedFuture(new RuntimeException("Not enough replicas"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> kafkaProducer.awaitResponse(future))
+                    .isInstanceOf(KafkaMessagingException.class)
+                    .hasMessageContaining(RESPONSE_TOPIC);
+        }
+
+        @Test
+        @DisplayName("Deve abrir transação local quando o template é transacional e não há transação ativa")
+        @SuppressWarnings("unchecked")
+        void shouldUseLocalTransactionOutsideListener() {
+            // Arrange
+            CompletableFuture<SendResult<String, BrainHealthResponseMessage>> future =
+                    createSuccessfulFuture();
+            when(kafkaTemplate.isTransactional()).thenReturn(true);
+            when(kafkaTemplate.inTransaction()).thenReturn(false);
+            when(kafkaTemplate.executeInTransaction(any(KafkaOperations.OperationsCallback.class)))
+                    .thenReturn(future);
+
+            // Act
+            kafkaProducer.sendResponse(USER_KEY, validResponseMessage);
+
+            // Assert
+            verify(kafkaTemplate).executeInTransaction(any(KafkaOperations.OperationsCallback.class));
+            verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Deve participar da transação do listener quando já existe uma ativa")
+        void shouldJoinListenerTransaction() {
+            // Arrange
+            CompletableFuture<SendResult<String, BrainHealthResponseMessage>> future =
+                    createSuccessfulFuture();
+            when(kafkaTemplate.isTransactional()).thenReturn(true);
+            when(kafkaTemplate.inTransaction()).thenReturn(true);
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(future);
+
+            // Act
+            kafkaProducer.sendResponse(USER_KEY, validResponseMessage);
+
+            // Assert
+            verify(kafkaTemplate).send(RESPONSE_TOPIC, USER_KEY, validResponseMessage);
+            verify(kafkaTemplate, never()).executeInTransaction(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Headers de Latência")
+    class LatencyHeadersTests {
+
+        @Test
+        @DisplayName("Deve enviar ProducerRecord com os headers recebidos e o horário de produção")
+        @SuppressWarnings("unchecked")
+        void shouldSendRecordWithHeaders() {
+            // Arrange
+            CompletableFuture<SendResult<String, BrainHealthResponseMessage>> future =
+                    createSuccessfulFuture();
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+            long before = System.currentTimeMillis();
+
+            // Act
+            kafkaProducer.publishResponse(USER_KEY, validResponseMessage,
+                    List.of(LatencyHeaders.timestamp(LatencyHeaders.GOAL_CREATED_AT, 1_000L)));
+
+            // Assert
+            ArgumentCaptor<ProducerRecord<String, BrainHealthResponseMessage>> captor =
+                    ArgumentCaptor.forClass(ProducerRecord.class);
+            verify(kafkaTemplate).send(captor.capture());
+            verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+
+            ProducerRecord<String, BrainHealthResponseMessage> sent = captor.getValue();
+            assertThat(sent.topic()).isEqualTo(RESPONSE_TOPIC);
+            assertThat(sent.key()).isEqualTo(USER_KEY);
+            assertThat(sent.value()).isEqualTo(validResponseMessage);
+            assertThat(LatencyHeaders.value(sent.headers(), LatencyHeaders.GOAL_CREATED_AT)).isEqualTo("1000");
+            assertThat(Long.parseLong(LatencyHeaders.value(sent.headers(), LatencyHeaders.RESPONSE_PRODUCED_AT)))
+                    .isGreaterThanOrEqualTo(before);
+        }
+
+        @Test
+        @DisplayName("Deve manter o envio simples quando não há headers")
+        void shouldUseKeyValueSendWithoutHeaders() {
+            // Arrange
+            CompletableFuture<SendResult<String, BrainHealthResponseMessage>> future =
+                    createSuccessfulFuture();
+            when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(future);
+
+            // Act
+            kafkaProducer.publishResponse(USER_KEY, validResponseMessage, List.of());
+
+            // Assert
+            verify(kafkaTemplate).send(RESPONSE_TOPIC, USER_KEY, validResponseMessage);
+        }
+    }
+
     // Helper methods
     private CompletableFuture<SendResult<String, BrainHealthResponseMessage>> createSuccessfulFuture() {
         SendResult<String, BrainHealthResponseMessage> sendResult = mock(SendResult.class);
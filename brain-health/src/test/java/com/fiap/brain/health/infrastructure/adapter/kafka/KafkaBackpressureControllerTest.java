@@ -0,0 +1,97 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka;
+
+import com.fiap.brain.health.infrastructure.adapter.ai.OpenAICapacityGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaBackpressureController - Testes Unitários")
+class KafkaBackpressureControllerTest {
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    @Mock
+    private OpenAICapacityGuard capacityGuard;
+
+    @Mock
+    private MessageListenerContainer container;
+
+    private KafkaBackpressureController controller;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        controller = new KafkaBackpressureController(registry, capacityGuard, meterRegistryProvider);
+        ReflectionTestUtils.setField(controller, "enabled", true);
+        lenient().when(registry.getListenerContainers()).thenReturn(List.of(container));
+        lenient().when(capacityGuard.retryDelay()).thenReturn(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Deve pausar os listeners quando a OpenAI está bloqueada")
+    void shouldPauseWhenThrottled() {
+        // Arrange
+        when(capacityGuard.isThrottled()).thenReturn(true);
+
+        // Act
+        controller.evaluate();
+
+        // Assert
+        assertThat(controller.isPaused()).isTrue();
+        verify(container).pause();
+    }
+
+    @Test
+    @DisplayName("Não deve pausar só porque o limite de concorrência está saturado")
+    void shouldNotPauseWhenOnlySaturated() {
+        // Arrange
+        when(capacityGuard.isThrottled()).thenReturn(false);
+        lenient().when(capacityGuard.hasCapacity()).thenReturn(false);
+
+        // Act
+        controller.evaluate();
+
+        // Assert
+        assertThat(controller.isPaused()).isFalse();
+        verify(container, never()).pause();
+    }
+
+    @Test
+    @DisplayName("Deve retomar os listeners quando o bloqueio passa")
+    void shouldResumeWhenNoLongerThrottled() {
+        // Arrange
+        when(capacityGuard.isThrottled()).thenReturn(true, false);
+        controller.evaluate();
+
+        // Act
+        controller.evaluate();
+
+        // Assert
+        assertThat(controller.isPaused()).isFalse();
+        verify(container).resume();
+    }
+}
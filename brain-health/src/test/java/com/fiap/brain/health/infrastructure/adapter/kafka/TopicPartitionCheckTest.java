@@ -0,0 +1,95 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka;
+
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TopicPartitionCheck - Testes Unitários")
+class TopicPartitionCheckTest {
+
+    @Mock
+    private KafkaAdmin kafkaAdmin;
+
+    @Test
+    @DisplayName("Não deve apontar problemas quando as partições cobrem as threads")
+    void shouldAcceptEnoughPartitions() {
+        // Arrange
+        TopicPartitionCheck check = new TopicPartitionCheck(kafkaAdmin, Map.of("goal.created", 3), 2);
+
+        // Act
+        List<String> shortfalls = check.shortfalls(Map.of("goal.created", 6));
+
+        // Assert
+        assertThat(shortfalls).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve apontar tópico com menos partições que threads em todas as instâncias")
+    void shouldReportMissingPartitions() {
+        // Arrange
+        TopicPartitionCheck check = new TopicPartitionCheck(kafkaAdmin, Map.of("goal.created", 3), 2);
+
+        // Act
+        List<String> shortfalls = check.shortfalls(Map.of("goal.created", 1));
+
+        // Assert
+        assertThat(shortfalls).singleElement().asString()
+                .contains("goal.created", "1 partitions", "6 listener threads", "5 threads will stay idle");
+    }
+
+    @Test
+    @DisplayName("Deve apontar tópico inexistente")
+    void shouldReportUnknownTopic() {
+        // Arrange
+        TopicPartitionCheck check = new TopicPartitionCheck(kafkaAdmin, Map.of("goal.created.bulk", 2), 1);
+
+        // Act
+        List<String> shortfalls = check.shortfalls(Collections.emptyMap());
+
+        // Assert
+        assertThat(shortfalls).singleElement().asString().contains("goal.created.bulk", "not found");
+    }
+
+    @Test
+    @DisplayName("Deve ler as partições pelo KafkaAdmin na inicialização")
+    void shouldDescribeTopicsOnStartup() {
+        // Arrange
+        TopicPartitionCheck check = new TopicPartitionCheck(kafkaAdmin, Map.of("goal.created", 3), 1);
+        List<TopicPartitionInfo> partitions = IntStream.range(0, 3)
+                .mapToObj(i -> new TopicPartitionInfo(i, null, List.of(), List.of()))
+                .toList();
+        when(kafkaAdmin.describeTopics(any(String[].class)))
+                .thenReturn(Map.of("goal.created", new TopicDescription("goal.created", false, partitions)));
+
+        // Act & Assert
+        assertThatCode(check::verify).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Falha do broker não deve impedir a inicialização")
+    void shouldNotFailWhenBrokerUnavailable() {
+        // Arrange
+        TopicPartitionCheck check = new TopicPartitionCheck(kafkaAdmin, Map.of("goal.created", 3), 1);
+        when(kafkaAdmin.describeTopics(any(String[].class))).thenThrow(new KafkaException("broker down"));
+
+        // Act & Assert
+        assertThatCode(check::verify).doesNotThrowAnyException();
+    }
+}
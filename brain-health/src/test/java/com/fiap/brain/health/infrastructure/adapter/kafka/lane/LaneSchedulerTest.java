@@ -0,0 +1,199 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.lane;
+
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.LaneScheduler.LaneBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LaneScheduler - Testes Unitários")
+class LaneSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("Orçamento de concorrência")
+    class ConcurrencyBudget {
+
+        @Test
+        @DisplayName("Não deve exceder a concorrência da lane nem o limite global")
+        void shouldRespectLaneAndGlobalLimits() throws Exception {
+            // Arrange
+            LaneScheduler scheduler = new LaneScheduler(meterRegistry, 3, Map.of(
+                    PriorityLane.BULK, new LaneBudget(2, 1)));
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(6);
+
+            // Act
+            for (int i = 0; i < 12; i++) {
+                executor.submit(() -> scheduler.execute(PriorityLane.BULK, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(5);
+                    return running.decrementAndGet();
+                }));
+            }
+            executor.shutdown();
+
+            // Assert
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(maxRunning.get()).isEqualTo(2);
+            assertThat(scheduler.inFlight(PriorityLane.BULK)).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve registrar métricas de espera e processamento por lane")
+        void shouldRecordPerLaneTimers() throws Exception {
+            // Arrange
+            LaneScheduler scheduler = new LaneScheduler(meterRegistry, 1, Map.of());
+
+            // Act
+            String result = scheduler.execute(PriorityLane.INTERACTIVE, () -> "ok");
+
+            // Assert
+            assertThat(result).isEqualTo("ok");
+            assertThat(meterRegistry.get("brain.health.lane.wait").tag("lane", "interactive").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("brain.health.lane.processing").tag("lane", "interactive").timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Redimensionamento")
+    class Resize {
+
+        @Test
+        @DisplayName("Deve aplicar a nova concorrência da lane em tempo de execução")
+        void shouldApplyNewLaneConcurrency() throws Exception {
+            // Arrange
+            LaneScheduler scheduler = new LaneScheduler(meterRegistry, 4, Map.of(
+                    PriorityLane.BULK, new LaneBudget(1, 1)));
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(6);
+
+            // Act
+            scheduler.resize(PriorityLane.BULK, 3);
+            for (int i = 0; i < 12; i++) {
+                executor.submit(() -> scheduler.execute(PriorityLane.BULK, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(10);
+                    return running.decrementAndGet();
+                }));
+            }
+            executor.shutdown();
+
+            // Assert
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(scheduler.concurrency(PriorityLane.BULK)).isEqualTo(3);
+            assertThat(maxRunning.get()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Escalonamento justo ponderado")
+    class WeightedFairness {
+
+        @Test
+        @DisplayName("Deve repartir permissões conforme os pesos quando as lanes competem")
+        void shouldShareCapacityByWeight() throws Exception {
+            // Arrange: one permit, both lanes always backlogged
+            LaneScheduler scheduler = new LaneScheduler(meterRegistry, 1, Map.of(
+                    PriorityLane.INTERACTIVE, new LaneBudget(4, 3),
+                    PriorityLane.BULK, new LaneBudget(4, 1)));
+            List<PriorityLane> order = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch blocker = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(9);
+
+            // Hold the only permit until every worker is queued
+            executor.submit(() -> scheduler.execute(PriorityLane.BACKFILL, () -> {
+                await(blocker);
+                return null;
+            }));
+            for (int i = 0; i < 4; i++) {
+                executor.submit(() -> runLoop(scheduler, PriorityLane.INTERACTIVE, order));
+                executor.submit(() -> runLoop(scheduler, PriorityLane.BULK, order));
+            }
+            sleep(200);
+
+            // Act
+            blocker.countDown();
+            executor.shutdown();
+
+            // Assert
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            List<PriorityLane> firstGrants = order.subList(0, 16);
+            long interactive = firstGrants.stream().filter(lane -> lane == PriorityLane.INTERACTIVE).count();
+            assertThat(interactive).isEqualTo(12);
+        }
+
+        @Test
+        @DisplayName("Lane ociosa não deve acumular crédito")
+        void shouldNotLetIdleLaneBankCredit() throws Exception {
+            // Arrange
+            LaneScheduler scheduler = new LaneScheduler(meterRegistry, 1, Map.of(
+                    PriorityLane.INTERACTIVE, new LaneBudget(1, 1),
+                    PriorityLane.BULK, new LaneBudget(1, 1)));
+            for (int i = 0; i < 50; i++) {
+                scheduler.execute(PriorityLane.BULK, () -> null);
+            }
+
+            // Act: interactive was idle; bulk served 50 times alone
+            List<PriorityLane> order = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch blocker = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+            executor.submit(() -> scheduler.execute(PriorityLane.BACKFILL, () -> {
+                await(blocker);
+                return null;
+            }));
+            executor.submit(() -> runLoop(scheduler, PriorityLane.INTERACTIVE, order));
+            executor.submit(() -> runLoop(scheduler, PriorityLane.BULK, order));
+            sleep(200);
+            blocker.countDown();
+            executor.shutdown();
+
+            // Assert: both lanes alternate instead of bulk being starved
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(order.subList(0, 4)).contains(PriorityLane.BULK);
+        }
+    }
+
+    private static Object runLoop(LaneScheduler scheduler, PriorityLane lane, List<PriorityLane> order)
+            throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            scheduler.execute(lane, () -> {
+                order.add(lane);
+                sleep(1);
+                return null;
+            });
+        }
+        return null;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.lane;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PriorityLane - Tag das métricas")
+class PriorityLaneTest {
+
+    @Test
+    @DisplayName("Deve gerar a tag em minúsculas independente do locale padrão")
+    void shouldTagIndependentlyOfDefaultLocale() {
+        // Arrange
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            // Act / Assert: em turco, "I".toLowerCase() vira "ı" (sem ponto)
+            assertThat(PriorityLane.INTERACTIVE.tag()).isEqualTo("interactive");
+            assertThat(PriorityLane.BACKFILL.tag()).isEqualTo("backfill");
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+}
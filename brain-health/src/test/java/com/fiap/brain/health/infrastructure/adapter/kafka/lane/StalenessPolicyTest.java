@@ -0,0 +1,106 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.lane;
+
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.StalenessPolicy.Action;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.StalenessPolicy.LaneDeadline;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.StalenessPolicy.Verdict;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StalenessPolicy - Testes Unitários")
+class StalenessPolicyTest {
+
+    private static final long NOW = 1_000_000_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final StalenessPolicy policy = new StalenessPolicy(meterRegistry, Map.of(
+            PriorityLane.INTERACTIVE, new LaneDeadline(Duration.ofMinutes(5), Action.DEFER),
+            PriorityLane.BULK, new LaneDeadline(Duration.ofHours(1), Action.SKIP),
+            PriorityLane.BACKFILL, new LaneDeadline(Duration.ofHours(24), Action.DEFER)
+    ), () -> NOW);
+
+    @Nested
+    @DisplayName("Decisão por TTL")
+    class TtlDecision {
+
+        @Test
+        @DisplayName("Deve processar pedidos dentro do TTL da lane")
+        void shouldKeepFreshRequests() {
+            assertThat(policy.evaluate(PriorityLane.INTERACTIVE, NOW - Duration.ofMinutes(5).toMillis()))
+                    .isEqualTo(Verdict.FRESH);
+        }
+
+        @Test
+        @DisplayName("Deve aplicar a ação configurada para pedidos vencidos")
+        void shouldApplyLaneAction() {
+            assertThat(policy.evaluate(PriorityLane.INTERACTIVE, NOW - Duration.ofMinutes(6).toMillis()))
+                    .isEqualTo(Verdict.DEFER);
+            assertThat(policy.evaluate(PriorityLane.BULK, NOW - Duration.ofHours(2).toMillis()))
+                    .isEqualTo(Verdict.SKIP);
+        }
+
+        @Test
+        @DisplayName("Deve descartar em vez de adiar na própria lane de backfill")
+        void shouldSkipInsteadOfDeferringOnBackfill() {
+            assertThat(policy.evaluate(PriorityLane.BACKFILL, NOW - Duration.ofDays(2).toMillis()))
+                    .isEqualTo(Verdict.SKIP);
+        }
+
+        @Test
+        @DisplayName("Não deve descartar quando o TTL é zero")
+        void shouldNotShedWhenTtlIsDisabled() {
+            // Arrange
+            StalenessPolicy disabled = new StalenessPolicy(meterRegistry, Map.of(), () -> NOW);
+
+            // Act & Assert
+            assertThat(disabled.evaluate(PriorityLane.INTERACTIVE, 0L)).isEqualTo(Verdict.FRESH);
+        }
+    }
+
+    @Nested
+    @DisplayName("Métricas")
+    class Metrics {
+
+        @Test
+        @DisplayName("Deve registrar idade no dequeue e volume descartado por ação")
+        void shouldRecordAgeAndShedVolume() {
+            // Act
+            policy.evaluate(PriorityLane.INTERACTIVE, NOW - 1_000L);
+            policy.evaluate(PriorityLane.INTERACTIVE, NOW - Duration.ofMinutes(10).toMillis());
+            policy.evaluate(PriorityLane.BULK, NOW - Duration.ofHours(3).toMillis());
+
+            // Assert
+            assertThat(meterRegistry.get("brain.health.request.age").tag("lane", "interactive").timer().count())
+                    .isEqualTo(2);
+            assertThat(meterRegistry.get("brain.health.request.shed")
+                    .tag("lane", "interactive").tag("action", "deferred").counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("brain.health.request.shed")
+                    .tag("lane", "bulk").tag("action", "skipped").counter().count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Início do pedido")
+    class RequestStart {
+
+        @Test
+        @DisplayName("Deve usar requestedAt em UTC e, sem ele, o timestamp do registro")
+        void shouldResolveRequestStart() {
+            LocalDateTime requestedAt = LocalDateTime.of(2026, 3, 1, 10, 0);
+            long requestedAtMillis = Instant.parse("2026-03-01T10:00:00Z").toEpochMilli();
+
+            assertThat(StalenessPolicy.requestedAtMillis(requestedAt, 5L, NOW)).isEqualTo(requestedAtMillis);
+            assertThat(StalenessPolicy.requestedAtMillis(null, 5L, NOW)).isEqualTo(5L);
+            assertThat(StalenessPolicy.requestedAtMillis(null, -1L, NOW)).isEqualTo(NOW);
+        }
+    }
+}
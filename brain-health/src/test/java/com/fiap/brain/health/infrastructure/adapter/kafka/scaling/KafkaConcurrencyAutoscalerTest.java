@@ -0,0 +1,124 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.scaling;
+
+import com.fiap.brain.health.infrastructure.adapter.ai.OpenAICapacityGuard;
+import com.fiap.brain.health.infrastructure.adapter.kafka.KafkaBackpressureController;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.LaneScheduler;
+import com.fiap.brain.health.infrastructure.adapter.kafka.lane.PriorityLane;
+import com.fiap.brain.health.infrastructure.adapter.kafka.scaling.ConsumerLagProbe.Lag;
+import com.fiap.brain.health.infrastructure.adapter.kafka.scaling.LagScalingPolicy.Settings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaConcurrencyAutoscaler - Testes Unitários")
+class KafkaConcurrencyAutoscalerTest {
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    @Mock
+    private OpenAICapacityGuard capacityGuard;
+
+    @Mock
+    private ConsumerLagProbe lagProbe;
+
+    @Mock
+    private ConcurrentMessageListenerContainer<String, String> container;
+
+    private KafkaBackpressureController backpressure;
+    private KafkaConcurrencyAutoscaler autoscaler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        backpressure = new KafkaBackpressureController(registry, capacityGuard, meterRegistryProvider);
+        ReflectionTestUtils.setField(backpressure, "enabled", true);
+
+        LaneScheduler laneScheduler = new LaneScheduler(meterRegistry, 8, Map.of());
+        // 0.5 s per record: 600 records behind need more than the current 2 threads
+        IntStream.range(0, 10).forEach(i ->
+                laneScheduler.processingTimer(PriorityLane.INTERACTIVE).record(Duration.ofMillis(500)));
+
+        autoscaler = new KafkaConcurrencyAutoscaler(registry, laneScheduler, capacityGuard, backpressure,
+                lagProbe, "brain-health",
+                Map.of(PriorityLane.INTERACTIVE, new LagScalingPolicy(
+                        new Settings(1, 8, 50, 5, 3, Duration.ofSeconds(60), Duration.ofSeconds(30)))),
+                Runnable::run, meterRegistry);
+
+        lenient().when(registry.getListenerContainers()).thenReturn(List.of(container));
+        lenient().when(capacityGuard.retryDelay()).thenReturn(Duration.ofSeconds(1));
+        when(registry.getListenerContainer(KafkaConcurrencyAutoscaler.listenerId(PriorityLane.INTERACTIVE)))
+                .thenReturn(container);
+        when(container.isRunning()).thenReturn(true);
+        when(container.getAssignedPartitions()).thenReturn(
+                IntStream.range(0, 8).mapToObj(p -> new TopicPartition("brain-health-requests", p)).toList());
+        when(container.getConcurrency()).thenReturn(2);
+        when(lagProbe.measure(anyString(), anyCollection())).thenReturn(new Lag(600, 100, 8));
+    }
+
+    @Test
+    @DisplayName("Deve pausar de novo o container quando o bloqueio chega durante o restart")
+    void shouldReapplyPauseIssuedDuringRestart() {
+        // Arrange: a OpenAI bloqueia enquanto o container para, e a pausa vai para os consumidores antigos
+        when(capacityGuard.isThrottled()).thenReturn(false, true);
+        doAnswer(invocation -> {
+            backpressure.evaluate();
+            return null;
+        }).when(container).stop();
+
+        // Act
+        autoscaler.evaluate();
+
+        // Assert
+        InOrder order = inOrder(container);
+        order.verify(container).stop();
+        order.verify(container).setConcurrency(4);
+        order.verify(container).start();
+        order.verify(container).pause();
+    }
+
+    @Test
+    @DisplayName("Não deve pausar o container reiniciado quando a OpenAI não está bloqueada")
+    void shouldNotPauseRestartedContainerWhenNotThrottled() {
+        // Arrange
+        when(capacityGuard.isThrottled()).thenReturn(false);
+
+        // Act
+        autoscaler.evaluate();
+
+        // Assert
+        verify(container).start();
+        verify(container, never()).pause();
+    }
+}
@@ -0,0 +1,172 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.scaling;
+
+import com.fiap.brain.health.infrastructure.adapter.kafka.scaling.LagScalingPolicy.Decision;
+import com.fiap.brain.health.infrastructure.adapter.kafka.scaling.LagScalingPolicy.Outcome;
+import com.fiap.brain.health.infrastructure.adapter.kafka.scaling.LagScalingPolicy.Sample;
+import com.fiap.brain.health.infrastructure.adapter.kafka.scaling.LagScalingPolicy.Settings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LagScalingPolicy - Testes Unitários")
+class LagScalingPolicyTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private LagScalingPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        policy = new LagScalingPolicy(
+                new Settings(1, 8, 50, 5, 3, Duration.ofSeconds(60), Duration.ofSeconds(30)), clock::get);
+    }
+
+    @Nested
+    @DisplayName("Aumento de concorrência")
+    class ScaleUp {
+
+        @Test
+        @DisplayName("Deve dimensionar pelo tempo de drenagem, no máximo dobrando a cada passo")
+        void shouldScaleToDrainTarget() {
+            // Arrange: 600 records at 0.5 s each need 5 threads to drain in 60 s
+
+            // Act
+            Outcome outcome = policy.evaluate(2, new Sample(600, 8, 0.5, false));
+
+            // Assert
+            assertThat(outcome).isEqualTo(new Outcome(4, Decision.SCALE_UP));
+        }
+
+        @Test
+        @DisplayName("Deve aumentar em um quando o lag cresce mesmo sem tempo por registro")
+        void shouldStepUpWhenLagGrows() {
+            // Arrange
+            policy.evaluate(2, new Sample(100, 8, 0, false));
+
+            // Act
+            Outcome outcome = policy.evaluate(2, new Sample(180, 8, 0, false));
+
+            // Assert
+            assertThat(outcome).isEqualTo(new Outcome(3, Decision.SCALE_UP));
+        }
+
+        @Test
+        @DisplayName("Deve manter quando o lag atual é drenado dentro da meta")
+        void shouldHoldWhenDrainingInTime() {
+            // Act: 100 records at 0.1 s need a single thread
+            Outcome outcome = policy.evaluate(2, new Sample(100, 8, 0.1, false));
+
+            // Assert
+            assertThat(outcome).isEqualTo(new Outcome(2, Decision.HOLD));
+        }
+
+        @Test
+        @DisplayName("Não deve passar do número de partições atribuídas")
+        void shouldCapAtThreadCap() {
+            // Act
+            Outcome capped = policy.evaluate(2, new Sample(5000, 3, 1.0, false));
+            clock.addAndGet(60_000);
+            Outcome atMax = policy.evaluate(3, new Sample(6000, 3, 1.0, false));
+
+            // Assert
+            assertThat(capped).isEqualTo(new Outcome(3, Decision.SCALE_UP));
+            assertThat(atMax).isEqualTo(new Outcome(3, Decision.AT_MAX));
+        }
+
+        @Test
+        @DisplayName("Não deve escalar enquanto a OpenAI está limitando")
+        void shouldHoldWhileThrottled() {
+            // Act
+            Outcome outcome = policy.evaluate(2, new Sample(5000, 8, 1.0, true));
+
+            // Assert
+            assertThat(outcome).isEqualTo(new Outcome(2, Decision.THROTTLED));
+        }
+
+        @Test
+        @DisplayName("Deve respeitar o cooldown entre mudanças")
+        void shouldRespectCooldown() {
+            // Arrange
+            policy.evaluate(1, new Sample(5000, 8, 1.0, false));
+
+            // Act
+            Outcome cooling = policy.evaluate(2, new Sample(6000, 8, 1.0, false));
+            clock.addAndGet(30_000);
+            Outcome after = policy.evaluate(2, new Sample(7000, 8, 1.0, false));
+
+            // Assert
+            assertThat(cooling).isEqualTo(new Outcome(2, Decision.COOLDOWN));
+            assertThat(after).isEqualTo(new Outcome(4, Decision.SCALE_UP));
+        }
+    }
+
+    @Nested
+    @DisplayName("Redução de concorrência")
+    class ScaleDown {
+
+        @Test
+        @DisplayName("Deve reduzir em um após rodadas consecutivas com lag baixo")
+        void shouldScaleDownAfterStableRounds() {
+            // Act
+            Outcome first = policy.evaluate(4, new Sample(2, 8, 0.5, false));
+            Outcome second = policy.evaluate(4, new Sample(0, 8, 0.5, false));
+            Outcome third = policy.evaluate(4, new Sample(1, 8, 0.5, false));
+
+            // Assert
+            assertThat(first.decision()).isEqualTo(Decision.HOLD);
+            assertThat(second.decision()).isEqualTo(Decision.HOLD);
+            assertThat(third).isEqualTo(new Outcome(3, Decision.SCALE_DOWN));
+        }
+
+        @Test
+        @DisplayName("Lag intermediário deve reiniciar a contagem de rodadas")
+        void shouldResetRoundsOnModerateLag() {
+            // Act
+            policy.evaluate(4, new Sample(0, 8, 0.5, false));
+            policy.evaluate(4, new Sample(0, 8, 0.5, false));
+            policy.evaluate(4, new Sample(20, 8, 0.5, false));
+            Outcome outcome = policy.evaluate(4, new Sample(0, 8, 0.5, false));
+
+            // Assert
+            assertThat(outcome).isEqualTo(new Outcome(4, Decision.HOLD));
+        }
+
+        @Test
+        @DisplayName("Não deve ficar abaixo do mínimo")
+        void shouldNotGoBelowMinimum() {
+            // Act
+            for (int i = 0; i < 5; i++) {
+                policy.evaluate(1, new Sample(0, 8, 0.5, false));
+            }
+            Outcome outcome = policy.evaluate(1, new Sample(0, 8, 0.5, false));
+
+            // Assert
+            assertThat(outcome).isEqualTo(new Outcome(1, Decision.HOLD));
+        }
+
+        @Test
+        @DisplayName("Deve reduzir imediatamente quando há mais threads que partições")
+        void shouldShrinkToThreadCap() {
+            // Act
+            Outcome outcome = policy.evaluate(6, new Sample(200, 2, 0.5, false));
+
+            // Assert
+            assertThat(outcome).isEqualTo(new Outcome(2, Decision.SCALE_DOWN));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limites inválidos")
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> new Settings(3, 2, 50, 5, 3, Duration.ofSeconds(60), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Settings(1, 2, 5, 5, 3, Duration.ofSeconds(60), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
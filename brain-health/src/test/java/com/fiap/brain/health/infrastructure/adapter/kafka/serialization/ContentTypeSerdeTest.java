@@ -0,0 +1,272 @@
+package com.fiap.brain.health.infrastructure.adapter.kafka.serialization;
+
+import com.fiap.brain.health.api.dto.kafka.BrainHealthRequestMessage;
+import com.fiap.brain.health.api.dto.kafka.BrainHealthResponseMessage;
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+import com.fiap.brain.health.api.dto.response.Quiz;
+import com.fiap.brain.health.api.dto.response.Recommendation;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.GenericRecordBuilder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Serialização Kafka JSON/Avro - Testes Unitários")
+class ContentTypeSerdeTest {
+
+    private static final String TOPIC = "brain-health-request-test";
+
+    private final BrainHealthRequestMessage request = new BrainHealthRequestMessage(
+            10L, 20L, "Saúde Mental", "Meditação diária", "Meditar 10 minutos por dia",
+            "msg-1", "corr-1", LocalDateTime.of(2025, 3, 10, 8, 30, 15, 123_456_000));
+
+    private final BrainHealthResponseMessage response = BrainHealthResponseMessage.builder()
+            .messageId("msg-1")
+            .userId(20L)
+            .goalId(10L)
+            .correlationId("corr-1")
+            .articleResponse(new ArticleResponse(
+                    "Benefícios da Meditação",
+                    "Introdução",
+                    List.of(new Recommendation("Rotina", "Pratique todo dia", List.of("Comece com 5 minutos"))),
+                    "Conclusão",
+                    List.of(new Quiz("Quanto tempo?", List.of("5", "10"), "10")),
+                    "https://example.com/artigo",
+                    LocalDateTime.of(2025, 3, 10, 8, 31)))
+            .status(BrainHealthResponseMessage.ProcessingStatus.SUCCESS)
+            .processedAt(LocalDateTime.of(2025, 3, 10, 8, 32))
+            .build();
+
+    @Nested
+    @DisplayName("Codec Avro")
+    class AvroCodec {
+
+        @Test
+        @DisplayName("Deve preservar todos os campos da requisição no round-trip")
+        void shouldRoundTripRequest() {
+            // Act
+            BrainHealthRequestMessage decoded =
+                    BrainHealthAvroCodec.decodeRequest(BrainHealthAvroCodec.encodeRequest(request));
+
+            // Assert
+            assertThat(decoded).isEqualTo(request);
+        }
+
+        @Test
+        @DisplayName("Deve preservar artigo, recomendações e quizzes da resposta no round-trip")
+        void shouldRoundTripResponse() {
+            // Act
+            BrainHealthResponseMessage decoded =
+                    BrainHealthAvroCodec.decodeResponse(BrainHealthAvroCodec.encodeResponse(response));
+
+            // Assert
+            assertThat(decoded).isEqualTo(response);
+        }
+
+        @Test
+        @DisplayName("Deve aceitar resposta de erro sem artigo")
+        void shouldRoundTripFailedResponseWithoutArticle() {
+            // Arrange
+            BrainHealthResponseMessage failed = BrainHealthResponseMessage.builder()
+                    .messageId("msg-2")
+                    .status(BrainHealthResponseMessage.ProcessingStatus.FAILED)
+                    .errorMessage("timeout")
+                    .build();
+
+            // Act
+            BrainHealthResponseMessage decoded =
+                    BrainHealthAvroCodec.decodeResponse(BrainHealthAvroCodec.encodeResponse(failed));
+
+            // Assert
+            assertThat(decoded).isEqualTo(failed);
+        }
+
+        @Test
+        @DisplayName("Deve gerar payload menor que o JSON equivalente")
+        void shouldBeSmallerThanJson() {
+            // Arrange
+            ContentTypeSerializer<BrainHealthResponseMessage> json =
+                    new ContentTypeSerializer<>(KafkaWireFormat.JSON, BrainHealthAvroCodec.RESPONSES);
+
+            // Act & Assert
+            assertThat(BrainHealthAvroCodec.encodeResponse(response).length)
+                    .isLessThan(json.serialize(TOPIC, response).length);
+        }
+
+        @Test
+        @DisplayName("Deve lançar SerializationException para payload inválido")
+        void shouldFailOnCorruptedPayload() {
+            assertThatThrownBy(() -> BrainHealthAvroCodec.decodeResponse(new byte[]{1, 2, 3}))
+                    .isInstanceOf(SerializationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Header content-type")
+    class ContentTypeHeader {
+
+        private final ContentTypeDeserializer<BrainHealthRequestMessage> deserializer =
+                new ContentTypeDeserializer<>(BrainHealthRequestMessage.class, BrainHealthAvroCodec.REQUESTS);
+
+        @Test
+        @DisplayName("Deve marcar o header conforme o formato configurado")
+        void shouldStampContentTypeHeader() {
+            // Arrange
+            RecordHeaders headers = new RecordHeaders();
+            ContentTypeSerializer<BrainHealthRequestMessage> serializer =
+                    new ContentTypeSerializer<>(KafkaWireFormat.AVRO, BrainHealthAvroCodec.REQUESTS);
+
+            // Act
+            serializer.serialize(TOPIC, headers, request);
+
+            // Assert
+            assertThat(new String(headers.lastHeader(KafkaWireFormat.HEADER).value(), StandardCharsets.UTF_8))
+                    .isEqualTo("application/avro; version=1");
+        }
+
+        @Test
+        @DisplayName("Deve ler Avro sem versão no header como versão 1")
+        void shouldReadAvroWithoutVersionAsFirstVersion() {
+            // Arrange
+            RecordHeaders headers = new RecordHeaders();
+            headers.add(KafkaWireFormat.HEADER, "application/avro".getBytes(StandardCharsets.UTF_8));
+
+            // Act
+            BrainHealthRequestMessage decoded =
+                    deserializer.deserialize(TOPIC, headers, BrainHealthAvroCodec.encodeRequest(request));
+
+            // Assert
+            assertThat(decoded).isEqualTo(request);
+        }
+
+        @Test
+        @DisplayName("Deve ler JSON e Avro no mesmo tópico")
+        void shouldReadMixedFormats() {
+            // Arrange
+            RecordHeaders jsonHeaders = new RecordHeaders();
+            RecordHeaders avroHeaders = new RecordHeaders();
+            byte[] json = new ContentTypeSerializer<>(KafkaWireFormat.JSON, BrainHealthAvroCodec.REQUESTS)
+                    .serialize(TOPIC, jsonHeaders, request);
+            byte[] avro = new ContentTypeSerializer<>(KafkaWireFormat.AVRO, BrainHealthAvroCodec.REQUESTS)
+                    .serialize(TOPIC, avroHeaders, request);
+
+            // Act & Assert
+            assertThat(deserializer.deserialize(TOPIC, jsonHeaders, json)).isEqualTo(request);
+            assertThat(deserializer.deserialize(TOPIC, avroHeaders, avro)).isEqualTo(request);
+        }
+
+        @Test
+        @DisplayName("Deve tratar mensagens sem header como JSON (check-health)")
+        void shouldDefaultToJsonWithoutHeader() {
+            // Arrange
+            byte[] payload = """
+                    {"goalId":10,"userId":20,"category":"Saúde Mental","title":"Meditação diária","description":"Meditar"}
+                    """.getBytes(StandardCharsets.UTF_8);
+
+            // Act
+            BrainHealthRequestMessage decoded = deserializer.deserialize(TOPIC, new RecordHeaders(), payload);
+
+            // Assert
+            assertThat(decoded.goalId()).isEqualTo(10L);
+            assertThat(decoded.title()).isEqualTo("Meditação diária");
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar content-type desconhecido")
+        void shouldRejectUnknownContentType() {
+            // Arrange
+            RecordHeaders headers = new RecordHeaders();
+            headers.add(KafkaWireFormat.HEADER, "application/xml".getBytes(StandardCharsets.UTF_8));
+
+            // Act & Assert
+            assertThatThrownBy(() -> deserializer.deserialize(TOPIC, headers, new byte[]{1}))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("application/xml");
+        }
+    }
+
+    @Nested
+    @DisplayName("Evolução do schema")
+    class SchemaEvolution {
+
+        @Test
+        @DisplayName("Cada versão deve ler os registros de todas as versões anteriores")
+        void shouldReadEveryOlderVersion() {
+            for (String name : List.of("brain-health-request", "brain-health-response")) {
+                List<Schema> history = BrainHealthAvroCodec.schemaHistory(name);
+                for (int reader = 0; reader < history.size(); reader++) {
+                    for (int writer = 0; writer <= reader; writer++) {
+                        assertThat(SchemaCompatibility.checkReaderWriterCompatibility(
+                                        history.get(reader), history.get(writer)).getType())
+                                .as("%s v%d lendo v%d", name, reader + 1, writer + 1)
+                                .isEqualTo(SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE);
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Deve ler resposta gravada na versão 1 sem articleReference")
+        void shouldReadFirstVersionResponse() throws IOException {
+            // Arrange
+            Schema v1 = BrainHealthAvroCodec.schemaHistory("brain-health-response").get(0);
+            GenericRecord record = new GenericRecordBuilder(v1)
+                    .set("messageId", "msg-1")
+                    .set("goalId", 10L)
+                    .set("status", new GenericData.EnumSymbol(v1.getField("status").schema(), "FAILED"))
+                    .set("errorMessage", "timeout")
+                    .build();
+
+            // Act
+            BrainHealthResponseMessage decoded = BrainHealthAvroCodec.decodeResponse(write(record), 1);
+
+            // Assert
+            assertThat(decoded.messageId()).isEqualTo("msg-1");
+            assertThat(decoded.status()).isEqualTo(BrainHealthResponseMessage.ProcessingStatus.FAILED);
+            assertThat(decoded.errorMessage()).isEqualTo("timeout");
+            assertThat(decoded.articleReference()).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar registro de uma versão mais nova que a do leitor")
+        void shouldRejectNewerVersion() {
+            // Arrange
+            RecordHeaders headers = new RecordHeaders();
+            int future = BrainHealthAvroCodec.RESPONSES.schemaVersion() + 1;
+            headers.add(KafkaWireFormat.HEADER,
+                    ("application/avro; version=" + future).getBytes(StandardCharsets.UTF_8));
+            ContentTypeDeserializer<BrainHealthResponseMessage> deserializer =
+                    new ContentTypeDeserializer<>(BrainHealthResponseMessage.class, BrainHealthAvroCodec.RESPONSES);
+
+            // Act & Assert
+            assertThatThrownBy(() -> deserializer.deserialize(TOPIC, headers, BrainHealthAvroCodec.encodeResponse(response)))
+                    .isInstanceOf(SerializationException.class)
+                    .hasMessageContaining("version " + future);
+        }
+
+        private byte[] write(GenericRecord record) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+            new GenericDatumWriter<GenericRecord>(record.getSchema()).write(record, encoder);
+            encoder.flush();
+            return out.toByteArray();
+        }
+    }
+}
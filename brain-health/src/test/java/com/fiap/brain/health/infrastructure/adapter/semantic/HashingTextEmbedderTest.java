@@ -0,0 +1,97 @@
+package com.fiap.brain.health.infrastructure.adapter.semantic;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HashingTextEmbedder - Testes Unitários")
+class HashingTextEmbedderTest {
+
+    private static final double THRESHOLD = 0.72;
+
+    private static HashingTextEmbedder embedder;
+
+    @BeforeAll
+    static void loadLexicon() throws IOException {
+        try (InputStream lexicon = HashingTextEmbedderTest.class.getResourceAsStream("/semantic/concepts-pt.txt")) {
+            embedder = new HashingTextEmbedder(512, HashingTextEmbedder.loadConcepts(lexicon));
+        }
+    }
+
+    private double similarity(String a, String b) {
+        return TextEmbedder.cosine(embedder.embed(a), embedder.embed(b));
+    }
+
+    @Test
+    @DisplayName("Deve gerar vetor unitário e ignorar caixa e acentos")
+    void shouldBeNormalizedAndAccentInsensitive() {
+        // Arrange
+        float[] vector = embedder.embed("Beber mais água");
+
+        // Act
+        double norm = TextEmbedder.cosine(vector, vector);
+
+        // Assert
+        assertThat(vector).hasSize(512);
+        assertThat(norm).isCloseTo(1.0, within(1e-5));
+        assertThat(similarity("Beber mais água", "BEBER MAIS AGUA!")).isCloseTo(1.0, within(1e-5));
+    }
+
+    @ParameterizedTest(name = "\"{0}\" ~ \"{1}\"")
+    @CsvSource({
+            "dormir melhor, melhorar o sono",
+            "melhorar o sono, Melhorar a qualidade do sono",
+            "Caminhar 30 minutos, caminhada de 30 minutos",
+            "beber 2 litros de água, beber mais água"
+    })
+    @DisplayName("Deve aproximar títulos com o mesmo sentido acima do limiar")
+    void shouldMatchParaphrases(String first, String second) {
+        assertThat(similarity(first, second)).isGreaterThanOrEqualTo(THRESHOLD);
+    }
+
+    @ParameterizedTest(name = "\"{0}\" != \"{1}\"")
+    @CsvSource({
+            "dormir melhor, correr 5km",
+            "melhorar o sono, melhorar a alimentação",
+            "Correr 5km, correr 10km",
+            "Parar de fumar, reduzir o açúcar"
+    })
+    @DisplayName("Deve manter metas diferentes abaixo do limiar mesmo com palavras em comum")
+    void shouldSeparateDifferentGoals(String first, String second) {
+        assertThat(similarity(first, second)).isLessThan(THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("Deve retornar vetor nulo para título só com stopwords")
+    void shouldReturnZeroVectorForStopWordsOnly() {
+        // Act
+        float[] vector = embedder.embed("de a o");
+
+        // Assert
+        assertThat(TextEmbedder.cosine(vector, vector)).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve recusar termo com mais de uma palavra no léxico")
+    void shouldRejectMultiWordTerms() {
+        // Arrange
+        InputStream lexicon = new ByteArrayInputStream(
+                "mental: mental, bem-estar\n".getBytes(StandardCharsets.UTF_8));
+
+        // Act / Assert
+        assertThatThrownBy(() -> HashingTextEmbedder.loadConcepts(lexicon))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("bem-estar");
+    }
+}
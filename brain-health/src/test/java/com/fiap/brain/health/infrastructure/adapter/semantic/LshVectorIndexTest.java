@@ -0,0 +1,149 @@
+package com.fiap.brain.health.infrastructure.adapter.semantic;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LshVectorIndex - Testes Unitários")
+class LshVectorIndexTest {
+
+    private static final int DIMENSIONS = 64;
+
+    @TempDir
+    Path dir;
+
+    private final Random random = new Random(7);
+
+    private LshVectorIndex index(int maxEntries) {
+        return new LshVectorIndex(new LshVectorIndex.Settings(DIMENSIONS, 16, 6, maxEntries, 42));
+    }
+
+    private float[] randomUnit() {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return normalize(vector);
+    }
+
+    /** A unit vector at cosine {@code similarity} from {@code base}. */
+    private float[] neighbour(float[] base, double similarity) {
+        float[] noise = randomUnit();
+        double projection = TextEmbedder.cosine(base, noise);
+        float[] orthogonal = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            orthogonal[i] = (float) (noise[i] - projection * base[i]);
+        }
+        normalize(orthogonal);
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) (similarity * base[i] + Math.sqrt(1 - similarity * similarity) * orthogonal[i]);
+        }
+        return vector;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = Math.sqrt(TextEmbedder.cosine(vector, vector));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] /= (float) norm;
+        }
+        return vector;
+    }
+
+    private static byte[] payload(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Deve encontrar o vizinho mais próximo e respeitar a similaridade mínima")
+    void shouldFindNearestAboveMinimum() {
+        // Arrange
+        LshVectorIndex index = index(100);
+        float[] sono = randomUnit();
+        index.add("sono", sono, payload("artigo sono"));
+        index.add("agua", randomUnit(), payload("artigo agua"));
+
+        // Act
+        var hit = index.nearest(neighbour(sono, 0.95), 0.72);
+        var tooFar = index.nearest(neighbour(sono, 0.5), 0.72);
+
+        // Assert
+        assertThat(hit).isPresent();
+        assertThat(hit.get().key()).isEqualTo("sono");
+        assertThat(hit.get().similarity()).isCloseTo(0.95, within(1e-3));
+        assertThat(hit.get().payload()).isEqualTo(payload("artigo sono"));
+        assertThat(tooFar).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve substituir a entrada com a mesma chave e descartar a mais antiga no limite")
+    void shouldReplaceSameKeyAndEvictOldest() {
+        // Arrange
+        LshVectorIndex index = index(2);
+        float[] first = randomUnit();
+        float[] second = randomUnit();
+        float[] third = randomUnit();
+
+        // Act
+        index.add("primeiro", first, payload("v1"));
+        index.add("primeiro", first, payload("v2"));
+        index.add("segundo", second, payload("x"));
+        index.add("terceiro", third, payload("y"));
+
+        // Assert
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.nearest(first, 0.99)).isEmpty();
+        assertThat(index.nearest(third, 0.99)).map(LshVectorIndex.Hit::key).contains("terceiro");
+    }
+
+    @Test
+    @DisplayName("Deve salvar e recarregar o índice do disco")
+    void shouldSaveAndLoad() throws IOException {
+        // Arrange
+        LshVectorIndex original = index(100);
+        float[] caminhada = randomUnit();
+        original.add("caminhada", caminhada, payload("artigo caminhada"));
+        original.add("sono", randomUnit(), payload("artigo sono"));
+        Path file = dir.resolve("index.bin");
+
+        // Act
+        original.save(file);
+        LshVectorIndex reloaded = index(100);
+        int loaded = reloaded.load(file);
+
+        // Assert
+        assertThat(loaded).isEqualTo(2);
+        assertThat(reloaded.size()).isEqualTo(2);
+        assertThat(reloaded.nearest(caminhada, 0.99))
+                .map(hit -> new String(hit.payload(), StandardCharsets.UTF_8))
+                .contains("artigo caminhada");
+    }
+
+    @Test
+    @DisplayName("Deve ignorar arquivo inexistente e rejeitar dimensões diferentes")
+    void shouldHandleMissingAndIncompatibleFiles() throws IOException {
+        // Arrange
+        Path file = dir.resolve("index.bin");
+        LshVectorIndex other = new LshVectorIndex(new LshVectorIndex.Settings(32, 4, 6, 10, 1));
+        other.add("sono", new float[32], payload("x"));
+
+        // Act
+        int missing = index(10).load(file);
+        other.save(file);
+
+        // Assert
+        assertThat(missing).isZero();
+        assertThatThrownBy(() -> index(10).load(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("32 dimensions");
+    }
+}
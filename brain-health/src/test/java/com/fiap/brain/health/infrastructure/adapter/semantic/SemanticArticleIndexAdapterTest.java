@@ -0,0 +1,106 @@
+package com.fiap.brain.health.infrastructure.adapter.semantic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SemanticArticleIndexAdapter - Testes Unitários")
+class SemanticArticleIndexAdapterTest {
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private SemanticArticleIndexAdapter adapter(Path file) throws IOException {
+        Map<String, String> concepts;
+        try (InputStream lexicon = getClass().getResourceAsStream("/semantic/concepts-pt.txt")) {
+            concepts = HashingTextEmbedder.loadConcepts(lexicon);
+        }
+        return new SemanticArticleIndexAdapter(new HashingTextEmbedder(512, concepts),
+                new LshVectorIndex(new LshVectorIndex.Settings(512, 16, 6, 100, 42)),
+                file, 0.72, objectMapper, meterRegistry);
+    }
+
+    private ArticleResponse article(String title) {
+        return new ArticleResponse(title, "Introdução", List.of(), "Conclusão", List.of(),
+                "https://cremesp.org.br/artigo", LocalDateTime.of(2026, 1, 10, 8, 0));
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("brain.health.semantic.lookups").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar o artigo de um tópico semelhante e registrar as métricas")
+    void shouldReuseArticleOfSimilarTopic() throws IOException {
+        // Arrange
+        SemanticArticleIndexAdapter adapter = adapter(dir.resolve("index.bin"));
+        ArticleResponse sono = article("Higiene do sono");
+        adapter.index("Melhorar o sono", sono);
+
+        // Act
+        var match = adapter.findSimilar("Dormir melhor");
+        var miss = adapter.findSimilar("Correr 5km");
+
+        // Assert
+        assertThat(match).isPresent();
+        assertThat(match.get().topic()).isEqualTo("melhorar o sono");
+        assertThat(match.get().similarity()).isGreaterThanOrEqualTo(0.72);
+        assertThat(match.get().article()).isEqualTo(sono);
+        assertThat(miss).isEmpty();
+        assertThat(lookups("reused")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(1);
+        assertThat(meterRegistry.get("brain.health.semantic.similarity").summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("brain.health.semantic.index.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve persistir no flush e recarregar em uma nova instância")
+    void shouldPersistAcrossRestarts() throws IOException {
+        // Arrange
+        Path file = dir.resolve("data").resolve("index.bin");
+        SemanticArticleIndexAdapter first = adapter(file);
+        first.index("Caminhar 30 minutos", article("Benefícios da Caminhada"));
+
+        // Act
+        first.close();
+        SemanticArticleIndexAdapter restarted = adapter(file);
+        restarted.load();
+
+        // Assert
+        assertThat(Files.exists(file)).isTrue();
+        assertThat(restarted.findSimilar("caminhada de 30 minutos"))
+                .map(match -> match.article().title())
+                .contains("Benefícios da Caminhada");
+    }
+
+    @Test
+    @DisplayName("Não deve indexar nem buscar títulos vazios")
+    void shouldIgnoreBlankTopics() throws IOException {
+        // Arrange
+        SemanticArticleIndexAdapter adapter = adapter(dir.resolve("index.bin"));
+
+        // Act
+        adapter.index("  ", article("Qualquer"));
+        var match = adapter.findSimilar("");
+
+        // Assert
+        assertThat(match).isEmpty();
+        assertThat(meterRegistry.get("brain.health.semantic.index.size").gauge().value()).isZero();
+    }
+}
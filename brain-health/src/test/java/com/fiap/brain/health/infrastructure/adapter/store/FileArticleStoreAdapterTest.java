@@ -0,0 +1,102 @@
+package com.fiap.brain.health.infrastructure.adapter.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.brain.health.api.dto.response.ArticleResponse;
+import com.fiap.brain.health.api.dto.response.Quiz;
+import com.fiap.brain.health.api.dto.response.Recommendation;
+import com.fiap.brain.health.domain.port.ArticleStorePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FileArticleStoreAdapter - Testes Unitários")
+class FileArticleStoreAdapterTest {
+
+    @TempDir
+    Path storeDir;
+
+    private FileArticleStoreAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new FileArticleStoreAdapter(new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(adapter, "enabled", true);
+        ReflectionTestUtils.setField(adapter, "basePath", storeDir);
+    }
+
+    private ArticleResponse article(LocalDateTime timestamp) {
+        return new ArticleResponse(
+                "Benefícios da Caminhada",
+                "A caminhada é benéfica para saúde",
+                List.of(new Recommendation("Frequência", "30 min/dia", List.of("Começar devagar"))),
+                "Conclusão sobre caminhada",
+                List.of(new Quiz("Quantos minutos?", List.of("10", "30", "60"), "30")),
+                "https://cremesp.org.br/artigo",
+                timestamp
+        );
+    }
+
+    @Nested
+    @DisplayName("Armazenamento")
+    class Store {
+
+        @Test
+        @DisplayName("Deve gravar o artigo com chave SHA-256 e ler de volta")
+        void shouldStoreAndFindArticle() {
+            // Arrange
+            ArticleResponse article = article(LocalDateTime.of(2025, 3, 10, 8, 30));
+
+            // Act
+            Optional<ArticleStorePort.StoredArticle> stored = adapter.store(article);
+
+            // Assert
+            assertThat(stored).isPresent();
+            assertThat(stored.get().contentHash()).matches("[0-9a-f]{64}");
+            assertThat(stored.get().sizeBytes()).isPositive();
+            assertThat(adapter.find(stored.get().contentHash())).contains(article);
+        }
+
+        @Test
+        @DisplayName("Deve deduplicar artigos com mesmo conteúdo e timestamps diferentes")
+        void shouldDeduplicateSameContent() throws IOException {
+            // Act
+            String first = adapter.store(article(LocalDateTime.of(2025, 3, 10, 8, 30))).orElseThrow().contentHash();
+            String second = adapter.store(article(LocalDateTime.of(2025, 3, 11, 9, 0))).orElseThrow().contentHash();
+
+            // Assert
+            assertThat(second).isEqualTo(first);
+            try (Stream<Path> files = Files.walk(storeDir)) {
+                assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+            }
+        }
+
+        @Test
+        @DisplayName("Deve retornar vazio quando o store está desabilitado")
+        void shouldReturnEmptyWhenDisabled() {
+            // Arrange
+            ReflectionTestUtils.setField(adapter, "enabled", false);
+
+            // Act & Assert
+            assertThat(adapter.store(article(LocalDateTime.now()))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve retornar vazio para hash inexistente")
+        void shouldReturnEmptyForUnknownHash() {
+            assertThat(adapter.find("0".repeat(64))).isEmpty();
+        }
+    }
+}
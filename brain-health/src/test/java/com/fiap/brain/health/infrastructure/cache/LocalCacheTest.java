@@ -0,0 +1,75 @@
+package com.fiap.brain.health.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalCache - Testes Unitários")
+class LocalCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Deve retornar o valor gravado e contar hit e miss")
+    void shouldCountHitsAndMisses() {
+        // Arrange
+        LocalCache<String> cache = new LocalCache<>("article", 10, Duration.ofMinutes(1), meterRegistry, clock::get);
+        cache.put("caminhada", "artigo");
+
+        // Act
+        var hit = cache.get("caminhada");
+        var miss = cache.get("sono");
+
+        // Assert
+        assertThat(hit).contains("artigo");
+        assertThat(miss).isEmpty();
+        assertThat(meterRegistry.get("brain.health.cache.requests").tags("cache", "article", "result", "hit")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("brain.health.cache.requests").tags("cache", "article", "result", "miss")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("brain.health.cache.size").tag("cache", "article").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve expirar entradas após o TTL")
+    void shouldExpireAfterTtl() {
+        // Arrange
+        LocalCache<String> cache = new LocalCache<>("ai", 10, Duration.ofSeconds(30), meterRegistry, clock::get);
+        cache.put("caminhada", "conteudo");
+
+        // Act
+        clock.addAndGet(Duration.ofSeconds(29).toNanos());
+        var fresh = cache.get("caminhada");
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        var expired = cache.get("caminhada");
+
+        // Assert
+        assertThat(fresh).isPresent();
+        assertThat(expired).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descartar a entrada menos usada recentemente ao atingir o limite")
+    void shouldEvictLeastRecentlyUsed() {
+        // Arrange
+        LocalCache<String> cache = new LocalCache<>("article", 2, Duration.ofMinutes(1), meterRegistry, clock::get);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+
+        // Act
+        cache.put("c", "3");
+
+        // Assert
+        assertThat(cache.get("a")).isPresent();
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("c")).isPresent();
+    }
+}
@@ -0,0 +1,50 @@
+package com.fiap.brain.health.infrastructure.config;
+
+import com.fiap.brain.health.infrastructure.adapter.kafka.serialization.KafkaWireFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KafkaProducerConfig - Testes Unitários")
+class KafkaProducerConfigTest {
+
+    private KafkaProducerConfig config(String responseFormat) {
+        KafkaProducerConfig config = new KafkaProducerConfig();
+        ReflectionTestUtils.setField(config, "responseFormat", responseFormat);
+        return config;
+    }
+
+    @Test
+    @DisplayName("Deve publicar goal.progress.updated em JSON")
+    void shouldAcceptJsonResponses() {
+        assertThat(config("json").responseWireFormat()).isEqualTo(KafkaWireFormat.JSON);
+    }
+
+    @Test
+    @DisplayName("Deve recusar Avro em goal.progress.updated enquanto o check-health só lê JSON")
+    void shouldRefuseAvroResponses() {
+        assertThatThrownBy(() -> config("avro").responseWireFormat())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("check-health");
+    }
+
+    @Test
+    @DisplayName("Deve adiar para o backfill pelo producer transacional do listener")
+    void shouldShareTransactionalProducerWithRequestTemplate() {
+        KafkaProducerConfig config = config("json");
+        ReflectionTestUtils.setField(config, "bootstrapServers", "localhost:9092");
+        ReflectionTestUtils.setField(config, "requestFormat", "json");
+        ReflectionTestUtils.setField(config, "transactionsEnabled", true);
+        ReflectionTestUtils.setField(config, "transactionIdPrefix", "brain-health-tx-");
+        ReflectionTestUtils.setField(config, "transactionTimeoutMs", 300000);
+
+        KafkaTemplate<String, ?> requestTemplate = config.requestKafkaTemplate();
+
+        assertThat(requestTemplate.getProducerFactory().transactionCapable()).isTrue();
+        assertThat(requestTemplate.isAllowNonTransactional()).isTrue();
+    }
+}
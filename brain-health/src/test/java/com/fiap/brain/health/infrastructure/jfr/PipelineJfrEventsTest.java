@@ -0,0 +1,87 @@
+package com.fiap.brain.health.infrastructure.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Eventos JFR do Pipeline - Testes Unitários")
+class PipelineJfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Deve gravar fetch com host, tamanho e resultado")
+    void shouldRecordFetchEvent() throws Exception {
+        // Act
+        List<RecordedEvent> events = record("com.fiap.brain.health.HtmlFetch", () -> {
+            HtmlFetchEvent event = new HtmlFetchEvent();
+            event.begin();
+            event.finish("cremesp.org.br", 4_096, "success");
+        });
+
+        // Assert
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("host")).isEqualTo("cremesp.org.br");
+        assertThat(event.getLong("responseChars")).isEqualTo(4_096);
+        assertThat(event.getString("outcome")).isEqualTo("success");
+        assertThat(event.getStackTrace()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve gravar extração jsoup com tamanhos de entrada e saída")
+    void shouldRecordParseEvent() throws Exception {
+        // Act
+        List<RecordedEvent> events = record("com.fiap.brain.health.HtmlParse", () -> {
+            HtmlParseEvent event = new HtmlParseEvent();
+            event.begin();
+            event.finish("article_content", 50_000, 8_000, 1, "success");
+        });
+
+        // Assert
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("extraction")).isEqualTo("article_content");
+        assertThat(events.get(0).getLong("inputChars")).isEqualTo(50_000);
+        assertThat(events.get(0).getLong("outputChars")).isEqualTo(8_000);
+    }
+
+    @Test
+    @DisplayName("Deve gravar chamada OpenAI com tokens desconhecidos como -1")
+    void shouldRecordOpenAICallEvent() throws Exception {
+        // Act
+        List<RecordedEvent> events = record("com.fiap.brain.health.OpenAICall", () -> {
+            OpenAICallEvent event = new OpenAICallEvent();
+            event.begin();
+            event.finish("gpt-4o-mini", 9_000, 2_500, -1, -1, "error");
+        });
+
+        // Assert
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("model")).isEqualTo("gpt-4o-mini");
+        assertThat(events.get(0).getLong("promptTokens")).isEqualTo(-1);
+        assertThat(events.get(0).getString("outcome")).isEqualTo("error");
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = tempDir.resolve("pipeline.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .toList();
+    }
+}
@@ -0,0 +1,115 @@
+package com.fiap.brain.health.infrastructure.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GradientLimit - Testes Unitários")
+class GradientLimitTest {
+
+    @Test
+    @DisplayName("Deve rejeitar imediatamente acima do limite")
+    void shouldRejectAboveLimit() {
+        // Arrange
+        GradientLimit limit = new GradientLimit(2, 1, 10, 0.2, 1.5, 100);
+
+        // Act & Assert
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(2);
+
+        limit.release();
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve aumentar o limite enquanto a latência fica no patamar base")
+    void shouldGrowWhileLatencyIsStable() {
+        // Arrange
+        GradientLimit limit = new GradientLimit(10, 1, 100, 0.2, 1.5, 100);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            saturate(limit, 10);
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite quando a latência sobe acima da tolerância")
+    void shouldShrinkWhenLatencyRises() {
+        // Arrange
+        GradientLimit limit = new GradientLimit(20, 1, 100, 0.2, 1.5, 100);
+        for (int i = 0; i < 3; i++) {
+            saturate(limit, 10);
+        }
+        int baselineLimit = limit.getLimit();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            saturate(limit, 200);
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isLessThan(baselineLimit);
+        assertThat(limit.getLongRttMillis()).isLessThan(200);
+    }
+
+    @Test
+    @DisplayName("Não deve aumentar o limite quando está subutilizado")
+    void shouldNotGrowWhenAppLimited() {
+        // Arrange
+        GradientLimit limit = new GradientLimit(20, 1, 100, 0.2, 1.5, 100);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite mínimo em falhas sucessivas")
+    void shouldRespectMinimumOnDrops() {
+        // Arrange
+        GradientLimit limit = new GradientLimit(10, 3, 100, 1.0, 1.5, 100);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+            limit.release(TimeUnit.MILLISECONDS.toNanos(10), true);
+        }
+
+        // Assert
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(3).isLessThan(10);
+    }
+
+    @Test
+    @DisplayName("Deve validar os parâmetros")
+    void shouldValidateSettings() {
+        assertThatThrownBy(() -> new GradientLimit(10, 0, 100, 0.2, 1.5, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GradientLimit(10, 1, 100, 0.2, 0.9, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void saturate(GradientLimit limit, long rttMillis) {
+        int acquired = 0;
+        while (limit.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limit.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), false);
+        }
+    }
+}
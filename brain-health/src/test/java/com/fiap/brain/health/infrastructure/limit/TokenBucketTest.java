@@ -0,0 +1,60 @@
+package com.fiap.brain.health.infrastructure.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucket - Testes Unitários")
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Deve consumir até a capacidade e reabastecer conforme a taxa")
+    void shouldConsumeUpToCapacityAndRefill() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(2, 1, clock::get);
+
+        // Act & Assert
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isTrue();
+        assertThat(bucket.tryConsume()).isFalse();
+        assertThat(bucket.nanosUntilAvailable())
+                .isBetween(TimeUnit.MILLISECONDS.toNanos(999), TimeUnit.MILLISECONDS.toNanos(1001));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1500));
+        assertThat(bucket.tryConsume()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve reduzir os tokens ao sincronizar com o restante informado pelo upstream")
+    void shouldSyncDownToRemaining() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(10, 1, clock::get);
+
+        // Act
+        bucket.sync(3);
+        bucket.sync(8);
+
+        // Assert
+        assertThat(bucket.available()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve limitar os tokens à nova capacidade ao redimensionar")
+    void shouldClampTokensOnResize() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(500, 500 / 60.0, clock::get);
+
+        // Act
+        bucket.resize(60, 1);
+
+        // Assert
+        assertThat(bucket.getCapacity()).isEqualTo(60);
+        assertThat(bucket.available()).isEqualTo(60);
+    }
+}
@@ -0,0 +1,59 @@
+package com.fiap.brain.health.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PipelineMetrics - Testes Unitários")
+class PipelineMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PipelineMetrics metrics = new PipelineMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("Deve registrar timers com tags de host e resultado")
+    void shouldRecordTimerWithTags() {
+        // Act
+        metrics.fetch(metrics.start(), "cremesp.org.br", PipelineMetrics.SUCCESS);
+
+        // Assert
+        Timer timer = meterRegistry.get("brain.health.fetch")
+                .tag("host", "cremesp.org.br")
+                .tag("outcome", "success")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve contar tamanho do conteúdo e truncamentos por host")
+    void shouldRecordContentLengthAndTruncation() {
+        // Act
+        metrics.content("cremesp.org.br", 12_000, true);
+        metrics.content("cremesp.org.br", 3_000, false);
+
+        // Assert
+        assertThat(meterRegistry.get("brain.health.content.length").summary().totalAmount()).isEqualTo(15_000);
+        assertThat(meterRegistry.get("brain.health.content.truncated").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve extrair o host da URL e usar 'unknown' para URLs inválidas")
+    void shouldResolveHost() {
+        assertThat(PipelineMetrics.hostOf("https://cremesp.org.br/pesquisar.php?q=sono")).isEqualTo("cremesp.org.br");
+        assertThat(PipelineMetrics.hostOf("not a url")).isEqualTo(PipelineMetrics.UNKNOWN);
+        assertThat(PipelineMetrics.hostOf(null)).isEqualTo(PipelineMetrics.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("Deve usar 'unknown' quando o modelo não está configurado")
+    void shouldFallbackToUnknownModel() {
+        // Act
+        metrics.aiCall(metrics.start(), null, PipelineMetrics.ERROR);
+
+        // Assert
+        assertThat(meterRegistry.get("brain.health.ai.call").tag("model", "unknown").timer().count()).isEqualTo(1);
+    }
+}
@@ -3,10 +3,14 @@ package com.fiap.check.health.api;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.ProgressBatchRequest;
+import com.fiap.check.health.api.model.ProgressBatchResponse;
 import com.fiap.check.health.api.model.ProgressRequest;
+import com.fiap.check.health.model.GoalCategory;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,11 +19,13 @@ import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 
 @SecurityScheme(
@@ -34,16 +40,42 @@ public interface DefaultApi {
 
     @Operation(
             operationId = "goalsGet",
-            summary = "List all goals",
+            summary = "List goals (keyset pagination)",
+            description = "Goals in goal_id order, up to `limit` per page (max 100). When there are more "
+                    + "results the X-Next-Cursor header carries the cursor for the next page. "
+                    + "Articles are omitted unless include=article.",
             security = { @SecurityRequirement(name = "bearerAuth") },
             responses = {
-                    @ApiResponse(responseCode = "200", description = "List of goals",
+                    @ApiResponse(responseCode = "200", description = "Page of goals",
+                            headers = @Header(name = "X-Next-Cursor",
+                                    description = "Cursor of the next page; absent on the last page"),
                             content = @Content(mediaType = "application/json",
-                                    array = @ArraySchema(schema = @Schema(implementation = GoalResponse.class))))
+                                    array = @ArraySchema(schema = @Schema(implementation = GoalResponse.class)))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or filter")
             }
     )
     @RequestMapping(method = RequestMethod.GET, value = "/goals", produces = { "application/json" })
-    ResponseEntity<List<GoalResponse>> goalsGet() throws JsonProcessingException;
+    ResponseEntity<List<GoalResponse>> goalsGet(
+            @Parameter(name = "user_id", in = ParameterIn.QUERY)
+            @RequestParam(value = "user_id", required = false) String userId,
+            @Parameter(name = "status", in = ParameterIn.QUERY)
+            @RequestParam(value = "status", required = false) String status,
+            @Parameter(name = "category", in = ParameterIn.QUERY)
+            @RequestParam(value = "category", required = false) GoalCategory category,
+            @Parameter(name = "start_date_from", description = "Start date lower bound (inclusive)", in = ParameterIn.QUERY)
+            @RequestParam(value = "start_date_from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateFrom,
+            @Parameter(name = "start_date_to", description = "Start date upper bound (inclusive)", in = ParameterIn.QUERY)
+            @RequestParam(value = "start_date_to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateTo,
+            @Parameter(name = "cursor", description = "X-Next-Cursor of the previous page", in = ParameterIn.QUERY)
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(name = "limit", description = "Page size (default 20, max 100)", in = ParameterIn.QUERY)
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @Parameter(name = "include", description = "Set to 'article' to include each goal's article",
+                    in = ParameterIn.QUERY)
+            @RequestParam(value = "include", required = false) String include
+    ) throws JsonProcessingException;
 
     @Operation(
             operationId = "goalsPost",
@@ -134,4 +166,25 @@ public interface DefaultApi {
             @Parameter(name = "ProgressRequest", required = true)
             @Valid @RequestBody ProgressRequest progressRequest
     );
-}
\ No newline at end of file
+
+    @Operation(
+            operationId = "goalsProgressBatchPost",
+            summary = "Bulk progress check-in",
+            description = "Applies up to 500 check-ins (e.g. synced from offline use) in one transaction. "
+                    + "Each check-in is applied or rejected on its own; the response has one result per "
+                    + "check-in, in request order.",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Per check-in results",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ProgressBatchResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Empty request or more than 500 check-ins")
+            }
+    )
+    @RequestMapping(method = RequestMethod.POST, value = "/goals/progress/batch",
+            produces = { "application/json" }, consumes = { "application/json" })
+    ResponseEntity<ProgressBatchResponse> goalsProgressBatchPost(
+            @Parameter(name = "ProgressBatchRequest", required = true)
+            @Valid @RequestBody ProgressBatchRequest progressBatchRequest
+    );
+}
@@ -0,0 +1,29 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Bulk progress request (offline check-ins synced by the app)")
+public class ProgressBatchRequest {
+
+    public static final int MAX_CHECK_INS = 500;
+
+    // Itens não são validados aqui (sem @Valid): um item inválido é rejeitado sozinho na resposta
+    @NotNull
+    @Size(min = 1, max = MAX_CHECK_INS)
+    @JsonProperty("check_ins")
+    private List<ProgressCheckIn> checkIns;
+}
@@ -0,0 +1,27 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Bulk progress response, one result per check-in in request order")
+public class ProgressBatchResponse {
+
+    @JsonProperty("applied")
+    private Integer applied;
+
+    @JsonProperty("rejected")
+    private Integer rejected;
+
+    @JsonProperty("results")
+    private List<ProgressCheckInResult> results;
+}
@@ -0,0 +1,28 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One check-in of a bulk progress request")
+public class ProgressCheckIn {
+
+    @JsonProperty("goal_id")
+    private String goalId;
+
+    @JsonProperty("increment")
+    private Integer increment;
+
+    @Schema(description = "When the check-in happened on the device; defaults to the time it is received")
+    @JsonProperty("occurred_at")
+    private OffsetDateTime occurredAt;
+}
@@ -0,0 +1,41 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Outcome of one check-in of a bulk progress request")
+public class ProgressCheckInResult {
+
+    public static final String APPLIED = "applied";
+    public static final String NOT_FOUND = "not_found";
+    public static final String INVALID = "invalid";
+
+    @Schema(description = "Position of the check-in in the request")
+    @JsonProperty("index")
+    private Integer index;
+
+    @JsonProperty("goal_id")
+    private String goalId;
+
+    @Schema(description = "applied, not_found or invalid")
+    @JsonProperty("status")
+    private String status;
+
+    @Schema(description = "Why the check-in was not applied")
+    @JsonProperty("message")
+    private String message;
+
+    @Schema(description = "Goal progress after the whole request")
+    @JsonProperty("progress")
+    private GoalResponseProgress progress;
+}
@@ -0,0 +1,40 @@
+package com.fiap.check.health.config;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * Error handling of the listeners. Records a listener cannot parse are sent to
+ * {@code <topic>.DLT} by the listener itself ({@link DeadLetterPublishingRecoverer},
+ * with the original headers plus the exception headers). A batch failed at one
+ * record (claim-check article not in the store, or a write that fails) is retried
+ * from that record {@code retries} times, {@code backoff-ms} apart, and then only
+ * that record goes to the same dead-letter topic. Any other failure retries and
+ * dead-letters the whole batch.
+ * Boot applies the {@link DefaultErrorHandler} bean to the default listener factory.
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String DLT_SUFFIX = ".DLT";
+
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, String> kafkaTemplate) {
+        // Partição escolhida pela chave: o DLT não precisa ter as partições do tópico de origem
+        return new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + DLT_SUFFIX, -1));
+    }
+
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(DeadLetterPublishingRecoverer deadLetterPublishingRecoverer,
+                                                 @Value("${kafka.goal-progress.retry.backoff-ms:1000}") long backoffMillis,
+                                                 @Value("${kafka.goal-progress.retry.retries:3}") long retries) {
+        return new DefaultErrorHandler(deadLetterPublishingRecoverer, new FixedBackOff(backoffMillis, retries));
+    }
+}
@@ -0,0 +1,98 @@
+package com.fiap.check.health.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.Map;
+
+/**
+ * Provisioning of the topics check-health publishes to (goal.created) and consumes
+ * from (goal.progress.updated and its dead-letter topic), with the same defaults as
+ * brain-health. KafkaAdmin creates missing topics at startup and only ever adds
+ * partitions to existing ones. The dead-letter topic keeps records longer, since they
+ * wait there until someone inspects and replays them.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "kafka.provisioning.enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaTopicConfig {
+
+    private static final String TOPIC_GOAL_CREATED = "goal.created";
+    private static final String TOPIC_GOAL_PROGRESS_UPDATED = "goal.progress.updated";
+
+    @Value("${kafka.provisioning.partitions.goal-created:8}")
+    private int goalCreatedPartitions;
+
+    @Value("${kafka.provisioning.partitions.goal-progress-updated:6}")
+    private int goalProgressUpdatedPartitions;
+
+    @Value("${kafka.provisioning.partitions.goal-progress-updated-dlt:1}")
+    private int goalProgressUpdatedDltPartitions;
+
+    @Value("${kafka.provisioning.replication-factor:1}")
+    private short replicationFactor;
+
+    @Value("${kafka.provisioning.retention-ms:604800000}")
+    private long retentionMs;
+
+    @Value("${kafka.provisioning.dlt-retention-ms:2592000000}")
+    private long dltRetentionMs;
+
+    @Value("${kafka.provisioning.compression-type:producer}")
+    private String compressionType;
+
+    @Value("${kafka.provisioning.expected-instances:1}")
+    private int expectedInstances;
+
+    @Value("${kafka.goal-progress.concurrency:3}")
+    private int goalProgressConcurrency;
+
+    @Bean
+    public KafkaAdmin.NewTopics checkHealthTopics() {
+        warnIfListenerThreadsExceedPartitions();
+        return new KafkaAdmin.NewTopics(
+                TopicBuilder.name(TOPIC_GOAL_CREATED)
+                        .partitions(goalCreatedPartitions)
+                        .replicas(replicationFactor)
+                        .configs(topicConfig(retentionMs))
+                        .build(),
+                TopicBuilder.name(TOPIC_GOAL_PROGRESS_UPDATED)
+                        .partitions(goalProgressUpdatedPartitions)
+                        .replicas(replicationFactor)
+                        .configs(topicConfig(retentionMs))
+                        .build(),
+                TopicBuilder.name(TOPIC_GOAL_PROGRESS_UPDATED + KafkaConsumerConfig.DLT_SUFFIX)
+                        .partitions(goalProgressUpdatedDltPartitions)
+                        .replicas(replicationFactor)
+                        .configs(topicConfig(dltRetentionMs))
+                        .build()
+        );
+    }
+
+    private Map<String, String> topicConfig(long retention) {
+        return Map.of(
+                TopicConfig.RETENTION_MS_CONFIG, String.valueOf(retention),
+                TopicConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+    }
+
+    /**
+     * goal.progress.updated is the only topic check-health listens to, and a partition
+     * feeds one thread of the group. Since provisioning never shrinks a topic, the
+     * configured partition count is what the listener can rely on after startup.
+     */
+    private void warnIfListenerThreadsExceedPartitions() {
+        int threads = goalProgressConcurrency * Math.max(1, expectedInstances);
+        if (goalProgressUpdatedPartitions < threads) {
+            log.warn("Kafka topic '{}' is provisioned with {} partitions for {} listener threads "
+                            + "({} per instance x {} instances) - {} threads will stay idle",
+                    TOPIC_GOAL_PROGRESS_UPDATED, goalProgressUpdatedPartitions, threads, goalProgressConcurrency,
+                    expectedInstances, threads - goalProgressUpdatedPartitions);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.fiap.check.health.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Fold periódico dos progress_events (ProgressLog), flush do write-behind (ProgressBuffer)
+// e relay do outbox para o Kafka (OutboxRelay)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -4,18 +4,27 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fiap.check.health.api.DefaultApi;
 import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.ProgressBatchRequest;
+import com.fiap.check.health.api.model.ProgressBatchResponse;
 import com.fiap.check.health.api.model.ProgressRequest;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.service.GoalFilter;
+import com.fiap.check.health.service.GoalPage;
 import com.fiap.check.health.service.GoalService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 public class GoalController implements DefaultApi {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String INCLUDE_ARTICLE = "article";
+
     private final GoalService goalService;
 
     public GoalController(GoalService goalService) {
@@ -29,9 +38,18 @@ public class GoalController implements DefaultApi {
     }
 
     @Override
-    public ResponseEntity<List<GoalResponse>> goalsGet() throws JsonProcessingException {
-        List<GoalResponse> responses = goalService.listGoals();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<List<GoalResponse>> goalsGet(String userId, String status, GoalCategory category,
+                                                       LocalDate startDateFrom, LocalDate startDateTo,
+                                                       String cursor, Integer limit, String include)
+            throws JsonProcessingException {
+        GoalPage page = goalService.listGoals(
+                new GoalFilter(userId, status, category, startDateFrom, startDateTo), cursor, limit,
+                includesArticle(include));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
     }
 
     @Override
@@ -61,4 +79,21 @@ public class GoalController implements DefaultApi {
         );
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @Override
+    public ResponseEntity<ProgressBatchResponse> goalsProgressBatchPost(@Valid ProgressBatchRequest progressBatchRequest) {
+        return ResponseEntity.ok(goalService.updateProgressBatch(progressBatchRequest));
+    }
+
+    private static boolean includesArticle(String include) {
+        if (include == null) {
+            return false;
+        }
+        for (String part : include.split(",")) {
+            if (INCLUDE_ARTICLE.equalsIgnoreCase(part.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
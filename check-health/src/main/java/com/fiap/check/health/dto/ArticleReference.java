@@ -0,0 +1,23 @@
+package com.fiap.check.health.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Claim-check reference published by brain-health instead of the full article:
+ * SHA-256 key in the shared article store plus a short summary.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleReference {
+
+    private String contentHash;
+    private String title;
+    private String sourceLink;
+    private Integer sizeBytes;
+
+}
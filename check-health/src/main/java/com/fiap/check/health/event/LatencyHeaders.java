@@ -0,0 +1,95 @@
+package com.fiap.check.health.event;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeader;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Kafka headers that carry the trace context and the timestamps of each hop of
+ * a goal (goal.created -> brain-health -> goal.progress.updated). Timestamps are
+ * epoch milliseconds as decimal strings; the same names are used by brain-health.
+ */
+public final class LatencyHeaders {
+
+    public static final String TRACEPARENT = "traceparent";
+    public static final String GOAL_CREATED_AT = "x-goal-created-at";
+    public static final String GOAL_PUBLISHED_AT = "x-goal-published-at";
+    public static final String PROCESSING_STARTED_AT = "x-brain-health-started-at";
+    public static final String PROCESSING_COMPLETED_AT = "x-brain-health-completed-at";
+    public static final String RESPONSE_PRODUCED_AT = "x-response-produced-at";
+
+    private LatencyHeaders() {
+    }
+
+    /**
+     * New W3C trace context (version 00, sampled).
+     */
+    public static Header newTraceparent() {
+        return traceparent(newTraceparentValue());
+    }
+
+    /**
+     * Value of a new traceparent header, for trace contexts started before the record exists.
+     */
+    public static String newTraceparentValue() {
+        HexFormat hex = HexFormat.of();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String traceId = hex.toHexDigits(random.nextLong()) + hex.toHexDigits(random.nextLong());
+        String spanId = hex.toHexDigits(random.nextLong());
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    public static Header traceparent(String value) {
+        return header(TRACEPARENT, value);
+    }
+
+    public static Header timestamp(String name, long epochMillis) {
+        return header(name, Long.toString(epochMillis));
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static OptionalLong timestamp(Headers headers, String name) {
+        String value = value(headers, name);
+        if (value == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    public static String value(Headers headers, String name) {
+        Header header = headers != null ? headers.lastHeader(name) : null;
+        return header != null && header.value() != null
+                ? new String(header.value(), StandardCharsets.UTF_8)
+                : null;
+    }
+
+    /**
+     * Trace id part of a traceparent header, or null when absent/malformed.
+     */
+    public static String traceId(Headers headers) {
+        String traceparent = value(headers, TRACEPARENT);
+        if (traceparent == null) {
+            return null;
+        }
+        String[] parts = traceparent.split("-");
+        return parts.length == 4 ? parts[1] : null;
+    }
+
+    private static Header header(String name, String value) {
+        return new RecordHeader(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+}
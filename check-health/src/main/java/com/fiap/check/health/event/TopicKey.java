@@ -0,0 +1,32 @@
+package com.fiap.check.health.event;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Partition key of goal.created: the goal title in lower case, without accents,
+ * punctuation or repeated whitespace. Goals about the same topic ("Caminhar 30 minutos!",
+ * "caminhar  30 MINUTOS") land on the same partition, and so on the same brain-health
+ * instance, whose local article and AI caches use the same normalization (kept in sync
+ * with brain-health's TopicKey).
+ */
+public final class TopicKey {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TopicKey() {
+    }
+
+    /**
+     * @return the normalized topic, or an empty string when there is nothing to key on
+     */
+    public static String normalize(String topic) {
+        if (topic == null || topic.isBlank()) {
+            return "";
+        }
+        String withoutAccents = DIACRITICS.matcher(Normalizer.normalize(topic, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
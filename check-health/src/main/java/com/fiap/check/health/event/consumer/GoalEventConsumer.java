@@ -1,83 +1,315 @@
 package com.fiap.check.health.event.consumer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.check.health.dto.ArticleResponse;
+import com.fiap.check.health.jfr.GoalArticleConsumeEvent;
 import com.fiap.check.health.model.Article;
 import com.fiap.check.health.persistence.entity.ArticleEntity;
-import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.repository.ArticleAttachment;
+import com.fiap.check.health.persistence.repository.ArticleRepository;
 import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.store.ArticleStore;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Attaches the articles of goal.progress.updated to their goals, one poll batch at a
+ * time. The whole batch is parsed first; then one transaction reads the stored
+ * articles with one IN query, inserts the new ones and attaches each article with a
+ * targeted update of the goal's title and article_id, all updates in one JDBC batch
+ * ({@link GoalRepository#attachArticles}). The goal is never loaded and its version is
+ * not checked, so a fold or an edit of the same goal does not fail the batch. Records
+ * that cannot be parsed go to the dead-letter topic after the batch commits.
+ * <p>
+ * A batch can stop at one record: a claim-check reference the article store cannot
+ * resolve (e.g. the file is not visible on the shared volume yet), or a record whose
+ * write fails. When the batch transaction fails, its records are written again one
+ * transaction each, up to the first that fails. Either way the records before it are
+ * applied and the listener fails with a {@link BatchListenerFailedException} carrying
+ * its index, so the error handler retries from that record and sends only that record
+ * to the dead-letter topic once the retries run out.
+ */
 @Slf4j
 @Component
 public class GoalEventConsumer {
 
+    private static final String STATUS_EXPIRED = "EXPIRED";
+
     private final ObjectMapper objectMapper;
     private final GoalRepository goalRepository;
+    private final ArticleRepository articleRepository;
+    private final ArticleStore articleStore;
+    private final GoalLatencyRecorder latencyRecorder;
+    private final ConsumerRecordRecoverer deadLetters;
+    private final TransactionTemplate batchTransaction;
 
-    public GoalEventConsumer(ObjectMapper objectMapper, GoalRepository goalRepository) {
+    public GoalEventConsumer(ObjectMapper objectMapper, GoalRepository goalRepository,
+                             ArticleRepository articleRepository, ArticleStore articleStore,
+                             GoalLatencyRecorder latencyRecorder, ConsumerRecordRecoverer deadLetters,
+                             PlatformTransactionManager transactionManager) {
         this.objectMapper = objectMapper;
         this.goalRepository = goalRepository;
+        this.articleRepository = articleRepository;
+        this.articleStore = articleStore;
+        this.latencyRecorder = latencyRecorder;
+        this.deadLetters = deadLetters;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
     }
 
-    @KafkaListener(topics = "goal.progress.updated", groupId = "goal-progress-consumers")
-    public void consume(ConsumerRecord<String, String> record) {
+    @KafkaListener(topics = "goal.progress.updated", groupId = "goal-progress-consumers",
+            concurrency = "${kafka.goal-progress.concurrency:3}", batch = "true")
+    public void consume(List<ConsumerRecord<String, String>> records) {
+        long receivedAt = System.currentTimeMillis();
+        List<Received> batch = new ArrayList<>(records.size());
+        List<Received> malformed = new ArrayList<>();
+        List<Received> attachable = new ArrayList<>(records.size());
+        Received unresolved = null;
+        Received failed = null;
         try {
-            String messageJson = record.value();
-
-            // DTO do evento Kafka
-            Article event = objectMapper.readValue(messageJson, Article.class);
+            for (ConsumerRecord<String, String> record : records) {
+                Received received = new Received(record, batch.size());
+                batch.add(received);
+                received.jfrEvent.begin();
+                try {
+                    parse(received);
+                } catch (JsonProcessingException | IllegalArgumentException e) {
+                    received.outcome = "malformed";
+                    received.failure = e;
+                    malformed.add(received);
+                }
+                if ("unresolved".equals(received.outcome)) {
+                    // Os registros seguintes voltam no retry, a partir deste
+                    unresolved = received;
+                    break;
+                }
+                if (received.article != null) {
+                    attachable.add(received);
+                }
+            }
 
-            log.info("Received goal.progress.updated event - messageId: {}, userId: {}, status: {}",
-                    event.getMessageId(), event.getUserId(), event.getStatus());
+            if (!attachable.isEmpty()) {
+                long saveStart = System.nanoTime();
+                try {
+                    batchTransaction.executeWithoutResult(status -> attachAll(attachable));
+                } catch (RuntimeException e) {
+                    // Lote desfeito: um registro por transação, até o primeiro que falhar
+                    log.warn("Could not attach a batch of {} articles, retrying record by record",
+                            attachable.size(), e);
+                    failed = attachOneByOne(attachable);
+                }
+                long saveNanos = System.nanoTime() - saveStart;
+                long attachedAt = System.currentTimeMillis();
+                for (Received received : attachable) {
+                    received.jfrEvent.setSaveNanos(saveNanos);
+                    if ("attached".equals(received.outcome)) {
+                        latencyRecorder.recordAttached(received.record.headers(), receivedAt, attachedAt);
+                    }
+                }
+                log.info("Attached {} articles from a batch of {} goal.progress.updated records",
+                        attachable.stream().filter(received -> "attached".equals(received.outcome)).count(),
+                        records.size());
+            }
 
-            // Busca todas as metas do usuário
-            List<Goal> goals = goalRepository.findByUserId(String.valueOf(event.getUserId()));
+            // Os registros a partir do que falhou voltam no retry; os ilegíveis depois dele também
+            Received stop = failed != null ? failed : unresolved;
+            for (Received received : malformed) {
+                if (stop != null && received.index > stop.index) {
+                    break;
+                }
+                log.warn("Malformed goal.progress.updated record at partition {} offset {}, sending to dead-letter topic",
+                        received.record.partition(), received.record.offset(), received.failure);
+                deadLetters.accept(received.record, received.failure);
+            }
 
-            // Filtra pelo goalId do ArticleResponse
-            Optional<Goal> goalOpt = goals.stream().filter(g -> g.getGoalId().equals(event.getGoalId())).findFirst();
+            if (stop != null) {
+                throw new BatchListenerFailedException((stop == failed ? "Could not attach article"
+                        : "Referenced article not found in article store") + " at partition "
+                        + stop.record.partition() + " offset " + stop.record.offset(), stop.failure, stop.index);
+            }
+        } finally {
+            for (Received received : batch) {
+                received.jfrEvent.finish(received.record.partition(), received.record.offset(),
+                        received.record.value(), received.outcome);
+            }
+        }
+    }
 
-            log.info("Event goalId: {}", event.getGoalId());
-            goals.forEach(g -> log.info("Goal goalId in DB: {}", g.getGoalId()));
+    /**
+     * Reads the event and, when it carries an article for a goal, the article to
+     * attach. Throws when the record cannot be read at all.
+     */
+    private void parse(Received received) throws JsonProcessingException {
+        // DTO do evento Kafka
+        Article event = objectMapper.readValue(received.record.value(), Article.class);
+        if (event == null) {
+            throw new IllegalArgumentException("Empty goal.progress.updated record");
+        }
 
-            if (goalOpt.isPresent()) {
-                Goal goal = goalOpt.get();
+        log.info("Received goal.progress.updated event - messageId: {}, userId: {}, status: {}",
+                event.getMessageId(), event.getUserId(), event.getStatus());
 
-                log.info("Updating Goal for userId {} - goalId: {}, title: {}",
-                        event.getUserId(), goal.getGoalId(), goal.getTitle());
+        // Pedido vencido no brain-health (deadline da lane): não há artigo para anexar
+        if (STATUS_EXPIRED.equals(event.getStatus())) {
+            log.info("Article request for goalId {} expired in brain-health: {}",
+                    event.getGoalId(), event.getErrorMessage());
+            received.outcome = "expired";
+            return;
+        }
+        if (event.getGoalId() == null || event.getUserId() == null) {
+            throw new IllegalArgumentException("goal.progress.updated record without goalId or userId");
+        }
 
-                // Converter DTO para embeddable JPA
-                ArticleResponse dto = event.getArticleResponse();
-                ArticleEntity entityResponse = ArticleEntity.builder()
-                        .title(dto.getTitle())
-                        .introduction(dto.getIntroduction())
-                        .conclusion(dto.getConclusion())
-                        .sourceLink(dto.getSourceLink())
-                        .timestamp(dto.getTimestamp())
-                        .recommendationsJson(objectMapper.writeValueAsString(dto.getRecommendations()))
-                        .quizzesJson(objectMapper.writeValueAsString(dto.getQuizzes()))
-                        .build();
+        // Artigo inline ou referência (claim-check) para o article store
+        received.jfrEvent.setArticleSource(event.getArticleResponse() != null ? "inline"
+                : event.getArticleReference() != null ? "reference" : "none");
+        Optional<ArticleResponse> article = resolveArticle(event);
+        if (article.isEmpty() && event.getArticleReference() != null) {
+            log.warn("Referenced article {} for goalId {} not found in article store, retrying",
+                    event.getArticleReference().getContentHash(), event.getGoalId());
+            received.outcome = "unresolved";
+            received.failure = new IllegalStateException(
+                    "Article " + event.getArticleReference().getContentHash() + " not found in article store");
+            return;
+        }
+        if (article.isEmpty()) {
+            log.warn("Event for goalId {} carries no article, goal not updated", event.getGoalId());
+            received.outcome = "no_article";
+            return;
+        }
 
-                // Atualiza meta
-                goal.setArticleResponse(entityResponse);
-                goal.setTitle(dto.getTitle());
+        // Converter DTO para entidade JPA
+        ArticleResponse dto = article.get();
+        ArticleEntity entity = ArticleEntity.builder()
+                .title(dto.getTitle())
+                .introduction(dto.getIntroduction())
+                .conclusion(dto.getConclusion())
+                .sourceLink(dto.getSourceLink())
+                .timestamp(dto.getTimestamp())
+                .recommendationsJson(objectMapper.writeValueAsString(dto.getRecommendations()))
+                .quizzesJson(objectMapper.writeValueAsString(dto.getQuizzes()))
+                .build();
+        entity.setContentHash(ArticleEntity.contentHashOf(entity));
+        received.event = event;
+        received.article = entity;
+    }
 
-                goalRepository.save(goal);
+    /**
+     * Writes the records in their own transaction each, in offset order, and returns
+     * the first that fails (null when all are written). The ones after it are left for
+     * the retry.
+     */
+    private Received attachOneByOne(List<Received> attachable) {
+        for (Received received : attachable) {
+            // O insert desfeito deixou o id da sequence na entidade: sem ele, volta a ser um artigo novo
+            received.article.setArticleId(null);
+            received.outcome = "error";
+        }
+        for (Received received : attachable) {
+            try {
+                batchTransaction.executeWithoutResult(status -> attachAll(List.of(received)));
+            } catch (RuntimeException e) {
+                received.outcome = "error";
+                received.failure = e;
+                return received;
+            }
+        }
+        return null;
+    }
 
-                log.info("Goal {} updated with AI response successfully.", goal.getGoalId());
-            } else {
+    /**
+     * Stores the articles once per content and attaches each to its goal (owner
+     * checked), inside the batch transaction. Records for the same goal apply in
+     * offset order, so the last one wins.
+     */
+    private void attachAll(List<Received> attachable) {
+        Map<String, ArticleEntity> articles = storeArticles(attachable);
+        List<ArticleAttachment> attachments = new ArrayList<>(attachable.size());
+        for (Received received : attachable) {
+            ArticleEntity article = articles.get(received.article.getContentHash());
+            received.jfrEvent.setArticleReused(article != received.article);
+            attachments.add(new ArticleAttachment(received.event.getGoalId(),
+                    String.valueOf(received.event.getUserId()), received.article.getTitle(), article.getArticleId()));
+        }
+        // Só título e artigo, direto pelo goalId (+ dono), sem carregar a meta nem checar versão
+        int[] updated = goalRepository.attachArticles(attachments);
+        for (int i = 0; i < attachable.size(); i++) {
+            Received received = attachable.get(i);
+            received.jfrEvent.setGoalsUpdated(updated[i]);
+            if (updated[i] == 0) {
                 log.warn("No Goal found for userId {} with goalId {}",
-                        event.getUserId(), event.getGoalId());
+                        received.event.getUserId(), received.event.getGoalId());
+                received.outcome = "goal_not_found";
+                continue;
+            }
+            received.outcome = "attached";
+        }
+    }
+
+    /**
+     * Returns the stored article of each content hash in the batch, inserting the
+     * ones not stored yet. A concurrent insert of the same content fails the batch on
+     * the unique content_hash; the retry then finds the winner's row.
+     */
+    private Map<String, ArticleEntity> storeArticles(List<Received> attachable) {
+        Map<String, ArticleEntity> byHash = new LinkedHashMap<>();
+        for (Received received : attachable) {
+            byHash.putIfAbsent(received.article.getContentHash(), received.article);
+        }
+        Map<String, ArticleEntity> stored = new HashMap<>(byHash.size());
+        for (ArticleEntity existing : articleRepository.findByContentHashIn(byHash.keySet())) {
+            stored.put(existing.getContentHash(), existing);
+        }
+        List<ArticleEntity> missing = byHash.values().stream()
+                .filter(article -> !stored.containsKey(article.getContentHash()))
+                .toList();
+        if (!missing.isEmpty()) {
+            for (ArticleEntity saved : articleRepository.saveAll(missing)) {
+                stored.put(saved.getContentHash(), saved);
             }
+        }
+        return stored;
+    }
+
+    private Optional<ArticleResponse> resolveArticle(Article event) {
+        if (event.getArticleResponse() != null) {
+            return Optional.of(event.getArticleResponse());
+        }
+        if (event.getArticleReference() != null) {
+            log.info("Dereferencing article {} ({} bytes) from article store",
+                    event.getArticleReference().getContentHash(), event.getArticleReference().getSizeBytes());
+            return articleStore.find(event.getArticleReference().getContentHash());
+        }
+        return Optional.empty();
+    }
+
+    /** One record of the batch and what became of it. */
+    private static final class Received {
+
+        private final ConsumerRecord<String, String> record;
+        private final int index;
+        private final GoalArticleConsumeEvent jfrEvent = new GoalArticleConsumeEvent();
+        private String outcome = "error";
+        private Article event;
+        private ArticleEntity article;
+        private Exception failure;
 
-        } catch (Exception e) {
-            log.error("Error while processing goal.progress.updated message", e);
+        private Received(ConsumerRecord<String, String> record, int index) {
+            this.record = record;
+            this.index = index;
         }
     }
-}
\ No newline at end of file
+}
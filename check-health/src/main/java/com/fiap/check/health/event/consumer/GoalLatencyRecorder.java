@@ -0,0 +1,81 @@
+package com.fiap.check.health.event.consumer;
+
+import com.fiap.check.health.event.LatencyHeaders;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Records the goal -> article latency (primary SLO) when the article is attached
+ * to the goal, using the timestamps carried in the Kafka headers.
+ * Timer check.health.goal.article.latency, tag hop:
+ * - total: goal created -> article attached
+ * - publish: goal created -> goal.created published
+ * - queue: published -> brain-health started (Kafka + lane wait)
+ * - processing: brain-health started -> completed (fetch + OpenAI)
+ * - produce: brain-health completed -> response produced
+ * - delivery: response produced -> received by check-health
+ * - attach: received -> article saved
+ * Hops that cross services depend on clock sync; negative values are skipped.
+ */
+@Slf4j
+@Component
+public class GoalLatencyRecorder {
+
+    private static final String METRIC = "check.health.goal.article.latency";
+
+    private final MeterRegistry meterRegistry;
+
+    public GoalLatencyRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordAttached(Headers headers, long receivedAt, long attachedAt) {
+        OptionalLong createdAt = LatencyHeaders.timestamp(headers, LatencyHeaders.GOAL_CREATED_AT);
+        OptionalLong publishedAt = LatencyHeaders.timestamp(headers, LatencyHeaders.GOAL_PUBLISHED_AT);
+        OptionalLong startedAt = LatencyHeaders.timestamp(headers, LatencyHeaders.PROCESSING_STARTED_AT);
+        OptionalLong completedAt = LatencyHeaders.timestamp(headers, LatencyHeaders.PROCESSING_COMPLETED_AT);
+        OptionalLong producedAt = LatencyHeaders.timestamp(headers, LatencyHeaders.RESPONSE_PRODUCED_AT);
+        OptionalLong received = OptionalLong.of(receivedAt);
+        OptionalLong attached = OptionalLong.of(attachedAt);
+
+        record("total", createdAt, attached);
+        record("publish", createdAt, publishedAt);
+        record("queue", publishedAt, startedAt);
+        record("processing", startedAt, completedAt);
+        record("produce", completedAt, producedAt);
+        record("delivery", producedAt, received);
+        record("attach", received, attached);
+
+        if (createdAt.isPresent()) {
+            log.info("Goal article latency - traceId: {}, total: {} ms",
+                    LatencyHeaders.traceId(headers), attachedAt - createdAt.getAsLong());
+        }
+    }
+
+    private void record(String hop, OptionalLong from, OptionalLong to) {
+        if (from.isEmpty() || to.isEmpty()) {
+            return;
+        }
+        long millis = to.getAsLong() - from.getAsLong();
+        if (millis < 0) {
+            log.debug("Skipping negative {} latency ({} ms) - clock skew between services", hop, millis);
+            return;
+        }
+        Timer.builder(METRIC)
+                .description("Goal creation to article attached, by hop")
+                .tag("hop", hop)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(Duration.ofSeconds(5), Duration.ofSeconds(10),
+                        Duration.ofSeconds(30), Duration.ofSeconds(60))
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(10))
+                .register(meterRegistry)
+                .record(Duration.ofMillis(millis));
+    }
+}
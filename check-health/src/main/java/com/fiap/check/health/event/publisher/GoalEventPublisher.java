@@ -3,14 +3,29 @@ package com.fiap.check.health.event.publisher;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.check.health.dto.event.GoalCreatedEvent;
+import com.fiap.check.health.event.LatencyHeaders;
+import com.fiap.check.health.event.TopicKey;
 import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.OutboxEvent;
+import com.fiap.check.health.persistence.repository.OutboxEventRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
 
+/**
+ * goal.created through a transactional outbox: {@link #publishGoalCreated(Goal)}
+ * only writes the message to {@code outbox_events} in the caller's transaction, so
+ * the event exists if and only if the goal was committed. {@link OutboxRelay} sends
+ * it later with {@link #send(OutboxEvent)}.
+ */
 @Slf4j
 @Service
 public class GoalEventPublisher {
@@ -19,12 +34,16 @@ public class GoalEventPublisher {
     
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final OutboxEventRepository outboxEventRepository;
     
-    public GoalEventPublisher(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper) {
+    public GoalEventPublisher(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper,
+                              OutboxEventRepository outboxEventRepository) {
         this.kafkaTemplate = kafkaTemplate;
         this.objectMapper = objectMapper;
+        this.outboxEventRepository = outboxEventRepository;
     }
     
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishGoalCreated(Goal goal) {
         try {
             GoalCreatedEvent event = GoalCreatedEvent.builder()
@@ -33,31 +52,79 @@ public class GoalEventPublisher {
                     .category(goal.getCategory().name())
                     .title(goal.getTitle())
                     .description(goal.getDescription())
+                    .createdAt(goal.getCreatedAt())
                     .build();
                     
             String eventJson = objectMapper.writeValueAsString(event);
             
-            log.info("Enviando evento goal.created para o tópico {} - goalId: {}, userId: {}", 
-                    TOPIC_GOAL_CREATED, goal.getGoalId(), goal.getUserId());
-                    
-            CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(TOPIC_GOAL_CREATED, eventJson);
-            
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    log.info("Evento goal.created enviado com sucesso - offset: {}, partition: {}", 
-                            result.getRecordMetadata().offset(), 
-                            result.getRecordMetadata().partition());
-                } else {
-                    log.error("Erro ao enviar evento goal.created para o Kafka", ex);
-                }
-            });
+            log.info("Gravando evento goal.created no outbox - goalId: {}, userId: {}", 
+                    goal.getGoalId(), goal.getUserId());
+
+            LocalDateTime createdAt = goal.getCreatedAt();
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .aggregateType(OutboxEvent.AGGREGATE_GOAL)
+                    .aggregateId(String.valueOf(goal.getGoalId()))
+                    .topic(TOPIC_GOAL_CREATED)
+                    // Chave = tópico normalizado: o mesmo tema chega sempre à mesma instância do brain-health
+                    .messageKey(partitionKey(goal.getTitle()))
+                    .payload(eventJson)
+                    .traceparent(LatencyHeaders.newTraceparentValue())
+                    .createdAt(createdAt != null
+                            ? Instant.ofEpochMilli(LatencyHeaders.toEpochMillis(createdAt))
+                            : Instant.now())
+                    .build());
             
         } catch (JsonProcessingException e) {
             log.error("Erro ao serializar evento goal.created para JSON", e);
             throw new RuntimeException("Falha ao serializar evento goal.created", e);
         } catch (Exception e) {
-            log.error("Erro ao publicar evento goal.created para o Kafka", e);
+            log.error("Erro ao gravar evento goal.created no outbox", e);
             throw new RuntimeException("Falha ao publicar evento goal.created", e);
         }
     }
+
+    /**
+     * Sends an outbox event to Kafka; the future completes when the broker acknowledges it.
+     */
+    public CompletableFuture<SendResult<String, String>> send(OutboxEvent event) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(event.getTopic(),
+                event.getMessageKey(), event.getPayload());
+        addLatencyHeaders(record, event);
+
+        return kafkaTemplate.send(record).whenComplete((result, ex) -> {
+            if (ex == null) {
+                log.info("Evento {} enviado com sucesso - eventId: {}, offset: {}, partition: {}",
+                        event.getTopic(), event.getEventId(),
+                        result.getRecordMetadata().offset(),
+                        result.getRecordMetadata().partition());
+            } else {
+                log.error("Erro ao enviar evento {} para o Kafka - eventId: {}",
+                        event.getTopic(), event.getEventId(), ex);
+            }
+        });
+    }
+
+    /**
+     * Tópico normalizado da meta; sem título, a mensagem vai sem chave (qualquer partição).
+     */
+    private static String partitionKey(String title) {
+        String key = TopicKey.normalize(title);
+        return key.isEmpty() ? null : key;
+    }
+
+    /**
+     * Início do rastreamento meta -> artigo: trace context e horários de criação/publicação.
+     * O horário de publicação é o do envio, então a espera no outbox entra no hop publish.
+     */
+    private void addLatencyHeaders(ProducerRecord<String, String> record, OutboxEvent event) {
+        long now = System.currentTimeMillis();
+        Instant createdAt = event.getCreatedAt();
+
+        record.headers().add(event.getTraceparent() != null
+                ? LatencyHeaders.traceparent(event.getTraceparent())
+                : LatencyHeaders.newTraceparent());
+        record.headers().add(LatencyHeaders.timestamp(LatencyHeaders.GOAL_CREATED_AT,
+                createdAt != null ? createdAt.toEpochMilli() : now));
+        record.headers().add(LatencyHeaders.timestamp(LatencyHeaders.GOAL_PUBLISHED_AT, now));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.fiap.check.health.event.publisher;
+
+import com.fiap.check.health.persistence.entity.OutboxEvent;
+import com.fiap.check.health.persistence.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the outbox ({@code outbox_events}) to Kafka. Every {@code interval-ms}
+ * it locks up to {@code batch-size} events (the oldest pending one per aggregate),
+ * sends them all before waiting for the acknowledgements, and deletes the
+ * acknowledged ones in the same transaction. Full batches are followed by the next
+ * one right away; a failed or timed-out event stays in the outbox and is retried on
+ * the next poll, so delivery is at-least-once. Instances skip each other's locked
+ * rows, so they can all run the relay.
+ * <p>
+ * Gauge check.health.outbox.lag: age in seconds of the oldest event still in the
+ * outbox, refreshed after each poll (0 when empty).
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String LAG_METRIC = "check.health.outbox.lag";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final GoalEventPublisher goalEventPublisher;
+    private final TransactionTemplate relayTransaction;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Clock clock;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, GoalEventPublisher goalEventPublisher,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this(outboxEventRepository, goalEventPublisher, transactionManager, meterRegistry, batchSize,
+                sendTimeoutMillis, Clock.systemUTC());
+    }
+
+    OutboxRelay(OutboxEventRepository outboxEventRepository, GoalEventPublisher goalEventPublisher,
+                PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                int batchSize, long sendTimeoutMillis, Clock clock) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.goalEventPublisher = goalEventPublisher;
+        this.relayTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.sendTimeout = Duration.ofMillis(sendTimeoutMillis);
+        this.clock = clock;
+
+        Gauge.builder(LAG_METRIC, lagMillis, millis -> millis.get() / 1000.0)
+                .description("Age of the oldest event waiting in the outbox")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:200}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Erro no relay do outbox", e);
+        } finally {
+            updateLag();
+        }
+    }
+
+    /**
+     * Publishes one batch and returns how many events were published, or 0 when
+     * some were not (the next batch waits for the next poll).
+     */
+    int relayBatch() {
+        Integer published = relayTransaction.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.findNextBatch(Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            List<CompletableFuture<?>> sends = new ArrayList<>(batch.size());
+            for (OutboxEvent event : batch) {
+                sends.add(send(event));
+            }
+            List<Long> acknowledged = awaitAcknowledged(batch, sends);
+            outboxEventRepository.deleteAllByIdInBatch(acknowledged);
+            if (acknowledged.size() < batch.size()) {
+                log.warn("Outbox: {} de {} eventos não publicados, nova tentativa no próximo ciclo",
+                        batch.size() - acknowledged.size(), batch.size());
+                return 0;
+            }
+            return batch.size();
+        });
+        return published != null ? published : 0;
+    }
+
+    private CompletableFuture<?> send(OutboxEvent event) {
+        try {
+            return goalEventPublisher.send(event);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private List<Long> awaitAcknowledged(List<OutboxEvent> batch, List<CompletableFuture<?>> sends) {
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        List<Long> acknowledged = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                acknowledged.add(batch.get(i).getEventId());
+            } catch (ExecutionException | TimeoutException e) {
+                log.debug("Evento do outbox não confirmado - eventId: {}", batch.get(i).getEventId(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return acknowledged;
+    }
+
+    void updateLag() {
+        try {
+            Instant oldest = outboxEventRepository.findOldestCreatedAt();
+            lagMillis.set(oldest != null ? Math.max(0, Duration.between(oldest, clock.instant()).toMillis()) : 0);
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível medir o atraso do outbox", e);
+        }
+    }
+}
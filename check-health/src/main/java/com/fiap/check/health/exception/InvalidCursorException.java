@@ -0,0 +1,8 @@
+package com.fiap.check.health.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("Cursor de paginação inválido: " + cursor);
+    }
+}
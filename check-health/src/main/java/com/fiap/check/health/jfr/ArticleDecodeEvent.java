@@ -0,0 +1,51 @@
+package com.fiap.check.health.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for decoding the article JSON columns in GoalMapper.toResponse.
+ * Lengths are in chars.
+ */
+@Name("com.fiap.check.health.ArticleDecode")
+@Label("Article JSON Decode")
+@Category({"Check Health", "Goals"})
+@Description("Quizzes and recommendations decoded from JSON")
+@StackTrace(false)
+public class ArticleDecodeEvent extends Event {
+
+    @Label("Goal Id")
+    private long goalId;
+
+    @Label("Quizzes JSON Length")
+    private long quizzesJsonChars;
+
+    @Label("Recommendations JSON Length")
+    private long recommendationsJsonChars;
+
+    @Label("Quizzes")
+    private int quizzes;
+
+    @Label("Recommendations")
+    private int recommendations;
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void finish(Long goalId, String quizzesJson, String recommendationsJson,
+                       int quizzes, int recommendations, String outcome) {
+        if (shouldCommit()) {
+            this.goalId = goalId != null ? goalId : -1;
+            this.quizzesJsonChars = quizzesJson != null ? quizzesJson.length() : 0;
+            this.recommendationsJsonChars = recommendationsJson != null ? recommendationsJson.length() : 0;
+            this.quizzes = quizzes;
+            this.recommendations = recommendations;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.fiap.check.health.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one goal.progress.updated record in GoalEventConsumer, from
+ * deserialization to the commit of its batch. Message length is in chars.
+ */
+@Name("com.fiap.check.health.GoalArticleConsume")
+@Label("Goal Article Consume")
+@Category({"Check Health", "Kafka"})
+@Description("Article attached to a goal from goal.progress.updated")
+@StackTrace(false)
+public class GoalArticleConsumeEvent extends Event {
+
+    @Label("Partition")
+    private int partition;
+
+    @Label("Offset")
+    private long offset;
+
+    @Label("Message Length")
+    private long messageChars;
+
+    @Label("Goals Updated")
+    @Description("Goals the record attached its article to (0 when the goal does not exist)")
+    private int goalsUpdated;
+
+    @Label("Article Source")
+    @Description("inline, reference or none")
+    private String articleSource;
+
+    @Label("Article Reused")
+    @Description("The article content was already stored for another goal")
+    private boolean articleReused;
+
+    @Label("Save Duration")
+    @Description("Transaction of the whole batch the record came in")
+    @Timespan(Timespan.NANOSECONDS)
+    private long saveNanos;
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void setGoalsUpdated(int goalsUpdated) {
+        this.goalsUpdated = goalsUpdated;
+    }
+
+    public void setArticleSource(String articleSource) {
+        this.articleSource = articleSource;
+    }
+
+    public void setArticleReused(boolean articleReused) {
+        this.articleReused = articleReused;
+    }
+
+    public void setSaveNanos(long saveNanos) {
+        this.saveNanos = saveNanos;
+    }
+
+    public void finish(int partition, long offset, String message, String outcome) {
+        if (shouldCommit()) {
+            this.partition = partition;
+            this.offset = offset;
+            this.messageChars = message != null ? message.length() : 0;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -3,10 +3,12 @@ package com.fiap.check.health.mapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fiap.check.health.api.model.*;
 import com.fiap.check.health.dto.ArticleResponse;
 import com.fiap.check.health.dto.Quiz;
 import com.fiap.check.health.dto.Recommendation;
+import com.fiap.check.health.jfr.ArticleDecodeEvent;
 import com.fiap.check.health.model.*;
 import com.fiap.check.health.persistence.entity.Goal;
 
@@ -16,9 +18,22 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
 
+/**
+ * Maps goals between the API models and the JPA entity. The article JSON columns
+ * (quizzes, recommendations) are decoded with readers precompiled from the shared
+ * ObjectMapper, and only when the response includes the article.
+ */
 @Component
 public class GoalMapper {
 
+    private final ObjectReader quizzesReader;
+    private final ObjectReader recommendationsReader;
+
+    public GoalMapper(ObjectMapper objectMapper) {
+        this.quizzesReader = objectMapper.readerFor(new TypeReference<List<Quiz>>() {});
+        this.recommendationsReader = objectMapper.readerFor(new TypeReference<List<Recommendation>>() {});
+    }
+
     public Goal toEntity(GoalRequest request) {
         if (request == null) {
             return null;
@@ -41,6 +56,14 @@ public class GoalMapper {
     }
 
     public GoalResponse toResponse(Goal goal) throws JsonProcessingException {
+        return toResponse(goal, true);
+    }
+
+    /**
+     * @param includeArticle decode and attach the generated article; lists leave it
+     *                       out unless requested ({@code ?include=article})
+     */
+    public GoalResponse toResponse(Goal goal, boolean includeArticle) throws JsonProcessingException {
         if (goal == null) {
             return null;
         }
@@ -50,26 +73,29 @@ public class GoalMapper {
         builder.goalId(goal.getGoalId() != null ? goal.getGoalId().toString() : null);
         builder.userId(goal.getUserId());
         builder.title(goal.getTitle());
-        builder.status(goal.getStatus());
-        builder.article(toArticleResponse(goal));
+        builder.status(goal.currentStatus());
+        if (includeArticle) {
+            builder.article(toArticleResponse(goal));
+        }
         
         if (goal.getCreatedAt() != null) {
             builder.createdAt(OffsetDateTime.of(goal.getCreatedAt(), ZoneOffset.UTC));
         }
         
-        builder.progress(toProgressResponse(goal.getProgress()));
+        Progress progress = goal.currentProgress();
+        builder.progress(toProgressResponse(progress));
         builder.gamification(toGamificationResponse(goal));
         
         // Mensagem de progresso
-        if (goal.getProgress() != null) {
-            int completed = goal.getProgress().getCompleted() != null ? goal.getProgress().getCompleted() : 0;
-            int total = goal.getProgress().getTotal() != null ? goal.getProgress().getTotal() : 0;
+        if (progress != null) {
+            int completed = progress.getCompleted() != null ? progress.getCompleted() : 0;
+            int total = progress.getTotal() != null ? progress.getTotal() : 0;
             int points = goal.getReward() != null && goal.getReward().getPoints() != null ? 
                     goal.getReward().getPoints() : 0;
             
             String message = String.format(
                 "Progress updated! You completed %d of %d %s and earned %d points.",
-                completed, total, goal.getProgress().getUnit() != null ? goal.getProgress().getUnit() : "days", points
+                completed, total, progress.getUnit() != null ? progress.getUnit() : "days", points
             );
             builder.message(message);
         }
@@ -82,9 +108,22 @@ public class GoalMapper {
             return null;
         }
 
-        ObjectMapper mapper = new ObjectMapper();
-        var quizzes = mapper.readValue(goal.getArticleResponse().getQuizzesJson(), new TypeReference<List<Quiz>>() {});
-        var recommendations = mapper.readValue(goal.getArticleResponse().getRecommendationsJson(), new TypeReference<List<Recommendation>>() {});
+        String quizzesJson = goal.getArticleResponse().getQuizzesJson();
+        String recommendationsJson = goal.getArticleResponse().getRecommendationsJson();
+        ArticleDecodeEvent event = new ArticleDecodeEvent();
+        event.begin();
+        List<Quiz> quizzes = null;
+        List<Recommendation> recommendations = null;
+        String outcome = "error";
+        try {
+            quizzes = quizzesJson != null ? quizzesReader.readValue(quizzesJson) : null;
+            recommendations = recommendationsJson != null ? recommendationsReader.readValue(recommendationsJson) : null;
+            outcome = "success";
+        } finally {
+            event.finish(goal.getGoalId(), quizzesJson, recommendationsJson,
+                    quizzes != null ? quizzes.size() : 0,
+                    recommendations != null ? recommendations.size() : 0, outcome);
+        }
 
         return ArticleResponse.builder()
                 .title(goal.getArticleResponse().getTitle())
@@ -119,6 +158,11 @@ public class GoalMapper {
                 .build();
     }
 
+    /** Current progress of the goal (snapshot plus pending increment). */
+    public GoalResponseProgress toProgressResponse(Goal goal) {
+        return toProgressResponse(goal.currentProgress());
+    }
+
     private GoalResponseProgress toProgressResponse(Progress progress) {
         if (progress == null) {
             return null;
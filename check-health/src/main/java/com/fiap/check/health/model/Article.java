@@ -1,6 +1,7 @@
 package com.fiap.check.health.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fiap.check.health.dto.ArticleReference;
 import com.fiap.check.health.dto.ArticleResponse;
 
 import jakarta.persistence.Embeddable;
@@ -21,5 +22,6 @@ public class Article {
     private String status;
     private String errorMessage;
     private ArticleResponse articleResponse; 
+    private ArticleReference articleReference;
 
 }
\ No newline at end of file
@@ -1,42 +1,94 @@
 package com.fiap.check.health.persistence.entity;
 
 import jakarta.persistence.Column;
-import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
-@Embeddable
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Generated article, stored once per content in the {@code articles} table and
+ * referenced by the goals it was generated for (brain-health reuses articles across
+ * goals of the same topic). Goals load it lazily; {@link BatchSize} fetches the
+ * articles of a whole GET /goals page in one query when include=article. Ids come
+ * from a pooled sequence so the articles of a consumer batch insert as JDBC batches.
+ */
+@Entity
+@Table(name = "articles")
+@BatchSize(size = 100)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class ArticleEntity {
 
-    @Column(name = "article_title", columnDefinition = "TEXT")
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "articles_seq")
+    @SequenceGenerator(name = "articles_seq", sequenceName = "articles_seq", allocationSize = 50)
+    @Column(name = "article_id")
+    private Long articleId;
+
+    /** SHA-256 (hex) of the article content; see {@link #contentHashOf(ArticleEntity)}. */
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(name = "title", columnDefinition = "TEXT")
     private String title;
 
     @Lob
-    @Column(name = "article_introduction", columnDefinition = "TEXT")
+    @Column(name = "introduction", columnDefinition = "TEXT")
     private String introduction;
 
     @Lob
-    @Column(name = "article_conclusion", columnDefinition = "TEXT")
+    @Column(name = "conclusion", columnDefinition = "TEXT")
     private String conclusion;
 
-    @Column(name = "article_source_link", columnDefinition = "TEXT")
+    @Column(name = "source_link", columnDefinition = "TEXT")
     private String sourceLink;
 
-    @Column(name = "article_timestamp", columnDefinition = "TEXT")
+    @Column(name = "generated_at", columnDefinition = "TEXT")
     private String timestamp;
 
     @Lob
-    @Column(name = "article_recommendations", columnDefinition = "TEXT")
+    @Column(name = "recommendations", columnDefinition = "TEXT")
     private String recommendationsJson;
 
     @Lob
-    @Column(name = "article_quizzes", columnDefinition = "TEXT")
+    @Column(name = "quizzes", columnDefinition = "TEXT")
     private String quizzesJson;
-}
\ No newline at end of file
+
+    /**
+     * Hash of everything the user reads (title, texts, link, recommendations and
+     * quizzes). The generation timestamp is left out, so the same article delivered
+     * again later is still stored once.
+     */
+    public static String contentHashOf(ArticleEntity article) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : new String[]{article.getTitle(), article.getIntroduction(), article.getConclusion(),
+                    article.getSourceLink(), article.getRecommendationsJson(), article.getQuizzesJson()}) {
+                // Length prefix keeps ("ab", "c") and ("a", "bc") apart; -1 marks null
+                byte[] bytes = part != null ? part.getBytes(StandardCharsets.UTF_8) : new byte[0];
+                digest.update(Integer.toString(part != null ? bytes.length : -1).getBytes(StandardCharsets.US_ASCII));
+                digest.update((byte) ':');
+                digest.update(bytes);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -4,8 +4,13 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -15,7 +20,13 @@ import com.fiap.check.health.model.Progress;
 import com.fiap.check.health.model.Reward;
 
 @Entity
-@Table(name = "goals")
+@Table(name = "goals", indexes = {
+        // Keyset pagination of GET /goals filtered by user or status (GoalRepository.findPage)
+        @Index(name = "idx_goals_user_id_goal_id", columnList = "user_id, goal_id"),
+        @Index(name = "idx_goals_status_goal_id", columnList = "status, goal_id")
+})
+// UPDATE só das colunas alteradas: uma edição não desfaz o artigo anexado por attachArticles
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
@@ -27,6 +38,12 @@ public class Goal {
     @Column(name = "goal_id")
     private Long goalId;
 
+    // Bloqueio otimista das edições da entidade e do fold; attachArticles não incrementa (só título e artigo)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "user_id", nullable = false)
     private String userId;
 
@@ -63,23 +80,53 @@ public class Goal {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // Snapshot: soma dos progress_events já consolidados (fold_id preenchido); a cauda é somada na leitura
     @Embedded
     private Progress progress;
 
+    @Column(name = "progress_snapshot_at")
+    private Instant progressSnapshotAt;
+
+    // Incremento dos eventos após o snapshot, preenchido pelo ProgressLog na leitura (não persistido)
+    @Transient
+    private int pendingIncrement;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
     }
 
-   @Embedded
-    @AttributeOverrides({
-        @AttributeOverride(name = "titleArticle", column = @Column(name = "article_title", columnDefinition = "TEXT")),
-        @AttributeOverride(name = "introduction", column = @Column(name = "article_introduction", columnDefinition = "TEXT")),
-        @AttributeOverride(name = "conclusion", column = @Column(name = "article_conclusion", columnDefinition = "TEXT")),
-        @AttributeOverride(name = "sourceLink", column = @Column(name = "article_source_link", columnDefinition = "TEXT")),
-        @AttributeOverride(name = "timestamp", column = @Column(name = "article_timestamp", columnDefinition = "TEXT")),
-        @AttributeOverride(name = "recommendationsJson", column = @Column(name = "article_recommendations", columnDefinition = "TEXT")),
-        @AttributeOverride(name = "quizzesJson", column = @Column(name = "article_quizzes", columnDefinition = "TEXT"))
-    })
+    // Artigo gerado em tabela própria (articles), compartilhado por conteúdo e lido só quando usado
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "article_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private ArticleEntity articleResponse;
-}
\ No newline at end of file
+
+    /**
+     * Progress as of now: the snapshot plus the events not folded into it yet.
+     */
+    public Progress currentProgress() {
+        if (progress == null || progress.getCompleted() == null || pendingIncrement == 0) {
+            return progress;
+        }
+        return Progress.builder()
+                .completed(progress.getCompleted() + pendingIncrement)
+                .total(progress.getTotal())
+                .unit(progress.getUnit())
+                .build();
+    }
+
+    /**
+     * Status as of now: completed as soon as the current progress reaches the total,
+     * even before the fold that persists it.
+     */
+    public String currentStatus() {
+        Progress current = currentProgress();
+        if (pendingIncrement != 0 && current != null && current.getTotal() != null
+                && current.getCompleted() >= current.getTotal()) {
+            return "completed";
+        }
+        return status;
+    }
+}
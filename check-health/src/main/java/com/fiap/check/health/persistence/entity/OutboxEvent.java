@@ -0,0 +1,65 @@
+package com.fiap.check.health.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Kafka message waiting to be published, written in the same transaction as the
+ * change it announces (transactional outbox) and deleted once the broker has
+ * acknowledged it. {@code eventId} follows the write order, so the relay publishes
+ * the events of one aggregate in the order they were written; it is drawn from the
+ * sequence one value at a time, because pooled blocks are cached per instance and an
+ * event written later on another instance could get a lower id. The message is stored
+ * ready to send: topic, key, JSON payload and the trace context started at creation.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_aggregate", columnList = "aggregate_type, aggregate_id, event_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    public static final String AGGREGATE_GOAL = "goal";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 1)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "aggregate_type", nullable = false, length = 32)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 64)
+    private String aggregateId;
+
+    @Column(nullable = false, length = 128)
+    private String topic;
+
+    @Column(name = "message_key", columnDefinition = "TEXT")
+    private String messageKey;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(length = 64)
+    private String traceparent;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,69 @@
+package com.fiap.check.health.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * One progress check-in, appended and updated only once, when a fold claims it. The
+ * goal row keeps a snapshot ({@link Goal#getProgress()}) of the events folded into
+ * it; the events without a {@code foldId} are the tail summed on read. A fold stamps
+ * its id on the events it adds to the snapshot, in the same transaction, so which
+ * events are folded follows commit order and not the instances' clocks: an event that
+ * commits late is simply in the tail until the next fold. {@code occurredAt} is when
+ * the user did it (earlier than {@code recordedAt} for check-ins synced from the app
+ * later) and only orders the history. Built for insert throughput: narrow row, ids
+ * taken from a pooled sequence (no round trip per insert, JDBC batching stays on) and
+ * no foreign key.
+ */
+@Entity
+@Table(name = "progress_events", indexes = {
+        @Index(name = "idx_progress_events_fold_id_goal_id", columnList = "fold_id, goal_id"),
+        @Index(name = "idx_progress_events_goal_id_occurred_at", columnList = "goal_id, occurred_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressEvent {
+
+    public static final String SOURCE_API = "api";
+    public static final String SOURCE_BULK = "bulk";
+    public static final String SOURCE_BUFFER = "buffer";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "progress_events_seq")
+    @SequenceGenerator(name = "progress_events_seq", sequenceName = "progress_events_seq", allocationSize = 50)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "goal_id", nullable = false)
+    private Long goalId;
+
+    @Column(nullable = false)
+    private int increment;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "recorded_at", nullable = false)
+    private Instant recordedAt;
+
+    @Column(length = 16)
+    private String source; // api, bulk, buffer
+
+    // Fold que incorporou o evento ao snapshot; nulo enquanto está na cauda
+    @Column(name = "fold_id")
+    private Long foldId;
+}
@@ -0,0 +1,35 @@
+package com.fiap.check.health.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A write-behind flush committed by {@code ProgressBuffer}, written in the flush
+ * transaction. Its id is also stamped in the WAL files the flush covered, so a
+ * replay after a crash between the commit and the file delete can tell those
+ * check-ins are already in the log. Rows are removed by the next flush once the
+ * files are gone.
+ */
+@Entity
+@Table(name = "progress_flushes")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressFlush {
+
+    @Id
+    @Column(name = "flush_id")
+    private Long flushId;
+
+    @Column(name = "flushed_at", nullable = false)
+    private Instant flushedAt;
+}
@@ -0,0 +1,8 @@
+package com.fiap.check.health.persistence.repository;
+
+/**
+ * Title and stored article to write on a goal, when the goal belongs to
+ * {@code userId} ({@link GoalArticleRepository#attachArticles}).
+ */
+public record ArticleAttachment(Long goalId, String userId, String title, Long articleId) {
+}
@@ -0,0 +1,15 @@
+package com.fiap.check.health.persistence.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.fiap.check.health.persistence.entity.ArticleEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArticleRepository extends JpaRepository<ArticleEntity, Long> {
+
+    List<ArticleEntity> findByContentHashIn(Collection<String> contentHashes);
+}
@@ -0,0 +1,20 @@
+package com.fiap.check.health.persistence.repository;
+
+import java.util.List;
+
+/**
+ * Targeted goal updates that Spring Data cannot batch, mixed into {@link GoalRepository}.
+ */
+public interface GoalArticleRepository {
+
+    /**
+     * Attaches stored articles to their goals as one JDBC batch of the same statement:
+     * a primary-key seek (plus the owner check) that writes only the title and the
+     * article_id, without loading the goal. The version is left alone, so a fold or an
+     * edit of the goal running at the same time does not fail on it; {@link
+     * com.fiap.check.health.persistence.entity.Goal} updates only the columns it changed,
+     * so neither overwrites the other. Attachments apply in list order, so the last one
+     * for a goal wins. Returns the goals updated by each attachment (0 or 1).
+     */
+    int[] attachArticles(List<ArticleAttachment> attachments);
+}
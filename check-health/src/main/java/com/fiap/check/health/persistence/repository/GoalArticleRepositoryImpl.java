@@ -0,0 +1,60 @@
+package com.fiap.check.health.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * {@link GoalArticleRepository} over JDBC: Hibernate sends every bulk JPQL update on
+ * its own, so the attachments go through {@link JdbcTemplate#batchUpdate}, on the
+ * connection of the current transaction.
+ */
+class GoalArticleRepositoryImpl implements GoalArticleRepository {
+
+    private static final String ATTACH_ARTICLE =
+            "update goals set title = ?, article_id = ? where goal_id = ? and user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    GoalArticleRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int[] attachArticles(List<ArticleAttachment> attachments) {
+        if (attachments.isEmpty()) {
+            return new int[0];
+        }
+        // Artigos salvos na mesma transação podem estar só no contexto de persistência
+        entityManager.flush();
+        int[] updated = jdbcTemplate.batchUpdate(ATTACH_ARTICLE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                ArticleAttachment attachment = attachments.get(i);
+                statement.setString(1, attachment.title());
+                statement.setLong(2, attachment.articleId());
+                statement.setLong(3, attachment.goalId());
+                statement.setString(4, attachment.userId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return attachments.size();
+            }
+        });
+        for (int i = 0; i < updated.length; i++) {
+            // Driver que não conta linhas em lote: sem erro, o UPDATE rodou
+            if (updated[i] == Statement.SUCCESS_NO_INFO) {
+                updated[i] = 1;
+            }
+        }
+        return updated;
+    }
+}
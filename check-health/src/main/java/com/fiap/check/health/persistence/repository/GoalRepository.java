@@ -1,16 +1,22 @@
 package com.fiap.check.health.persistence.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.fiap.check.health.persistence.entity.Goal;
 import com.fiap.check.health.model.GoalCategory;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface GoalRepository extends JpaRepository<Goal, Long> {
+public interface GoalRepository extends JpaRepository<Goal, Long>, GoalArticleRepository {
 
     // Consultas adicionais podem ser definidas aqui
     // Exemplo: buscar goals por usuário
@@ -26,4 +32,63 @@ public interface GoalRepository extends JpaRepository<Goal, Long> {
     List<Goal> findByUserIdAndStatus(String userId, String status);
     
     List<Goal> findByStartDateBetween(LocalDate startDate, LocalDate endDate);
-}
\ No newline at end of file
+
+    /**
+     * Keyset page: goals after {@code afterGoalId} in goal_id order, with the same
+     * filters as the finders above (null filters are ignored). Seeks on the primary
+     * key (or the user_id/status indexes) instead of skipping rows like an offset.
+     * <p>
+     * The status filter only narrows the candidates: a goal reaches its total through
+     * check-ins not folded yet, so {@code completed} also returns goals with an unfolded
+     * tail or with check-ins in {@code bufferedGoalIds}. The caller filters the page on
+     * {@link Goal#currentStatus()} once the tails are applied.
+     */
+    @Query("""
+            select g from Goal g
+            where g.goalId > :afterGoalId
+              and (:userId is null or g.userId = :userId)
+              and (:status is null or g.status = :status
+                   or (:status = 'completed' and g.progress.completed is not null
+                       and (g.goalId in :bufferedGoalIds
+                            or exists (select 1 from ProgressEvent e
+                                       where e.foldId is null and e.goalId = g.goalId))))
+              and (:category is null or g.category = :category)
+              and (:startDateFrom is null or g.startDate >= :startDateFrom)
+              and (:startDateTo is null or g.startDate <= :startDateTo)
+            order by g.goalId asc
+            """)
+    List<Goal> findPage(@Param("afterGoalId") long afterGoalId,
+                        @Param("userId") String userId,
+                        @Param("status") String status,
+                        @Param("category") GoalCategory category,
+                        @Param("startDateFrom") LocalDate startDateFrom,
+                        @Param("startDateTo") LocalDate startDateTo,
+                        @Param("bufferedGoalIds") Collection<Long> bufferedGoalIds,
+                        Limit limit);
+
+    /**
+     * Adds the events claimed by fold {@code foldId} to the snapshot of each goal, in one
+     * statement: completed grows by their increments, the goal is marked completed once it
+     * reaches the total, and the snapshot time moves to {@code foldedAt}. Runs in the
+     * transaction that claimed the events ({@link ProgressEventRepository#claimTails}).
+     * Goals with no claimed events are not written. Returns the number of goals updated.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Goal g
+            set g.progress.completed = g.progress.completed + (
+                    select coalesce(sum(e.increment), 0) from ProgressEvent e
+                    where e.goalId = g.goalId and e.foldId = :foldId),
+                g.status = case when g.progress.completed + (
+                    select coalesce(sum(e.increment), 0) from ProgressEvent e
+                    where e.goalId = g.goalId and e.foldId = :foldId)
+                    >= g.progress.total then 'completed' else g.status end,
+                g.progressSnapshotAt = :foldedAt,
+                g.version = g.version + 1
+            where g.goalId in :goalIds
+              and g.progress.completed is not null
+              and exists (select 1 from ProgressEvent e where e.goalId = g.goalId and e.foldId = :foldId)
+            """)
+    int foldProgress(@Param("goalIds") Collection<Long> goalIds, @Param("foldId") long foldId,
+                     @Param("foldedAt") Instant foldedAt);
+}
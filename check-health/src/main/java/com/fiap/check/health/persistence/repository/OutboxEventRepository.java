@@ -0,0 +1,39 @@
+package com.fiap.check.health.persistence.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import com.fiap.check.health.persistence.entity.OutboxEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Next events to publish, oldest first: only the oldest pending event of each
+     * aggregate, so an aggregate's next event waits until the previous one is
+     * acknowledged. Rows are locked for the caller's transaction and rows locked by
+     * another relay are skipped (SKIP LOCKED), so instances never publish the same
+     * event concurrently.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select o from OutboxEvent o
+            where o.eventId in (select min(p.eventId) from OutboxEvent p group by p.aggregateType, p.aggregateId)
+            order by o.eventId
+            """)
+    List<OutboxEvent> findNextBatch(Limit limit);
+
+    /** Creation time of the oldest pending event, or null when the outbox is empty. */
+    @Query("select min(o.createdAt) from OutboxEvent o")
+    Instant findOldestCreatedAt();
+}
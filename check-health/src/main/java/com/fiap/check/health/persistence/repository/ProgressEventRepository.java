@@ -0,0 +1,49 @@
+package com.fiap.check.health.persistence.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fiap.check.health.persistence.entity.ProgressEvent;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProgressEventRepository extends JpaRepository<ProgressEvent, Long> {
+
+    /** Tail of each goal: its events no fold has claimed yet. Goals without events are absent. */
+    @Query("""
+            select new com.fiap.check.health.persistence.repository.ProgressTail(
+                e.goalId, count(e), coalesce(sum(e.increment), 0L))
+            from ProgressEvent e
+            where e.foldId is null and e.goalId in :goalIds
+            group by e.goalId
+            """)
+    List<ProgressTail> findTails(@Param("goalIds") Collection<Long> goalIds);
+
+    /** Goals with events no fold has claimed yet. */
+    @Query("select distinct e.goalId from ProgressEvent e where e.foldId is null")
+    List<Long> findGoalIdsWithTail();
+
+    /**
+     * Claims the tail of {@code goalIds} for fold {@code foldId}: the events committed and
+     * unclaimed when the statement runs. Concurrent folds wait on the same rows and then
+     * skip them, so every event is claimed by exactly one fold.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update ProgressEvent e set e.foldId = :foldId where e.foldId is null and e.goalId in :goalIds")
+    int claimTails(@Param("goalIds") Collection<Long> goalIds, @Param("foldId") long foldId);
+
+    /** History of a goal since {@code since}, oldest first (seeks the goal_id, occurred_at index). */
+    List<ProgressEvent> findByGoalIdAndOccurredAtGreaterThanEqualOrderByOccurredAtAsc(Long goalId, Instant since);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ProgressEvent e where e.goalId = :goalId")
+    int deleteByGoalId(@Param("goalId") Long goalId);
+}
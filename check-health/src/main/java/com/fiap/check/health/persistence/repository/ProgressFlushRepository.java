@@ -0,0 +1,14 @@
+package com.fiap.check.health.persistence.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.fiap.check.health.persistence.entity.ProgressFlush;
+
+import java.util.Collection;
+
+@Repository
+public interface ProgressFlushRepository extends JpaRepository<ProgressFlush, Long> {
+
+    boolean existsByFlushIdIn(Collection<Long> flushIds);
+}
@@ -0,0 +1,12 @@
+package com.fiap.check.health.persistence.repository;
+
+/**
+ * Progress events of a goal not yet folded into its snapshot: how many and their
+ * summed increment.
+ */
+public record ProgressTail(Long goalId, Long events, Long increment) {
+
+    public static ProgressTail empty(Long goalId) {
+        return new ProgressTail(goalId, 0L, 0L);
+    }
+}
@@ -0,0 +1,70 @@
+package com.fiap.check.health.persistence.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.check.health.dto.ArticleResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read side of the content-addressed article store written by brain-health
+ * ({@code <path>/<hash[0..2]>/<hash>.json}). Stored articles never change, so
+ * recently read ones are kept in a small LRU cache: an article shared by many
+ * goals is read from disk and parsed once.
+ */
+@Slf4j
+@Component
+public class ArticleStore {
+
+    private final ObjectMapper objectMapper;
+    private final Path basePath;
+    private final Map<String, ArticleResponse> cache;
+
+    public ArticleStore(ObjectMapper objectMapper,
+                        @Value("${article-store.path:./data/articles}") Path basePath,
+                        @Value("${article-store.cache-size:256}") int cacheSize) {
+        this.objectMapper = objectMapper;
+        this.basePath = basePath;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ArticleResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public Optional<ArticleResponse> find(String contentHash) {
+        if (contentHash == null || !contentHash.matches("[0-9a-f]{64}")) {
+            log.warn("Invalid article content hash: {}", contentHash);
+            return Optional.empty();
+        }
+
+        ArticleResponse cached = cache.get(contentHash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Path file = basePath.resolve(contentHash.substring(0, 2)).resolve(contentHash + ".json");
+        if (!Files.exists(file)) {
+            log.warn("Article {} not found in store {}", contentHash, basePath);
+            return Optional.empty();
+        }
+
+        try {
+            ArticleResponse article = objectMapper.readValue(file.toFile(), ArticleResponse.class);
+            cache.put(contentHash, article);
+            return Optional.of(article);
+        } catch (IOException e) {
+            log.error("Error reading article {} from store", contentHash, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.fiap.check.health.service;
+
+import com.fiap.check.health.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for GET /goals: the last goal_id of a page, encoded as
+ * URL-safe Base64 so clients treat it as a token and not as an offset.
+ */
+public final class GoalCursor {
+
+    private static final String PREFIX = "goal:";
+
+    private GoalCursor() {
+    }
+
+    public static String encode(long lastGoalId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastGoalId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the goal_id after which the next page starts; 0 (first page) for a null or blank cursor.
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(PREFIX)) {
+                throw new InvalidCursorException(cursor);
+            }
+            long goalId = Long.parseLong(value.substring(PREFIX.length()));
+            if (goalId < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return goalId;
+        } catch (IllegalArgumentException e) {
+            // Base64 and number format errors
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.fiap.check.health.service;
+
+import com.fiap.check.health.model.GoalCategory;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filters for listing goals; null fields are not applied.
+ * The start date range is inclusive on both ends.
+ */
+public record GoalFilter(
+        String userId,
+        String status,
+        GoalCategory category,
+        LocalDate startDateFrom,
+        LocalDate startDateTo
+) {
+
+    public static GoalFilter none() {
+        return new GoalFilter(null, null, null, null, null);
+    }
+}
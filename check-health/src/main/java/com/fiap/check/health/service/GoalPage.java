@@ -0,0 +1,15 @@
+package com.fiap.check.health.service;
+
+import com.fiap.check.health.api.model.GoalResponse;
+
+import java.util.List;
+
+/**
+ * One page of goals in goal_id order. {@code nextCursor} is null on the last page.
+ */
+public record GoalPage(List<GoalResponse> items, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
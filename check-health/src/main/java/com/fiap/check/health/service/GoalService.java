@@ -3,16 +3,28 @@ package com.fiap.check.health.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.ProgressBatchRequest;
+import com.fiap.check.health.api.model.ProgressBatchResponse;
 import com.fiap.check.health.api.model.ProgressRequest;
 
-import java.util.List;
 import java.util.Optional;
 
 public interface GoalService {
-    
+
+    int DEFAULT_PAGE_SIZE = 20;
+
+    int MAX_PAGE_SIZE = 100;
+
     GoalResponse createGoal(GoalRequest goalRequest) throws JsonProcessingException;
     
-    List<GoalResponse> listGoals() throws JsonProcessingException;
+    /**
+     * One page of goals after {@code cursor} (null for the first page), filtered by
+     * {@code filter}; the status filter matches the status in the response, which counts
+     * check-ins not folded yet. {@code limit} is capped at {@link #MAX_PAGE_SIZE}. The article
+     * of each goal is decoded only when {@code includeArticle} is set.
+     */
+    GoalPage listGoals(GoalFilter filter, String cursor, Integer limit, boolean includeArticle)
+            throws JsonProcessingException;
     
     Optional<GoalResponse> findById(Long goalId);
     
@@ -21,4 +33,11 @@ public interface GoalService {
     void deleteGoal(Long goalId);
     
     GoalResponse updateProgress(Long goalId, ProgressRequest progressRequest);
+
+    /**
+     * Applies a batch of check-ins in one transaction. Each check-in is applied or
+     * rejected on its own (unknown goal, missing increment, time in the future);
+     * the response has one result per check-in, in request order.
+     */
+    ProgressBatchResponse updateProgressBatch(ProgressBatchRequest progressBatchRequest);
 }
\ No newline at end of file
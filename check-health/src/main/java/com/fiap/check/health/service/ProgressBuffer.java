@@ -0,0 +1,576 @@
+package com.fiap.check.health.service;
+
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.ProgressEvent;
+import com.fiap.check.health.persistence.entity.ProgressFlush;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.repository.ProgressFlushRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Optional write-behind for check-ins ({@code progress.write-behind.enabled}). A
+ * check-in adds its increment to an in-memory buffer keyed by goal, split in stripes
+ * so check-ins on different goals do not share a lock. The buffer is written as one
+ * coalesced event per goal ({@link ProgressLog#checkInAll}) every
+ * {@code flush-interval-ms}, or by a check-in that finds {@code max-pending} or more
+ * waiting (unless a flush is already running or the last one failed).
+ * Reads go through {@link #applyTails(List)}, which adds what is still buffered.
+ * <p>
+ * {@code durability}: with {@code memory}, buffered check-ins are lost on a crash.
+ * With {@code wal}, each check-in is appended to a per-stripe file before it is
+ * acknowledged, so it survives a process crash. {@code wal-fsync} also forces the
+ * append to disk, so it survives a machine crash. The files are replayed at startup
+ * and deleted once their check-ins are committed. Before committing, a flush stamps
+ * its id in the files it covers and records the id ({@link ProgressFlush}) in the
+ * same transaction, so a crash between the commit and the delete does not replay
+ * those check-ins a second time. A goal deleted with check-ins still buffered gets a
+ * discard record in its stripe's file, so a replay leaves them out.
+ * <p>
+ * A flush hands the drained check-ins to an in-flight view that reads keep adding
+ * while the events are written, and takes the lock that readers wait on only for
+ * that hand-off and for its commit, so reads count those check-ins either in the
+ * buffer or in the log, never in both and never in neither.
+ */
+@Slf4j
+@Service
+public class ProgressBuffer {
+
+    enum Durability { MEMORY, WAL, WAL_FSYNC }
+
+    // goalId, increment, occurredAt (epoch millis); a flush marker has goalId -1 and the flush id last,
+    // a discard marker goalId -2 and the discarded goal id last
+    private static final int RECORD_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+    private static final long FLUSH_MARKER = -1L;
+    private static final long DISCARD_MARKER = -2L;
+    private static final String WAL_SUFFIX = ".wal";
+
+    private final ProgressLog progressLog;
+    private final GoalRepository goalRepository;
+    private final ProgressFlushRepository flushRepository;
+    private final TransactionTemplate flushTransaction;
+    private final boolean enabled;
+    private final int maxPending;
+    private final Durability durability;
+    private final Path walPath;
+    private final Stripe[] stripes;
+
+    // Leituras (cauda no banco + buffer) não podem ver um flush pela metade: só a troca
+    // do inFlight e o commit do flush tomam o write lock
+    private final ReentrantReadWriteLock flushVisibility = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicInteger bufferedCheckIns = new AtomicInteger();
+    private final AtomicLong walGeneration = new AtomicLong();
+
+    // Drained from the stripes and not committed yet; guarded by flushVisibility
+    private Map<Long, Pending> inFlight = Map.of();
+    // WAL files whose check-ins are buffered or in flight; guarded by flushLock
+    private final List<Path> sealedWals = new ArrayList<>();
+    // Flushes whose WAL files are deleted: their rows go with the next flush; guarded by flushLock
+    private final List<Long> forgettableFlushes = new ArrayList<>();
+    private volatile boolean lastFlushFailed;
+
+    public ProgressBuffer(ProgressLog progressLog, GoalRepository goalRepository,
+                          ProgressFlushRepository flushRepository, PlatformTransactionManager transactionManager,
+                          @Value("${progress.write-behind.enabled:false}") boolean enabled,
+                          @Value("${progress.write-behind.max-pending:1000}") int maxPending,
+                          @Value("${progress.write-behind.stripes:16}") int stripes,
+                          @Value("${progress.write-behind.durability:wal}") String durability,
+                          @Value("${progress.write-behind.wal-path:./data/progress-wal}") Path walPath) {
+        this.progressLog = progressLog;
+        this.goalRepository = goalRepository;
+        this.flushRepository = flushRepository;
+        // Own transaction: a flush triggered inside a request must not commit or roll back with it
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+        this.durability = Durability.valueOf(durability.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        this.walPath = walPath;
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe(i);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Buffers a check-in. With a WAL it is on file when this returns; otherwise it
+     * is only in memory until the next flush. Goals without progress are ignored.
+     */
+    public void add(Goal goal, int increment) {
+        if (goal.getProgress() == null || goal.getProgress().getCompleted() == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        Stripe stripe = stripeOf(goal.getGoalId());
+        synchronized (stripe) {
+            if (durability != Durability.MEMORY) {
+                appendWal(stripe, goal.getGoalId(), increment, now.toEpochMilli());
+            }
+            stripe.pending.computeIfAbsent(goal.getGoalId(), goalId -> new Pending(now)).add(increment, 1);
+        }
+        // max-pending reached: flush here, unless a flush is running (tryLock) or the last one failed
+        if (bufferedCheckIns.incrementAndGet() >= maxPending && !lastFlushFailed && flushLock.tryLock()) {
+            try {
+                flushLocked();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    /** Same as {@link ProgressLog#applyTails(List)}, plus the increments still buffered here. */
+    public void applyTails(List<Goal> goals) {
+        if (!enabled) {
+            progressLog.applyTails(goals);
+            return;
+        }
+        flushVisibility.readLock().lock();
+        try {
+            progressLog.applyTails(goals);
+            for (Goal goal : goals) {
+                goal.setPendingIncrement(goal.getPendingIncrement() + pending(goal.getGoalId()));
+            }
+        } finally {
+            flushVisibility.readLock().unlock();
+        }
+    }
+
+    public void applyTail(Goal goal) {
+        applyTails(List.of(goal));
+    }
+
+    /** Goals with check-ins buffered or being flushed; empty when write-behind is off. */
+    public Set<Long> bufferedGoalIds() {
+        if (!enabled) {
+            return Set.of();
+        }
+        flushVisibility.readLock().lock();
+        try {
+            Set<Long> goalIds = new HashSet<>(inFlight.keySet());
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    goalIds.addAll(stripe.pending.keySet());
+                }
+            }
+            return goalIds;
+        } finally {
+            flushVisibility.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the buffered check-ins of a deleted goal. With a WAL, a discard record is
+     * appended so a replay leaves them out; check-ins already in flight are dropped by
+     * their flush, which no longer finds the goal.
+     */
+    public void discard(Long goalId) {
+        Stripe stripe = stripeOf(goalId);
+        synchronized (stripe) {
+            Pending removed = stripe.pending.remove(goalId);
+            if (removed != null) {
+                bufferedCheckIns.addAndGet(-removed.checkIns);
+                if (durability != Durability.MEMORY) {
+                    appendWal(stripe, DISCARD_MARKER, 0, goalId);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${progress.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PostConstruct
+    void recover() throws IOException {
+        if (!enabled || durability == Durability.MEMORY) {
+            return;
+        }
+        Files.createDirectories(walPath);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(walPath)) {
+            files = listing.filter(file -> file.getFileName().toString().endsWith(WAL_SUFFIX)).sorted().toList();
+        }
+        List<WalFile> wals = new ArrayList<>(files.size());
+        Set<Long> discarded = new HashSet<>();
+        for (Path file : files) {
+            walGeneration.set(Math.max(walGeneration.get(), generationOf(file)));
+            WalFile wal = read(file);
+            wals.add(wal);
+            discarded.addAll(wal.discarded());
+        }
+        int replayed = 0;
+        for (WalFile wal : wals) {
+            int checkIns = replay(wal, discarded);
+            if (checkIns < 0) {
+                log.info("WAL file {} was already flushed, deleting it", wal.file());
+                Files.deleteIfExists(wal.file());
+                continue;
+            }
+            replayed += checkIns;
+            sealedWals.add(wal.file());
+        }
+        if (replayed > 0) {
+            log.info("Replayed {} buffered check-ins from {} WAL files in {}", replayed, files.size(), walPath);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                closeWal(stripe);
+            }
+        }
+    }
+
+    private void flushLocked() {
+        Map<Long, Pending> drained;
+        flushVisibility.writeLock().lock();
+        try {
+            drained = drain();
+            inFlight = drained;
+        } finally {
+            flushVisibility.writeLock().unlock();
+        }
+        if (drained.isEmpty()) {
+            // Arquivos selados sem nada no buffer só têm check-ins descartados
+            deleteSealedWals();
+            return;
+        }
+        long flushId = ThreadLocalRandom.current().nextLong();
+        List<Long> forgotten = List.copyOf(forgettableFlushes);
+        try {
+            markSealedWals(flushId);
+            flushTransaction.executeWithoutResult(status -> {
+                clearInFlightOnCommit();
+                persist(drained);
+                if (durability != Durability.MEMORY) {
+                    flushRepository.save(new ProgressFlush(flushId, Instant.now()));
+                    flushRepository.deleteAllByIdInBatch(forgotten);
+                }
+                // INSERTs antes do commit: o write lock cobre só o commit
+                status.flush();
+            });
+        } catch (RuntimeException e) {
+            // Back into the buffer; their WAL files stay sealed until a flush succeeds
+            flushVisibility.writeLock().lock();
+            try {
+                inFlight = Map.of();
+                restore(drained);
+            } finally {
+                flushVisibility.writeLock().unlock();
+            }
+            lastFlushFailed = true;
+            log.error("Could not flush {} buffered goals, retrying on the next flush", drained.size(), e);
+            return;
+        }
+        lastFlushFailed = false;
+        forgettableFlushes.removeAll(forgotten);
+        if (deleteSealedWals() && durability != Durability.MEMORY) {
+            forgettableFlushes.add(flushId);
+        }
+    }
+
+    /**
+     * Takes the write lock right before the flush commits and clears the in-flight
+     * view once it has, so no read sees the events both in the log and in flight.
+     * Registered before the check-ins, so a fold they trigger after commit runs
+     * once the lock is released.
+     */
+    private void clearInFlightOnCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                flushVisibility.writeLock().lock();
+            }
+
+            @Override
+            public void afterCommit() {
+                inFlight = Map.of();
+                flushVisibility.writeLock().unlock();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                // Commit failed after beforeCommit: inFlight stays until the flush restores it
+                if (flushVisibility.isWriteLockedByCurrentThread()) {
+                    flushVisibility.writeLock().unlock();
+                }
+            }
+        });
+    }
+
+    private Map<Long, Pending> drain() {
+        Map<Long, Pending> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (Map.Entry<Long, Pending> entry : stripe.pending.entrySet()) {
+                    drained.put(entry.getKey(), entry.getValue());
+                    bufferedCheckIns.addAndGet(-entry.getValue().checkIns);
+                }
+                stripe.pending.clear();
+                if (stripe.wal != null) {
+                    sealedWals.add(stripe.walFile);
+                    closeWal(stripe);
+                }
+            }
+        }
+        return drained;
+    }
+
+    private void persist(Map<Long, Pending> drained) {
+        List<Goal> goals = goalRepository.findAllById(drained.keySet()).stream()
+                .filter(goal -> goal.getProgress() != null && goal.getProgress().getCompleted() != null)
+                .toList();
+        if (goals.size() < drained.size()) {
+            log.warn("Dropping buffered check-ins of {} deleted goals", drained.size() - goals.size());
+        }
+        if (goals.isEmpty()) {
+            return;
+        }
+        List<ProgressEvent> events = goals.stream()
+                .map(goal -> {
+                    Pending pending = drained.get(goal.getGoalId());
+                    return ProgressEvent.builder()
+                            .goalId(goal.getGoalId())
+                            .increment(pending.increment)
+                            .occurredAt(pending.firstAt)
+                            .source(ProgressEvent.SOURCE_BUFFER)
+                            .build();
+                })
+                .toList();
+        progressLog.checkInAll(goals, events);
+    }
+
+    private void restore(Map<Long, Pending> drained) {
+        for (Map.Entry<Long, Pending> entry : drained.entrySet()) {
+            Pending pending = entry.getValue();
+            Stripe stripe = stripeOf(entry.getKey());
+            synchronized (stripe) {
+                stripe.pending.computeIfAbsent(entry.getKey(), goalId -> new Pending(pending.firstAt))
+                        .add(pending.increment, pending.checkIns);
+            }
+            bufferedCheckIns.addAndGet(pending.checkIns);
+        }
+    }
+
+    private int pending(Long goalId) {
+        Pending drained = inFlight.get(goalId);
+        int increment = drained != null ? drained.increment : 0;
+        Stripe stripe = stripeOf(goalId);
+        synchronized (stripe) {
+            Pending buffered = stripe.pending.get(goalId);
+            return buffered != null ? increment + buffered.increment : increment;
+        }
+    }
+
+    private Stripe stripeOf(Long goalId) {
+        return stripes[Math.floorMod(Long.hashCode(goalId) * 0x9E3779B9, stripes.length)];
+    }
+
+    private void appendWal(Stripe stripe, long goalId, int increment, long last) {
+        try {
+            if (stripe.wal == null) {
+                stripe.walFile = walPath.resolve("stripe-" + stripe.index + "-" + walGeneration.incrementAndGet()
+                        + WAL_SUFFIX);
+                stripe.wal = FileChannel.open(stripe.walFile,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES)
+                    .putLong(goalId)
+                    .putInt(increment)
+                    .putLong(last)
+                    .flip();
+            while (record.hasRemaining()) {
+                stripe.wal.write(record);
+            }
+            if (durability == Durability.WAL_FSYNC) {
+                stripe.wal.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append record to " + stripe.walFile, e);
+        }
+    }
+
+    private static WalFile read(Path file) throws IOException {
+        ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(file));
+        List<Long> flushIds = new ArrayList<>();
+        Set<Long> discarded = new HashSet<>();
+        Map<Long, Pending> checkIns = new HashMap<>();
+        // A torn last record (crash mid-append) is shorter than RECORD_BYTES and skipped
+        while (records.remaining() >= RECORD_BYTES) {
+            long goalId = records.getLong();
+            int increment = records.getInt();
+            long last = records.getLong();
+            if (goalId == FLUSH_MARKER) {
+                flushIds.add(last);
+            } else if (goalId == DISCARD_MARKER) {
+                discarded.add(last);
+            } else {
+                checkIns.computeIfAbsent(goalId, id -> new Pending(Instant.ofEpochMilli(last))).add(increment, 1);
+            }
+        }
+        return new WalFile(file, flushIds, discarded, checkIns);
+    }
+
+    /**
+     * Buffers the check-ins of a WAL file, except those of {@code discarded} goals, or
+     * returns -1 without buffering them when a flush stamped in the file was committed.
+     */
+    private int replay(WalFile wal, Set<Long> discarded) {
+        if (!wal.flushIds().isEmpty() && flushRepository.existsByFlushIdIn(wal.flushIds())) {
+            forgettableFlushes.addAll(wal.flushIds());
+            return -1;
+        }
+        int count = 0;
+        for (Map.Entry<Long, Pending> entry : wal.checkIns().entrySet()) {
+            if (discarded.contains(entry.getKey())) {
+                continue;
+            }
+            count += entry.getValue().checkIns;
+            Stripe stripe = stripeOf(entry.getKey());
+            synchronized (stripe) {
+                stripe.pending.computeIfAbsent(entry.getKey(), goalId -> new Pending(entry.getValue().firstAt))
+                        .add(entry.getValue().increment, entry.getValue().checkIns);
+            }
+        }
+        bufferedCheckIns.addAndGet(count);
+        return count;
+    }
+
+    /** Stamps {@code flushId} at the end of every sealed WAL file. */
+    private void markSealedWals(long flushId) {
+        for (Path file : sealedWals) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer marker = ByteBuffer.allocate(RECORD_BYTES)
+                        .putLong(FLUSH_MARKER)
+                        .putInt(0)
+                        .putLong(flushId)
+                        .flip();
+                while (marker.hasRemaining()) {
+                    channel.write(marker);
+                }
+                if (durability == Durability.WAL_FSYNC) {
+                    channel.force(false);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not mark flush in " + file, e);
+            }
+        }
+    }
+
+    /** Deletes the sealed WAL files; returns false when some could not be deleted. */
+    private boolean deleteSealedWals() {
+        boolean deleted = true;
+        for (Path file : sealedWals) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                deleted = false;
+                log.error("Could not delete flushed WAL file {}; it is skipped at next startup", file, e);
+            }
+        }
+        sealedWals.clear();
+        return deleted;
+    }
+
+    private static void closeWal(Stripe stripe) {
+        if (stripe.wal == null) {
+            return;
+        }
+        try {
+            stripe.wal.close();
+        } catch (IOException e) {
+            log.warn("Error closing WAL file {}", stripe.walFile, e);
+        }
+        stripe.wal = null;
+        stripe.walFile = null;
+    }
+
+    private static long generationOf(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(name.lastIndexOf('-') + 1, name.length() - WAL_SUFFIX.length()));
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    /** Records of one WAL file, read at startup. */
+    private record WalFile(Path file, List<Long> flushIds, Set<Long> discarded, Map<Long, Pending> checkIns) {
+    }
+
+    /** One stripe of the buffer, with its own WAL file; guarded by its own monitor. */
+    private static final class Stripe {
+        private final int index;
+        private final Map<Long, Pending> pending = new HashMap<>();
+        private FileChannel wal;
+        private Path walFile;
+
+        private Stripe(int index) {
+            this.index = index;
+        }
+    }
+
+    /** Check-ins of one goal waiting for a flush. */
+    private static final class Pending {
+        private final Instant firstAt;
+        private int increment;
+        private int checkIns;
+
+        private Pending(Instant firstAt) {
+            this.firstAt = firstAt;
+        }
+
+        private void add(int increment, int checkIns) {
+            this.increment += increment;
+            this.checkIns += checkIns;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.fiap.check.health.service;
+
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.ProgressEvent;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.repository.ProgressEventRepository;
+import com.fiap.check.health.persistence.repository.ProgressTail;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Progress as an append-only log: a check-in inserts a {@link ProgressEvent} instead
+ * of rewriting the goal row. The goal keeps a snapshot that is folded on a schedule,
+ * or on check-in once {@code every-events} events are waiting; reads add the tail,
+ * the events no fold has claimed yet. A fold claims the tail it can see
+ * ({@link ProgressEventRepository#claimTails}) and adds exactly those events to the
+ * snapshot ({@link GoalRepository#foldProgress}) in one transaction, so an event that
+ * commits after a fold started is left for the next one, however late it commits and
+ * whatever its recording time says. A fold due on check-in runs in its own
+ * transaction after the check-in commits: folding inside it would hold the
+ * uncommitted event while waiting for the goal row, for as long as other folds keep
+ * it locked.
+ */
+@Slf4j
+@Service
+public class ProgressLog {
+
+    private static final int FOLD_CHUNK = 500;
+
+    private final ProgressEventRepository progressEventRepository;
+    private final GoalRepository goalRepository;
+    private final int foldEveryEvents;
+    private final TransactionTemplate foldTransaction;
+
+    public ProgressLog(ProgressEventRepository progressEventRepository, GoalRepository goalRepository,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${progress.snapshot.every-events:50}") int foldEveryEvents) {
+        this.progressEventRepository = progressEventRepository;
+        this.goalRepository = goalRepository;
+        this.foldEveryEvents = foldEveryEvents;
+        this.foldTransaction = new TransactionTemplate(transactionManager);
+        this.foldTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Appends a check-in and returns the goal with its current progress. Goals
+     * without progress are returned unchanged, with nothing appended. The snapshot
+     * of the returned goal is the one read before the check-in; a fold it triggers
+     * only runs after commit.
+     */
+    @Transactional
+    public Goal checkIn(Goal goal, int increment, String source) {
+        if (goal.getProgress() == null || goal.getProgress().getCompleted() == null) {
+            return goal;
+        }
+        Instant now = now();
+        progressEventRepository.save(ProgressEvent.builder()
+                .goalId(goal.getGoalId())
+                .increment(increment)
+                .occurredAt(now)
+                .recordedAt(now)
+                .source(source)
+                .build());
+
+        ProgressTail tail = applyTail(goal);
+        if (tail.events() >= foldEveryEvents) {
+            foldAfterCommit(List.of(goal.getGoalId()));
+        }
+        return goal;
+    }
+
+    /**
+     * Appends a batch of check-ins on {@code goals} in one transaction (the inserts
+     * go out as JDBC batches), all recorded now, and returns those goals by id with
+     * their current progress. Goals with {@code every-events} events waiting are
+     * folded together in one statement after commit. Callers pass only goals that
+     * have progress.
+     */
+    @Transactional
+    public Map<Long, Goal> checkInAll(List<Goal> goals, List<ProgressEvent> events) {
+        Instant recordedAt = now();
+        events.forEach(event -> event.setRecordedAt(recordedAt));
+        progressEventRepository.saveAll(events);
+
+        List<Long> goalIds = goals.stream().map(Goal::getGoalId).toList();
+        List<Long> due = findTails(goalIds).values().stream()
+                .filter(tail -> tail.events() >= foldEveryEvents)
+                .map(ProgressTail::goalId)
+                .toList();
+        if (!due.isEmpty()) {
+            foldAfterCommit(due);
+        }
+        applyTails(goals);
+        return goals.stream().collect(Collectors.toMap(Goal::getGoalId, Function.identity()));
+    }
+
+    /** Fills the goal's pending increment from its tail and returns the tail. */
+    @Transactional(readOnly = true)
+    public ProgressTail applyTail(Goal goal) {
+        ProgressTail tail = progressEventRepository.findTails(List.of(goal.getGoalId())).stream()
+                .findFirst()
+                .orElse(ProgressTail.empty(goal.getGoalId()));
+        goal.setPendingIncrement(Math.toIntExact(tail.increment()));
+        return tail;
+    }
+
+    /** Same as {@link #applyTail(Goal)} for a page of goals, with one query. */
+    @Transactional(readOnly = true)
+    public void applyTails(List<Goal> goals) {
+        if (goals.isEmpty()) {
+            return;
+        }
+        Map<Long, ProgressTail> tails = findTails(goals.stream().map(Goal::getGoalId).toList());
+        for (Goal goal : goals) {
+            ProgressTail tail = tails.get(goal.getGoalId());
+            goal.setPendingIncrement(tail != null ? Math.toIntExact(tail.increment()) : 0);
+        }
+    }
+
+    /** History of a goal since {@code since}, oldest first. */
+    @Transactional(readOnly = true)
+    public List<ProgressEvent> history(Long goalId, Instant since) {
+        return progressEventRepository.findByGoalIdAndOccurredAtGreaterThanEqualOrderByOccurredAtAsc(goalId, since);
+    }
+
+    @Transactional
+    public void discard(Long goalId) {
+        progressEventRepository.deleteByGoalId(goalId);
+    }
+
+    @Scheduled(fixedDelayString = "${progress.snapshot.interval-ms:30000}",
+            initialDelayString = "${progress.snapshot.interval-ms:30000}")
+    public void foldDue() {
+        int folded = foldPending();
+        if (folded > 0) {
+            log.info("Folded progress events into {} goal snapshots", folded);
+        }
+    }
+
+    /** Folds the tail of every goal that has one. Returns the number of goals folded. */
+    public int foldPending() {
+        List<Long> goalIds = progressEventRepository.findGoalIdsWithTail();
+        int folded = 0;
+        for (int i = 0; i < goalIds.size(); i += FOLD_CHUNK) {
+            folded += fold(goalIds.subList(i, Math.min(i + FOLD_CHUNK, goalIds.size())));
+        }
+        return folded;
+    }
+
+    /**
+     * Folds the tail of {@code goalIds} in a transaction of its own: claims the committed
+     * events and adds them to the snapshots. Returns the number of goals folded.
+     */
+    public int fold(List<Long> goalIds) {
+        Integer folded = foldTransaction.execute(status -> {
+            long foldId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+            if (progressEventRepository.claimTails(goalIds, foldId) == 0) {
+                return 0;
+            }
+            return goalRepository.foldProgress(goalIds, foldId, Instant.now().truncatedTo(ChronoUnit.MICROS));
+        });
+        return folded != null ? folded : 0;
+    }
+
+    private void foldAfterCommit(List<Long> goalIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    fold(goalIds);
+                } catch (RuntimeException e) {
+                    // O fold agendado alcança esses eventos; o check-in já foi gravado
+                    log.warn("Fold on check-in failed for goals {}", goalIds, e);
+                }
+            }
+        });
+    }
+
+    private Map<Long, ProgressTail> findTails(List<Long> goalIds) {
+        return progressEventRepository.findTails(goalIds).stream()
+                .collect(Collectors.toMap(ProgressTail::goalId, Function.identity()));
+    }
+
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -3,34 +3,61 @@ package com.fiap.check.health.service.impl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.ProgressBatchRequest;
+import com.fiap.check.health.api.model.ProgressBatchResponse;
+import com.fiap.check.health.api.model.ProgressCheckIn;
+import com.fiap.check.health.api.model.ProgressCheckInResult;
 import com.fiap.check.health.api.model.ProgressRequest;
 import com.fiap.check.health.event.publisher.GoalEventPublisher;
 import com.fiap.check.health.exception.GoalNotFoundException;
 import com.fiap.check.health.mapper.GoalMapper;
 import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.ProgressEvent;
 import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.service.GoalCursor;
+import com.fiap.check.health.service.GoalFilter;
+import com.fiap.check.health.service.GoalPage;
 import com.fiap.check.health.service.GoalService;
+import com.fiap.check.health.service.ProgressBuffer;
+import com.fiap.check.health.service.ProgressLog;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class GoalServiceImpl implements GoalService {
 
+    // Tolerância para relógios de aparelho adiantados em occurred_at
+    private static final Duration MAX_CLOCK_SKEW = Duration.ofMinutes(5);
+
     private final GoalRepository goalRepository;
     private final GoalMapper goalMapper;
     private final GoalEventPublisher goalEventPublisher;
+    private final ProgressLog progressLog;
+    private final ProgressBuffer progressBuffer;
 
-    public GoalServiceImpl(GoalRepository goalRepository, GoalMapper goalMapper, GoalEventPublisher goalEventPublisher) {
+    public GoalServiceImpl(GoalRepository goalRepository, GoalMapper goalMapper, GoalEventPublisher goalEventPublisher,
+                           ProgressLog progressLog, ProgressBuffer progressBuffer) {
         this.goalRepository = goalRepository;
         this.goalMapper = goalMapper;
         this.goalEventPublisher = goalEventPublisher;
+        this.progressLog = progressLog;
+        this.progressBuffer = progressBuffer;
     }
 
     @Override
@@ -53,14 +80,8 @@ public class GoalServiceImpl implements GoalService {
         
         Goal savedGoal = goalRepository.save(goal);
         
-        // Publica evento de goal criado no Kafka
-        try {
-            goalEventPublisher.publishGoalCreated(savedGoal);
-            log.info("Goal created event published successfully for goalId: {}", savedGoal.getGoalId());
-        } catch (Exception e) {
-            log.error("Error publishing goal created event for goalId: {}", savedGoal.getGoalId(), e);
-            // Não propaga a exceção para não afetar a criação do goal
-        }
+        // Evento goal.created gravado no outbox na mesma transação: sem evento, sem meta
+        goalEventPublisher.publishGoalCreated(savedGoal);
         
         return goalMapper.toResponse(savedGoal);
     }
@@ -68,17 +89,48 @@ public class GoalServiceImpl implements GoalService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<GoalResponse> listGoals() {
-        return goalRepository.findAll()
-                .stream()
+    public GoalPage listGoals(GoalFilter filter, String cursor, Integer limit, boolean includeArticle) {
+        GoalFilter criteria = filter != null ? filter : GoalFilter.none();
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // O status da resposta inclui a cauda não consolidada: o banco só traz candidatos e o filtro
+        // final é sobre currentStatus(); lê mais linhas até completar a página (ou acabar as metas)
+        String status = criteria.status();
+        Collection<Long> bufferedGoalIds = status != null ? progressBuffer.bufferedGoalIds() : List.of();
+        long afterGoalId = GoalCursor.decode(cursor);
+        List<Goal> goals = new ArrayList<>();
+        while (true) {
+            // One extra row tells whether there is a next page without a count query
+            List<Goal> candidates = goalRepository.findPage(afterGoalId,
+                    criteria.userId(), status, criteria.category(),
+                    criteria.startDateFrom(), criteria.startDateTo(),
+                    bufferedGoalIds, Limit.of(pageSize + 1));
+            progressBuffer.applyTails(candidates);
+            for (Goal goal : candidates) {
+                if (status == null || status.equals(goal.currentStatus())) {
+                    goals.add(goal);
+                }
+            }
+            if (goals.size() > pageSize || candidates.size() <= pageSize) {
+                break;
+            }
+            afterGoalId = candidates.get(candidates.size() - 1).getGoalId();
+        }
+
+        boolean hasNext = goals.size() > pageSize;
+        List<Goal> page = hasNext ? goals.subList(0, pageSize) : goals;
+        List<GoalResponse> items = page.stream()
                 .map(goal -> {
                     try {
-                        return goalMapper.toResponse(goal);
+                        return goalMapper.toResponse(goal, includeArticle);
                     } catch (JsonProcessingException e) {
                         throw new RuntimeException("Erro ao mapear Goal para GoalResponse", e);
                     }
                 })
                 .collect(Collectors.toList());
+
+        String nextCursor = hasNext ? GoalCursor.encode(page.get(page.size() - 1).getGoalId()) : null;
+        return new GoalPage(items, nextCursor);
     }
 
     @Override
@@ -86,6 +138,7 @@ public class GoalServiceImpl implements GoalService {
     public Optional<GoalResponse> findById(Long goalId) {
         return goalRepository.findById(goalId)
                 .map(goal -> {
+                    progressBuffer.applyTail(goal);
                     try {
                         return goalMapper.toResponse(goal);
                     } catch (JsonProcessingException e) {
@@ -112,6 +165,7 @@ public class GoalServiceImpl implements GoalService {
                     goal.setStatus(updatedGoal.getStatus());
                     goal.setNotifications(updatedGoal.getNotifications());
                     Goal savedGoal = goalRepository.save(goal);
+                    progressBuffer.applyTail(savedGoal);
                     try {
                         return goalMapper.toResponse(savedGoal);
                     } catch (JsonProcessingException e) {
@@ -128,31 +182,127 @@ public class GoalServiceImpl implements GoalService {
             throw new GoalNotFoundException(goalId);
         }
         goalRepository.deleteById(goalId);
+        progressLog.discard(goalId);
+        progressBuffer.discard(goalId);
     }
 
     @Override
     @Transactional
     public GoalResponse updateProgress(Long goalId, ProgressRequest progressRequest) {
-        return goalRepository.findById(goalId)
-                .map(goal -> {
-                    if (goal.getProgress() != null) {
-                        int completed = goal.getProgress().getCompleted() + progressRequest.getIncrement();
-                        goal.getProgress().setCompleted(completed);
-                        // lógica de gamificação: pontos extras, badges, etc.
-                        if (completed >= goal.getProgress().getTotal()) {
-                            goal.setStatus("completed");
-                        }
-                    }
-                    Goal savedGoal = goalRepository.save(goal);
-                    try {
-                        return goalMapper.toResponse(savedGoal);
-                    } catch (JsonProcessingException e) {
-                        throw new RuntimeException(e);
-                    }
-                })
+        // Check-in vira um evento em progress_events; a linha da meta só é reescrita no fold do snapshot
+        Goal goal = goalRepository.findById(goalId)
                 .orElseThrow(() -> new GoalNotFoundException(goalId));
+        Goal current;
+        if (progressBuffer.isEnabled()) {
+            // Write-behind: o incremento fica no buffer e vai ao banco no próximo flush
+            progressBuffer.add(goal, progressRequest.getIncrement());
+            progressBuffer.applyTail(goal);
+            current = goal;
+        } else {
+            current = progressLog.checkIn(goal, progressRequest.getIncrement(), ProgressEvent.SOURCE_API);
+        }
+        try {
+            return goalMapper.toResponse(current);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
     }
     
+    @Override
+    @Transactional
+    public ProgressBatchResponse updateProgressBatch(ProgressBatchRequest progressBatchRequest) {
+        List<ProgressCheckIn> checkIns = progressBatchRequest.getCheckIns();
+        Instant now = Instant.now();
+        ProgressCheckInResult[] results = new ProgressCheckInResult[checkIns.size()];
+        Long[] goalIds = new Long[checkIns.size()];
+        for (int i = 0; i < checkIns.size(); i++) {
+            String rejection = rejectionOf(checkIns.get(i), now);
+            if (rejection != null) {
+                results[i] = rejected(i, checkIns.get(i), ProgressCheckInResult.INVALID, rejection);
+            } else {
+                goalIds[i] = Long.parseLong(checkIns.get(i).getGoalId().trim());
+            }
+        }
+
+        // Uma consulta (IN) para todas as metas do lote
+        Map<Long, Goal> goals = goalRepository
+                .findAllById(Arrays.stream(goalIds).filter(Objects::nonNull).distinct().toList()).stream()
+                .collect(Collectors.toMap(Goal::getGoalId, Function.identity()));
+
+        List<ProgressEvent> events = new ArrayList<>();
+        for (int i = 0; i < checkIns.size(); i++) {
+            if (goalIds[i] == null) {
+                continue;
+            }
+            ProgressCheckIn checkIn = checkIns.get(i);
+            Goal goal = goals.get(goalIds[i]);
+            if (goal == null) {
+                results[i] = rejected(i, checkIn, ProgressCheckInResult.NOT_FOUND, "Meta não encontrada");
+            } else if (goal.getProgress() == null || goal.getProgress().getCompleted() == null) {
+                results[i] = rejected(i, checkIn, ProgressCheckInResult.INVALID, "Meta sem progresso");
+            } else {
+                events.add(ProgressEvent.builder()
+                        .goalId(goal.getGoalId())
+                        .increment(checkIn.getIncrement())
+                        .occurredAt(checkIn.getOccurredAt() != null ? checkIn.getOccurredAt().toInstant() : now)
+                        .source(ProgressEvent.SOURCE_BULK)
+                        .build());
+            }
+        }
+
+        Map<Long, Goal> current = events.isEmpty() ? Map.of() : progressLog.checkInAll(
+                events.stream().map(ProgressEvent::getGoalId).distinct().map(goals::get).toList(), events);
+        if (progressBuffer.isEnabled() && !current.isEmpty()) {
+            // Inclui os check-ins ainda no buffer de write-behind
+            progressBuffer.applyTails(List.copyOf(current.values()));
+        }
+
+        int applied = 0;
+        for (int i = 0; i < checkIns.size(); i++) {
+            if (results[i] == null) {
+                results[i] = ProgressCheckInResult.builder()
+                        .index(i)
+                        .goalId(goalIds[i].toString())
+                        .status(ProgressCheckInResult.APPLIED)
+                        .progress(goalMapper.toProgressResponse(current.get(goalIds[i])))
+                        .build();
+                applied++;
+            }
+        }
+        log.info("Bulk progress check-in: {} applied, {} rejected", applied, checkIns.size() - applied);
+        return ProgressBatchResponse.builder()
+                .applied(applied)
+                .rejected(checkIns.size() - applied)
+                .results(List.of(results))
+                .build();
+    }
+
+    /** Reason to reject the check-in before looking up its goal, or null. */
+    private static String rejectionOf(ProgressCheckIn checkIn, Instant now) {
+        if (checkIn == null) {
+            return "Check-in vazio";
+        }
+        if (checkIn.getGoalId() == null || !checkIn.getGoalId().trim().matches("\\d{1,18}")) {
+            return "goal_id inválido";
+        }
+        if (checkIn.getIncrement() == null) {
+            return "increment é obrigatório";
+        }
+        if (checkIn.getOccurredAt() != null && checkIn.getOccurredAt().toInstant().isAfter(now.plus(MAX_CLOCK_SKEW))) {
+            return "occurred_at no futuro";
+        }
+        return null;
+    }
+
+    private static ProgressCheckInResult rejected(int index, ProgressCheckIn checkIn, String status, String message) {
+        return ProgressCheckInResult.builder()
+                .index(index)
+                .goalId(checkIn != null ? checkIn.getGoalId() : null)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
     private int calculateDefaultTotal(Goal goal) {
         if (goal.getStartDate() != null && goal.getEndDate() != null) {
             long daysDifference = java.time.temporal.ChronoUnit.DAYS.between(goal.getStartDate(), goal.getEndDate());
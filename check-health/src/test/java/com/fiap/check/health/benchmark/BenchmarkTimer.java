@@ -0,0 +1,29 @@
+package com.fiap.check.health.benchmark;
+
+/** Wall-clock timing for the benchmarks that report through {@link ReadmeTable}. */
+final class BenchmarkTimer {
+
+    private BenchmarkTimer() {
+    }
+
+    /**
+     * Mean milliseconds per operation: {@code warmup} untimed calls, then {@code iterations}
+     * timed ones. Each call gets its iteration number, so the workload can vary the row it
+     * touches; the warmup repeats the numbers of the timed run.
+     */
+    static double millisPerOp(int warmup, int iterations, Operation operation) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            operation.run(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run(i);
+        }
+        return (System.nanoTime() - start) / 1e6 / iterations;
+    }
+
+    @FunctionalInterface
+    interface Operation {
+        void run(int iteration) throws Exception;
+    }
+}
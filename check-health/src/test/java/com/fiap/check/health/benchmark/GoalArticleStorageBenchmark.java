@@ -0,0 +1,163 @@
+package com.fiap.check.health.benchmark;
+
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.model.Progress;
+import com.fiap.check.health.persistence.entity.ArticleEntity;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.repository.ArticleRepository;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Benchmark: goals with the article inline in the goals row (the previous layout,
+ * rebuilt as legacy_goals from a join of goals and articles) against the separate
+ * articles table, on H2.
+ * - Bytes por linha de meta: mean size of the values a select * reads back for one goal
+ * - Bytes de artigo gravados: octet_length of the article columns, summed over the table
+ * - latency: status and start-date filters over the whole table, reading every
+ *   column as the old entity did; findByStatus shows the entity path on the new layout
+ * 5,000 goals share 200 distinct articles (~3.4 KB each), as brain-health reuses
+ * articles across goals of the same topic.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Benchmark - Artigo na linha da meta vs tabela articles")
+class GoalArticleStorageBenchmark {
+
+    private static final int GOALS = 5_000;
+    private static final int DISTINCT_ARTICLES = 200;
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int ITERATIONS = 30;
+    private static final String ARTICLE_BYTES = "octet_length(%1$stitle) + octet_length(%1$sintroduction)"
+            + " + octet_length(%1$sconclusion) + octet_length(%1$ssource_link) + octet_length(%1$s%2$s)"
+            + " + octet_length(%1$srecommendations) + octet_length(%1$squizzes)";
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private long sink;
+
+    @Test
+    void rowSizeAndQueryLatency() throws Exception {
+        seed();
+        EntityManager entityManager = testEntityManager.getEntityManager();
+        entityManager.createNativeQuery("""
+                create table legacy_goals as
+                select g.*, a.title as article_title, a.introduction as article_introduction,
+                       a.conclusion as article_conclusion, a.source_link as article_source_link,
+                       a.generated_at as article_timestamp, a.recommendations as article_recommendations,
+                       a.quizzes as article_quizzes
+                from goals g left join articles a on a.article_id = g.article_id
+                """).executeUpdate();
+
+        ReadmeTable storage = new ReadmeTable("Layout", "Bytes por linha de meta", "Bytes de artigo gravados");
+        storage.row("embutido", (double) readAll(entityManager, "select * from legacy_goals") / GOALS,
+                sum(entityManager, "legacy_goals", String.format(ARTICLE_BYTES, "article_", "timestamp")));
+        storage.row("tabela `articles`", (double) readAll(entityManager, "select * from goals") / GOALS,
+                sum(entityManager, "articles", String.format(ARTICLE_BYTES, "", "generated_at")));
+        storage.print();
+
+        String startDateBetween = " where start_date between '" + LocalDate.of(2026, 1, 1)
+                + "' and '" + LocalDate.of(2026, 1, 15) + "'";
+        ReadmeTable latency = new ReadmeTable("Consulta (lendo todas as colunas)", "Embutido (ms)", "Tabela `articles` (ms)");
+        latency.row("`status = 'active'`",
+                time(() -> readAll(entityManager, "select * from legacy_goals where status = 'active'")),
+                time(() -> readAll(entityManager, "select * from goals where status = 'active'")));
+        latency.row("`start_date between`",
+                time(() -> readAll(entityManager, "select * from legacy_goals" + startDateBetween)),
+                time(() -> readAll(entityManager, "select * from goals" + startDateBetween)));
+        latency.row("`findByStatus` (entidades)", "-", time(() -> {
+            int size = goalRepository.findByStatus("active").size();
+            testEntityManager.clear();
+            return size;
+        }));
+        latency.print();
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private double time(LongSupplier query) throws Exception {
+        return BenchmarkTimer.millisPerOp(WARMUP_ITERATIONS, ITERATIONS, i -> sink += query.getAsLong());
+    }
+
+    /** Runs the query, reads every value as a row mapping would and returns the UTF-8 bytes read. */
+    @SuppressWarnings("unchecked")
+    private long readAll(EntityManager entityManager, String sql) {
+        List<Object[]> rows = entityManager.createNativeQuery(sql).getResultList();
+        long bytes = 0;
+        try {
+            for (Object[] row : rows) {
+                for (Object value : row) {
+                    if (value instanceof Clob clob) {
+                        bytes += clob.getSubString(1, (int) clob.length()).getBytes(StandardCharsets.UTF_8).length;
+                    } else if (value != null) {
+                        bytes += value.toString().getBytes(StandardCharsets.UTF_8).length;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes;
+    }
+
+    private static long sum(EntityManager entityManager, String table, String expression) {
+        return ((Number) entityManager.createNativeQuery("select sum(" + expression + ") from " + table)
+                .getSingleResult()).longValue();
+    }
+
+    private void seed() {
+        String paragraph = "A caminhada regular melhora o condicionamento cardiovascular e o humor. ".repeat(15);
+        List<ArticleEntity> articles = new ArrayList<>(DISTINCT_ARTICLES);
+        for (int i = 0; i < DISTINCT_ARTICLES; i++) {
+            ArticleEntity article = ArticleEntity.builder()
+                    .title("Artigo " + i)
+                    .introduction(paragraph)
+                    .conclusion(paragraph)
+                    .sourceLink("https://cremesp.org.br/artigo/" + i)
+                    .timestamp("2026-01-10 08:30:00")
+                    .recommendationsJson("[{\"title\":\"Rotina\",\"description\":\"" + paragraph + "\",\"tips\":[]}]")
+                    .quizzesJson("[{\"question\":\"Quanto tempo por dia?\",\"options\":[\"10\",\"30\"],\"correctAnswer\":\"30\"}]")
+                    .build();
+            article.setContentHash(ArticleEntity.contentHashOf(article));
+            articles.add(article);
+        }
+        articles = articleRepository.saveAll(articles);
+
+        List<Goal> goals = new ArrayList<>(GOALS);
+        for (int i = 0; i < GOALS; i++) {
+            goals.add(Goal.builder()
+                    .userId(String.valueOf(i % 500))
+                    .title("Meta " + i)
+                    .category(GoalCategory.SAUDE_FISICA)
+                    .type("daily")
+                    .startDate(LocalDate.of(2026, 1, 1).plusDays(i % 60))
+                    .status(i % 3 == 0 ? "completed" : "active")
+                    .progress(Progress.builder().completed(i % 30).total(30).unit("days").build())
+                    .articleResponse(articles.get(i % DISTINCT_ARTICLES))
+                    .build());
+        }
+        goalRepository.saveAll(goals);
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+}
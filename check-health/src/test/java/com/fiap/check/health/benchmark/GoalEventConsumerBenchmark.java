@@ -0,0 +1,187 @@
+package com.fiap.check.health.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.check.health.config.Config;
+import com.fiap.check.health.dto.ArticleResponse;
+import com.fiap.check.health.dto.Quiz;
+import com.fiap.check.health.dto.Recommendation;
+import com.fiap.check.health.event.consumer.GoalEventConsumer;
+import com.fiap.check.health.event.consumer.GoalLatencyRecorder;
+import com.fiap.check.health.model.Article;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.entity.ArticleEntity;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.repository.ArticleRepository;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.store.ArticleStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark: cost of attaching an article from goal.progress.updated as the number
+ * of goals per user grows, on H2.
+ * - Varredura: an earlier consumer path (findByUserId, filter in Java, save the entity)
+ * - Lote de 1: GoalEventConsumer.consume with a one-record batch (targeted update of
+ *   title and article_id by primary key and owner)
+ * - Lote de 100: GoalEventConsumer.consume with BATCH records per call (the targeted updates
+ *   in one JDBC batch), reported per record
+ * Every goal already references an article (~4 KB of TEXT), as goals do once answered.
+ * The persistence context is flushed and cleared after each operation, so each
+ * iteration pays the real query and write.
+ */
+// Sem o SQL no log do perfil test, que pesa mais que as próprias consultas
+@DataJpaTest(properties = "logging.level.org.hibernate.SQL=info", showSql = false)
+@ActiveProfiles("test")
+@DisplayName("Benchmark - Consumo de goal.progress.updated por metas do usuário")
+class GoalEventConsumerBenchmark {
+
+    private static final int[] GOALS_PER_USER = {10, 100, 1_000, 5_000};
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int ITERATIONS = 200;
+    private static final int BATCH = 100;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new Config().objectMapper();
+
+    @Test
+    void consumeCostByGoalsPerUser() throws Exception {
+        GoalEventConsumer consumer = new GoalEventConsumer(objectMapper, goalRepository, articleRepository,
+                mock(ArticleStore.class), new GoalLatencyRecorder(new SimpleMeterRegistry()),
+                mock(ConsumerRecordRecoverer.class), transactionManager);
+        ArticleResponse article = sampleArticle();
+        ArticleEntity stored = articleRepository.saveAndFlush(toEntity(article));
+
+        // Compile every path once on a user outside the table, so the first row is not the slow one
+        measure(consumer, "1", seed("1", 100, stored), stored, article, WARMUP_ITERATIONS * 10);
+
+        ReadmeTable table = new ReadmeTable("Metas do usuário", "Varredura", "Lote de 1", "Lote de " + BATCH);
+        for (int goalsPerUser : GOALS_PER_USER) {
+            String userId = String.valueOf(goalsPerUser);
+            double[] millis = measure(consumer, userId, seed(userId, goalsPerUser, stored), stored, article,
+                    WARMUP_ITERATIONS);
+            table.row(goalsPerUser, millis[0], millis[1], millis[2]);
+        }
+        table.print();
+    }
+
+    /** Milliseconds per record for scan, single-record batches and BATCH-record batches. */
+    private double[] measure(GoalEventConsumer consumer, String userId, List<Long> goalIds, ArticleEntity stored,
+                             ArticleResponse article, int warmup) throws Exception {
+        double scanMillis = BenchmarkTimer.millisPerOp(warmup, ITERATIONS, i -> {
+            scan(userId, pick(goalIds, i), stored);
+            flushAndClear();
+        });
+        double singleMillis = BenchmarkTimer.millisPerOp(warmup, ITERATIONS, i -> {
+            consumer.consume(List.of(record(userId, pick(goalIds, i), article)));
+            flushAndClear();
+        });
+        double batchMillis = BenchmarkTimer.millisPerOp(warmup / BATCH + 1, ITERATIONS / BATCH, i -> {
+            List<ConsumerRecord<String, String>> batch = new ArrayList<>(BATCH);
+            for (int j = i * BATCH; j < (i + 1) * BATCH; j++) {
+                batch.add(record(userId, pick(goalIds, j), article));
+            }
+            consumer.consume(batch);
+            flushAndClear();
+        }) / BATCH;
+        return new double[]{scanMillis, singleMillis, batchMillis};
+    }
+
+    /** The consumer before the targeted update: load every goal of the user and save the match. */
+    private void scan(String userId, Long goalId, ArticleEntity article) {
+        Optional<Goal> goal = goalRepository.findByUserId(userId).stream()
+                .filter(g -> g.getGoalId().equals(goalId))
+                .findFirst();
+        if (goal.isPresent()) {
+            goal.get().setArticleResponse(article);
+            goal.get().setTitle(article.getTitle());
+            goalRepository.save(goal.get());
+        }
+    }
+
+    private List<Long> seed(String userId, int count, ArticleEntity article) {
+        List<Goal> goals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            goals.add(Goal.builder()
+                    .userId(userId)
+                    .title("Meta " + i)
+                    .category(GoalCategory.SAUDE_FISICA)
+                    .type("daily")
+                    .startDate(LocalDate.of(2026, 1, 1))
+                    .status("active")
+                    .articleResponse(article)
+                    .build());
+        }
+        List<Long> ids = goalRepository.saveAll(goals).stream().map(Goal::getGoalId).toList();
+        flushAndClear();
+        return ids;
+    }
+
+    private static Long pick(List<Long> goalIds, int iteration) {
+        return goalIds.get((int) ((iteration * 7919L) % goalIds.size()));
+    }
+
+    private ConsumerRecord<String, String> record(String userId, Long goalId, ArticleResponse article) throws Exception {
+        Article event = Article.builder().messageId("bench").userId(Long.valueOf(userId)).goalId(goalId)
+                .status("SUCCESS").articleResponse(article).build();
+        return new ConsumerRecord<>("goal.progress.updated", 0, 0L, userId, objectMapper.writeValueAsString(event));
+    }
+
+    private ArticleEntity toEntity(ArticleResponse article) throws Exception {
+        ArticleEntity entity = ArticleEntity.builder()
+                .title(article.getTitle())
+                .introduction(article.getIntroduction())
+                .conclusion(article.getConclusion())
+                .sourceLink(article.getSourceLink())
+                .timestamp(article.getTimestamp())
+                .recommendationsJson(objectMapper.writeValueAsString(article.getRecommendations()))
+                .quizzesJson(objectMapper.writeValueAsString(article.getQuizzes()))
+                .build();
+        entity.setContentHash(ArticleEntity.contentHashOf(entity));
+        return entity;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static ArticleResponse sampleArticle() {
+        String paragraph = "A caminhada regular melhora o condicionamento cardiovascular e o humor. ".repeat(15);
+        return ArticleResponse.builder()
+                .title("Benefícios da Caminhada")
+                .introduction(paragraph)
+                .conclusion(paragraph)
+                .sourceLink("https://cremesp.org.br/artigo")
+                .timestamp("2026-01-10 08:30:00")
+                .recommendations(List.of(
+                        new Recommendation("Rotina", paragraph, List.of("Comece devagar", "Use tênis adequado"))))
+                .quizzes(List.of(new Quiz("Quanto tempo por dia?", List.of("10", "30", "60"), "30")))
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.fiap.check.health.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.config.Config;
+import com.fiap.check.health.dto.ArticleResponse;
+import com.fiap.check.health.dto.Quiz;
+import com.fiap.check.health.dto.Recommendation;
+import com.fiap.check.health.mapper.GoalMapper;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.model.Progress;
+import com.fiap.check.health.model.Reward;
+import com.fiap.check.health.persistence.entity.ArticleEntity;
+import com.fiap.check.health.persistence.entity.Goal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark: time and allocation of GoalMapper.toResponse per goal, for goals that
+ * carry an article (~4 KB of quizzes and recommendations JSON).
+ * - before: the previous decode, a new ObjectMapper and TypeReference per call
+ * - sharedReaders: toResponse(goal), readers precompiled from the Config ObjectMapper
+ * - articleOmitted: toResponse(goal, false), as GET /goals does without include=article
+ * Allocation is the gc.alloc.rate.norm column of the GC profiler (bytes per call).
+ * The JUnit test only launches JMH, so the benchmark profile runs it like the others.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@DisplayName("Benchmark - GoalMapper.toResponse")
+public class GoalMapperBenchmark {
+
+    private static final int GOALS = 1_000;
+
+    private ObjectMapper objectMapper;
+    private GoalMapper goalMapper;
+    private List<Goal> goals;
+    private int next;
+
+    @Test
+    void toResponseCostPerGoal() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(GoalMapperBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new Config().objectMapper();
+        goalMapper = new GoalMapper(objectMapper);
+        goals = goals();
+    }
+
+    @Benchmark
+    public GoalResponse before() throws Exception {
+        return before(nextGoal());
+    }
+
+    @Benchmark
+    public GoalResponse sharedReaders() throws Exception {
+        return goalMapper.toResponse(nextGoal());
+    }
+
+    @Benchmark
+    public GoalResponse articleOmitted() throws Exception {
+        return goalMapper.toResponse(nextGoal(), false);
+    }
+
+    private Goal nextGoal() {
+        Goal goal = goals.get(next);
+        next = next + 1 == goals.size() ? 0 : next + 1;
+        return goal;
+    }
+
+    /** The mapper before this change: article always decoded, with a fresh ObjectMapper. */
+    private GoalResponse before(Goal goal) throws Exception {
+        GoalResponse response = goalMapper.toResponse(goal, false);
+        ObjectMapper mapper = new ObjectMapper();
+        List<Quiz> quizzes = mapper.readValue(goal.getArticleResponse().getQuizzesJson(),
+                new TypeReference<List<Quiz>>() {});
+        List<Recommendation> recommendations = mapper.readValue(goal.getArticleResponse().getRecommendationsJson(),
+                new TypeReference<List<Recommendation>>() {});
+        response.setArticle(ArticleResponse.builder()
+                .title(goal.getArticleResponse().getTitle())
+                .introduction(goal.getArticleResponse().getIntroduction())
+                .conclusion(goal.getArticleResponse().getConclusion())
+                .sourceLink(goal.getArticleResponse().getSourceLink())
+                .timestamp(goal.getArticleResponse().getTimestamp())
+                .quizzes(quizzes)
+                .recommendations(recommendations)
+                .build());
+        return response;
+    }
+
+    private List<Goal> goals() throws Exception {
+        String paragraph = "A caminhada regular melhora o condicionamento cardiovascular e o humor. ".repeat(15);
+        String recommendationsJson = objectMapper.writeValueAsString(List.of(
+                new Recommendation("Rotina", paragraph, List.of("Comece devagar", "Use tênis adequado")),
+                new Recommendation("Hidratação", paragraph, List.of("Leve água"))));
+        String quizzesJson = objectMapper.writeValueAsString(List.of(
+                new Quiz("Quanto tempo por dia?", List.of("10", "30", "60"), "30"),
+                new Quiz("Qual o melhor horário?", List.of("Manhã", "Tarde", "Noite"), "Manhã")));
+
+        List<Goal> goals = new ArrayList<>(GOALS);
+        for (long i = 1; i <= GOALS; i++) {
+            goals.add(Goal.builder()
+                    .goalId(i)
+                    .userId("12345")
+                    .title("Meta " + i)
+                    .category(GoalCategory.SAUDE_FISICA)
+                    .type("daily")
+                    .startDate(LocalDate.of(2026, 1, 1))
+                    .status("active")
+                    .createdAt(LocalDateTime.of(2026, 1, 1, 8, 0))
+                    .progress(Progress.builder().completed(3).total(30).unit("days").build())
+                    .reward(Reward.builder().points(10).badge("Caminhante").build())
+                    .articleResponse(ArticleEntity.builder()
+                            .title("Benefícios da Caminhada")
+                            .introduction(paragraph)
+                            .conclusion(paragraph)
+                            .sourceLink("https://cremesp.org.br/artigo")
+                            .timestamp("2026-01-10 08:30:00")
+                            .recommendationsJson(recommendationsJson)
+                            .quizzesJson(quizzesJson)
+                            .build())
+                    .build());
+        }
+        return goals;
+    }
+}
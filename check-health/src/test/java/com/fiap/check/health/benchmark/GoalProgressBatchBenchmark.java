@@ -0,0 +1,108 @@
+package com.fiap.check.health.benchmark;
+
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.model.Progress;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.ProgressEvent;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.repository.ProgressEventRepository;
+import com.fiap.check.health.service.ProgressLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark: an offline sync of 30 days of check-ins on 20 goals (600 check-ins), on H2.
+ * - um por transação: what PATCH /goals/{goal_id}/progress costs per call, findById plus
+ *   ProgressLog.checkIn in its own transaction
+ * - lote: POST /goals/progress/batch, one findAllById and ProgressLog.checkInAll in
+ *   a single transaction (inserts in JDBC batches of hibernate.jdbc.batch_size)
+ * HTTP overhead is left out, so the gap is only transactions and statements.
+ */
+// Sem o SQL no log do perfil test, que pesa mais que as próprias escritas
+@DataJpaTest(properties = "logging.level.org.hibernate.SQL=info", showSql = false)
+@ActiveProfiles("test")
+@Import(ProgressLog.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Benchmark - Check-ins em lote vs um por requisição")
+class GoalProgressBatchBenchmark {
+
+    private static final int GOALS = 20;
+    private static final int DAYS = 30;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    private ProgressLog progressLog;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private ProgressEventRepository progressEventRepository;
+
+    @Test
+    void syncLatency() throws Exception {
+        List<Long> goalIds = seed();
+
+        ReadmeTable table = new ReadmeTable("Modo", "ms por sincronização", "Check-ins/s");
+        report(table, "um por transação", () -> {
+            for (int day = 0; day < DAYS; day++) {
+                for (Long goalId : goalIds) {
+                    progressLog.checkIn(goalRepository.findById(goalId).orElseThrow(), 1, ProgressEvent.SOURCE_API);
+                }
+            }
+        });
+        report(table, "lote", () -> {
+            Instant start = Instant.now().minus(DAYS, ChronoUnit.DAYS);
+            List<ProgressEvent> events = new ArrayList<>(GOALS * DAYS);
+            for (int day = 0; day < DAYS; day++) {
+                for (Long goalId : goalIds) {
+                    events.add(ProgressEvent.builder()
+                            .goalId(goalId)
+                            .increment(1)
+                            .occurredAt(start.plus(day, ChronoUnit.DAYS))
+                            .source(ProgressEvent.SOURCE_BULK)
+                            .build());
+                }
+            }
+            progressLog.checkInAll(goalRepository.findAllById(goalIds), events);
+        });
+        table.print();
+
+        progressEventRepository.deleteAll();
+        goalRepository.deleteAllById(goalIds);
+    }
+
+    private void report(ReadmeTable table, String mode, Runnable sync) throws Exception {
+        double millis = BenchmarkTimer.millisPerOp(WARMUP_ITERATIONS, ITERATIONS, i -> sync.run());
+        table.row(mode, millis, GOALS * DAYS / (millis / 1e3));
+    }
+
+    private List<Long> seed() {
+        List<Goal> goals = new ArrayList<>(GOALS);
+        for (int i = 0; i < GOALS; i++) {
+            goals.add(Goal.builder()
+                    .userId("bench")
+                    .title("Meta " + i)
+                    .category(GoalCategory.SAUDE_FISICA)
+                    .type("daily")
+                    .startDate(LocalDate.of(2026, 1, 1))
+                    .status("active")
+                    .progress(Progress.builder().completed(0).total(Integer.MAX_VALUE).unit("days").build())
+                    .build());
+        }
+        return goalRepository.saveAll(goals).stream().map(Goal::getGoalId).toList();
+    }
+}
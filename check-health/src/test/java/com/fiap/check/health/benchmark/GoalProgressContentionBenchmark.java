@@ -0,0 +1,165 @@
+package com.fiap.check.health.benchmark;
+
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.model.Progress;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.ProgressEvent;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.service.ProgressBuffer;
+import com.fiap.check.health.service.ProgressLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark: parallel check-ins on the same goal, on H2.
+ * - read-modify-write: the previous updateProgress (findById, add in Java, save the
+ *   entity), retried on optimistic lock conflicts now that Goal is versioned
+ * - log de eventos: ProgressLog.checkIn, one insert into progress_events per check-in,
+ *   folded into the goal snapshot every progress.snapshot.every-events events
+ * - write-behind: ProgressBuffer.add with a WAL file, flushed as one event per goal
+ *   every progress.write-behind.flush-interval-ms
+ * Reports check-ins per second, conflicts retried and the final completed count
+ * ("Progresso final"), snapshot plus tail (must equal the number of check-ins in
+ * every mode).
+ */
+// Sem o SQL no log do perfil test, que pesa mais que as próprias escritas
+@DataJpaTest(properties = {"progress.write-behind.enabled=true",
+        "progress.write-behind.wal-path=target/benchmark-progress-wal",
+        "logging.level.org.hibernate.SQL=info"}, showSql = false)
+@ActiveProfiles("test")
+@Import({ProgressLog.class, ProgressBuffer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Benchmark - Check-ins concorrentes na mesma meta")
+class GoalProgressContentionBenchmark {
+
+    private static final int[] THREADS = {1, 4, 8};
+    private static final int CHECK_INS_PER_THREAD = 500;
+    private static final String[] COLUMNS = {"Threads", "Modo", "Check-ins/s", "Conflitos", "Progresso final"};
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private ProgressLog progressLog;
+
+    @Autowired
+    private ProgressBuffer progressBuffer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void checkInThroughput() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Map<String, CheckIn> modes = new LinkedHashMap<>();
+        modes.put("read-modify-write", goalId -> {
+            long conflicts = 0;
+            while (true) {
+                try {
+                    transaction.executeWithoutResult(status -> {
+                        Goal goal = goalRepository.findById(goalId).orElseThrow();
+                        goal.getProgress().setCompleted(goal.getProgress().getCompleted() + 1);
+                        goalRepository.save(goal);
+                    });
+                    return conflicts;
+                } catch (OptimisticLockingFailureException e) {
+                    conflicts++;
+                }
+            }
+        });
+        modes.put("log de eventos", goalId -> {
+            progressLog.checkIn(goalRepository.findById(goalId).orElseThrow(), 1, ProgressEvent.SOURCE_API);
+            return 0;
+        });
+        modes.put("write-behind", goalId -> {
+            progressBuffer.add(goalRepository.findById(goalId).orElseThrow(), 1);
+            return 0;
+        });
+
+        // Compile every path once outside the table, so the single-thread rows are not the cold ones
+        ReadmeTable warmup = new ReadmeTable(COLUMNS);
+        for (Map.Entry<String, CheckIn> mode : modes.entrySet()) {
+            run(warmup, 1, mode.getKey(), mode.getValue());
+        }
+
+        ReadmeTable table = new ReadmeTable(COLUMNS);
+        for (int threads : THREADS) {
+            for (Map.Entry<String, CheckIn> mode : modes.entrySet()) {
+                run(table, threads, mode.getKey(), mode.getValue());
+            }
+        }
+        table.print();
+    }
+
+    private void run(ReadmeTable table, int threads, String mode, CheckIn checkIn) throws Exception {
+        Goal goal = goalRepository.save(Goal.builder()
+                .userId("bench")
+                .title("Meta " + mode)
+                .category(GoalCategory.SAUDE_FISICA)
+                .type("daily")
+                .startDate(LocalDate.of(2026, 1, 1))
+                .status("active")
+                .progress(Progress.builder().completed(0).total(Integer.MAX_VALUE).unit("days").build())
+                .build());
+
+        AtomicLong conflicts = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        long elapsed;
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < CHECK_INS_PER_THREAD; i++) {
+                        conflicts.addAndGet(checkIn.apply(goal.getGoalId()));
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            elapsed = System.nanoTime() - begin;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        progressBuffer.flush();
+        Goal stored = goalRepository.findById(goal.getGoalId()).orElseThrow();
+        progressBuffer.applyTail(stored);
+        int completed = stored.currentProgress().getCompleted();
+        double perSecond = (double) threads * CHECK_INS_PER_THREAD / (elapsed / 1e9);
+        table.row(threads, mode, perSecond, conflicts.get(), completed);
+        goalRepository.deleteById(goal.getGoalId());
+        progressLog.discard(goal.getGoalId());
+    }
+
+    @FunctionalInterface
+    private interface CheckIn {
+        /** One check-in; returns the number of conflicts retried. */
+        long apply(Long goalId);
+    }
+}
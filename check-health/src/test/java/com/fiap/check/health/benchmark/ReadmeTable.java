@@ -0,0 +1,74 @@
+package com.fiap.check.health.benchmark;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Result table the benchmarks in this package print once every case is measured, as
+ * the Markdown table the README shows: Portuguese headers and pt-BR numbers
+ * ({@code 1.000}, {@code 3,2}), so a run can be pasted over the previous one.
+ * <p>
+ * The {@code *Benchmark} classes are left out of the default build; they run with the
+ * {@code benchmark} profile ({@code mvn test -Pbenchmark}, or one of them with
+ * {@code -Dtest=<class>}).
+ */
+final class ReadmeTable {
+
+    private static final DecimalFormatSymbols PT_BR = DecimalFormatSymbols.getInstance(Locale.forLanguageTag("pt-BR"));
+
+    private final String[] columns;
+    private final List<String[]> rows = new ArrayList<>();
+
+    ReadmeTable(String... columns) {
+        this.columns = columns;
+    }
+
+    /** Adds one row. Integers get a thousands separator, decimals fewer digits the larger they are. */
+    void row(Object... cells) {
+        if (cells.length != columns.length) {
+            throw new IllegalArgumentException("Expected " + columns.length + " cells, got " + cells.length);
+        }
+        String[] row = new String[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            row[i] = format(cells[i]);
+        }
+        rows.add(row);
+    }
+
+    String toMarkdown() {
+        StringBuilder table = new StringBuilder();
+        appendLine(table, columns);
+        String[] rule = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            rule[i] = "-".repeat(columns[i].length());
+        }
+        table.append(String.join("", "|-", String.join("-|-", rule), "-|")).append('\n');
+        for (String[] row : rows) {
+            appendLine(table, row);
+        }
+        return table.toString();
+    }
+
+    void print() {
+        System.out.println(toMarkdown());
+    }
+
+    private static void appendLine(StringBuilder table, String[] cells) {
+        table.append("| ").append(String.join(" | ", cells)).append(" |\n");
+    }
+
+    private static String format(Object cell) {
+        if (cell instanceof Double || cell instanceof Float) {
+            double value = Math.abs(((Number) cell).doubleValue());
+            String pattern = value >= 100 ? "#,##0" : value >= 1 ? "#,##0.0" : "0.00";
+            return new DecimalFormat(pattern, PT_BR).format(((Number) cell).doubleValue());
+        }
+        if (cell instanceof Number number) {
+            return new DecimalFormat("#,##0", PT_BR).format(number.longValue());
+        }
+        return String.valueOf(cell);
+    }
+}
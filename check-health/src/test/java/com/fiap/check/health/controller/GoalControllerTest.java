@@ -3,8 +3,15 @@ package com.fiap.check.health.controller;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.ProgressBatchRequest;
+import com.fiap.check.health.api.model.ProgressBatchResponse;
+import com.fiap.check.health.api.model.ProgressCheckIn;
+import com.fiap.check.health.api.model.ProgressCheckInResult;
 import com.fiap.check.health.api.model.ProgressRequest;
 import com.fiap.check.health.exception.GoalNotFoundException;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.service.GoalFilter;
+import com.fiap.check.health.service.GoalPage;
 import com.fiap.check.health.service.GoalService;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -101,32 +108,53 @@ class GoalControllerTest {
         @DisplayName("Deve retornar lista de metas com sucesso")
         void shouldReturnListOfGoalsSuccessfully() throws JsonProcessingException {
             // Given
-            when(goalService.listGoals()).thenReturn(Collections.singletonList(goalResponse));
+            when(goalService.listGoals(GoalFilter.none(), null, null, false))
+                    .thenReturn(new GoalPage(Collections.singletonList(goalResponse), null));
 
             // When
-            ResponseEntity<List<GoalResponse>> response = goalController.goalsGet();
+            ResponseEntity<List<GoalResponse>> response = goalController.goalsGet(null, null, null, null, null, null, null, null);
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).isNotNull();
             assertThat(response.getBody()).hasSize(1);
             assertThat(response.getBody().get(0).getUserId()).isEqualTo("user123");
+            assertThat(response.getHeaders().containsKey(GoalController.NEXT_CURSOR_HEADER)).isFalse();
         }
 
         @Test
         @DisplayName("Deve retornar lista vazia quando não há metas")
         void shouldReturnEmptyListWhenNoGoalsExist() throws JsonProcessingException {
             // Given
-            when(goalService.listGoals()).thenReturn(Collections.emptyList());
+            when(goalService.listGoals(GoalFilter.none(), null, null, false))
+                    .thenReturn(new GoalPage(Collections.emptyList(), null));
 
             // When
-            ResponseEntity<List<GoalResponse>> response = goalController.goalsGet();
+            ResponseEntity<List<GoalResponse>> response = goalController.goalsGet(null, null, null, null, null, null, null, null);
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).isNotNull();
             assertThat(response.getBody()).isEmpty();
         }
+
+        @Test
+        @DisplayName("Deve repassar filtros, cursor e include=article e devolver o próximo cursor no header")
+        void shouldPassFiltersAndReturnNextCursorHeader() throws JsonProcessingException {
+            // Given
+            GoalFilter filter = new GoalFilter("user123", "active", GoalCategory.SONO,
+                    LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+            when(goalService.listGoals(filter, "abc", 10, true))
+                    .thenReturn(new GoalPage(List.of(goalResponse), "next-token"));
+
+            // When
+            ResponseEntity<List<GoalResponse>> response = goalController.goalsGet("user123", "active", GoalCategory.SONO,
+                    LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), "abc", 10, "article");
+
+            // Then
+            assertThat(response.getBody()).hasSize(1);
+            assertThat(response.getHeaders().getFirst(GoalController.NEXT_CURSOR_HEADER)).isEqualTo("next-token");
+        }
     }
 
     @Nested
@@ -261,4 +289,37 @@ class GoalControllerTest {
                     .hasMessageContaining("Goal não encontrado com ID: 999");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("POST /goals/progress/batch Tests")
+    class UpdateProgressBatchTests {
+
+        @Test
+        @DisplayName("Deve retornar 200 com o resultado de cada check-in")
+        void shouldReturnResultPerCheckIn() {
+            // Given
+            ProgressBatchRequest request = ProgressBatchRequest.builder()
+                    .checkIns(List.of(
+                            ProgressCheckIn.builder().goalId("1").increment(1).build(),
+                            ProgressCheckIn.builder().goalId("999").increment(1).build()))
+                    .build();
+            ProgressBatchResponse batchResponse = ProgressBatchResponse.builder()
+                    .applied(1)
+                    .rejected(1)
+                    .results(List.of(
+                            ProgressCheckInResult.builder().index(0).goalId("1")
+                                    .status(ProgressCheckInResult.APPLIED).build(),
+                            ProgressCheckInResult.builder().index(1).goalId("999")
+                                    .status(ProgressCheckInResult.NOT_FOUND).build()))
+                    .build();
+            when(goalService.updateProgressBatch(request)).thenReturn(batchResponse);
+
+            // When
+            ResponseEntity<ProgressBatchResponse> response = goalController.goalsProgressBatchPost(request);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isEqualTo(batchResponse);
+        }
+    }
+}
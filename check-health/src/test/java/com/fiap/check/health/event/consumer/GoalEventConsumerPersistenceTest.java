@@ -0,0 +1,147 @@
+package com.fiap.check.health.event.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.check.health.config.Config;
+import com.fiap.check.health.dto.ArticleResponse;
+import com.fiap.check.health.model.Article;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.repository.ArticleRepository;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.store.ArticleStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs the consumer against H2 without the test-managed transaction, so the batch
+ * commits on its own like it does under the listener.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("GoalEventConsumer - Anexo do artigo no banco")
+class GoalEventConsumerPersistenceTest {
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new Config().objectMapper();
+
+    private GoalEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new GoalEventConsumer(objectMapper, goalRepository, articleRepository, mock(ArticleStore.class),
+                new GoalLatencyRecorder(new SimpleMeterRegistry()), mock(ConsumerRecordRecoverer.class),
+                transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        goalRepository.deleteAll();
+        articleRepository.deleteAll();
+    }
+
+    private Goal saveGoal(String userId) {
+        return goalRepository.save(Goal.builder()
+                .userId(userId)
+                .title("Meta sem artigo")
+                .category(GoalCategory.SAUDE_FISICA)
+                .type("daily")
+                .startDate(LocalDate.of(2026, 1, 1))
+                .status("active")
+                .build());
+    }
+
+    private ConsumerRecord<String, String> record(Long userId, Long goalId, String title) throws Exception {
+        ArticleResponse article = ArticleResponse.builder()
+                .title(title)
+                .introduction("Introdução")
+                .conclusion("Conclusão")
+                .recommendations(List.of())
+                .quizzes(List.of())
+                .build();
+        Article event = Article.builder().messageId("m" + goalId).userId(userId).goalId(goalId)
+                .status("SUCCESS").articleResponse(article).build();
+        return new ConsumerRecord<>("goal.progress.updated", 0, 0L, "key", objectMapper.writeValueAsString(event));
+    }
+
+    private Goal reload(Long goalId) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Goal goal = goalRepository.findById(goalId).orElseThrow();
+            goal.getArticleResponse().getTitle();
+            return goal;
+        });
+    }
+
+    @Test
+    @DisplayName("Deve anexar título e artigo novo sem incrementar a versão nem tocar meta de outro usuário")
+    void shouldAttachWithoutVersionBump() throws Exception {
+        // Given
+        Goal first = saveGoal("10");
+        Goal second = saveGoal("10");
+        Goal otherUser = saveGoal("20");
+
+        // When
+        consumer.consume(List.of(
+                record(10L, first.getGoalId(), "Benefícios da Caminhada"),
+                record(10L, second.getGoalId(), "Sono Reparador"),
+                record(10L, otherUser.getGoalId(), "Benefícios da Caminhada")));
+
+        // Then
+        Goal attached = reload(first.getGoalId());
+        assertThat(attached.getTitle()).isEqualTo("Benefícios da Caminhada");
+        assertThat(attached.getArticleResponse().getTitle()).isEqualTo("Benefícios da Caminhada");
+        assertThat(attached.getVersion()).isEqualTo(first.getVersion());
+        assertThat(reload(second.getGoalId()).getArticleResponse().getTitle()).isEqualTo("Sono Reparador");
+        assertThat(goalRepository.findById(otherUser.getGoalId()).orElseThrow().getTitle())
+                .isEqualTo("Meta sem artigo");
+        assertThat(articleRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve manter o artigo quando uma edição lida antes do anexo é salva depois")
+    void shouldKeepArticleUnderEditFromOlderRead() throws Exception {
+        // Given
+        Goal goal = saveGoal("10");
+        ConsumerRecord<String, String> record = record(10L, goal.getGoalId(), "Benefícios da Caminhada");
+
+        // When: o anexo commita em outra transação entre a leitura e o UPDATE da edição
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Goal edited = goalRepository.findById(goal.getGoalId()).orElseThrow();
+            CompletableFuture.runAsync(() -> consumer.consume(List.of(record))).join();
+            edited.setDescription("Editada antes de ver o artigo");
+        });
+
+        // Then
+        Goal reloaded = reload(goal.getGoalId());
+        assertThat(reloaded.getDescription()).isEqualTo("Editada antes de ver o artigo");
+        assertThat(reloaded.getTitle()).isEqualTo("Benefícios da Caminhada");
+        assertThat(reloaded.getArticleResponse().getTitle()).isEqualTo("Benefícios da Caminhada");
+    }
+}
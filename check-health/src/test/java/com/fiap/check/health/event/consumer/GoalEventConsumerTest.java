@@ -0,0 +1,554 @@
+package com.fiap.check.health.event.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.check.health.config.Config;
+import com.fiap.check.health.dto.ArticleReference;
+import com.fiap.check.health.dto.ArticleResponse;
+import com.fiap.check.health.dto.Quiz;
+import com.fiap.check.health.dto.Recommendation;
+import com.fiap.check.health.event.LatencyHeaders;
+import com.fiap.check.health.model.Article;
+import com.fiap.check.health.persistence.entity.ArticleEntity;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.repository.ArticleAttachment;
+import com.fiap.check.health.persistence.repository.ArticleRepository;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.store.ArticleStore;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GoalEventConsumer - Unit Tests")
+class GoalEventConsumerTest {
+
+    private static final String CONTENT_HASH = "ab".repeat(32);
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleStore articleStore;
+
+    @Mock
+    private ConsumerRecordRecoverer deadLetters;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new Config().objectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Map<Long, ArticleEntity> articlesById = new HashMap<>();
+
+    private GoalEventConsumer consumer;
+    private ArticleResponse article;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new GoalEventConsumer(objectMapper, goalRepository, articleRepository, articleStore,
+                new GoalLatencyRecorder(meterRegistry), deadLetters, transactionManager);
+
+        article = ArticleResponse.builder()
+                .title("Benefícios da Caminhada")
+                .introduction("Introdução")
+                .conclusion("Conclusão")
+                .sourceLink("https://cremesp.org.br/artigo")
+                .timestamp("2025-03-10 08:30:00")
+                .recommendations(List.of(new Recommendation("Rotina", "Caminhe todo dia", List.of("Comece devagar"))))
+                .quizzes(List.of(new Quiz("Quanto tempo?", List.of("10", "30"), "30")))
+                .build();
+    }
+
+    private ConsumerRecord<String, String> record(Article event) throws Exception {
+        return record(objectMapper.writeValueAsString(event));
+    }
+
+    private static ConsumerRecord<String, String> record(String value) {
+        return new ConsumerRecord<>("goal.progress.updated", 0, 0L, "key", value);
+    }
+
+    private static Goal goal(Long goalId, String userId) {
+        return Goal.builder().goalId(goalId).userId(userId).title("Meta sem artigo").build();
+    }
+
+    private Article event(Long userId, Long goalId) {
+        return Article.builder().messageId("m" + goalId).userId(userId).goalId(goalId)
+                .status("SUCCESS").articleResponse(article).build();
+    }
+
+    private ArticleResponse articleTitled(String title) {
+        return ArticleResponse.builder()
+                .title(title)
+                .introduction(article.getIntroduction())
+                .conclusion(article.getConclusion())
+                .sourceLink(article.getSourceLink())
+                .timestamp(article.getTimestamp())
+                .recommendations(article.getRecommendations())
+                .quizzes(article.getQuizzes())
+                .build();
+    }
+
+    /** Backs attachArticles with these goals, owner checked like the UPDATE. */
+    private void goalsInDatabase(Goal... goals) {
+        Map<Long, Goal> byId = Arrays.stream(goals).collect(Collectors.toMap(Goal::getGoalId, Function.identity()));
+        when(goalRepository.attachArticles(anyList())).thenAnswer(invocation -> {
+            List<ArticleAttachment> attachments = invocation.getArgument(0);
+            int[] updated = new int[attachments.size()];
+            for (int i = 0; i < updated.length; i++) {
+                ArticleAttachment attachment = attachments.get(i);
+                Goal goal = byId.get(attachment.goalId());
+                if (goal != null && goal.getUserId().equals(attachment.userId())) {
+                    goal.setTitle(attachment.title());
+                    goal.setArticleResponse(articlesById.get(attachment.articleId()));
+                    updated[i] = 1;
+                }
+            }
+            return updated;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> attachedGoalIds() {
+        ArgumentCaptor<List<ArticleAttachment>> attachments = ArgumentCaptor.forClass(List.class);
+        verify(goalRepository, atLeastOnce()).attachArticles(attachments.capture());
+        return attachments.getAllValues().stream().flatMap(List::stream).map(ArticleAttachment::goalId).toList();
+    }
+
+    private Timer hop(String hop) {
+        return meterRegistry.get("check.health.goal.article.latency").tag("hop", hop).timer();
+    }
+
+    /** saveAll gives each new article the next id, as the sequence would. */
+    private void storesNewArticles() {
+        when(articleRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<ArticleEntity> articles = invocation.getArgument(0);
+            articles.forEach(saved -> {
+                saved.setArticleId(articlesById.size() + 1L);
+                articlesById.put(saved.getArticleId(), saved);
+            });
+            return articles;
+        });
+    }
+
+    @Nested
+    @DisplayName("Artigo do evento")
+    class ArticleResolution {
+
+        @Test
+        @DisplayName("Should attach inline article to the goal")
+        void shouldAttachInlineArticle() throws Exception {
+            // Arrange
+            Goal goal = goal(1L, "10");
+            storesNewArticles();
+            goalsInDatabase(goal);
+
+            // Act
+            consumer.consume(List.of(record(event(10L, 1L))));
+
+            // Assert
+            assertThat(goal.getTitle()).isEqualTo("Benefícios da Caminhada");
+            assertThat(goal.getArticleResponse().getTitle()).isEqualTo("Benefícios da Caminhada");
+            assertThat(goal.getArticleResponse().getContentHash()).hasSize(64);
+            verify(articleRepository).saveAll(List.of(goal.getArticleResponse()));
+            verify(goalRepository, never()).findByUserId(any());
+            verify(goalRepository, never()).save(any());
+            verify(transactionManager).commit(any());
+            verifyNoInteractions(articleStore, deadLetters);
+        }
+
+        @Test
+        @DisplayName("Should dereference claim-check article from store")
+        void shouldDereferenceArticleFromStore() throws Exception {
+            // Arrange
+            Goal goal = goal(1L, "10");
+            storesNewArticles();
+            goalsInDatabase(goal);
+            when(articleStore.find(CONTENT_HASH)).thenReturn(Optional.of(article));
+            Article event = Article.builder().messageId("m1").userId(10L).goalId(1L).status("SUCCESS")
+                    .articleReference(new ArticleReference(CONTENT_HASH, article.getTitle(), article.getSourceLink(), 2048))
+                    .build();
+
+            // Act
+            consumer.consume(List.of(record(event)));
+
+            // Assert
+            assertThat(goal.getTitle()).isEqualTo("Benefícios da Caminhada");
+            assertThat(goal.getArticleResponse().getIntroduction()).isEqualTo("Introdução");
+            assertThat(goal.getArticleResponse().getRecommendationsJson()).contains("Caminhe todo dia");
+        }
+
+        @Test
+        @DisplayName("Should fail at the record whose referenced article is missing so it is retried")
+        void shouldFailAtRecordWhenArticleIsMissing() throws Exception {
+            // Arrange
+            Goal goal = goal(1L, "10");
+            storesNewArticles();
+            goalsInDatabase(goal);
+            when(articleStore.find(CONTENT_HASH)).thenReturn(Optional.empty());
+            Article missing = Article.builder().messageId("m2").userId(10L).goalId(2L).status("SUCCESS")
+                    .articleReference(ArticleReference.builder().contentHash(CONTENT_HASH).build())
+                    .build();
+            ConsumerRecord<String, String> unresolved =
+                    new ConsumerRecord<>("goal.progress.updated", 0, 1L, "key", objectMapper.writeValueAsString(missing));
+            ConsumerRecord<String, String> after =
+                    new ConsumerRecord<>("goal.progress.updated", 0, 2L, "key", objectMapper.writeValueAsString(event(10L, 3L)));
+
+            // Act & Assert
+            assertThatThrownBy(() -> consumer.consume(List.of(record(event(10L, 1L)), unresolved, after)))
+                    .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                            e -> assertThat(e.getIndex()).isEqualTo(1))
+                    .hasMessageContaining("offset 1");
+            assertThat(goal.getArticleResponse()).isNotNull();
+            assertThat(attachedGoalIds()).containsExactly(1L);
+            verifyNoInteractions(deadLetters);
+        }
+
+        @Test
+        @DisplayName("Should not update goal when the event carries no article")
+        void shouldNotUpdateWhenEventHasNoArticle() throws Exception {
+            // Arrange
+            Article event = Article.builder().messageId("m1").userId(10L).goalId(1L).status("FAILED")
+                    .errorMessage("timeout")
+                    .build();
+
+            // Act
+            consumer.consume(List.of(record(event)));
+
+            // Assert
+            verifyNoInteractions(goalRepository, articleRepository, articleStore, transactionManager, deadLetters);
+        }
+
+        @Test
+        @DisplayName("Should report goal not found when no goal matches the id")
+        void shouldNotAttachWhenGoalDoesNotExist() throws Exception {
+            // Arrange
+            storesNewArticles();
+            goalsInDatabase();
+
+            // Act
+            consumer.consume(List.of(record(event(10L, 99L))));
+
+            // Assert
+            assertThat(attachedGoalIds()).containsExactly(99L);
+            assertThat(meterRegistry.find("check.health.goal.article.latency").tag("hop", "attach").timer()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should not attach to a goal of another user")
+        void shouldNotAttachToGoalOfAnotherUser() throws Exception {
+            // Arrange
+            Goal goal = goal(1L, "20");
+            storesNewArticles();
+            goalsInDatabase(goal);
+
+            // Act
+            consumer.consume(List.of(record(event(10L, 1L))));
+
+            // Assert
+            assertThat(goal.getTitle()).isEqualTo("Meta sem artigo");
+            assertThat(goal.getArticleResponse()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should skip goal lookup when the article request expired")
+        void shouldSkipExpiredRequest() throws Exception {
+            // Arrange
+            Article event = Article.builder().messageId("m1").userId(10L).goalId(1L).status("EXPIRED")
+                    .errorMessage("Request expired after 600000 ms (interactive TTL 300000 ms)")
+                    .build();
+
+            // Act
+            consumer.consume(List.of(record(event)));
+
+            // Assert
+            verifyNoInteractions(goalRepository, articleRepository, articleStore, deadLetters);
+        }
+    }
+
+    @Nested
+    @DisplayName("Lote por poll")
+    class BatchWrites {
+
+        @Test
+        @DisplayName("Should attach every goal with a targeted update in one transaction")
+        @SuppressWarnings("unchecked")
+        void shouldAttachGoalsInOneTransaction() throws Exception {
+            // Arrange
+            Goal first = goal(1L, "10");
+            Goal second = goal(2L, "10");
+            Goal third = goal(3L, "11");
+            ArticleResponse other = articleTitled("Sono Reparador");
+            storesNewArticles();
+            goalsInDatabase(first, second, third);
+            Article otherEvent = event(11L, 3L);
+            otherEvent.setArticleResponse(other);
+
+            // Act
+            consumer.consume(List.of(record(event(10L, 1L)), record(event(10L, 2L)), record(otherEvent)));
+
+            // Assert
+            verify(goalRepository, times(1)).attachArticles(anyList());
+            assertThat(attachedGoalIds()).containsExactly(1L, 2L, 3L);
+            verify(goalRepository, never()).findAllById(any());
+            verify(articleRepository, times(1)).findByContentHashIn(any());
+            ArgumentCaptor<List<ArticleEntity>> inserted = ArgumentCaptor.forClass(List.class);
+            verify(articleRepository, times(1)).saveAll(inserted.capture());
+            assertThat(inserted.getValue()).extracting(ArticleEntity::getTitle)
+                    .containsExactly("Benefícios da Caminhada", "Sono Reparador");
+            assertThat(first.getArticleResponse()).isSameAs(second.getArticleResponse());
+            assertThat(third.getTitle()).isEqualTo("Sono Reparador");
+            verify(transactionManager, times(1)).commit(any());
+        }
+
+        @Test
+        @DisplayName("Should let the latest record win when a goal appears twice in the batch")
+        void shouldApplyRecordsInOffsetOrder() throws Exception {
+            // Arrange
+            Goal goal = goal(1L, "10");
+            storesNewArticles();
+            goalsInDatabase(goal);
+            Article regenerated = event(10L, 1L);
+            regenerated.setArticleResponse(articleTitled("Caminhada Revisada"));
+
+            // Act
+            consumer.consume(List.of(record(event(10L, 1L)), record(regenerated)));
+
+            // Assert
+            assertThat(goal.getTitle()).isEqualTo("Caminhada Revisada");
+        }
+
+        @Test
+        @DisplayName("Should fail at the record whose write fails so only it is retried")
+        void shouldFailAtRecordWhoseWriteFails() throws Exception {
+            // Arrange
+            Goal first = goal(1L, "10");
+            Goal third = goal(3L, "10");
+            storesNewArticles();
+            goalsInDatabase(first, goal(2L, "10"), third);
+            doThrow(new IllegalStateException("linha bloqueada")).when(goalRepository)
+                    .attachArticles(argThat(attachments -> attachments.stream().anyMatch(a -> a.goalId() == 2L)));
+            ConsumerRecord<String, String> malformedBefore = record("{");
+            ConsumerRecord<String, String> malformedAfter = record("}");
+
+            // Act / Assert
+            assertThatThrownBy(() -> consumer.consume(List.of(malformedBefore, record(event(10L, 1L)),
+                    record(event(10L, 2L)), record(event(10L, 3L)), malformedAfter)))
+                    .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                            e -> assertThat(e.getIndex()).isEqualTo(2))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(first.getTitle()).isEqualTo("Benefícios da Caminhada");
+            assertThat(third.getArticleResponse()).isNull();
+            verify(transactionManager, times(1)).commit(any());
+            verify(transactionManager, times(2)).rollback(any());
+            verify(deadLetters).accept(eq(malformedBefore), any());
+            verify(deadLetters, never()).accept(eq(malformedAfter), any());
+        }
+
+        @Test
+        @DisplayName("Should write every record on its own when only the batch transaction fails")
+        void shouldWriteRecordsOneByOneWhenBatchFails() throws Exception {
+            // Arrange
+            Goal first = goal(1L, "10");
+            Goal second = goal(2L, "10");
+            storesNewArticles();
+            goalsInDatabase(first, second);
+            doThrow(new IllegalStateException("lote grande demais")).when(goalRepository)
+                    .attachArticles(argThat(attachments -> attachments.size() > 1));
+
+            // Act
+            consumer.consume(List.of(record(event(10L, 1L)), record(event(10L, 2L))));
+
+            // Assert
+            assertThat(first.getArticleResponse()).isNotNull();
+            assertThat(second.getArticleResponse()).isNotNull();
+            verify(transactionManager, times(1)).rollback(any());
+            verify(transactionManager, times(2)).commit(any());
+            assertThat(hop("attach").count()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Artigo armazenado uma vez por conteúdo")
+    class ArticleDeduplication {
+
+        @Test
+        @DisplayName("Should reuse the stored article with the same content hash")
+        void shouldReuseStoredArticle() throws Exception {
+            // Arrange
+            Goal goal = goal(2L, "11");
+            ArticleEntity stored = ArticleEntity.builder().articleId(7L).title(article.getTitle()).build();
+            when(articleRepository.findByContentHashIn(any())).thenAnswer(invocation -> {
+                Collection<String> hashes = invocation.getArgument(0);
+                stored.setContentHash(hashes.iterator().next());
+                return List.of(stored);
+            });
+            articlesById.put(7L, stored);
+            goalsInDatabase(goal);
+
+            // Act
+            consumer.consume(List.of(record(event(11L, 2L))));
+
+            // Assert
+            assertThat(goal.getArticleResponse()).isSameAs(stored);
+            assertThat(goal.getTitle()).isEqualTo("Benefícios da Caminhada");
+            verify(articleRepository, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("Should fail at the record when a concurrent insert wins the content hash")
+        void shouldFailBatchOnConcurrentInsert() throws Exception {
+            // Arrange
+            when(articleRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("content_hash"));
+
+            // Act / Assert
+            assertThatThrownBy(() -> consumer.consume(List.of(record(event(10L, 1L)))))
+                    .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                            e -> assertThat(e.getIndex()).isZero())
+                    .hasCauseInstanceOf(DataIntegrityViolationException.class);
+            verify(transactionManager, times(2)).rollback(any());
+        }
+
+        @Test
+        @DisplayName("Should hash equal content equally regardless of the generation timestamp")
+        void shouldHashContentWithoutTimestamp() {
+            // Arrange
+            ArticleEntity first = ArticleEntity.builder().title("A").introduction("B").timestamp("2026-01-01").build();
+            ArticleEntity regenerated = ArticleEntity.builder().title("A").introduction("B").timestamp("2026-02-01").build();
+            ArticleEntity shifted = ArticleEntity.builder().title("AB").introduction("").build();
+
+            // Act / Assert
+            assertThat(ArticleEntity.contentHashOf(first)).isEqualTo(ArticleEntity.contentHashOf(regenerated));
+            assertThat(ArticleEntity.contentHashOf(first)).isNotEqualTo(ArticleEntity.contentHashOf(shifted));
+        }
+    }
+
+    @Nested
+    @DisplayName("Dead-letter topic")
+    class DeadLetters {
+
+        @Test
+        @DisplayName("Should send malformed records to the DLT and still attach the rest of the batch")
+        void shouldDeadLetterMalformedRecords() throws Exception {
+            // Arrange
+            Goal goal = goal(1L, "10");
+            storesNewArticles();
+            goalsInDatabase(goal);
+            ConsumerRecord<String, String> malformed = record("{\"goalId\": ");
+
+            // Act
+            consumer.consume(List.of(malformed, record(event(10L, 1L))));
+
+            // Assert
+            verify(deadLetters).accept(eq(malformed), any(Exception.class));
+            assertThat(goal.getTitle()).isEqualTo("Benefícios da Caminhada");
+        }
+
+        @Test
+        @DisplayName("Should send records without goalId or null value to the DLT")
+        void shouldDeadLetterRecordsWithoutGoal() throws Exception {
+            // Arrange
+            ConsumerRecord<String, String> withoutGoal = record(event(10L, null));
+            ConsumerRecord<String, String> tombstone = record((String) null);
+
+            // Act
+            consumer.consume(List.of(withoutGoal, tombstone));
+
+            // Assert
+            verify(deadLetters).accept(eq(withoutGoal), any(IllegalArgumentException.class));
+            verify(deadLetters).accept(eq(tombstone), any(IllegalArgumentException.class));
+            verifyNoInteractions(goalRepository, transactionManager);
+        }
+
+        @Test
+        @DisplayName("Should rethrow when the DLT send fails so the record is not lost")
+        void shouldRethrowWhenDeadLetterFails() {
+            // Arrange
+            ConsumerRecord<String, String> malformed = record("não é json");
+            doThrow(new KafkaException("DLT indisponível")).when(deadLetters).accept(eq(malformed), any());
+
+            // Act / Assert
+            assertThatThrownBy(() -> consumer.consume(List.of(malformed))).isInstanceOf(KafkaException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Latência meta -> artigo")
+    class GoalArticleLatency {
+
+        @Test
+        @DisplayName("Should record end-to-end latency by hop when article is attached")
+        void shouldRecordLatencyByHop() throws Exception {
+            // Arrange
+            storesNewArticles();
+            goalsInDatabase(goal(1L, "10"));
+            long now = System.currentTimeMillis();
+            ConsumerRecord<String, String> record = record(event(10L, 1L));
+            record.headers().add(LatencyHeaders.newTraceparent());
+            record.headers().add(LatencyHeaders.timestamp(LatencyHeaders.GOAL_CREATED_AT, now - 9_000));
+            record.headers().add(LatencyHeaders.timestamp(LatencyHeaders.GOAL_PUBLISHED_AT, now - 8_900));
+            record.headers().add(LatencyHeaders.timestamp(LatencyHeaders.PROCESSING_STARTED_AT, now - 8_000));
+            record.headers().add(LatencyHeaders.timestamp(LatencyHeaders.PROCESSING_COMPLETED_AT, now - 1_000));
+            record.headers().add(LatencyHeaders.timestamp(LatencyHeaders.RESPONSE_PRODUCED_AT, now - 990));
+
+            // Act
+            consumer.consume(List.of(record));
+
+            // Assert
+            assertThat(hop("total").count()).isEqualTo(1);
+            assertThat(hop("total").totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(9_000);
+            assertThat(hop("processing").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(7_000);
+            assertThat(hop("queue").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(900);
+            assertThat(hop("attach").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should only record local hops when trace headers are missing")
+        void shouldRecordOnlyLocalHopsWithoutHeaders() throws Exception {
+            // Arrange
+            storesNewArticles();
+            goalsInDatabase(goal(1L, "10"));
+
+            // Act
+            consumer.consume(List.of(record(event(10L, 1L))));
+
+            // Assert
+            assertThat(meterRegistry.find("check.health.goal.article.latency").tag("hop", "total").timer()).isNull();
+            assertThat(hop("attach").count()).isEqualTo(1);
+        }
+    }
+}
@@ -3,19 +3,26 @@ package com.fiap.check.health.event.publisher;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.check.health.dto.event.GoalCreatedEvent;
+import com.fiap.check.health.event.LatencyHeaders;
 import com.fiap.check.health.model.GoalCategory;
 import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.OutboxEvent;
+import com.fiap.check.health.persistence.repository.OutboxEventRepository;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,7 +31,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
- * Testes completos para GoalEventPublisher
+ * Testes completos para GoalEventPublisher (gravação no outbox e envio pelo relay)
  * com cobertura de cenários de sucesso, erro, edge cases e branches.
  */
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +44,9 @@ class GoalEventPublisherTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
     @Mock
     private SendResult<String, String> sendResult;
 
@@ -63,23 +73,15 @@ class GoalEventPublisherTest {
     }
 
     @Nested
-    @DisplayName("Testes de Sucesso - Future Completion")
+    @DisplayName("Testes de Sucesso - Gravação no Outbox")
     class SuccessScenarioTests {
 
         @Test
-        @DisplayName("Deve publicar evento com sucesso e completar future sem exceção")
-        void shouldPublishEventSuccessfullyAndCompleteFutureWithoutException() throws Exception {
+        @DisplayName("Deve gravar o evento no outbox sem enviar ao Kafka")
+        void shouldWriteEventToOutboxWithoutSendingToKafka() throws Exception {
             // Given
             String expectedJson = "{\"goalId\":1,\"userId\":\"user123\",\"category\":\"SAUDE_FISICA\"}";
-            
             when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn(expectedJson);
-            when(kafkaTemplate.send(eq("goal.created"), eq(expectedJson))).thenReturn(completedFuture);
-            
-            // Mock do SendResult e RecordMetadata
-            var recordMetadata = mock(org.apache.kafka.clients.producer.RecordMetadata.class);
-            when(sendResult.getRecordMetadata()).thenReturn(recordMetadata);
-            when(recordMetadata.offset()).thenReturn(123L);
-            when(recordMetadata.partition()).thenReturn(2);
 
             // When
             goalEventPublisher.publishGoalCreated(validGoal);
@@ -93,12 +95,13 @@ class GoalEventPublisherTest {
                 assertThat(event.getDescription()).isEqualTo("Meta de exercícios físicos");
                 return true;
             }));
-            
-            verify(kafkaTemplate).send("goal.created", expectedJson);
-            
-            // Verifica que o callback de sucesso foi executado
-            // O teste implicitamente verifica que future.whenComplete foi chamado
-            // através do mock que retorna completedFuture
+            OutboxEvent saved = savedOutboxEvent();
+            assertThat(saved.getAggregateType()).isEqualTo(OutboxEvent.AGGREGATE_GOAL);
+            assertThat(saved.getAggregateId()).isEqualTo("1");
+            assertThat(saved.getTopic()).isEqualTo("goal.created");
+            assertThat(saved.getPayload()).isEqualTo(expectedJson);
+            assertThat(saved.getCreatedAt()).isNotNull();
+            verifyNoInteractions(kafkaTemplate);
         }
 
         @Test
@@ -119,8 +122,8 @@ class GoalEventPublisherTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasCauseInstanceOf(NullPointerException.class);
             
-            // Verifica que o Kafka não foi chamado pois falhou antes
-            verifyNoInteractions(kafkaTemplate);
+            // Verifica que nada foi gravado pois falhou antes
+            verifyNoInteractions(outboxEventRepository);
             verifyNoInteractions(objectMapper);
         }
     }
@@ -142,8 +145,8 @@ class GoalEventPublisherTest {
                 .hasMessageContaining("Falha ao serializar evento goal.created")
                 .hasCause(jsonException);
 
-            // Verifica que o Kafka não foi chamado devido ao erro de JSON
-            verifyNoInteractions(kafkaTemplate);
+            // Verifica que nada foi gravado devido ao erro de JSON
+            verifyNoInteractions(outboxEventRepository);
         }
 
         @Test
@@ -160,108 +163,113 @@ class GoalEventPublisherTest {
                 .hasCause(specificException);
 
             verify(objectMapper).writeValueAsString(any(GoalCreatedEvent.class));
-            verifyNoInteractions(kafkaTemplate);
+            verifyNoInteractions(outboxEventRepository);
         }
     }
 
     @Nested
-    @DisplayName("Testes de Erro - Kafka Publishing")
-    class KafkaPublishingErrorTests {
+    @DisplayName("Testes de Erro - Outbox")
+    class OutboxErrorTests {
 
         @Test
-        @DisplayName("Deve lançar RuntimeException quando KafkaTemplate falha")
-        void shouldThrowRuntimeExceptionWhenKafkaTemplateFails() throws Exception {
+        @DisplayName("Deve lançar RuntimeException quando a gravação no outbox falha")
+        void shouldThrowRuntimeExceptionWhenOutboxWriteFails() throws Exception {
             // Given
-            String validJson = "{\"goalId\":1,\"userId\":\"user123\",\"category\":\"SAUDE_FISICA\"}";
-            RuntimeException kafkaException = new RuntimeException("Kafka broker not available");
-            
-            when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn(validJson);
-            when(kafkaTemplate.send(eq("goal.created"), eq(validJson))).thenThrow(kafkaException);
+            RuntimeException databaseException = new RuntimeException("Database not available");
+            when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn("{}");
+            when(outboxEventRepository.save(any(OutboxEvent.class))).thenThrow(databaseException);
 
             // When & Then
             assertThatThrownBy(() -> goalEventPublisher.publishGoalCreated(validGoal))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Falha ao publicar evento goal.created")
-                .hasCause(kafkaException);
+                .hasCause(databaseException);
 
-            verify(objectMapper).writeValueAsString(any(GoalCreatedEvent.class));
-            verify(kafkaTemplate).send("goal.created", validJson);
+            verifyNoInteractions(kafkaTemplate);
         }
+    }
+
+    @Nested
+    @DisplayName("Testes de Envio - Relay do Outbox")
+    class SendTests {
 
         @Test
-        @DisplayName("Deve capturar exceção genérica durante publicação")
-        void shouldCatchGenericExceptionDuringPublishing() throws Exception {
+        @DisplayName("Deve enviar o evento do outbox com tópico, chave e payload gravados")
+        void shouldSendStoredTopicKeyAndPayload() {
             // Given
-            String validJson = "{\"goalId\":1,\"userId\":\"user123\",\"category\":\"SAUDE_FISICA\"}";
-            IllegalStateException genericException = new IllegalStateException("Unexpected error");
-            
-            when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn(validJson);
-            when(kafkaTemplate.send(eq("goal.created"), eq(validJson))).thenThrow(genericException);
+            OutboxEvent event = outboxEvent("exercitar se diariamente", "{\"goalId\":1}");
+            when(kafkaTemplate.send(anyRecord())).thenReturn(completedFuture);
+            var recordMetadata = mock(org.apache.kafka.clients.producer.RecordMetadata.class);
+            when(sendResult.getRecordMetadata()).thenReturn(recordMetadata);
 
-            // When & Then
-            assertThatThrownBy(() -> goalEventPublisher.publishGoalCreated(validGoal))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Falha ao publicar evento goal.created")
-                .hasCause(genericException);
+            // When
+            CompletableFuture<SendResult<String, String>> result = goalEventPublisher.send(event);
 
-            verify(objectMapper).writeValueAsString(any(GoalCreatedEvent.class));
-            verify(kafkaTemplate).send("goal.created", validJson);
+            // Then
+            assertThat(result).isCompletedWithValue(sendResult);
+            verify(kafkaTemplate).send(argThat((ProducerRecord<String, String> record) -> {
+                assertThat(record.topic()).isEqualTo("goal.created");
+                assertThat(record.key()).isEqualTo("exercitar se diariamente");
+                assertThat(record.value()).isEqualTo("{\"goalId\":1}");
+                return true;
+            }));
+        }
+
+        @Test
+        @DisplayName("Deve devolver future com erro quando o Kafka não confirma o envio")
+        void shouldReturnFailedFutureWhenKafkaFails() {
+            // Given
+            when(kafkaTemplate.send(anyRecord())).thenReturn(failedFuture);
+
+            // When
+            CompletableFuture<SendResult<String, String>> result = goalEventPublisher.send(outboxEvent(null, "{}"));
+
+            // Then
+            assertThat(result).isCompletedExceptionally();
+        }
+
+        @Test
+        @DisplayName("Deve propagar exceção síncrona do KafkaTemplate")
+        void shouldPropagateSynchronousKafkaTemplateException() {
+            // Given
+            RuntimeException kafkaException = new RuntimeException("Kafka broker not available");
+            when(kafkaTemplate.send(anyRecord())).thenThrow(kafkaException);
+
+            // When & Then
+            assertThatThrownBy(() -> goalEventPublisher.send(outboxEvent(null, "{}"))).isSameAs(kafkaException);
         }
     }
 
     @Nested
-    @DisplayName("Testes do Callback Future - whenComplete")
-    class FutureCallbackTests {
+    @DisplayName("Chave de Partição por Tópico")
+    class PartitionKeyTests {
 
         @Test
-        @DisplayName("Deve executar callback de erro quando future completa com exceção")
-        void shouldExecuteErrorCallbackWhenFutureCompletesWithException() throws Exception {
+        @DisplayName("Deve usar o título normalizado como chave")
+        void shouldKeyByNormalizedTitle() throws Exception {
             // Given
-            String validJson = "{\"goalId\":1,\"userId\":\"user123\",\"category\":\"SAUDE_FISICA\"}";
-            
-            when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn(validJson);
-            when(kafkaTemplate.send(eq("goal.created"), eq(validJson))).thenReturn(failedFuture);
+            validGoal.setTitle("Exercitar-se  DIÁRIAMENTE!");
+            when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn("{}");
 
             // When
             goalEventPublisher.publishGoalCreated(validGoal);
 
             // Then
-            verify(objectMapper).writeValueAsString(any(GoalCreatedEvent.class));
-            verify(kafkaTemplate).send("goal.created", validJson);
-            
-            // Note: O callback de erro será executado, mas como é assíncrono,
-            // não podemos verificar diretamente aqui. O teste verifica que
-            // a configuração está correta e que o future.whenComplete será chamado.
-            
-            // Podemos verificar que o future foi criado corretamente
-            assertThat(failedFuture.isCompletedExceptionally()).isTrue();
+            assertThat(savedOutboxEvent().getMessageKey()).isEqualTo("exercitar se diariamente");
         }
 
         @Test
-        @DisplayName("Deve configurar callback corretamente para future de sucesso")
-        void shouldSetupCallbackCorrectlyForSuccessFuture() throws Exception {
+        @DisplayName("Deve gravar sem chave quando a meta não tem título")
+        void shouldStoreWithoutKeyWhenTitleBlank() throws Exception {
             // Given
-            String validJson = "{\"goalId\":1,\"userId\":\"user123\",\"category\":\"SAUDE_FISICA\"}";
-            
-            // Mock mais detalhado do SendResult
-            var recordMetadata = mock(org.apache.kafka.clients.producer.RecordMetadata.class);
-            when(sendResult.getRecordMetadata()).thenReturn(recordMetadata);
-            when(recordMetadata.offset()).thenReturn(456L);
-            when(recordMetadata.partition()).thenReturn(1);
-            
-            when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn(validJson);
-            when(kafkaTemplate.send(eq("goal.created"), eq(validJson))).thenReturn(completedFuture);
+            validGoal.setTitle("  ");
+            when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn("{}");
 
             // When
             goalEventPublisher.publishGoalCreated(validGoal);
 
             // Then
-            verify(objectMapper).writeValueAsString(any(GoalCreatedEvent.class));
-            verify(kafkaTemplate).send("goal.created", validJson);
-            
-            // Verifica que o future está completado com sucesso
-            assertThat(completedFuture.isDone()).isTrue();
-            assertThat(completedFuture.isCompletedExceptionally()).isFalse();
+            assertThat(savedOutboxEvent().getMessageKey()).isNull();
         }
     }
 
@@ -282,9 +290,7 @@ class GoalEventPublisherTest {
                     .build();
 
             String extremeJson = "{\"goalId\":" + Long.MAX_VALUE + ",\"userId\":\"" + "a".repeat(1000) + "\"}";
-            
             when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn(extremeJson);
-            when(kafkaTemplate.send(eq("goal.created"), eq(extremeJson))).thenReturn(completedFuture);
 
             // When
             goalEventPublisher.publishGoalCreated(extremeGoal);
@@ -298,8 +304,9 @@ class GoalEventPublisherTest {
                 assertThat(event.getDescription()).isNull();
                 return true;
             }));
-            
-            verify(kafkaTemplate).send("goal.created", extremeJson);
+            OutboxEvent saved = savedOutboxEvent();
+            assertThat(saved.getAggregateId()).isEqualTo(String.valueOf(Long.MAX_VALUE));
+            assertThat(saved.getPayload()).isEqualTo(extremeJson);
         }
 
         @Test
@@ -315,9 +322,7 @@ class GoalEventPublisherTest {
                     .build();
 
             String nullsJson = "{\"goalId\":null,\"userId\":null,\"category\":\"SONO\",\"title\":null}";
-            
             when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn(nullsJson);
-            when(kafkaTemplate.send(eq("goal.created"), eq(nullsJson))).thenReturn(completedFuture);
 
             // When
             goalEventPublisher.publishGoalCreated(goalWithNulls);
@@ -331,8 +336,7 @@ class GoalEventPublisherTest {
                 assertThat(event.getDescription()).isNull();
                 return true;
             }));
-            
-            verify(kafkaTemplate).send("goal.created", nullsJson);
+            assertThat(savedOutboxEvent().getPayload()).isEqualTo(nullsJson);
         }
 
         @Test
@@ -352,9 +356,7 @@ class GoalEventPublisherTest {
                         .build();
 
                 String categoryJson = "{\"category\":\"" + category.name() + "\"}";
-                
                 when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn(categoryJson);
-                when(kafkaTemplate.send(eq("goal.created"), eq(categoryJson))).thenReturn(completedFuture);
 
                 // When
                 goalEventPublisher.publishGoalCreated(goalWithCategory);
@@ -364,7 +366,7 @@ class GoalEventPublisherTest {
                     event.getCategory().equals(category.name())));
             }
             
-            verify(kafkaTemplate, times(categories.length)).send(eq("goal.created"), anyString());
+            verify(outboxEventRepository, times(categories.length)).save(any(OutboxEvent.class));
         }
     }
 
@@ -376,18 +378,14 @@ class GoalEventPublisherTest {
         @DisplayName("Deve usar o tópico correto para goal.created")
         void shouldUseCorrectTopicForGoalCreated() throws Exception {
             // Given
-            String validJson = "{\"goalId\":1,\"userId\":\"user123\",\"category\":\"SAUDE_FISICA\"}";
-            
-            when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn(validJson);
-            when(kafkaTemplate.send(anyString(), anyString())).thenReturn(completedFuture);
+            when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn("{}");
 
             // When
             goalEventPublisher.publishGoalCreated(validGoal);
 
             // Then
-            verify(kafkaTemplate).send(eq("goal.created"), eq(validJson));
-            verify(kafkaTemplate, never()).send(eq("goal.updated"), anyString());
-            verify(kafkaTemplate, never()).send(eq("goal.deleted"), anyString());
+            assertThat(savedOutboxEvent().getTopic()).isEqualTo("goal.created");
+            verify(outboxEventRepository, times(1)).save(any(OutboxEvent.class));
         }
 
         @Test
@@ -395,7 +393,6 @@ class GoalEventPublisherTest {
         void shouldCreateEventWithCorrectStructure() throws Exception {
             // Given
             when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn("{}");
-            when(kafkaTemplate.send(anyString(), anyString())).thenReturn(completedFuture);
 
             // When
             goalEventPublisher.publishGoalCreated(validGoal);
@@ -416,4 +413,63 @@ class GoalEventPublisherTest {
             }));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Testes de Headers de Latência")
+    class LatencyHeaderTests {
+
+        @Test
+        @DisplayName("Deve enviar trace context gravado e horários de criação e publicação nos headers")
+        void shouldSendTraceContextAndTimestampsInHeaders() throws Exception {
+            // Given
+            LocalDateTime createdAt = LocalDateTime.now().minusSeconds(2);
+            validGoal.setCreatedAt(createdAt);
+            when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class))).thenReturn("{}");
+            goalEventPublisher.publishGoalCreated(validGoal);
+            OutboxEvent saved = savedOutboxEvent();
+            when(kafkaTemplate.send(anyRecord())).thenReturn(failedFuture);
+            long beforeSend = System.currentTimeMillis();
+
+            // When
+            goalEventPublisher.send(saved);
+
+            // Then
+            verify(kafkaTemplate).send(argThat((ProducerRecord<String, String> record) -> {
+                assertThat(LatencyHeaders.value(record.headers(), LatencyHeaders.TRACEPARENT))
+                        .isEqualTo(saved.getTraceparent());
+                assertThat(LatencyHeaders.traceId(record.headers())).hasSize(32);
+                assertThat(LatencyHeaders.timestamp(record.headers(), LatencyHeaders.GOAL_CREATED_AT))
+                        .hasValue(LatencyHeaders.toEpochMillis(createdAt));
+                assertThat(LatencyHeaders.timestamp(record.headers(), LatencyHeaders.GOAL_PUBLISHED_AT).getAsLong())
+                        .isGreaterThanOrEqualTo(beforeSend);
+                return true;
+            }));
+            verify(objectMapper).writeValueAsString(argThat((GoalCreatedEvent event) ->
+                    createdAt.equals(event.getCreatedAt())));
+        }
+    }
+
+    private OutboxEvent savedOutboxEvent() {
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(saved.capture());
+        return saved.getValue();
+    }
+
+    private static OutboxEvent outboxEvent(String key, String payload) {
+        return OutboxEvent.builder()
+                .eventId(10L)
+                .aggregateType(OutboxEvent.AGGREGATE_GOAL)
+                .aggregateId("1")
+                .topic("goal.created")
+                .messageKey(key)
+                .payload(payload)
+                .traceparent(LatencyHeaders.newTraceparentValue())
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ProducerRecord<String, String> anyRecord() {
+        return any(ProducerRecord.class);
+    }
+}
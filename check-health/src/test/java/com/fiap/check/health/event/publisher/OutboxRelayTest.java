@@ -0,0 +1,235 @@
+package com.fiap.check.health.event.publisher;
+
+import com.fiap.check.health.persistence.entity.OutboxEvent;
+import com.fiap.check.health.persistence.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the relay against the outbox table on H2 with the Kafka side mocked, without
+ * the test-managed transaction so each batch commits like in production.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OutboxRelay - Publicação do outbox em lotes")
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final GoalEventPublisher goalEventPublisher = mock(GoalEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventRepository, goalEventPublisher, transactionManager, meterRegistry,
+                BATCH_SIZE, 1_000, Clock.fixed(NOW, ZoneOffset.UTC));
+        when(goalEventPublisher.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+    }
+
+    private OutboxEvent write(String goalId, String payload) {
+        return write(goalId, payload, NOW);
+    }
+
+    private OutboxEvent write(String goalId, String payload, Instant createdAt) {
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(OutboxEvent.AGGREGATE_GOAL)
+                .aggregateId(goalId)
+                .topic("goal.created")
+                .payload(payload)
+                .createdAt(createdAt)
+                .build());
+    }
+
+    private List<String> sentPayloads() {
+        ArgumentCaptor<OutboxEvent> sent = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(goalEventPublisher, atLeastOnce()).send(sent.capture());
+        return sent.getAllValues().stream().map(OutboxEvent::getPayload).toList();
+    }
+
+    private double lagSeconds() {
+        return meterRegistry.get("check.health.outbox.lag").gauge().value();
+    }
+
+    @Nested
+    @DisplayName("Publicação")
+    class Publishing {
+
+        @Test
+        @DisplayName("Deve publicar em ordem e remover os eventos confirmados")
+        void shouldPublishInOrderAndDeleteAcknowledged() {
+            // Given
+            write("1", "a");
+            write("2", "b");
+            write("3", "c");
+
+            // When
+            relay.relay();
+
+            // Then
+            assertThat(sentPayloads()).containsExactly("a", "b", "c");
+            assertThat(outboxEventRepository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve publicar o próximo evento de uma meta só depois do anterior")
+        void shouldKeepOrderPerAggregate() {
+            // Given
+            write("1", "meta 1 - primeiro");
+            write("1", "meta 1 - segundo");
+            write("2", "meta 2");
+
+            // When
+            int first = relay.relayBatch();
+
+            // Then
+            assertThat(first).isEqualTo(2);
+            assertThat(sentPayloads()).containsExactly("meta 1 - primeiro", "meta 2");
+            assertThat(outboxEventRepository.findAll())
+                    .extracting(OutboxEvent::getPayload)
+                    .containsExactly("meta 1 - segundo");
+        }
+
+        @Test
+        @DisplayName("Deve seguir com o próximo lote enquanto os lotes vierem cheios")
+        void shouldDrainFullBatches() {
+            // Given
+            for (int i = 0; i < 5; i++) {
+                write(String.valueOf(i), "evento " + i);
+            }
+
+            // When
+            relay.relay();
+
+            // Then
+            assertThat(sentPayloads()).hasSize(5);
+            assertThat(outboxEventRepository.count()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Falhas")
+    class Failures {
+
+        @Test
+        @DisplayName("Deve manter no outbox o evento não confirmado e os seguintes da mesma meta")
+        void shouldKeepUnacknowledgedEventAndItsSuccessors() {
+            // Given
+            write("1", "falha");
+            write("2", "ok");
+            write("1", "depois da falha");
+            when(goalEventPublisher.send(argThat(event -> event != null && "falha".equals(event.getPayload()))))
+                    .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker indisponível")));
+
+            // When
+            relay.relay();
+
+            // Then
+            assertThat(sentPayloads()).containsExactly("falha", "ok");
+            assertThat(outboxEventRepository.findAll())
+                    .extracting(OutboxEvent::getPayload)
+                    .containsExactlyInAnyOrder("falha", "depois da falha");
+        }
+
+        @Test
+        @DisplayName("Deve tratar exceção síncrona do envio como evento não confirmado")
+        void shouldTreatSynchronousSendFailureAsUnacknowledged() {
+            // Given
+            write("1", "a");
+            when(goalEventPublisher.send(any())).thenThrow(new IllegalStateException("producer fechado"));
+
+            // When
+            relay.relay();
+
+            // Then
+            assertThat(outboxEventRepository.count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Métrica de atraso")
+    class Lag {
+
+        @Test
+        @DisplayName("Deve expor a idade do evento mais antigo ainda no outbox")
+        void shouldExposeAgeOfOldestPendingEvent() {
+            // Given
+            write("1", "mais antigo", NOW.minus(Duration.ofSeconds(30)));
+            write("2", "recente", NOW.minus(Duration.ofSeconds(5)));
+
+            // When
+            relay.updateLag();
+
+            // Then
+            assertThat(lagSeconds()).isEqualTo(30.0);
+        }
+
+        @Test
+        @DisplayName("Deve expor atraso zero com o outbox vazio")
+        void shouldExposeZeroLagWhenEmpty() {
+            // Given
+            write("1", "preso", NOW.minus(Duration.ofSeconds(30)));
+            relay.updateLag();
+            outboxEventRepository.deleteAll();
+
+            // When
+            relay.updateLag();
+
+            // Then
+            assertThat(lagSeconds()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve atualizar o atraso ao fim de cada ciclo do relay")
+        void shouldUpdateLagAfterEachRelay() {
+            // Given
+            write("1", "preso", NOW.minus(Duration.ofSeconds(30)));
+            when(goalEventPublisher.send(any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException()));
+
+            // When
+            relay.relay();
+
+            // Then
+            assertThat(lagSeconds()).isEqualTo(30.0);
+        }
+    }
+}
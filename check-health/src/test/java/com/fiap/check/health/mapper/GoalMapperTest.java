@@ -5,16 +5,24 @@ import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalRequestFrequency;
 import com.fiap.check.health.api.model.GoalRequestReward;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.config.Config;
 import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.entity.ArticleEntity;
 import com.fiap.check.health.persistence.entity.Goal;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,7 +35,7 @@ class GoalMapperTest {
 
     @BeforeEach
     void setUp() {
-        goalMapper = new GoalMapper();
+        goalMapper = new GoalMapper(new Config().objectMapper());
         
         // Preparar o GoalRequest mock com todos os campos
         GoalRequestFrequency frequency = GoalRequestFrequency.builder()
@@ -367,6 +375,33 @@ class GoalMapperTest {
         assertThat(result.getMessage()).contains("15 of 30 days");
     }
 
+    @Test
+    @DisplayName("Deve somar o incremento pendente ao snapshot no progress e no status")
+    void shouldAddPendingIncrementToSnapshot() throws JsonProcessingException {
+        // Given
+        Goal goalWithTail = Goal.builder()
+                .goalId(6L)
+                .userId("user123")
+                .title("Goal with Tail")
+                .status("active")
+                .progress(com.fiap.check.health.model.Progress.builder()
+                        .completed(27)
+                        .total(30)
+                        .unit("days")
+                        .build())
+                .pendingIncrement(3)
+                .build();
+
+        // When
+        GoalResponse result = goalMapper.toResponse(goalWithTail);
+
+        // Then
+        assertThat(result.getProgress().getCompleted()).isEqualTo(30);
+        assertThat(result.getStatus()).isEqualTo("completed");
+        assertThat(result.getMessage()).contains("30 of 30 days");
+        assertThat(goalWithTail.getProgress().getCompleted()).isEqualTo(27);
+    }
+
     @Test
     @DisplayName("Deve converter goal com reward para response com gamification")
     void shouldConvertGoalWithRewardToResponseWithGamification() throws JsonProcessingException{
@@ -491,4 +526,88 @@ class GoalMapperTest {
         assertThat(result).isNotNull();
         assertThat(result.getCreatedAt()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve emitir evento JFR com tamanhos ao decodificar o artigo")
+    void shouldEmitJfrEventWhenDecodingArticle() throws Exception {
+        // Given
+        goalEntity.setArticleResponse(ArticleEntity.builder()
+                .title("Artigo")
+                .quizzesJson("[]")
+                .recommendationsJson("[ ]")
+                .build());
+        Path file = Files.createTempFile("article-decode", ".jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable("com.fiap.check.health.ArticleDecode");
+            recording.start();
+            goalMapper.toResponse(goalEntity);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("com.fiap.check.health.ArticleDecode"))
+                .toList();
+        Files.deleteIfExists(file);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getLong("goalId")).isEqualTo(1L);
+        assertThat(events.get(0).getLong("quizzesJsonChars")).isEqualTo(2);
+        assertThat(events.get(0).getLong("recommendationsJsonChars")).isEqualTo(3);
+        assertThat(events.get(0).getString("outcome")).isEqualTo("success");
+    }
+
+    @Test
+    @DisplayName("Deve omitir o artigo sem decodificar o JSON quando não solicitado")
+    void shouldSkipArticleDecodingWhenNotIncluded() throws Exception {
+        // Given
+        goalEntity.setArticleResponse(ArticleEntity.builder()
+                .title("Artigo")
+                .quizzesJson("[{\"question\":\"Quanto tempo?\"}]")
+                .recommendationsJson("[]")
+                .build());
+        Path file = Files.createTempFile("article-decode", ".jfr");
+
+        // When
+        GoalResponse result;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.fiap.check.health.ArticleDecode");
+            recording.start();
+            result = goalMapper.toResponse(goalEntity, false);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("com.fiap.check.health.ArticleDecode"))
+                .toList();
+        Files.deleteIfExists(file);
+        assertThat(result.getArticle()).isNull();
+        assertThat(result.getTitle()).isEqualTo(goalEntity.getTitle());
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve decodificar quizzes e recomendações com os readers compartilhados")
+    void shouldDecodeArticleListsWithSharedReaders() throws Exception {
+        // Given
+        goalEntity.setArticleResponse(ArticleEntity.builder()
+                .title("Artigo")
+                .quizzesJson("[{\"question\":\"Quanto tempo?\",\"options\":[\"10\",\"30\"],\"correctAnswer\":\"30\"}]")
+                .recommendationsJson(null)
+                .build());
+
+        // When
+        GoalResponse first = goalMapper.toResponse(goalEntity);
+        GoalResponse second = goalMapper.toResponse(goalEntity, true);
+
+        // Then
+        assertThat(first.getArticle().getQuizzes()).hasSize(1);
+        assertThat(first.getArticle().getQuizzes().get(0).getCorrectAnswer()).isEqualTo("30");
+        assertThat(first.getArticle().getRecommendations()).isNull();
+        assertThat(second.getArticle().getQuizzes()).isEqualTo(first.getArticle().getQuizzes());
+    }
+}
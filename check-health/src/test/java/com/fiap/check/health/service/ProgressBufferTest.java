@@ -0,0 +1,433 @@
+package com.fiap.check.health.service;
+
+import com.fiap.check.health.model.Progress;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.ProgressEvent;
+import com.fiap.check.health.persistence.entity.ProgressFlush;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.repository.ProgressFlushRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProgressBuffer - Write-behind de check-ins")
+class ProgressBufferTest {
+
+    @Mock
+    private ProgressLog progressLog;
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private ProgressFlushRepository flushRepository;
+
+    // Sem banco, mas com a sincronização de transação ativa (o flush libera o inFlight no commit)
+    private final PlatformTransactionManager transactionManager = new AbstractPlatformTransactionManager() {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    };
+
+    @TempDir
+    Path walPath;
+
+    private ProgressBuffer buffer(String durability, int maxPending) throws IOException {
+        ProgressBuffer buffer = new ProgressBuffer(progressLog, goalRepository, flushRepository, transactionManager,
+                true, maxPending, 4, durability, walPath);
+        buffer.recover();
+        return buffer;
+    }
+
+    private static Goal goal(long goalId) {
+        return Goal.builder()
+                .goalId(goalId)
+                .status("active")
+                .progress(Progress.builder().completed(0).total(30).unit("days").build())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProgressEvent> flushedEvents(int flushes) {
+        ArgumentCaptor<List<ProgressEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(progressLog, times(flushes)).checkInAll(anyList(), events.capture());
+        return events.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
+    private List<Path> walFiles() throws IOException {
+        try (Stream<Path> files = Files.list(walPath)) {
+            return files.toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("Flush")
+    class Flush {
+
+        @Test
+        @DisplayName("Deve gravar um único evento por meta com a soma dos check-ins")
+        void shouldCoalesceCheckInsPerGoal() throws IOException {
+            // Given
+            ProgressBuffer buffer = buffer("memory", 1_000);
+            Goal first = goal(1L);
+            Goal second = goal(2L);
+            buffer.add(first, 1);
+            buffer.add(first, 2);
+            buffer.add(first, 3);
+            buffer.add(second, 1);
+            when(goalRepository.findAllById(any())).thenReturn(List.of(first, second));
+
+            // When
+            buffer.flush();
+
+            // Then
+            assertThat(flushedEvents(1))
+                    .extracting(ProgressEvent::getGoalId, ProgressEvent::getIncrement, ProgressEvent::getSource)
+                    .containsExactlyInAnyOrder(
+                            tuple(1L, 6, ProgressEvent.SOURCE_BUFFER),
+                            tuple(2L, 1, ProgressEvent.SOURCE_BUFFER));
+        }
+
+        @Test
+        @DisplayName("Deve fazer flush no próprio check-in ao atingir max-pending")
+        void shouldFlushWhenMaxPendingReached() throws IOException {
+            // Given
+            ProgressBuffer buffer = buffer("memory", 3);
+            Goal goal = goal(1L);
+            when(goalRepository.findAllById(any())).thenReturn(List.of(goal));
+
+            // When
+            buffer.add(goal, 1);
+            buffer.add(goal, 1);
+            buffer.add(goal, 1);
+
+            // Then
+            assertThat(flushedEvents(1)).extracting(ProgressEvent::getIncrement).containsExactly(3);
+        }
+
+        @Test
+        @DisplayName("Deve fazer flush no check-in quando o buffer já passou de max-pending")
+        void shouldFlushWhenAboveMaxPending() throws IOException {
+            // Given: quatro check-ins recuperados do WAL, acima de max-pending (3)
+            ByteBuffer records = ByteBuffer.allocate(4 * 20);
+            for (int i = 0; i < 4; i++) {
+                records.putLong(1L).putInt(1).putLong(0L);
+            }
+            Files.write(walPath.resolve("stripe-0-1.wal"), records.array());
+            ProgressBuffer buffer = buffer("wal", 3);
+            Goal goal = goal(1L);
+            when(goalRepository.findAllById(any())).thenReturn(List.of(goal));
+
+            // When
+            buffer.add(goal, 1);
+
+            // Then
+            assertThat(flushedEvents(1)).extracting(ProgressEvent::getIncrement).containsExactly(5);
+        }
+
+        @Test
+        @DisplayName("Deve devolver os incrementos ao buffer quando o flush falha")
+        void shouldRestoreIncrementsWhenFlushFails() throws IOException {
+            // Given
+            ProgressBuffer buffer = buffer("wal", 1_000);
+            Goal goal = goal(1L);
+            buffer.add(goal, 2);
+            when(goalRepository.findAllById(any())).thenReturn(List.of(goal));
+            when(progressLog.checkInAll(anyList(), anyList()))
+                    .thenThrow(new IllegalStateException("banco indisponível"))
+                    .thenReturn(Map.of());
+
+            // When
+            buffer.flush();
+
+            // Then
+            assertThat(walFiles()).hasSize(1);
+            buffer.add(goal, 1);
+            buffer.flush();
+            assertThat(flushedEvents(2)).extracting(ProgressEvent::getIncrement).containsExactly(2, 3);
+            assertThat(walFiles()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve descartar check-ins de metas removidas")
+        void shouldDropCheckInsOfDeletedGoals() throws IOException {
+            // Given
+            ProgressBuffer buffer = buffer("wal", 1_000);
+            buffer.add(goal(1L), 1);
+            when(goalRepository.findAllById(any())).thenReturn(List.of());
+
+            // When
+            buffer.flush();
+
+            // Then
+            verify(progressLog, never()).checkInAll(anyList(), anyList());
+            assertThat(walFiles()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Leitura")
+    class Reads {
+
+        @Test
+        @DisplayName("Deve somar os incrementos do buffer à cauda do banco")
+        void shouldMergeBufferedIncrements() throws IOException {
+            // Given
+            ProgressBuffer buffer = buffer("memory", 1_000);
+            Goal goal = goal(1L);
+            buffer.add(goal, 2);
+            doAnswer(invocation -> {
+                List<Goal> goals = invocation.getArgument(0);
+                goals.forEach(g -> g.setPendingIncrement(5));
+                return null;
+            }).when(progressLog).applyTails(anyList());
+
+            // When
+            buffer.applyTail(goal);
+
+            // Then
+            assertThat(goal.getPendingIncrement()).isEqualTo(7);
+            assertThat(goal.currentProgress().getCompleted()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("Não deve somar novamente incrementos já gravados pelo flush")
+        void shouldNotCountFlushedIncrements() throws IOException {
+            // Given
+            ProgressBuffer buffer = buffer("memory", 1_000);
+            Goal goal = goal(1L);
+            buffer.add(goal, 2);
+            when(goalRepository.findAllById(any())).thenReturn(List.of(goal));
+            buffer.flush();
+
+            // When
+            buffer.applyTail(goal);
+
+            // Then
+            assertThat(goal.getPendingIncrement()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve somar os check-ins em flush sem esperar a gravação no banco")
+        void shouldReadInFlightCheckInsWhileFlushWrites() throws Exception {
+            // Given
+            ProgressBuffer buffer = buffer("memory", 1_000);
+            buffer.add(goal(1L), 2);
+            when(goalRepository.findAllById(any())).thenReturn(List.of(goal(1L)));
+            Goal[] readDuringFlush = new Goal[1];
+            doAnswer(invocation -> {
+                Goal read = goal(1L);
+                CompletableFuture.runAsync(() -> buffer.applyTail(read)).get(5, TimeUnit.SECONDS);
+                readDuringFlush[0] = read;
+                return Map.of();
+            }).when(progressLog).checkInAll(anyList(), anyList());
+
+            // When
+            buffer.flush();
+
+            // Then
+            assertThat(readDuringFlush[0].getPendingIncrement()).isEqualTo(2);
+            Goal afterFlush = goal(1L);
+            buffer.applyTail(afterFlush);
+            assertThat(afterFlush.getPendingIncrement()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve delegar ao ProgressLog quando o write-behind está desabilitado")
+        void shouldDelegateWhenDisabled() {
+            // Given
+            ProgressBuffer buffer = new ProgressBuffer(progressLog, goalRepository, flushRepository, transactionManager,
+                    false, 1_000, 4, "wal", walPath);
+            Goal goal = goal(1L);
+
+            // When
+            buffer.applyTail(goal);
+            buffer.flush();
+
+            // Then
+            verify(progressLog).applyTails(List.of(goal));
+            verifyNoInteractions(goalRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Durabilidade")
+    class WriteAheadLog {
+
+        @Test
+        @DisplayName("Deve recuperar do WAL os check-ins não gravados após reinício")
+        void shouldReplayWalAfterRestart() throws IOException {
+            // Given
+            ProgressBuffer crashed = buffer("wal", 1_000);
+            crashed.add(goal(1L), 1);
+            crashed.add(goal(1L), 4);
+            crashed.add(goal(2L), 1);
+            when(goalRepository.findAllById(any())).thenReturn(List.of(goal(1L), goal(2L)));
+
+            // When
+            ProgressBuffer restarted = buffer("wal-fsync", 1_000);
+            restarted.flush();
+
+            // Then
+            assertThat(flushedEvents(1))
+                    .extracting(ProgressEvent::getGoalId, ProgressEvent::getIncrement)
+                    .containsExactlyInAnyOrder(tuple(1L, 5), tuple(2L, 1));
+            assertThat(walFiles()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Não deve recuperar do WAL os check-ins de metas removidas")
+        void shouldNotReplayDiscardedCheckIns() throws IOException {
+            // Given
+            ProgressBuffer crashed = buffer("wal", 1_000);
+            crashed.add(goal(1L), 2);
+            crashed.add(goal(2L), 1);
+            crashed.discard(1L);
+            when(goalRepository.findAllById(any())).thenReturn(List.of(goal(2L)));
+
+            // When
+            ProgressBuffer restarted = buffer("wal", 1_000);
+            restarted.flush();
+
+            // Then
+            assertThat(flushedEvents(1))
+                    .extracting(ProgressEvent::getGoalId, ProgressEvent::getIncrement)
+                    .containsExactly(tuple(2L, 1));
+            assertThat(walFiles()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve apagar o WAL que só tem check-ins descartados")
+        void shouldDeleteWalWithOnlyDiscardedCheckIns() throws IOException {
+            // Given
+            ProgressBuffer crashed = buffer("wal", 1_000);
+            crashed.add(goal(1L), 2);
+            crashed.discard(1L);
+
+            // When
+            ProgressBuffer restarted = buffer("wal", 1_000);
+            restarted.flush();
+
+            // Then
+            verify(progressLog, never()).checkInAll(anyList(), anyList());
+            assertThat(walFiles()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve ignorar registro incompleto no fim do WAL")
+        void shouldSkipTornRecord() throws IOException {
+            // Given
+            ByteBuffer records = ByteBuffer.allocate(20 + 7).putLong(1L).putInt(3).putLong(0L).put(new byte[7]);
+            Files.write(walPath.resolve("stripe-0-1.wal"), records.array());
+            when(goalRepository.findAllById(any())).thenReturn(List.of(goal(1L)));
+
+            // When
+            buffer("wal", 1_000).flush();
+
+            // Then
+            assertThat(flushedEvents(1)).extracting(ProgressEvent::getIncrement).containsExactly(3);
+        }
+
+        @Test
+        @DisplayName("Não deve recontar check-ins de um WAL cujo flush já foi gravado")
+        void shouldSkipWalOfCommittedFlush() throws IOException {
+            // Given: o processo caiu entre o commit do flush 42 e a remoção do arquivo
+            ByteBuffer records = ByteBuffer.allocate(2 * 20).putLong(1L).putInt(3).putLong(0L)
+                    .putLong(-1L).putInt(0).putLong(42L);
+            Files.write(walPath.resolve("stripe-0-1.wal"), records.array());
+            when(flushRepository.existsByFlushIdIn(List.of(42L))).thenReturn(true);
+
+            // When
+            buffer("wal", 1_000).flush();
+
+            // Then
+            verify(progressLog, never()).checkInAll(anyList(), anyList());
+            assertThat(walFiles()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve marcar o WAL com o id do flush gravado na mesma transação")
+        void shouldStampFlushIdInWal() throws IOException {
+            // Given
+            ProgressBuffer buffer = buffer("wal", 1_000);
+            Goal goal = goal(1L);
+            buffer.add(goal, 2);
+            Path wal = walFiles().get(0);
+            when(goalRepository.findAllById(any())).thenReturn(List.of(goal));
+            ByteBuffer[] atCommit = new ByteBuffer[1];
+            doAnswer(invocation -> {
+                atCommit[0] = ByteBuffer.wrap(Files.readAllBytes(wal));
+                return Map.of();
+            }).when(progressLog).checkInAll(anyList(), anyList());
+
+            // When
+            buffer.flush();
+
+            // Then
+            ArgumentCaptor<ProgressFlush> flush = ArgumentCaptor.forClass(ProgressFlush.class);
+            verify(flushRepository).save(flush.capture());
+            ByteBuffer marker = atCommit[0].position(20);
+            assertThat(marker.getLong()).isEqualTo(-1L);
+            marker.getInt();
+            assertThat(marker.getLong()).isEqualTo(flush.getValue().getFlushId());
+            assertThat(walFiles()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Não deve gravar arquivos com durabilidade memory")
+        void shouldNotWriteFilesInMemoryMode() throws IOException {
+            // Given
+            ProgressBuffer buffer = buffer("memory", 1_000);
+
+            // When
+            buffer.add(goal(1L), 1);
+
+            // Then
+            assertThat(walFiles()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.fiap.check.health.service;
+
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.model.Progress;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.ProgressEvent;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.repository.ProgressEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs against H2 without the test-managed transaction, so every check-in commits
+ * on its own and the threads really run side by side.
+ */
+@DataJpaTest(properties = "progress.snapshot.every-events=" + ProgressLogTest.EVERY_EVENTS)
+@ActiveProfiles("test")
+@Import(ProgressLog.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ProgressLog - Log de progresso com snapshot")
+class ProgressLogTest {
+
+    static final int EVERY_EVENTS = 20;
+
+    private static final int THREADS = 8;
+    private static final int CHECK_INS_PER_THREAD = 50;
+
+    @Autowired
+    private ProgressLog progressLog;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private ProgressEventRepository progressEventRepository;
+
+    @AfterEach
+    void tearDown() {
+        progressEventRepository.deleteAll();
+        goalRepository.deleteAll();
+    }
+
+    private Goal saveGoal(int completed, int total) {
+        return goalRepository.save(Goal.builder()
+                .userId("user123")
+                .title("Caminhar 30 minutos")
+                .category(GoalCategory.SAUDE_FISICA)
+                .type("daily")
+                .startDate(LocalDate.of(2026, 1, 1))
+                .status("active")
+                .progress(Progress.builder().completed(completed).total(total).unit("days").build())
+                .build());
+    }
+
+    private Goal checkIn(Long goalId, int increment) {
+        return progressLog.checkIn(goalRepository.findById(goalId).orElseThrow(), increment, ProgressEvent.SOURCE_API);
+    }
+
+    private Goal current(Long goalId) {
+        Goal goal = goalRepository.findById(goalId).orElseThrow();
+        progressLog.applyTail(goal);
+        return goal;
+    }
+
+    private void checkInConcurrently(Long goalId, Runnable alongside) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < CHECK_INS_PER_THREAD; i++) {
+                        checkIn(goalId, 1);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> side = executor.submit(() -> {
+                start.await();
+                while (running.get()) {
+                    alongside.run();
+                }
+                return null;
+            });
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            running.set(false);
+            side.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ProgressEvent bulkEvent(Long goalId, int increment, Instant occurredAt) {
+        return ProgressEvent.builder()
+                .goalId(goalId)
+                .increment(increment)
+                .occurredAt(occurredAt)
+                .source(ProgressEvent.SOURCE_BULK)
+                .build();
+    }
+
+    /** Folds everything once no check-in is in flight. */
+    private void foldAll() {
+        progressLog.foldPending();
+    }
+
+    @Nested
+    @DisplayName("Check-ins")
+    class CheckIns {
+
+        @Test
+        @DisplayName("Não deve perder check-ins paralelos na mesma meta")
+        void shouldNotLoseParallelCheckIns() throws Exception {
+            // Given
+            Goal goal = saveGoal(0, 10_000);
+
+            // When
+            checkInConcurrently(goal.getGoalId(), () -> { });
+
+            // Then
+            assertThat(current(goal.getGoalId()).currentProgress().getCompleted())
+                    .isEqualTo(THREADS * CHECK_INS_PER_THREAD);
+            assertThat(progressEventRepository.count()).isEqualTo(THREADS * CHECK_INS_PER_THREAD);
+        }
+
+        @Test
+        @DisplayName("Deve somar a cauda ao snapshot sem regravar a meta enquanto não há fold")
+        void shouldReadSnapshotPlusTail() {
+            // Given
+            Goal goal = saveGoal(3, 30);
+
+            // When
+            Goal afterCheckIn = checkIn(goal.getGoalId(), 2);
+
+            // Then
+            assertThat(afterCheckIn.currentProgress().getCompleted()).isEqualTo(5);
+            Goal stored = goalRepository.findById(goal.getGoalId()).orElseThrow();
+            assertThat(stored.getProgress().getCompleted()).isEqualTo(3);
+            assertThat(stored.getVersion()).isEqualTo(goal.getVersion());
+        }
+
+        @Test
+        @DisplayName("Deve mostrar a meta como concluída antes do fold quando a cauda atinge o total")
+        void shouldReportCompletedBeforeFold() {
+            // Given
+            Goal goal = saveGoal(29, 30);
+
+            // When
+            Goal afterCheckIn = checkIn(goal.getGoalId(), 1);
+
+            // Then
+            assertThat(afterCheckIn.currentStatus()).isEqualTo("completed");
+            assertThat(goalRepository.findById(goal.getGoalId()).orElseThrow().getStatus()).isEqualTo("active");
+        }
+
+        @Test
+        @DisplayName("Deve trazer no filtro de concluídas a meta concluída só pela cauda")
+        void shouldFindGoalCompletedByTailUnderCompletedFilter() {
+            // Given
+            Goal completedByTail = saveGoal(29, 30);
+            Goal withTail = saveGoal(0, 30);
+            Goal buffered = saveGoal(29, 30);
+            saveGoal(29, 30);
+            checkIn(completedByTail.getGoalId(), 1);
+            checkIn(withTail.getGoalId(), 1);
+
+            // When
+            List<Goal> candidates = goalRepository.findPage(0L, "user123", "completed", null, null, null,
+                    List.of(buffered.getGoalId()), Limit.of(10));
+
+            // Then
+            assertThat(candidates).extracting(Goal::getGoalId)
+                    .containsExactly(completedByTail.getGoalId(), withTail.getGoalId(), buffered.getGoalId());
+            progressLog.applyTails(candidates);
+            assertThat(candidates).extracting(Goal::currentStatus).containsExactly("completed", "active", "active");
+            assertThat(goalRepository.findPage(0L, "user123", "completed", null, null, null, List.of(), Limit.of(10)))
+                    .extracting(Goal::getGoalId)
+                    .containsExactly(completedByTail.getGoalId(), withTail.getGoalId());
+        }
+
+        @Test
+        @DisplayName("Deve contar check-ins em lote com occurred_at anterior ao snapshot")
+        void shouldCountBackdatedBatchCheckIns() {
+            // Given
+            Goal goal = saveGoal(0, 30);
+            checkIn(goal.getGoalId(), 1);
+            foldAll();
+            Instant yesterday = Instant.now().minus(Duration.ofDays(1));
+
+            // When
+            Map<Long, Goal> current = progressLog.checkInAll(
+                    List.of(goalRepository.findById(goal.getGoalId()).orElseThrow()),
+                    List.of(bulkEvent(goal.getGoalId(), 2, yesterday), bulkEvent(goal.getGoalId(), 3, yesterday)));
+
+            // Then
+            assertThat(current.get(goal.getGoalId()).currentProgress().getCompleted()).isEqualTo(6);
+            foldAll();
+            assertThat(goalRepository.findById(goal.getGoalId()).orElseThrow().getProgress().getCompleted())
+                    .isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("Não deve registrar evento para meta sem progresso")
+        void shouldIgnoreGoalWithoutProgress() {
+            // Given
+            Goal goal = saveGoal(0, 30);
+            goal.setProgress(null);
+            Goal withoutProgress = goalRepository.save(goal);
+
+            // When
+            checkIn(withoutProgress.getGoalId(), 1);
+
+            // Then
+            assertThat(progressEventRepository.count()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot")
+    class Snapshot {
+
+        @Test
+        @DisplayName("Deve dobrar os eventos no snapshot e concluir a meta ao atingir o total")
+        void shouldFoldEventsIntoSnapshot() {
+            // Given
+            Goal goal = saveGoal(25, 30);
+            checkIn(goal.getGoalId(), 3);
+            checkIn(goal.getGoalId(), 2);
+
+            // When
+            foldAll();
+
+            // Then
+            Goal stored = current(goal.getGoalId());
+            assertThat(stored.getProgress().getCompleted()).isEqualTo(30);
+            assertThat(stored.getPendingIncrement()).isZero();
+            assertThat(stored.getStatus()).isEqualTo("completed");
+            assertThat(stored.getVersion()).isEqualTo(goal.getVersion() + 1);
+        }
+
+        @Test
+        @DisplayName("Não deve perder nem dobrar eventos duas vezes com folds concorrentes aos check-ins")
+        void shouldFoldEachEventOnceUnderConcurrentCheckIns() throws Exception {
+            // Given
+            Goal goal = saveGoal(0, 10_000);
+
+            // When
+            checkInConcurrently(goal.getGoalId(), () -> progressLog.foldPending());
+            foldAll();
+
+            // Then
+            Goal stored = current(goal.getGoalId());
+            assertThat(stored.getProgress().getCompleted()).isEqualTo(THREADS * CHECK_INS_PER_THREAD);
+            assertThat(stored.getPendingIncrement()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve dobrar no check-in quando a cauda atinge every-events")
+        void shouldFoldOnCheckInAfterEveryEvents() {
+            // Given
+            Goal goal = saveGoal(0, 1_000);
+            for (int i = 0; i < EVERY_EVENTS - 1; i++) {
+                checkIn(goal.getGoalId(), 1);
+            }
+
+            // When
+            Goal afterCheckIn = checkIn(goal.getGoalId(), 1);
+
+            // Then
+            Goal stored = goalRepository.findById(goal.getGoalId()).orElseThrow();
+            assertThat(stored.getProgress().getCompleted()).isEqualTo(EVERY_EVENTS);
+            assertThat(stored.getProgressSnapshotAt()).isNotNull();
+            assertThat(afterCheckIn.currentProgress().getCompleted()).isEqualTo(EVERY_EVENTS);
+            assertThat(current(goal.getGoalId()).getPendingIncrement()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve contar evento commitado depois do fold com recorded_at anterior ao snapshot")
+        void shouldCountEventCommittedAfterFoldWithOlderRecordedAt() {
+            // Given
+            Goal goal = saveGoal(0, 30);
+            checkIn(goal.getGoalId(), 1);
+            foldAll();
+            Instant snapshotAt = goalRepository.findById(goal.getGoalId()).orElseThrow().getProgressSnapshotAt();
+
+            // When: a check-in whose transaction (or instance clock) lagged behind the fold
+            Instant lagging = snapshotAt.minus(Duration.ofMinutes(1));
+            progressEventRepository.save(ProgressEvent.builder()
+                    .goalId(goal.getGoalId())
+                    .increment(4)
+                    .occurredAt(lagging)
+                    .recordedAt(lagging)
+                    .source(ProgressEvent.SOURCE_API)
+                    .build());
+
+            // Then
+            assertThat(current(goal.getGoalId()).currentProgress().getCompleted()).isEqualTo(5);
+            foldAll();
+            Goal stored = current(goal.getGoalId());
+            assertThat(stored.getProgress().getCompleted()).isEqualTo(5);
+            assertThat(stored.getPendingIncrement()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar atualização completa baseada em leitura anterior ao fold")
+        void shouldRejectStaleFullUpdate() {
+            // Given
+            Goal stale = goalRepository.findById(saveGoal(5, 30).getGoalId()).orElseThrow();
+            checkIn(stale.getGoalId(), 1);
+            foldAll();
+            stale.setTitle("Título editado");
+
+            // When & Then
+            assertThatThrownBy(() -> goalRepository.save(stale))
+                    .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+            Goal reloaded = goalRepository.findById(stale.getGoalId()).orElseThrow();
+            assertThat(reloaded.getProgress().getCompleted()).isEqualTo(6);
+            assertThat(reloaded.getTitle()).isEqualTo("Caminhar 30 minutos");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve listar o histórico de check-ins do mais antigo ao mais recente")
+    void shouldListHistoryOldestFirst() {
+        // Given
+        Goal goal = saveGoal(0, 30);
+        Instant since = Instant.now().minusSeconds(1);
+        checkIn(goal.getGoalId(), 1);
+        checkIn(goal.getGoalId(), 4);
+
+        // When
+        List<ProgressEvent> history = progressLog.history(goal.getGoalId(), since);
+
+        // Then
+        assertThat(history).extracting(ProgressEvent::getIncrement).containsExactly(1, 4);
+        assertThat(history).extracting(ProgressEvent::getSource).containsOnly(ProgressEvent.SOURCE_API);
+    }
+}
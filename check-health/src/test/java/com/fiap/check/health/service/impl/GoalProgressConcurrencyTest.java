@@ -0,0 +1,186 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.api.model.ProgressRequest;
+import com.fiap.check.health.event.publisher.GoalEventPublisher;
+import com.fiap.check.health.mapper.GoalMapper;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.model.Progress;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.repository.ProgressEventRepository;
+import com.fiap.check.health.persistence.repository.ProgressFlushRepository;
+import com.fiap.check.health.service.GoalService;
+import com.fiap.check.health.service.ProgressBuffer;
+import com.fiap.check.health.service.ProgressLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent {@code PATCH /goals/{id}/progress} calls through the service, against H2
+ * without the test-managed transaction, so every check-in commits on its own and the
+ * threads really contend for the same goal.
+ */
+@DataJpaTest(properties = "progress.snapshot.every-events=20")
+@ActiveProfiles("test")
+@Import({GoalServiceImpl.class, ProgressLog.class, ProgressBuffer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("GoalService - Concorrência no progresso")
+class GoalProgressConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int CHECK_INS_PER_THREAD = 50;
+
+    @MockitoBean
+    private GoalMapper goalMapper;
+
+    @MockitoBean
+    private GoalEventPublisher goalEventPublisher;
+
+    @Autowired
+    private GoalService goalService;
+
+    @Autowired
+    private ProgressLog progressLog;
+
+    @Autowired
+    private ProgressBuffer progressBuffer;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private ProgressEventRepository progressEventRepository;
+
+    @Autowired
+    private ProgressFlushRepository progressFlushRepository;
+
+    @AfterEach
+    void tearDown() {
+        progressEventRepository.deleteAll();
+        progressFlushRepository.deleteAll();
+        goalRepository.deleteAll();
+    }
+
+    private Goal saveGoal(int completed, int total) {
+        return goalRepository.save(Goal.builder()
+                .userId("user123")
+                .title("Caminhar 30 minutos")
+                .category(GoalCategory.SAUDE_FISICA)
+                .type("daily")
+                .startDate(LocalDate.of(2026, 1, 1))
+                .status("active")
+                .progress(Progress.builder().completed(completed).total(total).unit("days").build())
+                .build());
+    }
+
+    private void checkInConcurrently(Long goalId) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < CHECK_INS_PER_THREAD; i++) {
+                        goalService.updateProgress(goalId, ProgressRequest.builder().increment(1).build());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Snapshot after writing what is buffered and folding every tail. */
+    private Goal folded(Long goalId) {
+        progressBuffer.flush();
+        progressLog.foldPending();
+        return goalRepository.findById(goalId).orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("Log de eventos")
+    class EventLog {
+
+        @Test
+        @DisplayName("Não deve perder check-ins paralelos na mesma meta")
+        void shouldNotLoseParallelCheckIns() throws Exception {
+            // Given
+            Goal goal = saveGoal(0, 10_000);
+
+            // When
+            checkInConcurrently(goal.getGoalId());
+
+            // Then
+            assertThat(progressEventRepository.count()).isEqualTo(THREADS * CHECK_INS_PER_THREAD);
+            Goal reloaded = folded(goal.getGoalId());
+            assertThat(reloaded.getProgress().getCompleted()).isEqualTo(THREADS * CHECK_INS_PER_THREAD);
+            assertThat(reloaded.getStatus()).isEqualTo("active");
+        }
+
+        @Test
+        @DisplayName("Deve concluir a meta quando os check-ins atingem o total")
+        void shouldCompleteGoalWhenCheckInsReachTotal() throws Exception {
+            // Given
+            Goal goal = saveGoal(0, 100);
+
+            // When
+            checkInConcurrently(goal.getGoalId());
+
+            // Then
+            Goal reloaded = folded(goal.getGoalId());
+            assertThat(reloaded.getProgress().getCompleted()).isEqualTo(THREADS * CHECK_INS_PER_THREAD);
+            assertThat(reloaded.getStatus()).isEqualTo("completed");
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = {
+            "progress.write-behind.enabled=true",
+            "progress.write-behind.max-pending=50",
+            "progress.write-behind.durability=memory"
+    })
+    @DisplayName("Write-behind")
+    class WriteBehind {
+
+        @Test
+        @DisplayName("Não deve perder check-ins paralelos no buffer nem nos flushes durante a carga")
+        void shouldNotLoseParallelCheckIns() throws Exception {
+            // Given
+            Goal goal = saveGoal(0, 10_000);
+
+            // When: max-pending (50) faz flushes no meio dos check-ins
+            checkInConcurrently(goal.getGoalId());
+
+            // Then
+            Goal reloaded = folded(goal.getGoalId());
+            assertThat(reloaded.getProgress().getCompleted()).isEqualTo(THREADS * CHECK_INS_PER_THREAD);
+            assertThat(progressEventRepository.findTails(List.of(goal.getGoalId()))).isEmpty();
+        }
+    }
+}
@@ -3,34 +3,58 @@ package com.fiap.check.health.service.impl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.GoalResponseProgress;
+import com.fiap.check.health.api.model.ProgressBatchRequest;
+import com.fiap.check.health.api.model.ProgressBatchResponse;
+import com.fiap.check.health.api.model.ProgressCheckIn;
+import com.fiap.check.health.api.model.ProgressCheckInResult;
 import com.fiap.check.health.api.model.ProgressRequest;
 import com.fiap.check.health.event.publisher.GoalEventPublisher;
 import com.fiap.check.health.exception.GoalNotFoundException;
+import com.fiap.check.health.exception.InvalidCursorException;
 import com.fiap.check.health.mapper.GoalMapper;
 import com.fiap.check.health.model.GoalCategory;
 import com.fiap.check.health.model.Progress;
 import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.ProgressEvent;
 import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.service.GoalCursor;
+import com.fiap.check.health.service.GoalFilter;
+import com.fiap.check.health.service.GoalPage;
+import com.fiap.check.health.service.GoalService;
+import com.fiap.check.health.service.ProgressBuffer;
+import com.fiap.check.health.service.ProgressLog;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -47,6 +71,12 @@ class GoalServiceImplTest {
     @Mock
     private GoalEventPublisher goalEventPublisher;
 
+    @Mock
+    private ProgressLog progressLog;
+
+    @Mock
+    private ProgressBuffer progressBuffer;
+
     @InjectMocks
     private GoalServiceImpl goalService;
 
@@ -139,19 +169,19 @@ class GoalServiceImplTest {
         }
 
         @Test
-        @DisplayName("Deve continuar funcionando mesmo se falhar ao publicar evento Kafka")
-        void shouldContinueWorkingEvenIfKafkaEventPublishingFails() throws JsonProcessingException {
+        @DisplayName("Deve falhar a criação quando o evento não é gravado no outbox")
+        void shouldFailCreationWhenOutboxWriteFails() throws Exception {
             // Given
             when(goalMapper.toEntity(goalRequest)).thenReturn(goalEntity);
             when(goalRepository.save(any(Goal.class))).thenReturn(goalEntity);
-            when(goalMapper.toResponse(goalEntity)).thenReturn(goalResponse);
-            doThrow(new RuntimeException("Kafka error")).when(goalEventPublisher).publishGoalCreated(goalEntity);
+            doThrow(new RuntimeException("Falha ao publicar evento goal.created"))
+                    .when(goalEventPublisher).publishGoalCreated(goalEntity);
 
             // When & Then
-            GoalResponse result = goalService.createGoal(goalRequest);
-            
-            assertThat(result).isNotNull();
-            verify(goalEventPublisher).publishGoalCreated(goalEntity);
+            assertThatThrownBy(() -> goalService.createGoal(goalRequest))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining("goal.created");
+            verify(goalMapper, never()).toResponse(any(Goal.class));
         }
     }
 
@@ -159,39 +189,153 @@ class GoalServiceImplTest {
     @DisplayName("List Goals Tests")
     class ListGoalsTests {
 
+        private Goal goalWithId(long goalId) {
+            return Goal.builder().goalId(goalId).userId("user123").status("active").build();
+        }
+
+        private Goal goalWithProgress(long goalId, int completed, int total) {
+            return Goal.builder().goalId(goalId).userId("user123").status("active")
+                    .progress(Progress.builder().completed(completed).total(total).unit("days").build())
+                    .build();
+        }
+
         @Test
         @DisplayName("Deve retornar lista de metas com sucesso")
         void shouldReturnListOfGoalsSuccessfully() throws JsonProcessingException {
             // Given
             List<Goal> goalEntities = Arrays.asList(goalEntity);
-            when(goalRepository.findAll()).thenReturn(goalEntities);
-            when(goalMapper.toResponse(goalEntity)).thenReturn(goalResponse);
+            when(goalRepository.findPage(0L, null, null, null, null, null, List.of(), Limit.of(GoalService.DEFAULT_PAGE_SIZE + 1)))
+                    .thenReturn(goalEntities);
+            when(goalMapper.toResponse(goalEntity, false)).thenReturn(goalResponse);
 
             // When
-            List<GoalResponse> result = goalService.listGoals();
+            GoalPage result = goalService.listGoals(GoalFilter.none(), null, null, false);
 
             // Then
-            assertThat(result).isNotEmpty();
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).getUserId()).isEqualTo("user123");
+            assertThat(result.items()).isNotEmpty();
+            assertThat(result.items()).hasSize(1);
+            assertThat(result.items().get(0).getUserId()).isEqualTo("user123");
+            assertThat(result.hasNext()).isFalse();
             
-            verify(goalRepository).findAll();
-            verify(goalMapper).toResponse(goalEntity);
+            verify(goalRepository, never()).findAll();
+            verify(goalMapper).toResponse(goalEntity, false);
         }
 
         @Test
         @DisplayName("Deve retornar lista vazia quando não há metas")
         void shouldReturnEmptyListWhenNoGoalsExist() throws JsonProcessingException {
             // Given
-            when(goalRepository.findAll()).thenReturn(Collections.emptyList());
+            when(goalRepository.findPage(anyLong(), any(), any(), any(), any(), any(), any(), any()))
+                    .thenReturn(Collections.emptyList());
 
             // When
-            List<GoalResponse> result = goalService.listGoals();
+            GoalPage result = goalService.listGoals(GoalFilter.none(), null, null, false);
 
             // Then
-            assertThat(result).isEmpty();
-            verify(goalRepository).findAll();
-            verify(goalMapper, never()).toResponse(any());
+            assertThat(result.items()).isEmpty();
+            assertThat(result.nextCursor()).isNull();
+            verify(goalMapper, never()).toResponse(any(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("Deve devolver o cursor da última meta quando há próxima página")
+        void shouldReturnNextCursorWhenMoreGoalsExist() throws JsonProcessingException {
+            // Given
+            GoalFilter filter = new GoalFilter("user123", "active", GoalCategory.SAUDE_FISICA,
+                    LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+            when(goalRepository.findPage(10L, "user123", "active", GoalCategory.SAUDE_FISICA,
+                    LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), Set.of(), Limit.of(3)))
+                    .thenReturn(List.of(goalWithId(11), goalWithId(12), goalWithId(13)));
+            when(goalMapper.toResponse(any(), eq(true))).thenReturn(goalResponse);
+
+            // When
+            GoalPage result = goalService.listGoals(filter, GoalCursor.encode(10L), 2, true);
+
+            // Then
+            assertThat(result.items()).hasSize(2);
+            assertThat(result.nextCursor()).isNotNull();
+            assertThat(GoalCursor.decode(result.nextCursor())).isEqualTo(12L);
+        }
+
+        @Test
+        @DisplayName("Deve filtrar pelo status atual, contando check-ins ainda não consolidados")
+        void shouldFilterByCurrentStatus() throws JsonProcessingException {
+            // Given
+            when(progressBuffer.bufferedGoalIds()).thenReturn(Set.of(1L));
+            when(goalRepository.findPage(eq(0L), any(), any(), any(), any(), any(), eq(Set.of(1L)), any()))
+                    .thenAnswer(invocation -> List.of(goalWithProgress(1, 9, 10), goalWithProgress(2, 2, 10)));
+            doAnswer(invocation -> {
+                List<Goal> goals = invocation.getArgument(0);
+                goals.stream().filter(goal -> goal.getGoalId() == 1L).forEach(goal -> goal.setPendingIncrement(1));
+                return null;
+            }).when(progressBuffer).applyTails(anyList());
+            when(goalMapper.toResponse(any(), eq(false))).thenReturn(goalResponse);
+
+            // When
+            GoalPage completed = goalService.listGoals(new GoalFilter(null, "completed", null, null, null), null, null, false);
+            GoalPage active = goalService.listGoals(new GoalFilter(null, "active", null, null, null), null, null, false);
+
+            // Then
+            assertThat(completed.items()).hasSize(1);
+            assertThat(active.items()).hasSize(1);
+            verify(goalRepository).findPage(0L, null, "completed", null, null, null, Set.of(1L),
+                    Limit.of(GoalService.DEFAULT_PAGE_SIZE + 1));
+            ArgumentCaptor<Goal> mapped = ArgumentCaptor.forClass(Goal.class);
+            verify(goalMapper, times(2)).toResponse(mapped.capture(), eq(false));
+            assertThat(mapped.getAllValues()).extracting(Goal::getGoalId).containsExactly(1L, 2L);
+            assertThat(mapped.getAllValues()).extracting(Goal::currentStatus)
+                    .containsExactly("completed", "active");
+        }
+
+        @Test
+        @DisplayName("Deve ler mais metas quando o filtro de status descarta candidatas da página")
+        void shouldReadMoreCandidatesWhenStatusFilterDropsRows() throws JsonProcessingException {
+            // Given
+            when(goalRepository.findPage(eq(0L), any(), any(), any(), any(), any(), any(), eq(Limit.of(2))))
+                    .thenReturn(List.of(goalWithProgress(1, 9, 10), goalWithProgress(2, 9, 10)));
+            when(goalRepository.findPage(eq(2L), any(), any(), any(), any(), any(), any(), eq(Limit.of(2))))
+                    .thenReturn(List.of(goalWithProgress(3, 2, 10)));
+            doAnswer(invocation -> {
+                List<Goal> goals = invocation.getArgument(0);
+                goals.stream().filter(goal -> goal.getGoalId() < 3L).forEach(goal -> goal.setPendingIncrement(1));
+                return null;
+            }).when(progressBuffer).applyTails(anyList());
+            when(goalMapper.toResponse(any(), eq(false))).thenReturn(goalResponse);
+
+            // When
+            GoalPage result = goalService.listGoals(new GoalFilter(null, "active", null, null, null), null, 1, false);
+
+            // Then
+            assertThat(result.items()).hasSize(1);
+            assertThat(result.nextCursor()).isNull();
+            ArgumentCaptor<Goal> mapped = ArgumentCaptor.forClass(Goal.class);
+            verify(goalMapper).toResponse(mapped.capture(), eq(false));
+            assertThat(mapped.getValue().getGoalId()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("Deve limitar o tamanho da página ao máximo")
+        void shouldCapPageSize() throws JsonProcessingException {
+            // Given
+            when(goalRepository.findPage(anyLong(), any(), any(), any(), any(), any(), any(), any()))
+                    .thenReturn(Collections.emptyList());
+
+            // When
+            goalService.listGoals(GoalFilter.none(), null, 10_000, false);
+
+            // Then
+            verify(goalRepository).findPage(0L, null, null, null, null, null, List.of(), Limit.of(GoalService.MAX_PAGE_SIZE + 1));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar cursor inválido")
+        void shouldRejectInvalidCursor() {
+            // When & Then
+            assertThatThrownBy(() -> goalService.listGoals(GoalFilter.none(), "não-é-cursor", null, false))
+                    .isInstanceOf(InvalidCursorException.class);
+            assertThatThrownBy(() -> goalService.listGoals(GoalFilter.none(), GoalCursor.encode(5L) + "x!", null, false))
+                    .isInstanceOf(InvalidCursorException.class);
+            verifyNoInteractions(goalRepository);
         }
     }
 
@@ -297,6 +441,8 @@ class GoalServiceImplTest {
             // Then
             verify(goalRepository).existsById(1L);
             verify(goalRepository).deleteById(1L);
+            verify(progressLog).discard(1L);
+            verify(progressBuffer).discard(1L);
         }
 
         @Test
@@ -312,6 +458,7 @@ class GoalServiceImplTest {
             
             verify(goalRepository).existsById(999L);
             verify(goalRepository, never()).deleteById(anyLong());
+            verifyNoInteractions(progressLog, progressBuffer);
         }
     }
 
@@ -320,7 +467,7 @@ class GoalServiceImplTest {
     class UpdateProgressTests {
 
         @Test
-        @DisplayName("Deve atualizar progresso com sucesso")
+        @DisplayName("Deve registrar o check-in no log de progresso sem regravar a meta")
         void shouldUpdateProgressSuccessfully() throws JsonProcessingException {
             // Given
             Goal goalWithProgress = Goal.builder()
@@ -339,7 +486,7 @@ class GoalServiceImplTest {
                     .build();
             
             when(goalRepository.findById(1L)).thenReturn(Optional.of(goalWithProgress));
-            when(goalRepository.save(any(Goal.class))).thenReturn(goalWithProgress);
+            when(progressLog.checkIn(goalWithProgress, 1, ProgressEvent.SOURCE_API)).thenReturn(goalWithProgress);
             when(goalMapper.toResponse(goalWithProgress)).thenReturn(goalResponse);
 
             // When
@@ -347,44 +494,56 @@ class GoalServiceImplTest {
 
             // Then
             assertThat(result).isNotNull();
-            verify(goalRepository).findById(1L);
-            verify(goalRepository).save(argThat(goal -> 
-                goal.getProgress().getCompleted() == 6
-            ));
+            verify(progressLog).checkIn(goalWithProgress, 1, ProgressEvent.SOURCE_API);
+            verify(goalRepository, never()).save(any());
             verify(goalMapper).toResponse(goalWithProgress);
         }
 
         @Test
-        @DisplayName("Deve marcar meta como completa quando progresso atingir o total")
-        void shouldMarkGoalAsCompletedWhenProgressReachesTotal() throws JsonProcessingException {
+        @DisplayName("Deve responder com a meta devolvida pelo log (snapshot + eventos pendentes)")
+        void shouldRespondWithCurrentProgressFromLog() throws JsonProcessingException {
             // Given
-            Goal goalAlmostComplete = Goal.builder()
+            Goal folded = Goal.builder()
                     .goalId(goalEntity.getGoalId())
                     .userId(goalEntity.getUserId())
                     .title(goalEntity.getTitle())
-                    .description(goalEntity.getDescription())
-                    .category(goalEntity.getCategory())
-                    .type(goalEntity.getType())
-                    .startDate(goalEntity.getStartDate())
-                    .endDate(goalEntity.getEndDate())
-                    .notifications(goalEntity.getNotifications())
-                    .createdAt(goalEntity.getCreatedAt())
-                    .progress(Progress.builder().completed(29).total(30).build())
+                    .progress(Progress.builder().completed(28).total(30).build())
+                    .pendingIncrement(2)
                     .status("active")
                     .build();
             
-            when(goalRepository.findById(1L)).thenReturn(Optional.of(goalAlmostComplete));
-            when(goalRepository.save(any(Goal.class))).thenReturn(goalAlmostComplete);
-            when(goalMapper.toResponse(goalAlmostComplete)).thenReturn(goalResponse);
+            when(goalRepository.findById(1L)).thenReturn(Optional.of(goalEntity));
+            when(progressLog.checkIn(goalEntity, 1, ProgressEvent.SOURCE_API)).thenReturn(folded);
+            when(goalMapper.toResponse(folded)).thenReturn(goalResponse);
 
             // When
             goalService.updateProgress(1L, progressRequest);
 
             // Then
-            verify(goalRepository).save(argThat(goal -> 
-                goal.getProgress().getCompleted() == 30 && 
-                "completed".equals(goal.getStatus())
+            verify(goalMapper).toResponse(argThat(goal ->
+                goal.currentProgress().getCompleted() == 30 &&
+                "completed".equals(goal.currentStatus())
             ));
+            verify(goalRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Deve acumular o check-in no buffer de write-behind quando habilitado")
+        void shouldBufferCheckInWhenWriteBehindEnabled() throws JsonProcessingException {
+            // Given
+            when(progressBuffer.isEnabled()).thenReturn(true);
+            when(goalRepository.findById(1L)).thenReturn(Optional.of(goalEntity));
+            when(goalMapper.toResponse(goalEntity)).thenReturn(goalResponse);
+
+            // When
+            GoalResponse result = goalService.updateProgress(1L, progressRequest);
+
+            // Then
+            assertThat(result).isEqualTo(goalResponse);
+            InOrder inOrder = inOrder(progressBuffer);
+            inOrder.verify(progressBuffer).add(goalEntity, 1);
+            inOrder.verify(progressBuffer).applyTail(goalEntity);
+            verifyNoInteractions(progressLog);
         }
 
         @Test
@@ -400,6 +559,81 @@ class GoalServiceImplTest {
             
             verify(goalRepository).findById(999L);
             verify(goalRepository, never()).save(any());
+            verifyNoInteractions(progressLog);
+        }
+    }
+
+    @Nested
+    @DisplayName("Update Progress Batch Tests")
+    class UpdateProgressBatchTests {
+
+        @Test
+        @DisplayName("Deve aplicar os check-ins válidos e rejeitar os demais, um resultado por item")
+        @SuppressWarnings("unchecked")
+        void shouldApplyValidCheckInsAndRejectOthers() {
+            // Given
+            OffsetDateTime yesterday = OffsetDateTime.of(2026, 2, 9, 7, 15, 0, 0, ZoneOffset.UTC);
+            ProgressBatchRequest request = ProgressBatchRequest.builder()
+                    .checkIns(Arrays.asList(
+                            ProgressCheckIn.builder().goalId("1").increment(1).occurredAt(yesterday).build(),
+                            ProgressCheckIn.builder().goalId("999").increment(1).build(),
+                            ProgressCheckIn.builder().goalId("abc").increment(1).build(),
+                            ProgressCheckIn.builder().goalId("1").build(),
+                            ProgressCheckIn.builder().goalId("1").increment(2).build()))
+                    .build();
+            GoalResponseProgress progress = GoalResponseProgress.builder().completed(3).total(30).build();
+            when(goalRepository.findAllById(List.of(1L, 999L))).thenReturn(List.of(goalEntity));
+            when(progressLog.checkInAll(eq(List.of(goalEntity)), anyList())).thenReturn(Map.of(1L, goalEntity));
+            when(goalMapper.toProgressResponse(goalEntity)).thenReturn(progress);
+
+            // When
+            ProgressBatchResponse response = goalService.updateProgressBatch(request);
+
+            // Then
+            assertThat(response.getApplied()).isEqualTo(2);
+            assertThat(response.getRejected()).isEqualTo(3);
+            assertThat(response.getResults())
+                    .extracting(ProgressCheckInResult::getIndex, ProgressCheckInResult::getStatus)
+                    .containsExactly(
+                            tuple(0, ProgressCheckInResult.APPLIED),
+                            tuple(1, ProgressCheckInResult.NOT_FOUND),
+                            tuple(2, ProgressCheckInResult.INVALID),
+                            tuple(3, ProgressCheckInResult.INVALID),
+                            tuple(4, ProgressCheckInResult.APPLIED));
+            assertThat(response.getResults().get(0).getProgress()).isEqualTo(progress);
+            assertThat(response.getResults().get(3).getMessage()).isEqualTo("increment é obrigatório");
+
+            ArgumentCaptor<List<ProgressEvent>> events = ArgumentCaptor.forClass(List.class);
+            verify(progressLog).checkInAll(eq(List.of(goalEntity)), events.capture());
+            assertThat(events.getValue())
+                    .extracting(ProgressEvent::getGoalId, ProgressEvent::getIncrement, ProgressEvent::getSource)
+                    .containsExactly(tuple(1L, 1, ProgressEvent.SOURCE_BULK), tuple(1L, 2, ProgressEvent.SOURCE_BULK));
+            assertThat(events.getValue().get(0).getOccurredAt()).isEqualTo(yesterday.toInstant());
+            assertThat(events.getValue().get(1).getOccurredAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar check-in com occurred_at no futuro e meta sem progresso")
+        void shouldRejectFutureCheckInAndGoalWithoutProgress() {
+            // Given
+            goalEntity.setProgress(null);
+            ProgressBatchRequest request = ProgressBatchRequest.builder()
+                    .checkIns(List.of(
+                            ProgressCheckIn.builder().goalId("1").increment(1)
+                                    .occurredAt(OffsetDateTime.now(ZoneOffset.UTC).plusHours(1)).build(),
+                            ProgressCheckIn.builder().goalId("1").increment(1).build()))
+                    .build();
+            when(goalRepository.findAllById(List.of(1L))).thenReturn(List.of(goalEntity));
+
+            // When
+            ProgressBatchResponse response = goalService.updateProgressBatch(request);
+
+            // Then
+            assertThat(response.getApplied()).isZero();
+            assertThat(response.getResults())
+                    .extracting(ProgressCheckInResult::getMessage)
+                    .containsExactly("occurred_at no futuro", "Meta sem progresso");
+            verifyNoInteractions(progressLog);
         }
     }
 
@@ -455,20 +689,16 @@ class GoalServiceImplTest {
         }
 
         @Test
-        @DisplayName("Deve continuar criação do goal mesmo quando publicação de evento falha")
-        void shouldContinueGoalCreationWhenEventPublishingFails() throws JsonProcessingException {
+        @DisplayName("Deve propagar falha do outbox para desfazer a criação do goal")
+        void shouldPropagateOutboxFailureToRollBackGoalCreation() {
             // Given
             when(goalMapper.toEntity(any(GoalRequest.class))).thenReturn(goalEntity);
             when(goalRepository.save(any(Goal.class))).thenReturn(goalEntity);
-            when(goalMapper.toResponse(any(Goal.class))).thenReturn(goalResponse);
-            doThrow(new RuntimeException("Kafka unavailable")).when(goalEventPublisher).publishGoalCreated(any(Goal.class));
+            RuntimeException outboxFailure = new RuntimeException("outbox indisponível");
+            doThrow(outboxFailure).when(goalEventPublisher).publishGoalCreated(any(Goal.class));
 
-            // When
-            GoalResponse result = goalService.createGoal(goalRequest);
-
-            // Then
-            assertThat(result).isNotNull();
-            assertThat(result).isEqualTo(goalResponse);
+            // When & Then
+            assertThatThrownBy(() -> goalService.createGoal(goalRequest)).isSameAs(outboxFailure);
             verify(goalRepository).save(any(Goal.class));
             verify(goalEventPublisher).publishGoalCreated(any(Goal.class));
         }
@@ -588,37 +818,8 @@ class GoalServiceImplTest {
         }
 
         @Test
-        @DisplayName("Deve marcar goal como completed quando progresso atinge o total")
-        void shouldMarkGoalAsCompletedWhenProgressReachesTotal() throws JsonProcessingException {
-            // Given
-            Goal goalWithProgress = Goal.builder()
-                    .goalId(1L)
-                    .status("active")
-                    .progress(Progress.builder().completed(29).total(30).build())
-                    .build();
-
-            ProgressRequest finalProgressRequest = ProgressRequest.builder()
-                    .increment(1)
-                    .build();
-
-            when(goalRepository.findById(1L)).thenReturn(Optional.of(goalWithProgress));
-            when(goalRepository.save(any(Goal.class))).thenReturn(goalWithProgress);
-            when(goalMapper.toResponse(any(Goal.class))).thenReturn(goalResponse);
-
-            // When
-            goalService.updateProgress(1L, finalProgressRequest);
-
-            // Then
-            verify(goalRepository).save(argThat(goal -> {
-                assertThat(goal.getProgress().getCompleted()).isEqualTo(30);
-                assertThat(goal.getStatus()).isEqualTo("completed");
-                return true;
-            }));
-        }
-
-        @Test
-        @DisplayName("Deve manter status ativo quando progresso não atinge o total")
-        void shouldKeepActiveStatusWhenProgressDoesNotReachTotal() throws JsonProcessingException {
+        @DisplayName("Deve repassar o incremento da requisição ao log de progresso")
+        void shouldPassIncrementToProgressLog() throws JsonProcessingException {
             // Given
             Goal goalWithProgress = Goal.builder()
                     .goalId(1L)
@@ -631,18 +832,15 @@ class GoalServiceImplTest {
                     .build();
 
             when(goalRepository.findById(1L)).thenReturn(Optional.of(goalWithProgress));
-            when(goalRepository.save(any(Goal.class))).thenReturn(goalWithProgress);
+            when(progressLog.checkIn(goalWithProgress, 5, ProgressEvent.SOURCE_API)).thenReturn(goalWithProgress);
             when(goalMapper.toResponse(any(Goal.class))).thenReturn(goalResponse);
 
             // When
             goalService.updateProgress(1L, partialProgressRequest);
 
             // Then
-            verify(goalRepository).save(argThat(goal -> {
-                assertThat(goal.getProgress().getCompleted()).isEqualTo(20);
-                assertThat(goal.getStatus()).isEqualTo("active");
-                return true;
-            }));
+            verify(progressLog).checkIn(goalWithProgress, 5, ProgressEvent.SOURCE_API);
+            verify(goalRepository, never()).save(any());
         }
 
         @Test
@@ -655,15 +853,16 @@ class GoalServiceImplTest {
                     .progress(null)
                     .build();
 
+            // O log devolve a meta sem registrar evento
             when(goalRepository.findById(1L)).thenReturn(Optional.of(goalWithoutProgress));
-            when(goalRepository.save(any(Goal.class))).thenReturn(goalWithoutProgress);
+            when(progressLog.checkIn(goalWithoutProgress, 1, ProgressEvent.SOURCE_API)).thenReturn(goalWithoutProgress);
             when(goalMapper.toResponse(any(Goal.class))).thenReturn(goalResponse);
 
             // When
             goalService.updateProgress(1L, progressRequest);
 
             // Then
-            verify(goalRepository).save(goalWithoutProgress);
+            verify(goalRepository, never()).save(any());
             verify(goalMapper).toResponse(goalWithoutProgress);
             // Progress deve permanece null e não deve causar erro
         }
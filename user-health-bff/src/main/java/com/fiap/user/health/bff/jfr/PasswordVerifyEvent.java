@@ -0,0 +1,49 @@
+package com.fiap.user.health.bff.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a bcrypt password check on login. The cost comes from the
+ * stored hash ($2a$10$...), so slow logins can be tied to old or raised costs.
+ * Nothing derived from the submitted password is recorded.
+ */
+@Name("com.fiap.user.health.bff.PasswordVerify")
+@Label("Password Verify")
+@Category({"User Health BFF", "Auth"})
+@Description("bcrypt verification of the login password")
+@StackTrace(false)
+public class PasswordVerifyEvent extends Event {
+
+    @Label("bcrypt Cost")
+    @Description("Log2 rounds of the stored hash, -1 when unknown")
+    private int cost;
+
+    @Label("Outcome")
+    @Description("match or mismatch")
+    private String outcome;
+
+    public void finish(String storedHash, boolean matches) {
+        if (shouldCommit()) {
+            this.cost = costOf(storedHash);
+            this.outcome = matches ? "match" : "mismatch";
+            commit();
+        }
+    }
+
+    static int costOf(String hash) {
+        // $2a$10$<salt+hash>
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.fiap.user.health.bff.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for signing the login JWT.
+ */
+@Name("com.fiap.user.health.bff.TokenEncode")
+@Label("JWT Encode")
+@Category({"User Health BFF", "Auth"})
+@Description("JWT signed on login")
+@StackTrace(false)
+public class TokenEncodeEvent extends Event {
+
+    @Label("Claims")
+    private int claims;
+
+    @Label("Token Length")
+    private int tokenChars;
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void finish(int claims, String token) {
+        if (shouldCommit()) {
+            this.claims = claims;
+            this.tokenChars = token != null ? token.length() : 0;
+            this.outcome = token != null ? "success" : "error";
+            commit();
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.fiap.user.health.bff.service.auth;
 import com.fiap.user.health.bff.dto.request.UserAuthRequestDto;
 import com.fiap.user.health.bff.dto.request.UserCredentialsRequestDto;
 import com.fiap.user.health.bff.exception.UserNotFoundException;
+import com.fiap.user.health.bff.jfr.PasswordVerifyEvent;
+import com.fiap.user.health.bff.jfr.TokenEncodeEvent;
 import com.fiap.user.health.bff.persistence.entity.UserEntity;
 import com.fiap.user.health.bff.persistence.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -36,7 +38,7 @@ public class AuthServiceImpl implements AuthServiceInterface {
         UserEntity user = userRepository.findByEmail(credentials.email())
                 .orElseThrow(() -> new BadCredentialsException("Invalid email or password"));
 
-        if (!passwordEncoder.matches(credentials.password(), user.getSenha())) {
+        if (!passwordMatches(credentials.password(), user.getSenha())) {
             log.warn("Invalid password attempt for email: {}", credentials.email());
             throw new BadCredentialsException("Invalid email or password");
         }
@@ -62,6 +64,18 @@ public class AuthServiceImpl implements AuthServiceInterface {
         log.info("Password updated successfully for email: {}", email);
     }
 
+    private boolean passwordMatches(String password, String storedHash) {
+        PasswordVerifyEvent event = new PasswordVerifyEvent();
+        event.begin();
+        boolean matches = false;
+        try {
+            matches = passwordEncoder.matches(password, storedHash);
+            return matches;
+        } finally {
+            event.finish(storedHash, matches);
+        }
+    }
+
     private String generateToken(UserEntity user) {
         Instant now = Instant.now();
         Instant expiration = now.plusSeconds(EXPIRATION_TIME);
@@ -76,6 +90,14 @@ public class AuthServiceImpl implements AuthServiceInterface {
                 .expiresAt(expiration)
                 .build();
 
-        return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        TokenEncodeEvent event = new TokenEncodeEvent();
+        event.begin();
+        String token = null;
+        try {
+            token = jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+            return token;
+        } finally {
+            event.finish(claims.getClaims().size(), token);
+        }
     }
 }
@@ -0,0 +1,28 @@
+package com.fiap.user.health.bff.jfr;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PasswordVerifyEvent - Testes Unitários")
+class PasswordVerifyEventTest {
+
+    @Test
+    @DisplayName("Deve extrair o custo do hash bcrypt")
+    void shouldExtractCostFromHash() {
+        String hash = new BCryptPasswordEncoder(4).encode("senha123");
+
+        assertThat(PasswordVerifyEvent.costOf(hash)).isEqualTo(4);
+        assertThat(PasswordVerifyEvent.costOf("$2a$10$encodedPassword")).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Deve retornar -1 para hash ausente ou fora do formato")
+    void shouldReturnUnknownCostForInvalidHash() {
+        assertThat(PasswordVerifyEvent.costOf(null)).isEqualTo(-1);
+        assertThat(PasswordVerifyEvent.costOf("plain-text")).isEqualTo(-1);
+        assertThat(PasswordVerifyEvent.costOf("$2a$xx$abc")).isEqualTo(-1);
+    }
+}